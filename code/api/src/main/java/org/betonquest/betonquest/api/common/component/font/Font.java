@@ -25,4 +25,17 @@ public interface Font {
     default int getWidth(final char character) {
         return getWidth(String.valueOf(character).codePointAt(0));
     }
+
+    /**
+     * Get the horizontal advance of a character in pixels, which is the space it takes up in a line of text.
+     * It is the width of the character plus one pixel for its shadow if it is not a whitespace
+     * and one more pixel if it is bold.
+     *
+     * @param characterCodePoint the codepoint of the character to get the advance of
+     * @param bold               whether the character is bold
+     * @return the advance of the character in pixels
+     */
+    default int getAdvance(final int characterCodePoint, final boolean bold) {
+        return getWidth(characterCodePoint) + (Character.isWhitespace(characterCodePoint) ? 0 : 1) + (bold ? 1 : 0);
+    }
 }
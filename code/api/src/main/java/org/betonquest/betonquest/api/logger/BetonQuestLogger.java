@@ -4,6 +4,7 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginLogger;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 /**
@@ -11,6 +12,9 @@ import java.util.logging.Level;
  * It registers a new child logger for each class it's used in.
  * <p>
  * Therefore, all of BetonQuest's logging needs to be done with the methods of this class.
+ * <p>
+ * Debug messages that are expensive to build should be passed as {@link Supplier} or guarded with
+ * {@link #isDebugEnabled(LogSource)}, so they are not built while nobody receives them.
  */
 @SuppressWarnings("PMD.TooManyMethods")
 public interface BetonQuestLogger {
@@ -71,6 +75,59 @@ public interface BetonQuestLogger {
      */
     void debug(LogSource logSource, @Nullable String msg, Throwable thrown);
 
+    /**
+     * Logs a debug message with the {@link Level#FINE} level to the log.
+     * The message is only built if debug messages are processed.
+     * <p>
+     * Don't use this method, if you can provide a {@link LogSource}.
+     * Use {@link BetonQuestLogger#debug(LogSource, Supplier)} instead.
+     *
+     * @param msg The supplier of the message to log.
+     */
+    default void debug(final Supplier<String> msg) {
+        if (isDebugEnabled()) {
+            debug(msg.get());
+        }
+    }
+
+    /**
+     * Logs a debug message with the {@link Level#FINE} level to the log.
+     * The message is only built if debug messages of the {@link LogSource} are processed.
+     *
+     * @param logSource The related {@link LogSource}.
+     * @param msg       The supplier of the message to log.
+     */
+    default void debug(final LogSource logSource, final Supplier<String> msg) {
+        if (isDebugEnabled(logSource)) {
+            debug(logSource, msg.get());
+        }
+    }
+
+    /**
+     * Checks if debug messages without a {@link LogSource} are processed at all.
+     * <p>
+     * Use this to skip building debug messages nobody receives.
+     * Implementations that cannot tell return true.
+     *
+     * @return true if debug messages may be processed
+     */
+    default boolean isDebugEnabled() {
+        return isDebugEnabled(LogSource.EMPTY);
+    }
+
+    /**
+     * Checks if debug messages of the {@link LogSource} are processed at all.
+     * <p>
+     * Use this to skip building debug messages nobody receives.
+     * Implementations that cannot tell return true.
+     *
+     * @param logSource The related {@link LogSource}.
+     * @return true if debug messages may be processed
+     */
+    default boolean isDebugEnabled(final LogSource logSource) {
+        return true;
+    }
+
     /**
      * Logs a normal message with the {@link Level#INFO} level to the log.
      * <p>
@@ -0,0 +1,21 @@
+package org.betonquest.betonquest.api.quest.condition;
+
+import java.util.Set;
+
+/**
+ * Interface for conditions whose result only depends on specific player data and can therefore be reused
+ * until that data changes.
+ */
+public interface CacheableCondition {
+
+    /**
+     * Gets the player data the result of the condition depends on.
+     * <p>
+     * A condition without dependencies is not cacheable and checked every time.
+     *
+     * @return the dependencies of the condition, empty if the result must not be cached
+     */
+    default Set<ConditionDependency> getDependencies() {
+        return Set.of();
+    }
+}
@@ -0,0 +1,25 @@
+package org.betonquest.betonquest.api.quest.condition;
+
+/**
+ * Player data a condition result depends on.
+ * <p>
+ * A result of a condition declaring dependencies may be reused until the declared data of the profile changes.
+ */
+public enum ConditionDependency {
+    /**
+     * The tags of the profile.
+     */
+    TAGS,
+    /**
+     * The points of the profile.
+     */
+    POINTS,
+    /**
+     * The active objectives of the profile.
+     */
+    OBJECTIVES,
+    /**
+     * The inventory and backpack of the player.
+     */
+    INVENTORY
+}
@@ -8,7 +8,7 @@ import org.betonquest.betonquest.api.quest.PrimaryThreadEnforceable;
  * Quest condition that needs an online profile to function correctly.
  */
 @FunctionalInterface
-public interface OnlineCondition extends PrimaryThreadEnforceable {
+public interface OnlineCondition extends PrimaryThreadEnforceable, CacheableCondition {
 
     /**
      * Checks the condition with an online profile.
@@ -9,7 +9,7 @@ import org.betonquest.betonquest.api.quest.PrimaryThreadEnforceable;
  * BetonQuest user documentation. It does not represent the playerless variant though, see {@link PlayerlessCondition}.
  */
 @FunctionalInterface
-public interface PlayerCondition extends PrimaryThreadEnforceable {
+public interface PlayerCondition extends PrimaryThreadEnforceable, CacheableCondition {
 
     /**
      * Checks the condition.
@@ -0,0 +1,30 @@
+package org.betonquest.betonquest.api.quest.objective.service;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.profile.Profile;
+
+/**
+ * Converts the typed objective data of a profile from and to the raw data stored in the database.
+ *
+ * @param <S> the type of the objective data
+ */
+public interface ObjectiveDataCodec<S> {
+
+    /**
+     * Parses the raw data into the typed data.
+     *
+     * @param profile the profile the data belongs to
+     * @param data    the raw data
+     * @return the typed data
+     * @throws QuestException when the raw data is invalid
+     */
+    S parse(Profile profile, String data) throws QuestException;
+
+    /**
+     * Serializes the typed data into the raw data, which must be parsable by {@link #parse(Profile, String)}.
+     *
+     * @param data the typed data
+     * @return the raw data
+     */
+    String serialize(S data);
+}
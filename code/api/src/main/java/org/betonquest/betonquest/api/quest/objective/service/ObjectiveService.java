@@ -93,6 +93,23 @@ public interface ObjectiveService {
     @Deprecated
     void setDefaultData(QuestFunction<Profile, String> supplier);
 
+    /**
+     * Gets the typed objective data of this objective, which is kept in memory and saved when it changed.
+     * <br>
+     * An objective has only one typed data, so it must always be requested with the same codec.
+     *
+     * @param codec the codec to convert the data from and to the raw objective data
+     * @param <S>   the type of the objective data
+     * @return the typed objective data
+     * @throws IllegalStateException if the typed data was already requested with another codec
+     */
+    <S> TypedObjectiveData<S> getTypedData(ObjectiveDataCodec<S> codec);
+
+    /**
+     * Writes all changed typed objective data into the raw objective data and the database.
+     */
+    void flushData();
+
     /**
      * Do not use this method directly. It is used for internal logic.
      * <br>
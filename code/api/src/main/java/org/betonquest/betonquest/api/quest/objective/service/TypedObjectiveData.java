@@ -0,0 +1,31 @@
+package org.betonquest.betonquest.api.quest.objective.service;
+
+import org.betonquest.betonquest.api.profile.Profile;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Mutable objective data per profile, parsed once from the raw objective data.
+ * <br>
+ * Changes are made directly on the returned data and announced with {@link #markDirty(Profile)}.
+ * The data is serialized into the raw objective data and saved only when it is flushed.
+ *
+ * @param <S> the type of the objective data
+ */
+public interface TypedObjectiveData<S> {
+
+    /**
+     * Gets the data of the profile, parsing the raw objective data only if it changed since the last call.
+     *
+     * @param profile the profile to get the data for
+     * @return the data or null if the profile does not have the objective or the raw data is invalid
+     */
+    @Nullable
+    S get(Profile profile);
+
+    /**
+     * Marks the data of the profile as changed, so it will be saved with the next flush.
+     *
+     * @param profile the profile whose data changed
+     */
+    void markDirty(Profile profile);
+}
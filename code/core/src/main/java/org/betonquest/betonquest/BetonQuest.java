@@ -47,14 +47,18 @@ import org.betonquest.betonquest.conversation.AnswerFilter;
 import org.betonquest.betonquest.conversation.CombatTagger;
 import org.betonquest.betonquest.conversation.Conversation;
 import org.betonquest.betonquest.conversation.ConversationColors;
+import org.betonquest.betonquest.conversation.ConversationOptionEvaluator;
 import org.betonquest.betonquest.data.PlayerDataStorage;
 import org.betonquest.betonquest.database.AsyncSaver;
 import org.betonquest.betonquest.database.Backup;
+import org.betonquest.betonquest.database.CoalescingSaver;
 import org.betonquest.betonquest.database.Connector;
 import org.betonquest.betonquest.database.Database;
 import org.betonquest.betonquest.database.GlobalData;
 import org.betonquest.betonquest.database.MySQL;
 import org.betonquest.betonquest.database.PlayerDataFactory;
+import org.betonquest.betonquest.database.PointLeaderboard;
+import org.betonquest.betonquest.database.PooledConnection;
 import org.betonquest.betonquest.database.SQLite;
 import org.betonquest.betonquest.database.Saver;
 import org.betonquest.betonquest.feature.CoreFeatureFactories;
@@ -66,12 +70,15 @@ import org.betonquest.betonquest.kernel.processor.QuestRegistry;
 import org.betonquest.betonquest.kernel.processor.quest.PlaceholderProcessor;
 import org.betonquest.betonquest.kernel.registry.feature.BaseFeatureRegistries;
 import org.betonquest.betonquest.kernel.registry.quest.BaseQuestTypeRegistries;
+import org.betonquest.betonquest.lib.bukkit.event.DefaultBukkitEventService;
 import org.betonquest.betonquest.lib.font.FontRetriever;
 import org.betonquest.betonquest.lib.logger.CachingBetonQuestLoggerFactory;
 import org.betonquest.betonquest.listener.CustomDropListener;
 import org.betonquest.betonquest.listener.JoinQuitListener;
 import org.betonquest.betonquest.listener.MobKillListener;
 import org.betonquest.betonquest.listener.QuestItemConvertListener;
+import org.betonquest.betonquest.listener.SessionEventRouters;
+import org.betonquest.betonquest.logger.DebugLogState;
 import org.betonquest.betonquest.logger.DefaultBetonQuestLoggerFactory;
 import org.betonquest.betonquest.logger.HandlerFactory;
 import org.betonquest.betonquest.logger.PlayerLogWatcher;
@@ -83,6 +90,7 @@ import org.betonquest.betonquest.notify.Notify;
 import org.betonquest.betonquest.playerhider.PlayerHider;
 import org.betonquest.betonquest.profile.UUIDProfileProvider;
 import org.betonquest.betonquest.quest.CoreQuestTypes;
+import org.betonquest.betonquest.quest.action.folder.FolderScheduler;
 import org.betonquest.betonquest.schedule.LastExecutionCache;
 import org.betonquest.betonquest.text.DecidingTextParser;
 import org.betonquest.betonquest.text.ParsedSectionTextCreator;
@@ -116,8 +124,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.InstantSource;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.logging.Handler;
 
 /**
@@ -142,6 +153,11 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
      */
     private static final String CACHE_FILE = ".cache/schedules.yml";
 
+    /**
+     * The maximal time in milliseconds to wait for the database saver to save all changes on disable.
+     */
+    private static final long SAVER_SHUTDOWN_TIMEOUT = 30_000;
+
     /**
      * The BetonQuest Plugin instance.
      */
@@ -213,10 +229,15 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
     private boolean usesMySQL;
 
     /**
-     * The database saver for Quest Data.
+     * The database saver thread writing Quest Data.
      */
     @SuppressWarnings("PMD.DoNotUseThreads")
-    private AsyncSaver saver;
+    private AsyncSaver asyncSaver;
+
+    /**
+     * The database saver for Quest Data.
+     */
+    private Saver saver;
 
     /**
      * The plugin updater.
@@ -228,6 +249,11 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
      */
     private GlobalData globalData;
 
+    /**
+     * The in-memory rankings of point categories.
+     */
+    private PointLeaderboard pointLeaderboard;
+
     /**
      * The Player Hider instance.
      */
@@ -238,6 +264,11 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
      */
     private RPGMenu rpgMenu;
 
+    /**
+     * The evaluator for the conditions of conversation options.
+     */
+    private ConversationOptionEvaluator conversationOptionEvaluator;
+
     /**
      * Cache for action schedulers, holding the last execution of an action.
      */
@@ -268,6 +299,16 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
      */
     private Compatibility compatibility;
 
+    /**
+     * The routers for the events of player sessions.
+     */
+    private SessionEventRouters sessionEvents;
+
+    /**
+     * The scheduler for delayed and periodic folder actions.
+     */
+    private FolderScheduler folderScheduler;
+
     /**
      * The required default constructor without arguments for plugin creation.
      */
@@ -295,7 +336,8 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
     public void onEnable() {
         instance = this;
 
-        this.loggerFactory = registerAndGetService(BetonQuestLoggerFactory.class, new CachingBetonQuestLoggerFactory(new DefaultBetonQuestLoggerFactory()));
+        final DebugLogState debugLogState = new DebugLogState();
+        this.loggerFactory = registerAndGetService(BetonQuestLoggerFactory.class, new CachingBetonQuestLoggerFactory(new DefaultBetonQuestLoggerFactory(debugLogState)));
         this.log = loggerFactory.create(this);
         if (!isPaper()) {
             throw new IllegalStateException("Only Paper is supported!");
@@ -318,11 +360,12 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
         defaultLanguage = config.getString("language", "en-US");
 
         final HistoryHandler debugHistoryHandler = HandlerFactory.createHistoryHandler(loggerFactory, this,
-                this.getServer().getScheduler(), config, new File(getDataFolder(), "/logs"), InstantSource.system());
+                this.getServer().getScheduler(), config, new File(getDataFolder(), "/logs"), InstantSource.system(), debugLogState);
         registerLogHandler(getServer(), debugHistoryHandler);
         final AccumulatingReceiverSelector receiverSelector = new AccumulatingReceiverSelector();
         final ChatHandler chatHandler = HandlerFactory.createChatHandler(this, getServer(), receiverSelector);
         registerLogHandler(getServer(), chatHandler);
+        debugLogState.setChatReceivers(receiverSelector);
 
         final String version = getDescription().getVersion();
         log.debug("BetonQuest " + version + " is starting...");
@@ -334,12 +377,15 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
 
         setupDatabase();
 
-        saver = new AsyncSaver(loggerFactory.create(AsyncSaver.class, "Database"), config.getLong("mysql.reconnect_interval"), connector);
-        saver.start();
+        setupSaver();
         new Backup(loggerFactory.create(Backup.class), configAccessorFactory, getDataFolder(), connector)
                 .loadDatabaseFromBackup();
 
         globalData = new GlobalData(loggerFactory.create(GlobalData.class), saver, connector);
+        pointLeaderboard = new PointLeaderboard(loggerFactory.create(PointLeaderboard.class), connector,
+                runnable -> getServer().getScheduler().runTaskAsynchronously(this, runnable),
+                uuid -> getServer().getOfflinePlayer(uuid).getName(),
+                profile -> profile.equals(profileProvider.getProfile(profile.getPlayer())), this::getOnlinePoints);
 
         final FileConfigAccessor cache;
         try {
@@ -354,6 +400,14 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
         }
         lastExecutionCache = new LastExecutionCache(loggerFactory.create(LastExecutionCache.class, "Cache"), cache);
 
+        try {
+            sessionEvents = new SessionEventRouters(new DefaultBukkitEventService(this, loggerFactory));
+        } catch (final QuestException e) {
+            throw new IllegalStateException("Could not register the session event routers!", e);
+        }
+        folderScheduler = new FolderScheduler(loggerFactory.create(FolderScheduler.class), this, getServer().getScheduler(),
+                sessionEvents.quit());
+
         questTypeRegistries = BaseQuestTypeRegistries.create(loggerFactory, this);
         CoreQuestTypes.registerIdentifierTypes(getQuestPackageManager(), questTypeRegistries.identifier());
         final CoreQuestRegistry coreQuestRegistry;
@@ -364,11 +418,16 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
             throw new IllegalStateException("Could not load the core quests registries!", e);
         }
 
+        conversationOptionEvaluator = new ConversationOptionEvaluator(loggerFactory.create(ConversationOptionEvaluator.class),
+                coreQuestRegistry.conditions(), ConversationOptionEvaluator.createExecutor(config.getInt("conversation.options.threads", 0)),
+                config.getInt("conversation.options.max_concurrent", 64), config.getLong("conversation.options.timeout", 1000));
+
         final PlayerDataFactory playerDataFactory = new PlayerDataFactory(loggerFactory, saver, getServer(),
                 questTypeRegistries.identifier(), coreQuestRegistry, Suppliers.memoize(() -> new JournalFactory(loggerFactory, pluginMessage,
-                coreQuestRegistry, questRegistry, config, textParser, fontRegistry)));
+                coreQuestRegistry, questRegistry, config, textParser, fontRegistry)), pointLeaderboard);
         playerDataStorage = new PlayerDataStorage(loggerFactory.create(PlayerDataStorage.class), config,
-                playerDataFactory, coreQuestRegistry.objectives(), profileProvider);
+                playerDataFactory, coreQuestRegistry.objectives(), profileProvider,
+                runnable -> getServer().getScheduler().runTaskAsynchronously(this, runnable));
 
         featureRegistries = BaseFeatureRegistries.create(loggerFactory, getInstructionApi());
 
@@ -477,13 +536,13 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
                     config.getString("mysql.base"),
                     config.getString("mysql.user"),
                     config.getString("mysql.pass"));
-            try {
-                mySql.getConnection();
+            try (PooledConnection ignored = mySql.borrowConnection()) {
                 database = mySql;
                 usesMySQL = true;
                 log.info("Successfully connected to MySQL database!");
             } catch (final IllegalStateException e) {
                 log.warn("MySQL: " + e.getMessage(), e);
+                mySql.closeConnection();
             }
         }
         if (database == null) {
@@ -499,6 +558,32 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
         this.connector = new Connector(loggerFactory.create(Connector.class), config.getString("mysql.prefix"), database);
     }
 
+    private Map<UUID, Long> getOnlinePoints(final String category) {
+        final Map<UUID, Long> points = new HashMap<>();
+        for (final OnlineProfile onlineProfile : profileProvider.getOnlineProfiles()) {
+            playerDataStorage.get(onlineProfile).getPointsFromCategory(category)
+                    .ifPresent(count -> points.put(onlineProfile.getPlayerUUID(), count.longValue()));
+        }
+        return points;
+    }
+
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    private void setupSaver() {
+        final int batchSize = config.getBoolean("mysql.batch.enabled", true) ? config.getInt("mysql.batch.size", 500) : 1;
+        asyncSaver = new AsyncSaver(loggerFactory.create(AsyncSaver.class, "Database"), config.getLong("mysql.reconnect_interval"),
+                connector, batchSize, config.getLong("mysql.batch.interval", 50));
+        asyncSaver.start();
+        final long coalesceInterval = config.getLong("mysql.batch.coalesce_interval", 20);
+        if (coalesceInterval <= 0) {
+            saver = asyncSaver;
+            return;
+        }
+        final CoalescingSaver coalescingSaver = new CoalescingSaver(asyncSaver, profileProvider);
+        getServer().getPluginManager().registerEvents(coalescingSaver, this);
+        getServer().getScheduler().runTaskTimerAsynchronously(this, () -> coalescingSaver.flush(), coalesceInterval, coalesceInterval);
+        saver = coalescingSaver;
+    }
+
     private void registerListener(final CoreQuestRegistry coreQuestRegistry, final QuestTypeRegistries questTypeRegistries) {
         final IdentifierFactory<ItemIdentifier> itemIdentifierFactory;
         try {
@@ -515,7 +600,8 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
                 new QuestItemConvertListener(loggerFactory.create(QuestItemConvertListener.class),
                         () -> config.getBoolean("item.quest.update_legacy_on_join"), pluginMessage, profileProvider),
                 new JoinQuitListener(config, coreQuestRegistry.objectives(), playerDataStorage,
-                        getFeatureApi().conversationApi(), profileProvider, updater)
+                        getFeatureApi().conversationApi(), profileProvider, updater),
+                pointLeaderboard
         ).forEach(listener -> pluginManager.registerEvents(listener, this));
     }
 
@@ -584,6 +670,8 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
      */
     public void loadData() {
         new LoadDataEvent(LoadDataEvent.State.PRE_LOAD).callEvent();
+        questRegistry.core().placeholders().getValueCache().setTimeToLive(config.getLong("placeholder.cache_duration", 0));
+        questRegistry.core().conditions().getResultCache().setEnabled(config.getBoolean("condition.cache", false));
         questRegistry.loadData(getQuestPackageManager().getPackages().values());
         new LoadDataEvent(LoadDataEvent.State.POST_LOAD).callEvent();
         playerDataStorage.startObjectives();
@@ -618,6 +706,8 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
             log.warn("Could not reload conversation colors! " + e.getMessage(), e);
         }
         compatibility.reload();
+        pointLeaderboard.invalidate();
+        folderScheduler.logMetrics();
         loadData();
         playerDataStorage.reloadProfiles(profileProvider.getOnlineProfiles());
 
@@ -649,8 +739,16 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
             }
         }
 
+        if (questRegistry != null) {
+            questRegistry.core().objectives().flushData();
+            questRegistry.core().primaryThread().stop();
+        }
+        if (folderScheduler != null) {
+            folderScheduler.stop();
+        }
         if (saver != null) {
             saver.end();
+            awaitSaver();
         }
         if (compatibility != null) {
             compatibility.disable();
@@ -661,6 +759,9 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
         if (playerHider != null) {
             playerHider.stop();
         }
+        if (conversationOptionEvaluator != null) {
+            conversationOptionEvaluator.shutdown();
+        }
 
         log.info("BetonQuest successfully disabled!");
 
@@ -669,6 +770,19 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
         }
     }
 
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    private void awaitSaver() {
+        try {
+            asyncSaver.join(SAVER_SHUTDOWN_TIMEOUT);
+        } catch (final InterruptedException e) {
+            log.warn("Interrupted while waiting for the database saver to finish!", e);
+            Thread.currentThread().interrupt();
+        }
+        if (asyncSaver.isAlive()) {
+            log.warn("The database saver did not finish in time, " + asyncSaver.getMetrics().queueDepth() + " changes may be lost!");
+        }
+    }
+
     /**
      * Adds a Processor to re-/load data on BetonQuest re-/load.
      *
@@ -803,6 +917,24 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
         return globalData;
     }
 
+    /**
+     * Returns the in-memory rankings of point categories.
+     *
+     * @return the point leaderboard
+     */
+    public PointLeaderboard getPointLeaderboard() {
+        return pointLeaderboard;
+    }
+
+    /**
+     * Returns the scheduler for delayed and periodic folder actions.
+     *
+     * @return the folder scheduler
+     */
+    public FolderScheduler getFolderScheduler() {
+        return folderScheduler;
+    }
+
     /**
      * Returns the {@link Saver} instance used by BetonQuest.
      *
@@ -863,6 +995,15 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
         return conversationColors;
     }
 
+    /**
+     * Get the evaluator for the conditions of conversation options.
+     *
+     * @return the conversation option evaluator
+     */
+    public ConversationOptionEvaluator getConversationOptionEvaluator() {
+        return conversationOptionEvaluator;
+    }
+
     /**
      * Get the registry for fonts to calculate width of text.
      *
@@ -872,6 +1013,15 @@ public class BetonQuest extends JavaPlugin implements BetonQuestApi, LanguagePro
         return fontRegistry;
     }
 
+    /**
+     * Get the routers for the events of player sessions like opened menus and conversations.
+     *
+     * @return the session event routers
+     */
+    public SessionEventRouters getSessionEvents() {
+        return sessionEvents;
+    }
+
     /**
      * Get the Compatibility to add plugins and initialize it.
      *
@@ -9,8 +9,10 @@ import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.objective.ObjectiveData;
+import org.betonquest.betonquest.api.quest.objective.service.ObjectiveDataCodec;
 import org.betonquest.betonquest.api.quest.objective.service.ObjectiveProperties;
 import org.betonquest.betonquest.api.quest.objective.service.ObjectiveService;
+import org.betonquest.betonquest.api.quest.objective.service.TypedObjectiveData;
 import org.betonquest.betonquest.quest.action.IngameNotificationSender;
 import org.betonquest.betonquest.quest.action.NotificationLevel;
 import org.jetbrains.annotations.Nullable;
@@ -37,6 +39,11 @@ public abstract class CountingObjective extends DefaultObjective {
     @Nullable
     private final IngameNotificationSender countSender;
 
+    /**
+     * The counting data kept in memory per profile.
+     */
+    private final TypedObjectiveData<CountingData> countingData;
+
     /**
      * Create a counting objective.
      *
@@ -55,6 +62,7 @@ public abstract class CountingObjective extends DefaultObjective {
                 instance.getPluginMessage(), service.getObjectiveID().getPackage(), service.getObjectiveID().getFull(),
                 NotificationLevel.INFO, notifyMessageName);
         service.setDefaultData(this::getDefaultDataInstruction);
+        this.countingData = service.getTypedData(new CountingDataCodec());
         final ObjectiveProperties properties = service.getProperties();
         properties.setProperty("amount", profile -> getProperty("amount", profile));
         properties.setProperty("left", profile -> getProperty("left", profile));
@@ -69,17 +77,17 @@ public abstract class CountingObjective extends DefaultObjective {
     }
 
     private String getProperty(final String name, final Profile profile) throws QuestException {
-        final CountingData countingData = getCountingData(profile);
-        if (countingData == null) {
+        final CountingData counting = getCountingData(profile);
+        if (counting == null) {
             return "";
         }
         final int data = switch (name.toLowerCase(Locale.ROOT)) {
-            case "amount" -> countingData.getCompletedAmount();
-            case "left" -> countingData.getAmountLeft();
-            case "total" -> countingData.getTargetAmount();
-            case "absoluteamount" -> Math.abs(countingData.getCompletedAmount());
-            case "absoluteleft" -> Math.abs(countingData.getAmountLeft());
-            case "absolutetotal" -> Math.abs(countingData.getTargetAmount());
+            case "amount" -> counting.getCompletedAmount();
+            case "left" -> counting.getAmountLeft();
+            case "total" -> counting.getTargetAmount();
+            case "absoluteamount" -> Math.abs(counting.getCompletedAmount());
+            case "absoluteleft" -> Math.abs(counting.getAmountLeft());
+            case "absolutetotal" -> Math.abs(counting.getTargetAmount());
             default -> throw new QuestException("Unknown property: " + name);
         };
         return Integer.toString(data);
@@ -87,19 +95,27 @@ public abstract class CountingObjective extends DefaultObjective {
 
     /**
      * Get the {@link CountingData} objective data for given profile.
+     * The data is kept in memory and only parsed again when the stored data was replaced.
      *
      * @param profile the {@link Profile} to get the data for
      * @return counting objective data of the profile
      */
     @Nullable
     public final CountingData getCountingData(final Profile profile) {
-        final String data = getService().getData().getOrDefault(profile, "");
-        try {
-            return new CountingData(data, profile, getObjectiveID());
-        } catch (final QuestException e) {
-            getLogger().error("Could not access CountingData for profile '" + profile + "': " + e.getMessage(), e);
-        }
-        return null;
+        return countingData.get(profile);
+    }
+
+    /**
+     * Parses the counting data of a profile. Override this to store additional data in a subclass of
+     * {@link CountingData}.
+     *
+     * @param instruction the stored data
+     * @param profile     the {@link Profile} to parse the data for
+     * @return the parsed counting data
+     * @throws QuestException when the data is invalid
+     */
+    protected CountingData parseCountingData(final String instruction, final Profile profile) throws QuestException {
+        return new CountingData(instruction, profile, getObjectiveID());
     }
 
     /**
@@ -151,6 +167,24 @@ public abstract class CountingObjective extends DefaultObjective {
                 || newAmount < oldAmount && (newAmount - 1) / interval != (oldAmount - 1) / interval;
     }
 
+    /**
+     * Converts the counting data and lets changes mark the data as dirty.
+     */
+    private final class CountingDataCodec implements ObjectiveDataCodec<CountingData> {
+
+        @Override
+        public CountingData parse(final Profile profile, final String data) throws QuestException {
+            final CountingData parsed = parseCountingData(data, profile);
+            parsed.changeListener = () -> countingData.markDirty(profile);
+            return parsed;
+        }
+
+        @Override
+        public String serialize(final CountingData data) {
+            return data.toString();
+        }
+    }
+
     /**
      * Objective data for counting objectives.
      *
@@ -185,6 +219,12 @@ public abstract class CountingObjective extends DefaultObjective {
          */
         private final AtomicInteger lastChange;
 
+        /**
+         * Called instead of updating the database directly when the data is kept in memory by the objective.
+         */
+        @Nullable
+        private Runnable changeListener;
+
         /**
          * Create a counting objective.
          *
@@ -384,6 +424,12 @@ public abstract class CountingObjective extends DefaultObjective {
         }
 
         private CountingData change(final int amount) {
+            if (changeListener != null) {
+                amountLeft.accumulateAndGet(amount, Integer::sum);
+                lastChange.set(amount);
+                changeListener.run();
+                return this;
+            }
             final ObjectiveService service;
             try {
                 service = BetonQuest.getInstance().getQuestTypeApi().getObjective(objID).getService();
@@ -10,10 +10,11 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -45,11 +46,21 @@ public class ComponentLineWrapper {
      */
     private static final Pattern CHARACTER = Pattern.compile("(?!^)(?=.)");
 
+    /**
+     * The amount of wrapped components to remember.
+     */
+    private static final int WRAPPED_CACHE_SIZE = 256;
+
     /**
      * The font registry used to get the width of the characters.
      */
     private final FontRegistry fontRegistry;
 
+    /**
+     * The recently wrapped components, the lines are the same as long as the fonts are.
+     */
+    private final Map<WrapKey, List<Component>> wrapped;
+
     /**
      * Creates a new ComponentLineWrapper instance.
      *
@@ -57,6 +68,14 @@ public class ComponentLineWrapper {
      */
     public ComponentLineWrapper(final FontRegistry fontRegistry) {
         this.fontRegistry = fontRegistry;
+        this.wrapped = new LinkedHashMap<>(WRAPPED_CACHE_SIZE, 0.75f, true) {
+            private static final long serialVersionUID = -2583469245741170527L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<WrapKey, List<Component>> eldest) {
+                return size() > WRAPPED_CACHE_SIZE;
+            }
+        };
     }
 
     /**
@@ -77,7 +96,37 @@ public class ComponentLineWrapper {
      * @return a list of Components, each representing a line
      */
     public List<Component> splitWidth(final Component component, final int maxLineWidth) {
-        return splitWidth(component, Component::empty, maxLineWidth);
+        return cached(new WrapKey(component, null, maxLineWidth), () -> splitWidth(component, Component::empty, maxLineWidth));
+    }
+
+    /**
+     * Wraps a Component into multiple lines based on the specified line width.
+     * Each line except the first one starts with the wrap prefix.
+     *
+     * @param component    the Component to wrap
+     * @param wrapPrefix   the prefix of each wrapped line
+     * @param maxLineWidth the maximum width of a line in pixels
+     * @return a list of Components, each representing a line
+     */
+    public List<Component> splitWidth(final Component component, final Component wrapPrefix, final int maxLineWidth) {
+        return cached(new WrapKey(component, wrapPrefix, maxLineWidth), () -> {
+            final AtomicBoolean first = new AtomicBoolean(true);
+            return splitWidth(component, () -> first.getAndSet(false) ? Component.empty() : wrapPrefix, maxLineWidth);
+        });
+    }
+
+    private List<Component> cached(final WrapKey key, final Supplier<List<Component>> wrapper) {
+        synchronized (wrapped) {
+            final List<Component> lines = wrapped.get(key);
+            if (lines != null) {
+                return new LinkedList<>(lines);
+            }
+        }
+        final List<Component> lines = wrapper.get();
+        synchronized (wrapped) {
+            wrapped.put(key, List.copyOf(lines));
+        }
+        return lines;
     }
 
     /**
@@ -179,30 +228,30 @@ public class ComponentLineWrapper {
      * @return the width of the Component in pixels
      */
     public int width(final Component component) {
-        return width(component, new ComponentDecorations(component));
+        return width(component, component.decoration(TextDecoration.BOLD) == TextDecoration.State.TRUE);
     }
 
-    private int width(final Component component, final ComponentDecorations decorations) {
+    private int width(final Component component, final boolean bold) {
         int width = 0;
         if (component instanceof final TextComponent text) {
-            final Font font = fontRegistry.getFont(text.font());
-            width = getTextWidth(font, text.content(), decorations);
+            width = getTextWidth(fontRegistry.getFont(text.font()), text.content(), bold);
+        }
+        for (final Component child : component.children()) {
+            final TextDecoration.State childBold = child.decoration(TextDecoration.BOLD);
+            width += width(child, childBold == TextDecoration.State.NOT_SET ? bold : childBold == TextDecoration.State.TRUE);
         }
-        return width + component.children().stream().mapToInt(child -> width(child, decorations.getChild(child))).sum();
-    }
-
-    private int getTextWidth(final Font font, final String text, final ComponentDecorations decorations) {
-        int width = 0;
-        final int decorationFix = getTextDecorationWidth(decorations);
-        width = text.codePoints().map(elem -> font.getWidth(elem) + (Character.isWhitespace(elem) ? 0 : 1) + decorationFix).reduce(width, Integer::sum);
         return width;
     }
 
-    private int getTextDecorationWidth(final ComponentDecorations decorations) {
-        if (decorations.getDecorations().get(TextDecoration.BOLD) == TextDecoration.State.TRUE) {
-            return 1;
+    private int getTextWidth(final Font font, final String text, final boolean bold) {
+        int width = 0;
+        int index = 0;
+        while (index < text.length()) {
+            final int codePoint = text.codePointAt(index);
+            width += font.getAdvance(codePoint, bold);
+            index += Character.charCount(codePoint);
         }
-        return 0;
+        return width;
     }
 
     @SuppressWarnings("PMD.LooseCoupling")
@@ -265,53 +314,13 @@ public class ComponentLineWrapper {
     }
 
     /**
-     * The ComponentDecorations class is used to store the decorations of a Component.
+     * The key of a wrapped Component.
+     *
+     * @param component    the wrapped Component
+     * @param wrapPrefix   the prefix of each wrapped line or null if the lines have no prefix
+     * @param maxLineWidth the maximum width of a line in pixels
      */
-    private static class ComponentDecorations {
-
-        /**
-         * The map of TextDecoration to its state for the Component.
-         */
-        private final Map<TextDecoration, TextDecoration.State> decorations;
-
-        /**
-         * Creates a new ComponentDecorations instance for the given Component.
-         *
-         * @param component the Component to get the decorations for
-         */
-        public ComponentDecorations(final Component component) {
-            this.decorations = component.decorations();
-        }
-
-        private ComponentDecorations(final Map<TextDecoration, TextDecoration.State> parent, final Component child) {
-            this.decorations = parent;
-            for (final Map.Entry<TextDecoration, TextDecoration.State> entry : child.decorations().entrySet()) {
-                final TextDecoration decoration = entry.getKey();
-                final TextDecoration.State state = entry.getValue();
-                if (state != TextDecoration.State.NOT_SET) {
-                    this.decorations.put(decoration, state);
-                }
-            }
-        }
-
-        /**
-         * Creates a new ComponentDecorations instance for a child Component.
-         *
-         * @param component the child Component to get the decorations for
-         * @return a new ComponentDecorations instance containing the decorations of the child Component
-         */
-        public ComponentDecorations getChild(final Component component) {
-            return new ComponentDecorations(new EnumMap<>(decorations), component);
-        }
-
-        /**
-         * Gets the decorations of the Component.
-         *
-         * @return a map of TextDecoration to its state
-         */
-        public Map<TextDecoration, TextDecoration.State> getDecorations() {
-            return decorations;
-        }
+    private record WrapKey(Component component, @Nullable Component wrapPrefix, int maxLineWidth) {
     }
 
     /**
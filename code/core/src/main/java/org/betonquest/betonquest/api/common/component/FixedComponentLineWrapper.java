@@ -48,6 +48,18 @@ public class FixedComponentLineWrapper extends ComponentLineWrapper {
         return splitWidth(component, linePrefix, maxLineWidth);
     }
 
+    /**
+     * Wraps a Component into multiple lines based on the specified line width.
+     * Each line except the first one starts with the wrap prefix.
+     *
+     * @param component  the Component to wrap
+     * @param wrapPrefix the prefix of each wrapped line
+     * @return a list of Components, each representing a line
+     */
+    public List<Component> splitWidth(final Component component, final Component wrapPrefix) {
+        return splitWidth(component, wrapPrefix, maxLineWidth);
+    }
+
     /**
      * Gets the maximum line width in pixels.
      *
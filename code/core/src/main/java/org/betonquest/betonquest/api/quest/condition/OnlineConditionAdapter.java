@@ -7,6 +7,7 @@ import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.profile.Profile;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Adapter to run an {@link OnlineCondition} via the {@link PlayerCondition} interface.
@@ -68,4 +69,9 @@ public final class OnlineConditionAdapter implements PlayerCondition {
     public boolean isPrimaryThreadEnforced() {
         return onlineCondition.isPrimaryThreadEnforced() || fallbackCondition.isPrimaryThreadEnforced();
     }
+
+    @Override
+    public Set<ConditionDependency> getDependencies() {
+        return onlineCondition.getDependencies();
+    }
 }
@@ -10,28 +10,49 @@ import org.betonquest.betonquest.api.instruction.InstructionApi;
 import org.betonquest.betonquest.api.instruction.section.SectionInstruction;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.profile.ProfileProvider;
 import org.betonquest.betonquest.api.quest.QuestTypeApi;
 import org.betonquest.betonquest.kernel.processor.quest.NpcProcessor;
+import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Hides (or shows) Npcs based on conditions defined in the {@code hide_npcs} section of a {@link QuestPackage}.
+ * <p>
+ * The last applied visibility is remembered per profile and Npc, so Npcs are only shown or hidden when it changes.
+ * The periodic update only checks Npcs within view distance of a player and skips Npcs whose last known location is
+ * out of range without resolving them. The locations are known per profile, as an Npc identifier may resolve to
+ * a different Npc for each profile. Data changes of a player are handled with {@link #requestUpdate(Profile)}.
  */
-@SuppressWarnings("PMD.CouplingBetweenObjects")
+@SuppressWarnings({"PMD.CouplingBetweenObjects", "PMD.TooManyMethods"})
 public class NpcHider {
 
+    /**
+     * The chunks beyond the view distance of a player in which Npcs are still updated.
+     */
+    private static final int VIEW_DISTANCE_MARGIN = 2;
+
+    /**
+     * The amount of periodic updates after which the last known Npc locations are discarded, so moved Npcs are found.
+     */
+    private static final int LOCATION_REFRESH_INTERVAL = 20;
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -72,12 +93,39 @@ public class NpcHider {
      */
     private final InstructionApi instructionApi;
 
+    /**
+     * The last applied visibility per profile and Npc, true if the Npc is hidden.
+     */
+    private final Map<UUID, Map<NpcIdentifier, Boolean>> visibility;
+
+    /**
+     * The profiles with a scheduled update.
+     */
+    private final Map<UUID, Profile> pendingUpdates;
+
+    /**
+     * The last known locations of the Npcs resolved per profile, to skip Npcs far away from a player without
+     * resolving them.
+     */
+    private final Map<UUID, Map<NpcIdentifier, Location>> locations;
+
+    /**
+     * The periodic updates since the last known Npc locations were discarded.
+     */
+    private int updates;
+
     /**
      * The task refreshing npc visibility.
      */
     @Nullable
     private BukkitTask task;
 
+    /**
+     * The plugin instance to schedule updates.
+     */
+    @Nullable
+    private Plugin plugin;
+
     /**
      * Create and start a new Npc Hider.
      *
@@ -101,6 +149,9 @@ public class NpcHider {
         this.profileProvider = profileProvider;
         this.npcTypes = npcTypes;
         this.npcs = new HashMap<>();
+        this.visibility = new HashMap<>();
+        this.pendingUpdates = new ConcurrentHashMap<>();
+        this.locations = new HashMap<>();
     }
 
     /**
@@ -128,11 +179,18 @@ public class NpcHider {
         final NpcIdentifier npcId = npcIdentifierFactory.parseIdentifier(instruction.getPackage(), idString);
         final List<ConditionIdentifier> conditions = instruction.read().value(idString)
                 .identifier(ConditionIdentifier.class).list().get().getValue(null);
-        if (npcs.containsKey(npcId)) {
-            npcs.get(npcId).addAll(conditions);
-        } else {
-            npcs.put(npcId, new HashSet<>(conditions));
-        }
+        addHiding(npcId, conditions);
+    }
+
+    /**
+     * Adds conditions to hide the Npc.
+     *
+     * @param npcId      the id of the Npc
+     * @param conditions the conditions to hide the Npc, the Npc is always hidden if there are none
+     */
+    @VisibleForTesting
+    void addHiding(final NpcIdentifier npcId, final Collection<ConditionIdentifier> conditions) {
+        npcs.computeIfAbsent(npcId, id -> new HashSet<>()).addAll(conditions);
     }
 
     /**
@@ -146,11 +204,16 @@ public class NpcHider {
         if (task != null) {
             task.cancel();
         }
+        this.plugin = plugin;
         npcs.clear();
+        visibility.clear();
+        pendingUpdates.clear();
+        locations.clear();
+        updates = 0;
         task = new BukkitRunnable() {
             @Override
             public void run() {
-                applyVisibility();
+                applyNearbyVisibility();
             }
         }.runTaskTimer(plugin, 0, updateInterval);
     }
@@ -194,7 +257,7 @@ public class NpcHider {
     }
 
     /**
-     * Updates the visibility of the specified Npc for this player.
+     * Updates the visibility of the specified Npc for this player, if it changed since the last update.
      *
      * @param onlineProfile the online profile of the player
      * @param npcId         the id of the Npc
@@ -204,24 +267,15 @@ public class NpcHider {
         if (conditions == null) {
             return;
         }
-        final Npc<?> npc;
-        try {
-            npc = npcProcessor.get(npcId).getNpc(onlineProfile);
-        } catch (final QuestException exception) {
-            log.warn("NPCHider could not update visibility for npc '" + npcId + "': " + exception.getMessage(), exception);
-            return;
-        }
-        if (npc.isSpawned()) {
-            if (conditions.isEmpty() || questTypeApi.conditions(onlineProfile, conditions)) {
-                npc.hide(onlineProfile);
-            } else {
-                npc.show(onlineProfile);
-            }
+        final Npc<?> npc = getNpc(onlineProfile, npcId);
+        if (npc != null) {
+            locate(onlineProfile, npcId, npc);
+            applyVisibility(onlineProfile, npcId, npc, conditions);
         }
     }
 
     /**
-     * Updates the visibility of all Npcs for this player.
+     * Updates the visibility of all Npcs for this player, if it changed since the last update.
      *
      * @param onlineProfile the online profile of the player
      */
@@ -233,10 +287,15 @@ public class NpcHider {
 
     /**
      * Updates the visibility of this Npc for all players.
+     * <p>
+     * The last known visibility of the Npc is discarded, as the Npc may have been respawned.
      *
      * @param npcId the id of the Npc
      */
     public void applyVisibility(final NpcIdentifier npcId) {
+        for (final Map<NpcIdentifier, Boolean> states : visibility.values()) {
+            states.remove(npcId);
+        }
         for (final OnlineProfile onlineProfile : profileProvider.getOnlineProfiles()) {
             applyVisibility(onlineProfile, npcId);
         }
@@ -244,12 +303,133 @@ public class NpcHider {
 
     /**
      * Updates the visibility of all Npcs for all OnlineProfiles.
+     * <p>
+     * The last known visibility of all Npcs is discarded.
      */
     public void applyVisibility() {
+        visibility.clear();
+        for (final OnlineProfile onlineProfile : profileProvider.getOnlineProfiles()) {
+            applyVisibility(onlineProfile);
+        }
+    }
+
+    /**
+     * Updates the visibility of the Npcs within view distance of all OnlineProfiles,
+     * if it changed since the last update.
+     * <p>
+     * The last known Npc locations are discarded every {@value #LOCATION_REFRESH_INTERVAL} calls.
+     */
+    public void applyNearbyVisibility() {
+        updates = (updates + 1) % LOCATION_REFRESH_INTERVAL;
+        if (updates == 0) {
+            locations.clear();
+        }
         for (final OnlineProfile onlineProfile : profileProvider.getOnlineProfiles()) {
-            for (final NpcIdentifier npcId : npcs.keySet()) {
-                applyVisibility(onlineProfile, npcId);
+            applyNearbyVisibility(onlineProfile);
+        }
+    }
+
+    /**
+     * Updates the visibility of the Npcs within view distance of this player,
+     * if it changed since the last update.
+     *
+     * @param onlineProfile the online profile of the player
+     */
+    public void applyNearbyVisibility(final OnlineProfile onlineProfile) {
+        final Player player = onlineProfile.getPlayer();
+        final Location location = player.getLocation();
+        final double range = (player.getViewDistance() + VIEW_DISTANCE_MARGIN) * 16.0;
+        final double rangeSquared = range * range;
+        final Map<NpcIdentifier, Location> knownLocations = locations.getOrDefault(onlineProfile.getProfileUUID(), Map.of());
+        for (final Map.Entry<NpcIdentifier, Set<ConditionIdentifier>> entry : npcs.entrySet()) {
+            final Location knownLocation = knownLocations.get(entry.getKey());
+            if (knownLocation != null && !isInRange(location, knownLocation, rangeSquared)) {
+                continue;
+            }
+            final Npc<?> npc = getNpc(onlineProfile, entry.getKey());
+            if (npc == null) {
+                continue;
+            }
+            final Location npcLocation = locate(onlineProfile, entry.getKey(), npc);
+            if (npcLocation == null || !isInRange(location, npcLocation, rangeSquared)) {
+                continue;
             }
+            applyVisibility(onlineProfile, entry.getKey(), npc, entry.getValue());
+        }
+    }
+
+    /**
+     * Schedules an update of the Npcs within view distance of the profile for the next tick.
+     * <p>
+     * Multiple requests for the same profile until then are merged. This method may be called from any thread.
+     *
+     * @param profile the profile whose data changed
+     */
+    public void requestUpdate(final Profile profile) {
+        final Plugin scheduler = plugin;
+        if (scheduler == null || pendingUpdates.put(profile.getProfileUUID(), profile) != null) {
+            return;
+        }
+        scheduler.getServer().getScheduler().runTask(scheduler, () -> {
+            pendingUpdates.remove(profile.getProfileUUID());
+            profile.getOnlineProfile().ifPresent(this::applyNearbyVisibility);
+        });
+    }
+
+    /**
+     * Discards the last known visibility and locations of all Npcs for the profile,
+     * so the next update shows or hides them again.
+     *
+     * @param profile the profile to discard the visibility of
+     */
+    public void forget(final Profile profile) {
+        visibility.remove(profile.getProfileUUID());
+        locations.remove(profile.getProfileUUID());
+    }
+
+    private static boolean isInRange(final Location location, final Location npcLocation, final double rangeSquared) {
+        return location.getWorld().equals(npcLocation.getWorld()) && location.distanceSquared(npcLocation) <= rangeSquared;
+    }
+
+    @Nullable
+    private Location locate(final OnlineProfile onlineProfile, final NpcIdentifier npcId, final Npc<?> npc) {
+        final Location location = npc.getLocation().orElse(null);
+        if (location == null) {
+            final Map<NpcIdentifier, Location> knownLocations = locations.get(onlineProfile.getProfileUUID());
+            if (knownLocations != null) {
+                knownLocations.remove(npcId);
+            }
+        } else {
+            locations.computeIfAbsent(onlineProfile.getProfileUUID(), uuid -> new HashMap<>()).put(npcId, location);
+        }
+        return location;
+    }
+
+    @Nullable
+    private Npc<?> getNpc(final OnlineProfile onlineProfile, final NpcIdentifier npcId) {
+        try {
+            return npcProcessor.get(npcId).getNpc(onlineProfile);
+        } catch (final QuestException exception) {
+            log.warn("NPCHider could not update visibility for npc '" + npcId + "': " + exception.getMessage(), exception);
+            return null;
+        }
+    }
+
+    private void applyVisibility(final OnlineProfile onlineProfile, final NpcIdentifier npcId, final Npc<?> npc,
+                                 final Set<ConditionIdentifier> conditions) {
+        final Map<NpcIdentifier, Boolean> states = visibility.computeIfAbsent(onlineProfile.getProfileUUID(), uuid -> new HashMap<>());
+        if (!npc.isSpawned()) {
+            states.remove(npcId);
+            return;
+        }
+        final boolean hidden = conditions.isEmpty() || questTypeApi.conditions(onlineProfile, conditions);
+        if (Boolean.valueOf(hidden).equals(states.put(npcId, hidden))) {
+            return;
+        }
+        if (hidden) {
+            npc.hide(onlineProfile);
+        } else {
+            npc.show(onlineProfile);
         }
     }
 }
@@ -89,6 +89,12 @@ public class DefaultEventServiceSubscriptionBuilder<T extends Event> implements
     @Nullable
     private QuestBiFunction<ProfileProvider, T, Optional<Profile>> profileExtractor;
 
+    /**
+     * The extractor passed to this builder, used to share one dispatcher between subscriptions with the same extractor.
+     */
+    @Nullable
+    private Object extractorKey;
+
     /**
      * Creates a new builder for the given event class.
      *
@@ -147,6 +153,7 @@ public class DefaultEventServiceSubscriptionBuilder<T extends Event> implements
         if (this.profileExtractor != null) {
             throw new IllegalStateException("Cannot set more than one extractor!");
         }
+        this.extractorKey = extractor;
         this.profileExtractor = (provider, event) -> Optional.ofNullable(extractor.apply(event)).map(provider::getProfile);
         return this;
     }
@@ -156,6 +163,7 @@ public class DefaultEventServiceSubscriptionBuilder<T extends Event> implements
         if (this.profileExtractor != null) {
             throw new IllegalStateException("Cannot set more than one extractor!");
         }
+        this.extractorKey = extractor;
         this.profileExtractor = (provider, event) -> Optional.ofNullable(extractor.apply(event)).map(provider::getProfile);
         return this;
     }
@@ -165,6 +173,7 @@ public class DefaultEventServiceSubscriptionBuilder<T extends Event> implements
         if (this.profileExtractor != null) {
             throw new IllegalStateException("Cannot set more than one extractor!");
         }
+        this.extractorKey = extractor;
         this.profileExtractor = (provider, event) -> Optional.ofNullable(extractor.apply(event)).map(provider::getProfile);
         return this;
     }
@@ -174,6 +183,7 @@ public class DefaultEventServiceSubscriptionBuilder<T extends Event> implements
         if (this.profileExtractor != null) {
             throw new IllegalStateException("Cannot set more than one extractor!");
         }
+        this.extractorKey = extractor;
         this.profileExtractor = (provider, event) -> Optional.ofNullable(extractor.apply(event))
                 .map(entity -> entity instanceof final Player player ? provider.getProfile(player) : null);
         return this;
@@ -184,6 +194,7 @@ public class DefaultEventServiceSubscriptionBuilder<T extends Event> implements
         if (this.profileExtractor != null) {
             throw new IllegalStateException("Cannot set more than one extractor!");
         }
+        this.extractorKey = extractor;
         this.profileExtractor = (provider, event) -> Optional.ofNullable(extractor.apply(event));
         return this;
     }
@@ -208,15 +219,15 @@ public class DefaultEventServiceSubscriptionBuilder<T extends Event> implements
             eventService.subscribe(objectiveID, eventClass, nonProfileHandler, eventPriority, ignoreCancelled, conditionsIgnore);
             return;
         }
-        if (profileExtractor == null) {
+        if (profileExtractor == null || extractorKey == null) {
             throw new IllegalStateException("No valid extractor specified!");
         }
         if (onlineProfileHandler != null) {
-            eventService.subscribe(objectiveID, eventClass, onlineProfileHandler, profileExtractor, eventPriority, ignoreCancelled, conditionsIgnore);
+            eventService.subscribe(objectiveID, eventClass, onlineProfileHandler, profileExtractor, extractorKey, eventPriority, ignoreCancelled, conditionsIgnore);
             return;
         }
         if (profileHandler != null) {
-            eventService.subscribe(objectiveID, eventClass, profileHandler, profileExtractor, eventPriority, ignoreCancelled, conditionsIgnore);
+            eventService.subscribe(objectiveID, eventClass, profileHandler, profileExtractor, extractorKey, eventPriority, ignoreCancelled, conditionsIgnore);
             return;
         }
         throw new IllegalStateException("No valid handler specified!");
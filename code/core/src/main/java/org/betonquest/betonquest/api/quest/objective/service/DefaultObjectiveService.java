@@ -88,6 +88,12 @@ public class DefaultObjectiveService implements ObjectiveService {
      */
     private QuestFunction<Profile, String> defaultDataSupplier;
 
+    /**
+     * The typed data of the objective, if requested.
+     */
+    @Nullable
+    private DefaultTypedObjectiveData<?> typedData;
+
     /**
      * The objective related to this service.
      */
@@ -162,10 +168,12 @@ public class DefaultObjectiveService implements ObjectiveService {
         final String freshData = objectiveData.get(profile);
         saver.add(new Saver.Record(UpdateType.REMOVE_OBJECTIVES, profile.getProfileUUID().toString(), objectiveID.getFull()));
         saver.add(new Saver.Record(UpdateType.ADD_OBJECTIVES, profile.getProfileUUID().toString(), objectiveID.getFull(), freshData));
-        final QuestDataUpdateEvent event = new QuestDataUpdateEvent(profile, objectiveID, freshData);
-        plugin.getServer().getScheduler().runTask(plugin, event::callEvent);
+        if (plugin.isEnabled()) {
+            final QuestDataUpdateEvent event = new QuestDataUpdateEvent(profile, objectiveID, freshData);
+            plugin.getServer().getScheduler().runTask(plugin, event::callEvent);
+        }
         if (profile.getOnlineProfile().isPresent()) {
-            plugin.getPlayerDataStorage().get(profile).getJournal().update();
+            plugin.getPlayerDataStorage().get(profile).getJournal().scheduleUpdate();
         }
     }
 
@@ -179,6 +187,37 @@ public class DefaultObjectiveService implements ObjectiveService {
         this.defaultDataSupplier = supplier;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S> TypedObjectiveData<S> getTypedData(final ObjectiveDataCodec<S> codec) {
+        if (typedData == null) {
+            final BetonQuest plugin = BetonQuest.getInstance();
+            typedData = new DefaultTypedObjectiveData<>(this, codec,
+                    task -> plugin.getServer().getScheduler().runTask(plugin, task));
+        } else if (!typedData.getCodec().equals(codec)) {
+            throw new IllegalStateException("Objective '" + objectiveID + "' already uses typed data with another codec");
+        }
+        return (TypedObjectiveData<S>) typedData;
+    }
+
+    @Override
+    public void flushData() {
+        if (typedData != null) {
+            typedData.flush();
+        }
+    }
+
+    /**
+     * Writes the changed typed data of the profile into the raw data and the database.
+     *
+     * @param profile the profile to flush
+     */
+    public void flushData(final Profile profile) {
+        if (typedData != null) {
+            typedData.flush(profile);
+        }
+    }
+
     @Override
     public void renameObjective(final ObjectiveIdentifier newObjectiveID) {
         this.objectiveID = newObjectiveID;
@@ -201,7 +240,7 @@ public class DefaultObjectiveService implements ObjectiveService {
 
     @Override
     public boolean checkConditions(@Nullable final Profile profile) throws QuestException {
-        getLogger().debug("Checking conditions for objective '%s' and profile '%s'".formatted(objectiveID, profile));
+        getLogger().debug(() -> "Checking conditions for objective '%s' and profile '%s'".formatted(objectiveID, profile));
         final ObjectiveServiceDataProvider provider = getServiceDataProvider();
         final List<ConditionIdentifier> conditions = provider.getConditions(profile);
         return conditions.isEmpty() || conditionProcessor.checks(profile, conditions, true);
@@ -214,7 +253,7 @@ public class DefaultObjectiveService implements ObjectiveService {
         if (events.isEmpty()) {
             return;
         }
-        getLogger().debug("Calling actions [%s] for objective '%s' and profile '%s'"
+        getLogger().debug(() -> "Calling actions [%s] for objective '%s' and profile '%s'"
                 .formatted(String.join(",", events.stream().map(Identifier::toString).toList()), objectiveID, profile));
         actionProcessor.executes(profile, events);
     }
@@ -236,13 +275,13 @@ public class DefaultObjectiveService implements ObjectiveService {
         final QuestPackage questPackage = objectiveID.getPackage();
         playerData.removeRawObjective(objectiveID);
         checkForPersistence(profile, playerData);
-        logger.debug("Objective '%s' has been completed for '%s', firing actions.".formatted(objectiveID, profile));
+        logger.debug(() -> "Objective '%s' has been completed for '%s', firing actions.".formatted(objectiveID, profile));
         try {
             callActions(profile);
         } catch (final QuestException e) {
             logger.warn(questPackage, "Error while firing actions in objective '%s' for profile '%s': %s".formatted(objectiveID, profile, e.getMessage()), e);
         }
-        logger.debug(questPackage, "Firing actions in objective '%s' for profile '%s' finished".formatted(objectiveID, profile));
+        logger.debug(questPackage, () -> "Firing actions in objective '%s' for profile '%s' finished".formatted(objectiveID, profile));
     }
 
     private void checkForPersistence(final Profile profile, final PlayerData playerData) {
@@ -259,7 +298,7 @@ public class DefaultObjectiveService implements ObjectiveService {
                 playerData.addRawObjective(objectiveID, defaultDataInstruction);
                 playerData.addObjToDB(objectiveID, defaultDataInstruction);
                 objectiveService.start(objectiveID, profile, defaultDataInstruction, ObjectiveState.NEW);
-                logger.debug("Persistent objective '%s' has been re-created for '%s'.".formatted(objectiveID, profile));
+                logger.debug(() -> "Persistent objective '%s' has been re-created for '%s'.".formatted(objectiveID, profile));
             } catch (final QuestException e) {
                 logger.warn("Could not re-create persistent objective '%s' for profile '%s': The objective instruction could not be resolved: %s"
                         .formatted(objectiveID, profile, e.getMessage()), e);
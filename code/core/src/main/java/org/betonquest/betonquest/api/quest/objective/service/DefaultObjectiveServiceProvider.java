@@ -18,6 +18,8 @@ import org.betonquest.betonquest.api.quest.objective.ObjectiveState;
 import org.betonquest.betonquest.kernel.processor.quest.ActionProcessor;
 import org.betonquest.betonquest.kernel.processor.quest.ConditionProcessor;
 import org.betonquest.betonquest.lib.bukkit.event.DefaultBukkitEventService;
+import org.betonquest.betonquest.lib.bukkit.event.IndexedProfileDispatcher;
+import org.betonquest.betonquest.lib.bukkit.event.ProfileDispatchIndex;
 import org.betonquest.betonquest.lib.logger.DefaultQuestExceptionHandler;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Event;
@@ -74,6 +76,16 @@ public class DefaultObjectiveServiceProvider implements ObjectiveServiceProvider
      */
     private final Map<ObjectiveIdentifier, DefaultObjectiveService> services;
 
+    /**
+     * The objectives active per profile, kept in sync by {@link #start} and {@link #stop}.
+     */
+    private final ProfileDispatchIndex<ObjectiveIdentifier> activeObjectives;
+
+    /**
+     * The dispatchers shared by all profile subscriptions with the same event, priority and extractor.
+     */
+    private final Map<DispatchKey, IndexedProfileDispatcher<?, ObjectiveIdentifier>> dispatchers;
+
     /**
      * Sole constructor. Creates an objective event service on top of a {@link BukkitEventService}.
      *
@@ -95,11 +107,15 @@ public class DefaultObjectiveServiceProvider implements ObjectiveServiceProvider
         this.actionProcessor = actionProcessor;
         this.conditionProcessor = conditionProcessor;
         this.services = new HashMap<>();
+        this.activeObjectives = new ProfileDispatchIndex<>();
+        this.dispatchers = new HashMap<>();
     }
 
     @Override
     public void clear() {
         eventService.unsubscribeAll();
+        dispatchers.clear();
+        activeObjectives.clear();
         services.clear();
     }
 
@@ -124,7 +140,10 @@ public class DefaultObjectiveServiceProvider implements ObjectiveServiceProvider
     @SuppressWarnings("PMD.AvoidSynchronizedStatement")
     public void stop(final ObjectiveIdentifier objectiveID, final Profile profile, final ObjectiveState newState) throws QuestException {
         synchronized (this) {
-            getFactoryService(objectiveID).getData().remove(profile);
+            final DefaultObjectiveService service = (DefaultObjectiveService) getFactoryService(objectiveID);
+            service.flushData(profile);
+            service.getData().remove(profile);
+            activeObjectives.remove(profile, objectiveID);
             runObjectiveChangeEvent(objectiveID, profile, ObjectiveState.ACTIVE, newState);
         }
     }
@@ -134,6 +153,7 @@ public class DefaultObjectiveServiceProvider implements ObjectiveServiceProvider
     public void start(final ObjectiveIdentifier objectiveID, final Profile profile, final String instructionString, final ObjectiveState previousState) throws QuestException {
         synchronized (this) {
             getFactoryService(objectiveID).getData().put(profile, instructionString);
+            activeObjectives.add(profile, objectiveID);
             runObjectiveChangeEvent(objectiveID, profile, previousState, ObjectiveState.ACTIVE);
         }
     }
@@ -154,12 +174,29 @@ public class DefaultObjectiveServiceProvider implements ObjectiveServiceProvider
     public <T extends Event> void subscribe(final ObjectiveIdentifier objectiveID, final Class<T> eventClass, final ProfileEventHandler<T> handler,
                                             final QuestBiFunction<ProfileProvider, T, Optional<Profile>> profileExtractor,
                                             final EventPriority priority, final boolean ignoreCancelled, final boolean ignoreConditions) throws QuestException {
-        if (!eventService.require(eventClass, priority)) {
-            throw new QuestException("<%s> Could not subscribe to event '%s'".formatted(objectiveID.getFull(), eventClass.getSimpleName()));
-        }
-        final EventServiceSubscriber<T> subscriber = subOffline(objectiveID, handler, profileExtractor, ignoreConditions);
-        final EventServiceSubscriber<T> exceptionHandled = exceptionHandled(objectiveID, eventClass, subscriber);
-        eventService.subscribe(eventClass, priority, ignoreCancelled, exceptionHandled);
+        subscribe(objectiveID, eventClass, handler, profileExtractor, profileExtractor, priority, ignoreCancelled, ignoreConditions);
+    }
+
+    /**
+     * Subscribes the handler to the event, sharing one dispatcher with all subscriptions using the same extractor key.
+     *
+     * @param objectiveID      the objective the handler belongs to
+     * @param eventClass       the event class to subscribe to
+     * @param handler          the handler to call
+     * @param profileExtractor the extractor to get the profile from the event
+     * @param extractorKey     the key identifying the extractor, subscriptions with equal keys must extract the same profile
+     * @param priority         the priority to subscribe with
+     * @param ignoreCancelled  whether to ignore cancelled events
+     * @param ignoreConditions whether to ignore the objective conditions
+     * @param <T>              the event type
+     * @throws QuestException if the event could not be subscribed
+     */
+    public <T extends Event> void subscribe(final ObjectiveIdentifier objectiveID, final Class<T> eventClass, final ProfileEventHandler<T> handler,
+                                            final QuestBiFunction<ProfileProvider, T, Optional<Profile>> profileExtractor, final Object extractorKey,
+                                            final EventPriority priority, final boolean ignoreCancelled, final boolean ignoreConditions) throws QuestException {
+        final IndexedProfileDispatcher<T, ObjectiveIdentifier> dispatcher = dispatcher(objectiveID, eventClass, profileExtractor,
+                extractorKey, priority, ignoreCancelled);
+        dispatcher.subscribe(objectiveID, exceptionHandled(objectiveID, eventClass, subOffline(objectiveID, handler, ignoreConditions)));
         logger.debug(objectiveID.getPackage(), "Subscribed to event '" + eventClass.getSimpleName() + "' with priority '" + priority.name() + "' and ignoreCancelled '" + ignoreCancelled + "'");
     }
 
@@ -168,13 +205,50 @@ public class DefaultObjectiveServiceProvider implements ObjectiveServiceProvider
                                             final OnlineProfileEventHandler<T> handler,
                                             final QuestBiFunction<ProfileProvider, T, Optional<Profile>> profileExtractor,
                                             final EventPriority priority, final boolean ignoreCancelled, final boolean ignoreConditions) throws QuestException {
+        subscribe(objectiveID, eventClass, handler, profileExtractor, profileExtractor, priority, ignoreCancelled, ignoreConditions);
+    }
+
+    /**
+     * Subscribes the handler to the event, sharing one dispatcher with all subscriptions using the same extractor key.
+     *
+     * @param objectiveID      the objective the handler belongs to
+     * @param eventClass       the event class to subscribe to
+     * @param handler          the handler to call
+     * @param profileExtractor the extractor to get the profile from the event
+     * @param extractorKey     the key identifying the extractor, subscriptions with equal keys must extract the same profile
+     * @param priority         the priority to subscribe with
+     * @param ignoreCancelled  whether to ignore cancelled events
+     * @param ignoreConditions whether to ignore the objective conditions
+     * @param <T>              the event type
+     * @throws QuestException if the event could not be subscribed
+     */
+    public <T extends Event> void subscribe(final ObjectiveIdentifier objectiveID, final Class<T> eventClass,
+                                            final OnlineProfileEventHandler<T> handler,
+                                            final QuestBiFunction<ProfileProvider, T, Optional<Profile>> profileExtractor, final Object extractorKey,
+                                            final EventPriority priority, final boolean ignoreCancelled, final boolean ignoreConditions) throws QuestException {
+        final IndexedProfileDispatcher<T, ObjectiveIdentifier> dispatcher = dispatcher(objectiveID, eventClass, profileExtractor,
+                extractorKey, priority, ignoreCancelled);
+        dispatcher.subscribe(objectiveID, exceptionHandled(objectiveID, eventClass, subOnline(objectiveID, handler, ignoreConditions)));
+        logger.debug(objectiveID.getPackage(), "Subscribed to event '" + eventClass.getSimpleName() + "' with priority '" + priority.name() + "' and ignoreCancelled '" + ignoreCancelled + "'");
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Event> IndexedProfileDispatcher<T, ObjectiveIdentifier> dispatcher(final ObjectiveIdentifier objectiveID, final Class<T> eventClass,
+                                                                                         final QuestBiFunction<ProfileProvider, T, Optional<Profile>> profileExtractor,
+                                                                                         final Object extractorKey, final EventPriority priority,
+                                                                                         final boolean ignoreCancelled) throws QuestException {
+        final DispatchKey key = new DispatchKey(eventClass, priority, ignoreCancelled, extractorKey);
+        final IndexedProfileDispatcher<?, ObjectiveIdentifier> existing = dispatchers.get(key);
+        if (existing != null) {
+            return (IndexedProfileDispatcher<T, ObjectiveIdentifier>) existing;
+        }
         if (!eventService.require(eventClass, priority)) {
             throw new QuestException("<%s> Could not subscribe to event '%s'".formatted(objectiveID.getFull(), eventClass.getSimpleName()));
         }
-        final EventServiceSubscriber<T> subscriber = subOnline(objectiveID, handler, profileExtractor, ignoreConditions);
-        final EventServiceSubscriber<T> exceptionHandled = exceptionHandled(objectiveID, eventClass, subscriber);
-        eventService.subscribe(eventClass, priority, ignoreCancelled, exceptionHandled);
-        logger.debug(objectiveID.getPackage(), "Subscribed to event '" + eventClass.getSimpleName() + "' with priority '" + priority.name() + "' and ignoreCancelled '" + ignoreCancelled + "'");
+        final IndexedProfileDispatcher<T, ObjectiveIdentifier> dispatcher = new IndexedProfileDispatcher<>(profileProvider, profileExtractor, activeObjectives);
+        eventService.subscribe(eventClass, priority, ignoreCancelled, dispatcher);
+        dispatchers.put(key, dispatcher);
+        return dispatcher;
     }
 
     private void runObjectiveChangeEvent(final ObjectiveIdentifier objectiveID, final Profile profile, final ObjectiveState previousState, final ObjectiveState newState) {
@@ -188,6 +262,12 @@ public class DefaultObjectiveServiceProvider implements ObjectiveServiceProvider
         return (event, priority) -> exceptionHandler.handle(() -> subscriber.call(event, priority));
     }
 
+    private <T extends Event> IndexedProfileDispatcher.ProfileSubscriber<T> exceptionHandled(final ObjectiveIdentifier objectiveID, final Class<T> eventClass,
+                                                                                            final IndexedProfileDispatcher.ProfileSubscriber<T> subscriber) {
+        final QuestExceptionHandler exceptionHandler = new DefaultQuestExceptionHandler(objectiveID.getPackage(), logger, objectiveID.getFull(), eventClass.getSimpleName());
+        return (event, profile) -> exceptionHandler.handle(() -> subscriber.call(event, profile));
+    }
+
     private <T extends Event> EventServiceSubscriber<T> subNonProfile(final ObjectiveIdentifier objectiveID, final NonProfileEventHandler<T> eventHandler,
                                                                       final boolean ignoreConditions) {
         return (event, priority) -> {
@@ -198,15 +278,10 @@ public class DefaultObjectiveServiceProvider implements ObjectiveServiceProvider
         };
     }
 
-    private <T extends Event> EventServiceSubscriber<T> subOnline(final ObjectiveIdentifier objectiveID, final OnlineProfileEventHandler<T> handler,
-                                                                  final QuestBiFunction<ProfileProvider, T, Optional<Profile>> profileExtractor,
-                                                                  final boolean ignoreConditions) {
-        return (event, prio) -> {
-            final Optional<Profile> profile = profileExtractor.apply(profileProvider, event);
-            if (profile.isEmpty()) {
-                return;
-            }
-            final Optional<OnlineProfile> onlineProfile = profile.get().getOnlineProfile();
+    private <T extends Event> IndexedProfileDispatcher.ProfileSubscriber<T> subOnline(final ObjectiveIdentifier objectiveID, final OnlineProfileEventHandler<T> handler,
+                                                                                      final boolean ignoreConditions) {
+        return (event, profile) -> {
+            final Optional<OnlineProfile> onlineProfile = profile.getOnlineProfile();
             if (onlineProfile.isEmpty()) {
                 return;
             }
@@ -218,19 +293,24 @@ public class DefaultObjectiveServiceProvider implements ObjectiveServiceProvider
         };
     }
 
-    private <T extends Event> EventServiceSubscriber<T> subOffline(final ObjectiveIdentifier objectiveID, final ProfileEventHandler<T> handler,
-                                                                   final QuestBiFunction<ProfileProvider, T, Optional<Profile>> profileExtractor,
-                                                                   final boolean ignoreConditions) {
-        return (event, prio) -> {
-            final Optional<Profile> profile = profileExtractor.apply(profileProvider, event);
-            if (profile.isEmpty()) {
-                return;
-            }
+    private <T extends Event> IndexedProfileDispatcher.ProfileSubscriber<T> subOffline(final ObjectiveIdentifier objectiveID, final ProfileEventHandler<T> handler,
+                                                                                       final boolean ignoreConditions) {
+        return (event, profile) -> {
             final ObjectiveService service = getFactoryService(objectiveID);
-            final Profile executingProfile = profile.get();
-            if (service.containsProfile(executingProfile) && (ignoreConditions || service.checkConditions(executingProfile))) {
-                handler.handle(event, executingProfile);
+            if (service.containsProfile(profile) && (ignoreConditions || service.checkConditions(profile))) {
+                handler.handle(event, profile);
             }
         };
     }
+
+    /**
+     * Identifies the subscriptions which can share one {@link IndexedProfileDispatcher}.
+     *
+     * @param eventClass      the event class
+     * @param priority        the priority
+     * @param ignoreCancelled whether cancelled events are ignored
+     * @param extractorKey    the key identifying the profile extractor
+     */
+    private record DispatchKey(Class<?> eventClass, EventPriority priority, boolean ignoreCancelled, Object extractorKey) {
+    }
 }
@@ -0,0 +1,154 @@
+package org.betonquest.betonquest.api.quest.objective.service;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * The default implementation of the {@link TypedObjectiveData}.
+ * <p>
+ * Each parsed data remembers the raw data it was parsed from. As long as the raw data of the profile is still the
+ * same instance, the parsed data is reused. Dirty data is serialized once per flush, which is scheduled on the first
+ * change after the last flush, so multiple changes in the same tick only result in one write.
+ *
+ * @param <S> the type of the objective data
+ */
+public class DefaultTypedObjectiveData<S> implements TypedObjectiveData<S> {
+
+    /**
+     * The service holding the raw data.
+     */
+    private final ObjectiveService service;
+
+    /**
+     * The codec to convert the data.
+     */
+    private final ObjectiveDataCodec<S> codec;
+
+    /**
+     * The scheduler to run the flush later.
+     */
+    private final Consumer<Runnable> scheduler;
+
+    /**
+     * The parsed data per profile UUID.
+     */
+    private final Map<UUID, Parsed<S>> parsed;
+
+    /**
+     * The profiles with unsaved changes per profile UUID.
+     */
+    private final Map<UUID, Profile> dirty;
+
+    /**
+     * If a flush is already scheduled.
+     */
+    private final AtomicBoolean flushScheduled;
+
+    /**
+     * Creates a new typed objective data.
+     *
+     * @param service   the service holding the raw data
+     * @param codec     the codec to convert the data
+     * @param scheduler the scheduler to run the flush later
+     */
+    public DefaultTypedObjectiveData(final ObjectiveService service, final ObjectiveDataCodec<S> codec,
+                                     final Consumer<Runnable> scheduler) {
+        this.service = service;
+        this.codec = codec;
+        this.scheduler = scheduler;
+        this.parsed = new ConcurrentHashMap<>();
+        this.dirty = new ConcurrentHashMap<>();
+        this.flushScheduled = new AtomicBoolean();
+    }
+
+    /**
+     * Gets the codec of this data.
+     *
+     * @return the codec
+     */
+    public ObjectiveDataCodec<S> getCodec() {
+        return codec;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public S get(final Profile profile) {
+        final UUID uuid = profile.getProfileUUID();
+        final String raw = service.getData().get(profile);
+        if (raw == null) {
+            parsed.remove(uuid);
+            dirty.remove(uuid);
+            return null;
+        }
+        final Parsed<S> existing = parsed.get(uuid);
+        if (existing != null && existing.raw() == raw) {
+            return existing.data();
+        }
+        try {
+            final S data = codec.parse(profile, raw);
+            parsed.put(uuid, new Parsed<>(raw, data));
+            return data;
+        } catch (final QuestException e) {
+            service.getLogger().error("Could not parse data of objective '" + service.getObjectiveID() + "' for profile '"
+                    + profile + "': " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    @Override
+    public void markDirty(final Profile profile) {
+        dirty.put(profile.getProfileUUID(), profile);
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.accept(this::flush);
+        }
+    }
+
+    /**
+     * Writes all changed data into the raw data and the database.
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        for (final Profile profile : dirty.values()) {
+            flush(profile);
+        }
+    }
+
+    /**
+     * Writes the data of the profile into the raw data and the database, if it changed.
+     *
+     * @param profile the profile to flush
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public void flush(final Profile profile) {
+        final UUID uuid = profile.getProfileUUID();
+        if (dirty.remove(uuid) == null) {
+            return;
+        }
+        final Parsed<S> existing = parsed.get(uuid);
+        if (existing == null || existing.raw() != service.getData().get(profile)) {
+            return;
+        }
+        final String serialized = codec.serialize(existing.data());
+        parsed.put(uuid, new Parsed<>(serialized, existing.data()));
+        service.getData().put(profile, serialized);
+        service.updateData(profile);
+    }
+
+    /**
+     * Data parsed from a raw data.
+     *
+     * @param raw  the raw data instance the data was parsed from or serialized to
+     * @param data the parsed data
+     * @param <S>  the type of the objective data
+     */
+    private record Parsed<S>(String raw, S data) {
+    }
+}
@@ -1199,6 +1199,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
                     playerData.removePointsCategory(name);
                     playerData.modifyPoints(rename, points);
                 }
+                instance.getPointLeaderboard().renameCategory(name, rename);
             }
             case "globalpoints", "globalpoint", "gpoints", "gpoint", "gp" -> {
                 updateType = UpdateType.RENAME_ALL_GLOBAL_POINTS;
@@ -1358,6 +1359,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
                     final PlayerData playerData = dataStorage.get(onlineProfile);
                     playerData.removePointsCategory(name);
                 }
+                instance.getPointLeaderboard().removeCategory(name);
             }
             case "objectives", "objective", "o" -> {
                 updateType = UpdateType.REMOVE_ALL_OBJECTIVES;
@@ -1,6 +1,11 @@
 package org.betonquest.betonquest.compatibility.holograms;
 
+import net.kyori.adventure.text.Component;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.compatibility.holograms.lines.AbstractLine;
+import org.betonquest.betonquest.quest.objective.spatial.ChunkGrid;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
@@ -8,12 +13,22 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Groups all holograms with same update interval and updates them with a single {@link BukkitRunnable}.
+ * <p>
+ * Each update takes a snapshot of the players and hologram locations on the main thread, then checks the
+ * conditions and renders the content off the main thread and finally only sends changed lines and visibility
+ * changes on the main thread. Only players within the range of a hologram are checked.
  */
+@SuppressWarnings("PMD.CouplingBetweenObjects")
 public final class HologramRunner {
 
     /**
@@ -26,12 +41,43 @@ public final class HologramRunner {
      */
     private final List<HologramWrapper> holograms = new ArrayList<>();
 
+    /**
+     * The players each hologram was last shown to.
+     */
+    private final Map<BetonHologram, Set<UUID>> shown = new IdentityHashMap<>();
+
+    /**
+     * The players whose visibility was sent for all holograms.
+     */
+    private final Set<UUID> known = new HashSet<>();
+
+    /**
+     * The content last sent for each line that needs to be updated.
+     */
+    private final Map<AbstractLine, Component[]> content = new IdentityHashMap<>();
+
     /**
      * Times the periodic execution of content and visibility refresh.
      */
     @Nullable
     private BukkitTask task;
 
+    /**
+     * The plugin to schedule the off-thread part of an update.
+     */
+    @Nullable
+    private Plugin plugin;
+
+    /**
+     * If an update is running off the main thread.
+     */
+    private boolean updating;
+
+    /**
+     * If the runner was cancelled.
+     */
+    private boolean cancelled;
+
     /**
      * The empty default constructor.
      */
@@ -57,19 +103,19 @@ public final class HologramRunner {
     static /* default */ void start(final Plugin plugin) {
         for (final Map.Entry<Integer, HologramRunner> entry : RUNNERS.entrySet()) {
             final HologramRunner runner = entry.getValue();
+            runner.plugin = plugin;
             runner.task = new BukkitRunnable() {
                 @Override
                 public void run() {
-                    for (final HologramWrapper h : runner.holograms) {
-                        h.updateContent();
-                        h.updateVisibility();
-                    }
+                    runner.update();
                 }
             }.runTaskTimer(plugin, 0, entry.getKey());
             for (final HologramWrapper hologram : runner.holograms) {
                 hologram.initialiseContent();
                 hologram.holograms().forEach(BetonHologram::showAll);
-                hologram.updateVisibility();
+            }
+            for (final OnlineProfile profile : onlineProfiles(runner)) {
+                runner.refreshRunner(profile);
             }
         }
     }
@@ -95,6 +141,10 @@ public final class HologramRunner {
         RUNNERS.clear();
     }
 
+    private static List<? extends OnlineProfile> onlineProfiles(final HologramRunner runner) {
+        return runner.holograms.isEmpty() ? List.of() : runner.holograms.get(0).profileProvider().getOnlineProfiles();
+    }
+
     /**
      * Adds a new hologram to the runner.
      *
@@ -105,17 +155,204 @@ public final class HologramRunner {
     }
 
     /**
-     * Refreshes all HologramRunners for a single player.
+     * Sends the visibility of all holograms of this runner to a single player.
      *
      * @param profile The online player's profile.
      */
     private void refreshRunner(final OnlineProfile profile) {
+        final Player player = profile.getPlayer();
+        final UUID playerID = player.getUniqueId();
+        for (final HologramWrapper wrapper : holograms) {
+            final boolean conditionsMet = wrapper.questTypeApi().conditions(profile, wrapper.conditionList());
+            for (final BetonHologram hologram : wrapper.holograms()) {
+                final boolean visible = conditionsMet && !wrapper.isPlayerOutOfRange(profile, hologram);
+                send(hologram, player, visible);
+            }
+        }
+        known.add(playerID);
+    }
+
+    private void update() {
+        final Plugin scheduler = plugin;
+        if (updating || scheduler == null) {
+            return;
+        }
+        updating = true;
+        final List<PlayerSnapshot> players = new ArrayList<>();
+        for (final OnlineProfile profile : onlineProfiles(this)) {
+            final Player player = profile.getPlayer();
+            players.add(new PlayerSnapshot(profile, player, player.getUniqueId(), player.getLocation()));
+        }
+        final List<HologramSnapshot> targets = new ArrayList<>();
+        for (final HologramWrapper wrapper : holograms) {
+            for (final BetonHologram hologram : wrapper.holograms()) {
+                targets.add(new HologramSnapshot(wrapper, hologram, hologram.getLocation().clone()));
+            }
+        }
+        scheduler.getServer().getScheduler().runTaskAsynchronously(scheduler, () -> {
+            try {
+                final Update update = new Update(render(), visibility(players, targets), players);
+                scheduler.getServer().getScheduler().runTask(scheduler, () -> apply(update));
+            } catch (final RuntimeException e) {
+                scheduler.getServer().getScheduler().runTask(scheduler, () -> updating = false);
+                throw e;
+            }
+        });
+    }
+
+    private Map<AbstractLine, Component[]> render() {
+        final Map<AbstractLine, Component[]> rendered = new IdentityHashMap<>();
+        for (final HologramWrapper wrapper : holograms) {
+            if (wrapper.staticContent()) {
+                continue;
+            }
+            for (final AbstractLine line : wrapper.cleanedLines()) {
+                if (line.isNotStaticText()) {
+                    final Component[] lines = line.render();
+                    if (lines != null) {
+                        rendered.put(line, lines);
+                    }
+                }
+            }
+        }
+        return rendered;
+    }
+
+    private Map<BetonHologram, Set<UUID>> visibility(final List<PlayerSnapshot> players, final List<HologramSnapshot> targets) {
+        final Map<BetonHologram, Set<UUID>> visible = new IdentityHashMap<>();
+        final ChunkGrid<HologramSnapshot> grid = new ChunkGrid<>();
+        final Map<HologramWrapper, OptionalInt> ranges = new IdentityHashMap<>();
+        for (final HologramSnapshot target : targets) {
+            visible.put(target.hologram(), new HashSet<>());
+            final OptionalInt range = ranges.computeIfAbsent(target.wrapper(), HologramWrapper::getSharedMaxRange);
+            if (range.isEmpty() || range.getAsInt() <= 0) {
+                grid.addEverywhere(target);
+            } else {
+                final Location location = target.location();
+                final long reach = range.getAsInt();
+                grid.add(target, location.getWorld().getUID(),
+                        Math.clamp(location.getBlockX() - reach, Integer.MIN_VALUE, Integer.MAX_VALUE),
+                        Math.clamp(location.getBlockZ() - reach, Integer.MIN_VALUE, Integer.MAX_VALUE),
+                        Math.clamp(location.getBlockX() + reach, Integer.MIN_VALUE, Integer.MAX_VALUE),
+                        Math.clamp(location.getBlockZ() + reach, Integer.MIN_VALUE, Integer.MAX_VALUE));
+            }
+        }
+        for (final PlayerSnapshot player : players) {
+            final Location location = player.location();
+            final Map<HologramWrapper, Boolean> conditions = new IdentityHashMap<>();
+            for (final HologramSnapshot target : grid.get(location.getWorld().getUID(), location.getBlockX(), location.getBlockZ())) {
+                final OptionalInt sharedRange = ranges.get(target.wrapper());
+                final int range = sharedRange.isPresent() ? sharedRange.getAsInt() : target.wrapper().getMaxRange(player.profile());
+                if (range > 0 && !isInRange(location, target.location(), range)) {
+                    continue;
+                }
+                if (conditions.computeIfAbsent(target.wrapper(),
+                        wrapper -> wrapper.questTypeApi().conditions(player.profile(), wrapper.conditionList()))) {
+                    visible.get(target.hologram()).add(player.playerID());
+                }
+            }
+        }
+        return visible;
+    }
+
+    private boolean isInRange(final Location player, final Location hologram, final int range) {
+        return player.getWorld().equals(hologram.getWorld()) && player.distanceSquared(hologram) <= (double) range * range;
+    }
+
+    private void apply(final Update update) {
+        updating = false;
+        if (cancelled) {
+            return;
+        }
         for (final HologramWrapper wrapper : holograms) {
-            wrapper.updateVisibilityForPlayer(profile);
+            applyContent(wrapper, update.content());
+        }
+        final Set<UUID> snapshotIDs = new HashSet<>();
+        for (final PlayerSnapshot player : update.players()) {
+            snapshotIDs.add(player.playerID());
+        }
+        for (final Map.Entry<BetonHologram, Set<UUID>> entry : update.visible().entrySet()) {
+            applyVisibility(entry.getKey(), entry.getValue(), update.players(), snapshotIDs);
+        }
+        for (final PlayerSnapshot player : update.players()) {
+            if (player.player().isOnline()) {
+                known.add(player.playerID());
+            }
+        }
+        known.removeIf(playerID -> !snapshotIDs.contains(playerID) && isOffline(playerID));
+        for (final Set<UUID> players : shown.values()) {
+            players.removeIf(playerID -> !known.contains(playerID));
+        }
+    }
+
+    private void applyContent(final HologramWrapper wrapper, final Map<AbstractLine, Component[]> rendered) {
+        if (wrapper.staticContent()) {
+            return;
+        }
+        int index = 0;
+        for (final AbstractLine line : wrapper.cleanedLines()) {
+            if (line.isNotStaticText()) {
+                final Component[] lines = rendered.get(line);
+                if (lines == null) {
+                    for (final BetonHologram hologram : wrapper.holograms()) {
+                        line.setLine(hologram, index);
+                    }
+                } else {
+                    applyLines(wrapper, index, lines, content.put(line, lines));
+                }
+            }
+            index += line.getLinesAdded();
+        }
+    }
+
+    private void applyLines(final HologramWrapper wrapper, final int index, final Component[] lines, @Nullable final Component[] previous) {
+        for (int i = 0; i < lines.length; i++) {
+            if (previous != null && i < previous.length && lines[i].equals(previous[i])) {
+                continue;
+            }
+            for (final BetonHologram hologram : wrapper.holograms()) {
+                hologram.setLine(index + i, lines[i]);
+            }
+        }
+    }
+
+    private void applyVisibility(final BetonHologram hologram, final Set<UUID> visible, final List<PlayerSnapshot> players,
+                                 final Set<UUID> snapshotIDs) {
+        final Set<UUID> previous = shown.computeIfAbsent(hologram, h -> new HashSet<>());
+        for (final PlayerSnapshot player : players) {
+            if (!player.player().isOnline()) {
+                continue;
+            }
+            final boolean isVisible = visible.contains(player.playerID());
+            if (!known.contains(player.playerID()) || isVisible != previous.contains(player.playerID())) {
+                send(hologram, player.player(), isVisible);
+            }
+        }
+        previous.removeIf(snapshotIDs::contains);
+        for (final PlayerSnapshot player : players) {
+            if (visible.contains(player.playerID()) && player.player().isOnline()) {
+                previous.add(player.playerID());
+            }
         }
     }
 
+    private void send(final BetonHologram hologram, final Player player, final boolean visible) {
+        final Set<UUID> players = shown.computeIfAbsent(hologram, h -> new HashSet<>());
+        if (visible) {
+            hologram.show(player);
+            players.add(player.getUniqueId());
+        } else {
+            hologram.hide(player);
+            players.remove(player.getUniqueId());
+        }
+    }
+
+    private boolean isOffline(final UUID playerID) {
+        return plugin == null || plugin.getServer().getPlayer(playerID) == null;
+    }
+
     private void cancelRunner() {
+        cancelled = true;
         if (task != null) {
             task.cancel();
         }
@@ -127,5 +364,40 @@ public final class HologramRunner {
             hologramWrapper.holograms().clear();
         }
         holograms.clear();
+        shown.clear();
+        known.clear();
+        content.clear();
+    }
+
+    /**
+     * The state of a player at the start of an update.
+     *
+     * @param profile  the online profile of the player
+     * @param player   the player
+     * @param playerID the UUID of the player
+     * @param location the location of the player
+     */
+    private record PlayerSnapshot(OnlineProfile profile, Player player, UUID playerID, Location location) {
+    }
+
+    /**
+     * The state of a hologram at the start of an update.
+     *
+     * @param wrapper  the wrapper the hologram belongs to
+     * @param hologram the hologram
+     * @param location the location of the hologram
+     */
+    private record HologramSnapshot(HologramWrapper wrapper, BetonHologram hologram, Location location) {
+    }
+
+    /**
+     * The result of the off-thread part of an update.
+     *
+     * @param content the rendered content of the lines that need to be updated
+     * @param visible the players each hologram should be shown to
+     * @param players the players of the update
+     */
+    private record Update(Map<AbstractLine, Component[]> content, Map<BetonHologram, Set<UUID>> visible,
+                          List<PlayerSnapshot> players) {
     }
 }
@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.compatibility.holograms;
 
+import org.betonquest.betonquest.api.QuestException;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.identifier.ConditionIdentifier;
 import org.betonquest.betonquest.api.instruction.Argument;
@@ -13,6 +14,7 @@ import org.bukkit.Location;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.OptionalInt;
 
 /**
  * Wrapper class for {@link BetonHologram} that stores data parsed from hologram configuration.
@@ -141,6 +143,29 @@ public record HologramWrapper(QuestExceptionHandler handler, QuestTypeApi questT
         }
     }
 
+    /**
+     * Gets the maximum range if it is the same for all players.
+     *
+     * @return the range, 0 or less if there is no limit, or empty if the range depends on the player
+     */
+    public OptionalInt getSharedMaxRange() {
+        try {
+            return OptionalInt.of(maxRange.getValue(null).intValue());
+        } catch (final QuestException e) {
+            return OptionalInt.empty();
+        }
+    }
+
+    /**
+     * Gets the maximum range for the player.
+     *
+     * @param profile The online player's profile.
+     * @return the range, 0 or less if there is no limit
+     */
+    public int getMaxRange(final Profile profile) {
+        return getMaxRangeFromArgument(profile);
+    }
+
     private int getMaxRangeFromArgument(@Nullable final Profile profile) {
         return handler.handle(() -> this.maxRange.getValue(profile).intValue(), 0);
     }
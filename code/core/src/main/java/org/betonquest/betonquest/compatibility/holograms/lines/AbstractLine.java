@@ -1,6 +1,8 @@
 package org.betonquest.betonquest.compatibility.holograms.lines;
 
+import net.kyori.adventure.text.Component;
 import org.betonquest.betonquest.compatibility.holograms.BetonHologram;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Superclass for all hologram content types.
@@ -39,6 +41,20 @@ public abstract class AbstractLine {
      */
     public abstract void setLine(BetonHologram hologram, int index);
 
+    /**
+     * Renders the current content of the associated line(s) without changing a hologram.
+     * <p>
+     * This is called off the main thread for lines that need to be updated,
+     * so the content can be compared with the content sent before.
+     *
+     * @return the content of each added line or null if this line can only be updated with
+     * {@link #setLine(BetonHologram, int)}
+     */
+    @Nullable
+    public Component[] render() {
+        return null;
+    }
+
     /**
      * Gets the amount of lines added when {@link #setLine(BetonHologram, int)} is called.
      *
@@ -58,7 +58,7 @@ public class TopLine extends AbstractLine {
      * @return Formatted lines ready for display on a hologram
      */
     public Component[] getLines() {
-        topXObject.queryDB();
+        topXObject.update();
 
         final Component[] lines = new Component[linesAdded];
         for (int i = 0; i < linesAdded; i++) {
@@ -76,6 +76,11 @@ public class TopLine extends AbstractLine {
         return lines;
     }
 
+    @Override
+    public Component[] render() {
+        return getLines();
+    }
+
     @Override
     public String toString() {
         return "TopLine{"
@@ -2,15 +2,12 @@ package org.betonquest.betonquest.compatibility.holograms.lines;
 
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
-import org.betonquest.betonquest.database.Connector;
+import org.betonquest.betonquest.database.PointLeaderboard;
 import org.betonquest.betonquest.database.QueryType;
-import org.bukkit.Bukkit;
+import org.betonquest.betonquest.database.RankingEntry;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Holds data of a ranking.
@@ -38,7 +35,7 @@ public class TopXObject {
     private final OrderType orderType;
 
     /**
-     * Entries of last database request. Will not exceed {@link #limit}.
+     * Entries of the last update. Will not exceed {@link #limit}.
      */
     private final List<TopXLine> entries = new ArrayList<>();
 
@@ -58,7 +55,7 @@ public class TopXObject {
     }
 
     /**
-     * Returns the entries of the last database request.
+     * Returns the entries of the last update.
      *
      * @return List of {@link TopXLine} entries.
      */
@@ -67,34 +64,26 @@ public class TopXObject {
     }
 
     /**
-     * Updates the currently stored entries with data from the database.
+     * Updates the currently stored entries with data from the {@link PointLeaderboard}.
      */
-    public void queryDB() {
+    public void update() {
         entries.clear();
-        final Connector con = BetonQuest.getInstance().getDBConnector();
-
-        try (ResultSet resultSet = con.querySQL(orderType.getType(), statement -> {
-            statement.setString(1, category);
-            statement.setInt(2, limit);
-        })) {
-            while (resultSet.next()) {
-                final UUID uuid = UUID.fromString(resultSet.getString("playerID"));
-                final String playerName = Bukkit.getOfflinePlayer(uuid).getName();
-                if (playerName == null) {
-                    log.debug("No player name found for '" + uuid + "' in top line for '" + category + "'");
-                }
-                entries.add(new TopXLine(playerName == null ? "???" : playerName, resultSet.getLong("count")));
+        final PointLeaderboard leaderboard = BetonQuest.getInstance().getPointLeaderboard();
+        for (final RankingEntry entry : leaderboard.getTop(category, limit, orderType == OrderType.DESCENDING)) {
+            final String playerName = leaderboard.getName(entry.playerID());
+            if (playerName == null) {
+                log.debug("No player name found for '" + entry.playerID() + "' in top line for '" + category + "'");
             }
-        } catch (final SQLException e) {
-            log.error("There was an SQL exception while querying the top " + limit, e);
+            entries.add(new TopXLine(playerName == null ? "???" : playerName, entry.count()));
         }
     }
 
     /**
-     * Returns the number of lines actually retrieved from the database. May differ from {@link #limit} when not enough
+     * Returns the number of lines actually retrieved from the leaderboard. May differ from {@link #limit} when not enough
      * players have had alterations to that point made. Can be 0 under the following circumstances:
      * <ul>
-     *     <li>{@link #queryDB()} has not been called on this object</li>
+     *     <li>{@link #update()} has not been called on this object</li>
+     *     <li>The point category is still loading from the database</li>
      *     <li>No player has had alterations to the specified point</li>
      *     <li>Specified point does not exist</li>
      * </ul>
@@ -106,7 +95,7 @@ public class TopXObject {
     }
 
     /**
-     * Order in which the scores are sorted by {@link #queryDB()}.
+     * Order in which the scores are sorted by {@link #update()}.
      */
     public enum OrderType {
         /**
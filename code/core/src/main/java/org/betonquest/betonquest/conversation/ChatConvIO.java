@@ -5,13 +5,9 @@ import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.QuestException;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
-import org.bukkit.Bukkit;
+import org.betonquest.betonquest.listener.SessionEventRouters;
 import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -24,7 +20,7 @@ import java.util.Map;
  * Base of all chat conversation outputs.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public abstract class ChatConvIO implements ConversationIO, Listener {
+public abstract class ChatConvIO implements ConversationIO {
 
     protected final Conversation conv;
 
@@ -70,7 +66,18 @@ public abstract class ChatConvIO implements ConversationIO, Listener {
 
     @Override
     public void begin() {
-        Bukkit.getPluginManager().registerEvents(this, plugin);
+        registerSessionEvents(plugin.getSessionEvents());
+    }
+
+    /**
+     * Registers the listeners of this conversation IO for the player of the conversation.
+     * Listeners are registered with this IO as session, so they are all unregistered when the conversation ends.
+     *
+     * @param sessionEvents the routers to register the listeners at
+     */
+    protected void registerSessionEvents(final SessionEventRouters sessionEvents) {
+        sessionEvents.move().register(onlineProfile.getPlayerUUID(), this, this::onWalkAway);
+        sessionEvents.chatReply().register(onlineProfile.getPlayerUUID(), this, this::onReply);
     }
 
     /**
@@ -78,7 +85,6 @@ public abstract class ChatConvIO implements ConversationIO, Listener {
      *
      * @param event the PlayerMoveEvent triggered by the player
      */
-    @EventHandler(ignoreCancelled = true)
     public void onWalkAway(final PlayerMoveEvent event) {
         if (!event.getPlayer().equals(onlineProfile.getPlayer())) {
             return;
@@ -129,7 +135,6 @@ public abstract class ChatConvIO implements ConversationIO, Listener {
      *
      * @param event the AsyncPlayerChatEvent triggered by the player
      */
-    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
     public void onReply(final AsyncPlayerChatEvent event) {
         if (!event.getPlayer().equals(onlineProfile.getPlayer())) {
             return;
@@ -189,7 +194,7 @@ public abstract class ChatConvIO implements ConversationIO, Listener {
 
     @Override
     public void end(final Runnable callback) {
-        HandlerList.unregisterAll(this);
+        plugin.getSessionEvents().unregisterAll(onlineProfile.getPlayerUUID(), this);
         callback.run();
     }
 }
@@ -1,7 +1,6 @@
 package org.betonquest.betonquest.conversation;
 
 import net.kyori.adventure.text.Component;
-import org.apache.commons.lang3.tuple.Pair;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.QuestException;
 import org.betonquest.betonquest.api.bukkit.event.ConversationOptionEvent;
@@ -30,11 +29,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -244,26 +238,18 @@ public class Conversation {
      * @param options list of pointers to player options separated by commas
      */
     private void printOptions(final List<ResolvedOption> options) {
-        final List<Pair<ResolvedOption, CompletableFuture<Boolean>>> futuresOptions = new ArrayList<>();
+        final List<List<ConditionIdentifier>> optionConditions = new ArrayList<>(options.size());
         for (final ResolvedOption option : options) {
-            final List<ConditionIdentifier> conditionIDs = option.conversationData().getConditionIDs(option.name(), option.type());
-            final CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(
-                    () -> plugin.getQuestTypeApi().conditions(onlineProfile, conditionIDs));
-            futuresOptions.add(Pair.of(option, future));
+            optionConditions.add(option.conversationData().getConditionIDs(option.name(), option.type()));
         }
+        final List<Boolean> available = plugin.getConversationOptionEvaluator().evaluate(onlineProfile, identifier, optionConditions);
 
         int optionsCount = 0;
-        option:
-        for (final Pair<ResolvedOption, CompletableFuture<Boolean>> future : futuresOptions) {
-            try {
-                if (!future.getValue().get(1, TimeUnit.SECONDS)) {
-                    continue option;
-                }
-            } catch (final CancellationException | InterruptedException | ExecutionException | TimeoutException e) {
-                log.reportException(pack, e);
+        for (int i = 0; i < options.size(); i++) {
+            if (!available.get(i)) {
                 continue;
             }
-            final ResolvedOption option = future.getKey();
+            final ResolvedOption option = options.get(i);
             optionsCount++;
             availablePlayerOptions.put(optionsCount, option);
 
@@ -0,0 +1,228 @@
+package org.betonquest.betonquest.conversation;
+
+import org.betonquest.betonquest.api.identifier.ConditionIdentifier;
+import org.betonquest.betonquest.api.identifier.ConversationIdentifier;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.kernel.processor.quest.ConditionProcessor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Evaluates the conditions of conversation options on a dedicated executor.
+ * <p>
+ * All options of a list are evaluated as one batch: conditions used by several options are only checked once and
+ * all primary thread enforced conditions are queued at once, so they are checked in the same tick. The amount of
+ * concurrent batches is limited; if the limit is reached, the calling thread evaluates the batch itself.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class ConversationOptionEvaluator {
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The condition processor to check the conditions.
+     */
+    private final ConditionProcessor conditions;
+
+    /**
+     * The executor to evaluate the batches on.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The permits for concurrent batches on the executor.
+     */
+    private final Semaphore permits;
+
+    /**
+     * The time in milliseconds to wait for a batch.
+     */
+    private final long timeout;
+
+    /**
+     * The amount of evaluated batches.
+     */
+    private final LongAdder evaluations;
+
+    /**
+     * The combined latency of all batches in nanoseconds.
+     */
+    private final LongAdder totalLatency;
+
+    /**
+     * The longest latency of a batch in nanoseconds.
+     */
+    private final AtomicLong maxLatency;
+
+    /**
+     * The amount of batches run by the caller.
+     */
+    private final LongAdder callerRuns;
+
+    /**
+     * The amount of batches which did not finish in time.
+     */
+    private final LongAdder timeouts;
+
+    /**
+     * Creates a new option evaluator.
+     *
+     * @param log           the custom logger for this class
+     * @param conditions    the condition processor to check the conditions
+     * @param executor      the executor to evaluate the batches on
+     * @param maxConcurrent the maximal amount of concurrent batches on the executor
+     * @param timeout       the time in milliseconds to wait for a batch
+     */
+    public ConversationOptionEvaluator(final BetonQuestLogger log, final ConditionProcessor conditions,
+                                       final ExecutorService executor, final int maxConcurrent, final long timeout) {
+        this.log = log;
+        this.conditions = conditions;
+        this.executor = executor;
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+        this.timeout = timeout;
+        this.evaluations = new LongAdder();
+        this.totalLatency = new LongAdder();
+        this.maxLatency = new AtomicLong();
+        this.callerRuns = new LongAdder();
+        this.timeouts = new LongAdder();
+    }
+
+    /**
+     * Creates the executor for option evaluations.
+     * <p>
+     * Virtual threads are used if no thread count is given.
+     *
+     * @param threads the amount of threads, 0 or less to use virtual threads
+     * @return the new executor
+     */
+    public static ExecutorService createExecutor(final int threads) {
+        if (threads <= 0) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        final AtomicLong counter = new AtomicLong();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "BetonQuest-ConversationOptions-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Evaluates which options of a conversation are available.
+     * <p>
+     * Options whose evaluation did not finish in time are unavailable.
+     *
+     * @param profile        the profile to check the conditions for
+     * @param conversationID the conversation the options belong to
+     * @param options        the conditions of each option, all conditions of an option have to be met
+     * @return the availability of each option in the order of the given options
+     */
+    public List<Boolean> evaluate(final Profile profile, final ConversationIdentifier conversationID,
+                                  final List<? extends Collection<ConditionIdentifier>> options) {
+        final long start = System.nanoTime();
+        final List<Boolean> available = evaluateLimited(profile, conversationID, options);
+        final long latency = System.nanoTime() - start;
+        evaluations.increment();
+        totalLatency.add(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+        log.debug(conversationID.getPackage(), "Evaluated " + options.size() + " options of conversation '"
+                + conversationID + "' for '" + profile + "' in " + TimeUnit.NANOSECONDS.toMillis(latency) + "ms");
+        return available;
+    }
+
+    private List<Boolean> evaluateLimited(final Profile profile, final ConversationIdentifier conversationID,
+                                          final List<? extends Collection<ConditionIdentifier>> options) {
+        if (!permits.tryAcquire()) {
+            callerRuns.increment();
+            return evaluateBatch(profile, options);
+        }
+        final CompletableFuture<List<Boolean>> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> evaluateBatch(profile, options), executor);
+        } catch (final RejectedExecutionException e) {
+            permits.release();
+            callerRuns.increment();
+            return evaluateBatch(profile, options);
+        }
+        future.whenComplete((result, throwable) -> permits.release());
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            timeouts.increment();
+            log.warn(conversationID.getPackage(), "Evaluating the options of conversation '" + conversationID
+                    + "' for '" + profile + "' took longer than " + timeout + "ms, hiding them.");
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.reportException(conversationID.getPackage(), e);
+        } catch (final ExecutionException e) {
+            log.reportException(conversationID.getPackage(), e);
+        }
+        return Collections.nCopies(options.size(), false);
+    }
+
+    private List<Boolean> evaluateBatch(final Profile profile, final List<? extends Collection<ConditionIdentifier>> options) {
+        final Map<ConditionKey, CompletableFuture<Boolean>> results = new HashMap<>();
+        for (final Collection<ConditionIdentifier> option : options) {
+            for (final ConditionIdentifier conditionID : option) {
+                if (conditions.isPrimaryThreadEnforced(conditionID)) {
+                    results.computeIfAbsent(ConditionKey.of(conditionID), key -> conditions.checkAsync(profile, conditionID));
+                }
+            }
+        }
+        final List<Boolean> available = new ArrayList<>(options.size());
+        for (final Collection<ConditionIdentifier> option : options) {
+            available.add(option.stream().allMatch(conditionID -> results.computeIfAbsent(ConditionKey.of(conditionID),
+                    key -> conditions.checkAsync(profile, conditionID)).join()));
+        }
+        return available;
+    }
+
+    /**
+     * Gets a snapshot of the evaluation counters.
+     *
+     * @return the current metrics
+     */
+    public ConversationOptionMetrics getMetrics() {
+        return new ConversationOptionMetrics(evaluations.sum(), totalLatency.sum(), maxLatency.get(),
+                callerRuns.sum(), timeouts.sum());
+    }
+
+    /**
+     * Stops the executor, running evaluations are interrupted.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Key of a condition in a batch, as identifiers are equal regardless of their inversion.
+     *
+     * @param conditionID the condition identifier
+     * @param inverted    if the condition is inverted
+     */
+    private record ConditionKey(ConditionIdentifier conditionID, boolean inverted) {
+
+        private static ConditionKey of(final ConditionIdentifier conditionID) {
+            return new ConditionKey(conditionID, conditionID.isInverted());
+        }
+    }
+}
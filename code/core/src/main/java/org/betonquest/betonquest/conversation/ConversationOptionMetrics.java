@@ -0,0 +1,28 @@
+package org.betonquest.betonquest.conversation;
+
+/**
+ * Snapshot of the counters of a {@link ConversationOptionEvaluator}.
+ *
+ * @param evaluations  the amount of evaluated option lists since the start
+ * @param totalLatency the combined time in nanoseconds the evaluations took
+ * @param maxLatency   the longest time in nanoseconds an evaluation took
+ * @param callerRuns   the amount of evaluations run by the caller because the executor was busy
+ * @param timeouts     the amount of evaluations which did not finish in time
+ */
+public record ConversationOptionMetrics(
+        long evaluations,
+        long totalLatency,
+        long maxLatency,
+        long callerRuns,
+        long timeouts
+) {
+
+    /**
+     * Gets the average time an evaluation took.
+     *
+     * @return the average latency in nanoseconds or 0 if nothing was evaluated yet
+     */
+    public double averageLatency() {
+        return evaluations == 0 ? 0 : (double) totalLatency / evaluations;
+    }
+}
@@ -6,18 +6,15 @@ import org.betonquest.betonquest.api.feature.ConversationApi;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.database.Saver.Record;
 import org.betonquest.betonquest.database.UpdateType;
-import org.bukkit.Bukkit;
+import org.betonquest.betonquest.listener.SessionEventRouters;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 /**
  * Resumes the conversation for a disconnected or "fleeing" player.
  */
-public class ConversationResumer implements Listener {
+public class ConversationResumer {
 
     /**
      * The state to resume from.
@@ -59,7 +56,9 @@ public class ConversationResumer implements Listener {
         this.player = onlineProfile.getPlayer();
         this.state = state;
         this.distance = config.getDouble("conversation.stop.distance");
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        final SessionEventRouters sessionEvents = BetonQuest.getInstance().getSessionEvents();
+        sessionEvents.move().register(player.getUniqueId(), this, this::onMove);
+        sessionEvents.quit().register(player.getUniqueId(), this, this::onQuit);
     }
 
     /**
@@ -67,13 +66,12 @@ public class ConversationResumer implements Listener {
      *
      * @param event a PlayerMoveEvent
      */
-    @EventHandler(ignoreCancelled = true)
     public void onMove(final PlayerMoveEvent event) {
         if (!event.getPlayer().equals(player)) {
             return;
         }
         if (event.getTo().getWorld().equals(state.center().getWorld()) && event.getTo().distanceSquared(state.center()) < distance * distance) {
-            HandlerList.unregisterAll(this);
+            BetonQuest.getInstance().getSessionEvents().unregisterAll(player.getUniqueId(), this);
             BetonQuest.getInstance().getSaver().add(new Record(UpdateType.UPDATE_CONVERSATION, "null", onlineProfile.getProfileUUID().toString()));
             conversationApi.start(onlineProfile, state.currentConversation(), state.center(), state.currentOption());
         }
@@ -84,12 +82,11 @@ public class ConversationResumer implements Listener {
      *
      * @param event a PlayerQuitEvent
      */
-    @EventHandler(ignoreCancelled = true)
     public void onQuit(final PlayerQuitEvent event) {
         if (!event.getPlayer().equals(player)) {
             return;
         }
-        HandlerList.unregisterAll(this);
+        BetonQuest.getInstance().getSessionEvents().unregisterAll(player.getUniqueId(), this);
         BetonQuest.getInstance().getSaver().add(new Record(UpdateType.UPDATE_CONVERSATION, state.toString(), onlineProfile.getProfileUUID().toString()));
     }
 }
@@ -13,6 +13,7 @@ import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.listener.SessionEventRouters;
 import org.betonquest.betonquest.lib.instruction.argument.DefaultArgument;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
@@ -20,9 +21,6 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.player.PlayerItemConsumeEvent;
@@ -42,7 +40,7 @@ import java.util.Objects;
  * Inventory GUI for conversations.
  */
 @SuppressWarnings({"PMD.CommentRequired", "PMD.TooManyMethods", "PMD.CouplingBetweenObjects"})
-public class InventoryConvIO implements Listener, ConversationIO {
+public class InventoryConvIO implements ConversationIO {
 
     private static final Map<String, ItemStack> SKULL_CACHE = new HashMap<>();
 
@@ -134,7 +132,10 @@ public class InventoryConvIO implements Listener, ConversationIO {
 
     @Override
     public void begin() {
-        Bukkit.getPluginManager().registerEvents(this, betonQuest);
+        final SessionEventRouters sessionEvents = betonQuest.getSessionEvents();
+        sessionEvents.inventoryClick().register(profile.getPlayerUUID(), this, this::onInventoryClick);
+        sessionEvents.inventoryClose().register(profile.getPlayerUUID(), this, this::onClose);
+        sessionEvents.itemConsume().register(profile.getPlayerUUID(), this, this::onConsume);
     }
 
     @Override
@@ -300,9 +301,8 @@ public class InventoryConvIO implements Listener, ConversationIO {
      * @param event the event
      */
     @SuppressWarnings({"PMD.AvoidLiteralsInIfCondition", "PMD.AvoidDeeplyNestedIfStmts"})
-    @EventHandler(ignoreCancelled = true)
     public void onInventoryClick(final InventoryClickEvent event) {
-        if (!(event.getWhoClicked() instanceof Player)) {
+        if (event.isCancelled() || !(event.getWhoClicked() instanceof Player)) {
             return;
         }
         if (!event.getWhoClicked().equals(profile.getPlayer())) {
@@ -338,7 +338,6 @@ public class InventoryConvIO implements Listener, ConversationIO {
      *
      * @param event the event
      */
-    @EventHandler(ignoreCancelled = true)
     public void onClose(final InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof Player)) {
             return;
@@ -353,7 +352,7 @@ public class InventoryConvIO implements Listener, ConversationIO {
         }
         // allow closing when the conversation has finished
         if (allowListenerUnregister) {
-            HandlerList.unregisterAll(this);
+            betonQuest.getSessionEvents().unregisterAll(profile.getPlayerUUID(), this);
             if (endCallback != null) {
                 endCallback.run();
                 endCallback = null;
@@ -367,7 +366,7 @@ public class InventoryConvIO implements Listener, ConversationIO {
             });
         } else {
             conv.endConversation();
-            HandlerList.unregisterAll(this);
+            betonQuest.getSessionEvents().unregisterAll(profile.getPlayerUUID(), this);
             if (endCallback != null) {
                 endCallback.run();
                 endCallback = null;
@@ -380,7 +379,6 @@ public class InventoryConvIO implements Listener, ConversationIO {
      *
      * @param event the event
      */
-    @EventHandler
     public void onConsume(final PlayerItemConsumeEvent event) {
         final Profile profile = betonQuest.getProfileProvider().getProfile(event.getPlayer());
         if (betonQuest.getFeatureApi().conversationApi().hasActive(profile)) {
@@ -3,12 +3,7 @@ package org.betonquest.betonquest.conversation.interceptor;
 import net.kyori.adventure.text.Component;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
 
 import java.util.ArrayList;
@@ -17,7 +12,7 @@ import java.util.List;
 /**
  * An interceptor which uses the {@link AsyncPlayerChatEvent}.
  */
-public class SimpleInterceptor implements Interceptor, Listener {
+public class SimpleInterceptor implements Interceptor {
 
     /**
      * Player to 'intercept' messages.
@@ -40,7 +35,7 @@ public class SimpleInterceptor implements Interceptor, Listener {
 
     @Override
     public void begin() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        BetonQuest.getInstance().getSessionEvents().chatIntercept().register(player.getUniqueId(), this, this::onChat);
     }
 
     @Override
@@ -60,7 +55,7 @@ public class SimpleInterceptor implements Interceptor, Listener {
 
     @Override
     public void end() {
-        HandlerList.unregisterAll(this);
+        BetonQuest.getInstance().getSessionEvents().chatIntercept().unregister(player.getUniqueId(), this);
         for (final String message : messages) {
             player.sendMessage(message);
         }
@@ -71,7 +66,6 @@ public class SimpleInterceptor implements Interceptor, Listener {
      *
      * @param event the chat event to remove the player from
      */
-    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onChat(final AsyncPlayerChatEvent event) {
         if (!event.getPlayer().equals(player) && event.getRecipients().contains(player)) {
             event.getRecipients().remove(player);
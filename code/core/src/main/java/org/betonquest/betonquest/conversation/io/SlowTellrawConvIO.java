@@ -5,8 +5,6 @@ import org.betonquest.betonquest.api.common.component.FixedComponentLineWrapper;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.conversation.Conversation;
 import org.betonquest.betonquest.conversation.ConversationColors;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -67,7 +65,6 @@ public class SlowTellrawConvIO extends TellrawConvIO {
     /**
      * If canReply is false, we ignore the event, otherwise handle it as normal.
      */
-    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
     @Override
     public void onReply(final AsyncPlayerChatEvent event) {
         if (!canReply) {
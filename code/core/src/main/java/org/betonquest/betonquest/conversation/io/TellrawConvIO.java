@@ -8,6 +8,7 @@ import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.conversation.ChatConvIO;
 import org.betonquest.betonquest.conversation.Conversation;
 import org.betonquest.betonquest.conversation.ConversationColors;
+import org.betonquest.betonquest.listener.SessionEventRouters;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.event.EventHandler;
@@ -51,12 +52,17 @@ public class TellrawConvIO extends ChatConvIO {
         hashes = new ArrayList<>();
     }
 
+    @Override
+    protected void registerSessionEvents(final SessionEventRouters sessionEvents) {
+        super.registerSessionEvents(sessionEvents);
+        sessionEvents.command().register(onlineProfile.getPlayerUUID(), this, this::onCommandAnswer);
+    }
+
     /**
      * Passes and prints the "clicked" answer to the conversation.
      *
      * @param event the preprocess event
      */
-    @EventHandler(ignoreCancelled = true)
     public void onCommandAnswer(final PlayerCommandPreprocessEvent event) {
         if (!event.getPlayer().equals(onlineProfile.getPlayer())) {
             return;
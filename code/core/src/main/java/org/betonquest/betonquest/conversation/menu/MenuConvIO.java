@@ -12,10 +12,9 @@ import org.betonquest.betonquest.conversation.menu.display.Display;
 import org.betonquest.betonquest.conversation.menu.display.Scroll;
 import org.betonquest.betonquest.conversation.menu.input.ConversationAction;
 import org.betonquest.betonquest.conversation.menu.input.ConversationSession;
+import org.betonquest.betonquest.listener.SessionEventRouters;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
@@ -166,11 +165,19 @@ public class MenuConvIO extends ChatConvIO {
     // Override this event from our parent
     @SuppressWarnings("deprecation")
     @Override
-    @EventHandler(ignoreCancelled = true)
     public void onReply(final AsyncPlayerChatEvent event) {
         // Empty
     }
 
+    @Override
+    protected void registerSessionEvents(final SessionEventRouters sessionEvents) {
+        super.registerSessionEvents(sessionEvents);
+        sessionEvents.interact().register(onlineProfile.getPlayerUUID(), this, this::playerInteractEvent);
+        sessionEvents.interactEntity().register(onlineProfile.getPlayerUUID(), this, this::playerInteractEntityEvent);
+        sessionEvents.damageDealt().register(onlineProfile.getPlayerUUID(), this, this::entityDamageByEntityEvent);
+        sessionEvents.itemHeld().register(onlineProfile.getPlayerUUID(), this, this::playerItemHeldEvent);
+    }
+
     @Override
     public void clear() {
         if (displayRunnable != null) {
@@ -220,7 +227,6 @@ public class MenuConvIO extends ChatConvIO {
      * @param event the event
      */
     @SuppressWarnings("PMD.CollapsibleIfStatements")
-    @EventHandler(priority = EventPriority.LOWEST)
     public void playerInteractEvent(final PlayerInteractEvent event) {
         if (state.isInactive() || !event.getPlayer().equals(onlineProfile.getPlayer())) {
             return;
@@ -250,7 +256,6 @@ public class MenuConvIO extends ChatConvIO {
      *
      * @param event the event
      */
-    @EventHandler(priority = EventPriority.LOWEST)
     public void playerInteractEntityEvent(final PlayerInteractEntityEvent event) {
         if (state.isInactive() || !event.getPlayer().equals(onlineProfile.getPlayer())) {
             return;
@@ -277,7 +282,6 @@ public class MenuConvIO extends ChatConvIO {
      *
      * @param event the event
      */
-    @EventHandler(priority = EventPriority.LOWEST)
     public void entityDamageByEntityEvent(final EntityDamageByEntityEvent event) {
         if (state.isInactive() || !event.getDamager().equals(onlineProfile.getPlayer())) {
             return;
@@ -329,7 +333,6 @@ public class MenuConvIO extends ChatConvIO {
      *
      * @param event the event
      */
-    @EventHandler(priority = EventPriority.LOWEST)
     public void playerItemHeldEvent(final PlayerItemHeldEvent event) {
         if (state.isInactive() || !event.getPlayer().equals(onlineProfile.getPlayer())) {
             return;
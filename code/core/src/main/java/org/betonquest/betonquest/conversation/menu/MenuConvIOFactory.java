@@ -21,6 +21,7 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Menu conversation output.
@@ -57,6 +58,11 @@ public class MenuConvIOFactory implements ConversationIOFactory {
      */
     private final ConfigAccessor config;
 
+    /**
+     * The line wrappers by their line length, shared by all conversations so their wrapped lines are reused.
+     */
+    private final Map<Integer, FixedComponentLineWrapper> lineWrappers;
+
     /**
      * Create a new Menu conversation IO factory.
      *
@@ -76,12 +82,14 @@ public class MenuConvIOFactory implements ConversationIOFactory {
         this.fontRegistry = fontRegistry;
         this.config = config;
         this.colors = colors;
+        this.lineWrappers = new ConcurrentHashMap<>();
     }
 
     @Override
     public ConversationIO parse(final Conversation conversation, final OnlineProfile onlineProfile) throws QuestException {
         final MenuConvIOSettings settings = MenuConvIOSettings.fromConfigurationSection(textParser, config.getConfigurationSection("conversation.io.menu"));
-        final FixedComponentLineWrapper componentLineWrapper = new FixedComponentLineWrapper(fontRegistry, settings.lineLength());
+        final FixedComponentLineWrapper componentLineWrapper = lineWrappers.computeIfAbsent(settings.lineLength(),
+                lineLength -> new FixedComponentLineWrapper(fontRegistry, lineLength));
         return new MenuConvIO(inputFunction, conversation, onlineProfile, colors, settings, componentLineWrapper, plugin, getControls(settings));
     }
 
@@ -11,9 +11,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 /**
  * A display for a conversations displayed with components.
@@ -104,7 +102,7 @@ public class Display {
             lines.add(new Line.Fixed(Component.empty()));
         }
         final VariableReplacement replacement = new VariableReplacement("npc_text", npcText);
-        wrapper.splitWidth(settings.npcText().resolve(replacement), getPrefixComponentSupplier(settings.npcTextWrap())).stream()
+        wrapper.splitWidth(settings.npcText().resolve(replacement), settings.npcTextWrap()).stream()
                 .map(Line.Fixed::new)
                 .forEach(lines::add);
         return new LineView.Holder(lines);
@@ -118,9 +116,9 @@ public class Display {
         for (final Component option : options) {
             final VariableReplacement replacement = new VariableReplacement("option_text", option);
             final List<Component> optionUnselected = wrapper.splitWidth(settings.optionText().resolve(replacement),
-                    getPrefixComponentSupplier(settings.optionTextWrap()));
+                    settings.optionTextWrap());
             final List<Component> optionSelected = wrapper.splitWidth(settings.optionSelectedText().resolve(replacement),
-                    getPrefixComponentSupplier(settings.optionSelectedTextWrap()));
+                    settings.optionSelectedTextWrap());
 
             for (int i = 0; i < Math.max(optionUnselected.size(), optionSelected.size()); i++) {
                 final Component selected = i < optionSelected.size() ? optionSelected.get(i) : Component.empty();
@@ -132,17 +130,6 @@ public class Display {
         return new LineView.Holder(optionLines);
     }
 
-    private Supplier<Component> getPrefixComponentSupplier(final Component component) {
-        final AtomicBoolean first = new AtomicBoolean(true);
-        return () -> {
-            if (first.get()) {
-                first.set(false);
-                return Component.empty();
-            }
-            return component;
-        };
-    }
-
     /**
      * Get the current selection state of the display.
      *
@@ -14,7 +14,11 @@ import org.betonquest.betonquest.lib.profile.ProfileKeyMap;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Stores loaded {@link PlayerData}.
@@ -41,11 +45,21 @@ public class PlayerDataStorage {
      */
     private final ObjectiveProcessor objectives;
 
+    /**
+     * Executor to load player data off the main thread.
+     */
+    private final Executor loadExecutor;
+
     /**
      * Stored player data for online players.
      */
     private final Map<Profile, PlayerData> playerDataMap;
 
+    /**
+     * Player data which is currently loaded, by profile UUID.
+     */
+    private final Map<UUID, CompletableFuture<PlayerData>> loading;
+
     /**
      * Create a new Storage for Player Data.
      *
@@ -54,15 +68,18 @@ public class PlayerDataStorage {
      * @param playerDataFactory the factory to create player data
      * @param objectives        the objective processor to start (global) objectives
      * @param profileProvider   the profile provider to use
+     * @param loadExecutor      the executor to load player data off the main thread
      */
     public PlayerDataStorage(final BetonQuestLogger log,
                              final ConfigAccessor config, final PlayerDataFactory playerDataFactory, final ObjectiveProcessor objectives,
-                             final ProfileProvider profileProvider) {
+                             final ProfileProvider profileProvider, final Executor loadExecutor) {
         this.log = log;
         this.config = config;
         this.playerDataFactory = playerDataFactory;
         this.objectives = objectives;
+        this.loadExecutor = loadExecutor;
         this.playerDataMap = new ProfileKeyMap<>(profileProvider, new ConcurrentHashMap<>());
+        this.loading = new ConcurrentHashMap<>();
     }
 
     /**
@@ -118,6 +135,40 @@ public class PlayerDataStorage {
         return playerData;
     }
 
+    /**
+     * Loads the PlayerData asynchronously and {@link #put(Profile, PlayerData) puts} it into this storage.
+     * If the data is already stored or currently loading, no second load is started.
+     *
+     * @param profile the {@link Profile} of the player
+     * @return the future completed with the stored PlayerData
+     */
+    public CompletableFuture<PlayerData> load(final Profile profile) {
+        final PlayerData stored = playerDataMap.get(profile);
+        if (stored != null) {
+            return CompletableFuture.completedFuture(stored);
+        }
+        final CompletableFuture<PlayerData> future = new CompletableFuture<>();
+        final CompletableFuture<PlayerData> running = loading.putIfAbsent(profile.getProfileUUID(), future);
+        if (running != null) {
+            return running;
+        }
+        try {
+            loadExecutor.execute(() -> {
+                try {
+                    future.complete(init(profile));
+                } catch (final RuntimeException e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    loading.remove(profile.getProfileUUID(), future);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            loading.remove(profile.getProfileUUID(), future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
     /**
      * Stores the PlayerData in a map, so it can be retrieved using
      * {@link #get(Profile profile)}.
@@ -142,7 +193,8 @@ public class PlayerDataStorage {
     }
 
     /**
-     * Retrieves PlayerData object for specified profile. If the playerData does
+     * Retrieves PlayerData object for specified profile. If the playerData is currently
+     * {@link #load(Profile) loaded}, it waits for the load to finish. If the playerData does
      * not exist but the profile is online, it will create new playerData and store it.
      *
      * @param profile the {@link Profile} of the player
@@ -150,6 +202,11 @@ public class PlayerDataStorage {
      * @throws IllegalArgumentException when there is no data and the player is offline
      */
     public PlayerData get(final Profile profile) {
+        final CompletableFuture<PlayerData> running = loading.get(profile.getProfileUUID());
+        if (running != null) {
+            log.debug("Waiting for the data of " + profile + " to be loaded");
+            return running.join();
+        }
         PlayerData playerData = playerDataMap.get(profile);
         if (playerData == null) {
             if (profile.getOnlineProfile().isPresent()) {
@@ -184,4 +241,18 @@ public class PlayerDataStorage {
     public void remove(final Profile profile) {
         playerDataMap.remove(profile);
     }
+
+    /**
+     * Removes the playerData from the map, waiting for a currently running {@link #load(Profile) load} to finish.
+     *
+     * @param profile the {@link Profile} of the player whose playerData is to be discarded
+     */
+    public void discard(final Profile profile) {
+        final CompletableFuture<PlayerData> running = loading.get(profile.getProfileUUID());
+        if (running == null) {
+            remove(profile);
+        } else {
+            running.whenComplete((playerData, throwable) -> remove(profile));
+        }
+    }
 }
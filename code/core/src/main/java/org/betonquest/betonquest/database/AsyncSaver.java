@@ -2,17 +2,28 @@ package org.betonquest.betonquest.database;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Saves the data to the database asynchronously.
+ * <p>
+ * With a batch size greater than one, the queued records are collected for a flush window and written as
+ * JDBC batches in one transaction, see {@link RecordBatch}. A batch size of one saves every record on its own.
  */
-@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidSynchronizedStatement"})
+@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidSynchronizedStatement", "PMD.TooManyFields"})
 @SuppressFBWarnings("IS2_INCONSISTENT_SYNC")
 public class AsyncSaver extends Thread implements Saver {
 
+    /**
+     * Factor to convert nanoseconds to milliseconds.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -28,29 +39,91 @@ public class AsyncSaver extends Thread implements Saver {
      */
     private final Queue<Record> queue;
 
+    /**
+     * The amount of records in the queue, as the size of the queue is not a constant time operation.
+     */
+    private final AtomicInteger queueDepth;
+
     /**
      * The amount of time, until the AsyncSaver tries to reconnect if there was a connection loss.
      */
     private final long reconnectInterval;
 
+    /**
+     * The maximal amount of records saved in one flush.
+     */
+    private final int batchSize;
+
+    /**
+     * The maximal time in milliseconds records wait for more records before they are flushed.
+     */
+    private final long flushInterval;
+
     /**
      * Whether the saver is currently running or not.
      */
     private boolean running;
 
     /**
-     * Creates new database saver thread.
+     * The amount of executed flushes.
+     */
+    private long flushes;
+
+    /**
+     * The amount of saved records.
+     */
+    private long savedRecords;
+
+    /**
+     * The amount of records in the last flush.
+     */
+    private int lastBatchSize;
+
+    /**
+     * The highest amount of records in one flush.
+     */
+    private int maxBatchSize;
+
+    /**
+     * The duration of the last flush in nanoseconds.
+     */
+    private long lastFlushNanos;
+
+    /**
+     * The highest duration of one flush in nanoseconds.
+     */
+    private long maxFlushNanos;
+
+    /**
+     * Creates new database saver thread, which saves every record on its own.
      *
      * @param log               the logger that will be used for logging
      * @param reconnectInterval the interval for trying reconnecting to the database
      * @param connector         the connector for database access
      */
     public AsyncSaver(final BetonQuestLogger log, final long reconnectInterval, final Connector connector) {
+        this(log, reconnectInterval, connector, 1, 0);
+    }
+
+    /**
+     * Creates new database saver thread.
+     *
+     * @param log               the logger that will be used for logging
+     * @param reconnectInterval the interval for trying reconnecting to the database
+     * @param connector         the connector for database access
+     * @param batchSize         the maximal amount of records in one flush, 1 to save every record on its own
+     * @param flushInterval     the maximal time in milliseconds to wait for more records before a flush
+     */
+    public AsyncSaver(final BetonQuestLogger log, final long reconnectInterval, final Connector connector,
+                      final int batchSize, final long flushInterval) {
         super();
         this.log = log;
         this.reconnectInterval = reconnectInterval;
         this.con = connector;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = Math.max(0, flushInterval);
         this.queue = new ConcurrentLinkedQueue<>();
+        this.queueDepth = new AtomicInteger();
         this.running = true;
     }
 
@@ -74,8 +147,7 @@ public class AsyncSaver extends Thread implements Saver {
                 }
             }
             while (!active) {
-                try {
-                    con.getDatabase().getConnection();
+                try (PooledConnection ignored = con.getDatabase().borrowConnection()) {
                     active = true;
                 } catch (final IllegalStateException e) {
                     log.warn("Failed to re-establish connection with the database! Trying again in %s second(s)..."
@@ -88,8 +160,88 @@ public class AsyncSaver extends Thread implements Saver {
                     }
                 }
             }
-            final Record rec = queue.poll();
-            con.updateSQL(rec.type(), rec.args());
+            if (batchSize == 1) {
+                final Record rec = poll();
+                if (rec != null) {
+                    final long start = System.nanoTime();
+                    con.updateSQL(rec.type(), rec.args());
+                    recordFlush(1, System.nanoTime() - start);
+                }
+            } else {
+                awaitFlushWindow();
+                flush();
+            }
+        }
+    }
+
+    private void awaitFlushWindow() {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushInterval);
+        synchronized (this) {
+            long remaining = deadline - System.nanoTime();
+            while (running && remaining > 0 && queueDepth.get() < batchSize) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (final InterruptedException e) {
+                    log.warn("AsyncSaver got interrupted!", e);
+                    return;
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        }
+    }
+
+    private void flush() {
+        final RecordBatch batch = new RecordBatch();
+        Record rec = poll();
+        while (rec != null) {
+            batch.add(rec);
+            rec = batch.size() < batchSize ? poll() : null;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        final long start = System.nanoTime();
+        if (!con.updateSQL(batch)) {
+            log.warn("Saving " + batch.size() + " records one by one after the batch failed.");
+            for (final Record failed : batch.getRecords()) {
+                con.updateSQL(failed.type(), failed.args());
+            }
+        }
+        final long duration = System.nanoTime() - start;
+        recordFlush(batch.size(), duration);
+        log.debug("Flushed " + batch.size() + " records in " + duration / NANOS_PER_MILLI + "ms, "
+                + queueDepth.get() + " records are waiting.");
+    }
+
+    @Nullable
+    private Record poll() {
+        final Record rec = queue.poll();
+        if (rec != null) {
+            queueDepth.decrementAndGet();
+        }
+        return rec;
+    }
+
+    private void recordFlush(final int size, final long duration) {
+        synchronized (this) {
+            flushes++;
+            savedRecords += size;
+            lastBatchSize = size;
+            maxBatchSize = Math.max(maxBatchSize, size);
+            lastFlushNanos = duration;
+            maxFlushNanos = Math.max(maxFlushNanos, duration);
+        }
+    }
+
+    /**
+     * Gets the current performance counters of this saver.
+     *
+     * @return a snapshot of the metrics
+     */
+    public SaverMetrics getMetrics() {
+        synchronized (this) {
+            return new SaverMetrics(queueDepth.get(), flushes, savedRecords, lastBatchSize, maxBatchSize,
+                    lastFlushNanos / NANOS_PER_MILLI, maxFlushNanos / NANOS_PER_MILLI);
         }
     }
 
@@ -97,6 +249,7 @@ public class AsyncSaver extends Thread implements Saver {
     public void add(final Record rec) {
         synchronized (this) {
             queue.add(rec);
+            queueDepth.incrementAndGet();
             notifyAll();
         }
     }
@@ -0,0 +1,138 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Tracks the persisted state of a backpack, so only changed stacks are written to the database.
+ * <p>
+ * The backpack table stores one row per stack without a slot, so the state is tracked as the amount of rows per
+ * serialized item and amount. When the backpack changes, only the rows whose count changed are removed and inserted
+ * again. The serialized items of the persisted stacks are kept, so unchanged stacks are not serialized again.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public class BackpackPersistence {
+
+    /**
+     * Serialized items of the persisted stacks by the item with an amount of one.
+     */
+    private Map<ItemStack, String> serializedItems;
+
+    /**
+     * The amount of persisted rows per stack.
+     */
+    private Map<Stack, Integer> persisted;
+
+    /**
+     * Creates a new persistence for an empty backpack.
+     */
+    public BackpackPersistence() {
+        this.serializedItems = new HashMap<>();
+        this.persisted = new HashMap<>();
+    }
+
+    /**
+     * Gets the records to transform the persisted rows into the current rows.
+     * Rows of a changed stack are removed and inserted with the new count, unchanged stacks produce no records.
+     *
+     * @param profileID the profile the backpack belongs to
+     * @param persisted the amount of persisted rows per stack
+     * @param current   the amount of current rows per stack
+     * @return the records to write
+     */
+    public static List<Record> diff(final String profileID, final Map<Stack, Integer> persisted,
+                                    final Map<Stack, Integer> current) {
+        final List<Record> records = new ArrayList<>();
+        for (final Map.Entry<Stack, Integer> entry : persisted.entrySet()) {
+            if (!entry.getValue().equals(current.get(entry.getKey()))) {
+                final Stack stack = entry.getKey();
+                records.add(new Record(UpdateType.REMOVE_BACKPACK_STACK, profileID, stack.serialized(),
+                        String.valueOf(stack.amount())));
+            }
+        }
+        for (final Map.Entry<Stack, Integer> entry : current.entrySet()) {
+            if (!entry.getValue().equals(persisted.get(entry.getKey()))) {
+                final Stack stack = entry.getKey();
+                for (int i = 0; i < entry.getValue(); i++) {
+                    records.add(new Record(UpdateType.ADD_BACKPACK, profileID, stack.serialized(),
+                            String.valueOf(stack.amount())));
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Registers a stack loaded from the database.
+     *
+     * @param item       the loaded item
+     * @param serialized the serialized item as stored in the database
+     */
+    public void loaded(final ItemStack item, final String serialized) {
+        synchronized (this) {
+            serializedItems.put(item.asOne(), serialized);
+            persisted.merge(new Stack(serialized, item.getAmount()), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Passes the records to persist the backpack to the saver and marks it as persisted.
+     * The records are passed while holding the lock, so concurrent updates reach the saver in order.
+     *
+     * @param profileID the profile the backpack belongs to
+     * @param backpack  the current backpack content
+     * @param saver     the consumer to pass the records to
+     */
+    public void update(final String profileID, final List<ItemStack> backpack, final Consumer<Record> saver) {
+        synchronized (this) {
+            final Map<ItemStack, String> currentItems = new HashMap<>();
+            final Map<Stack, Integer> current = new LinkedHashMap<>();
+            for (final ItemStack item : backpack) {
+                final String serialized = currentItems.computeIfAbsent(item.asOne(), this::serialize);
+                current.merge(new Stack(serialized, item.getAmount()), 1, Integer::sum);
+            }
+            diff(profileID, persisted, current).forEach(saver);
+            serializedItems = currentItems;
+            persisted = current;
+        }
+    }
+
+    /**
+     * Passes the record to delete the backpack to the saver and marks it as deleted.
+     *
+     * @param profileID the profile the backpack belongs to
+     * @param saver     the consumer to pass the record to
+     */
+    public void clear(final String profileID, final Consumer<Record> saver) {
+        synchronized (this) {
+            saver.accept(new Record(UpdateType.DELETE_BACKPACK, profileID));
+            persisted = new HashMap<>();
+            serializedItems = new HashMap<>();
+        }
+    }
+
+    private String serialize(final ItemStack single) {
+        final String cached = serializedItems.get(single);
+        if (cached != null) {
+            return cached;
+        }
+        return Base64.getEncoder().encodeToString(single.serializeAsBytes());
+    }
+
+    /**
+     * A stored backpack row.
+     *
+     * @param serialized the serialized item
+     * @param amount     the amount of the stack
+     */
+    public record Stack(String serialized, int amount) {
+    }
+}
@@ -15,10 +15,8 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 
 /**
  * This class is responsible for backing up and restoring the database.
@@ -110,8 +108,9 @@ public final class Backup {
             log.error("Could not create backup folder!");
         }
 
+        con.getDatabase().checkpoint();
         final String outputPath = backupFolder.getAbsolutePath() + File.separator + "backup-" + version;
-        Zipper.zip(root, outputPath, "^backup.*", "^database\\.db$", "^logs$");
+        Zipper.zip(root, outputPath, "^backup.*", "^database\\.db$", "^database\\.db-(wal|shm)$", "^logs$");
         if (!databaseBackupFile.delete()) {
             log.warn("Could not delete database backup file!");
         }
@@ -138,22 +137,14 @@ public final class Backup {
             }
             boolean done = true;
             final FileConfigAccessor config = configAccessorFactory.create(databaseBackupFile);
-            // prepare the database and map
-            final Map<String, ResultSet> map = new HashMap<>();
             final String[] tables = {"objectives", "tags", "points", "journals", "player", "backpack", "global_points",
                     "global_tags", "migration", "player_profile", "profile"};
-            // open database connection
-            // load resultsets into the map
+            // query the tables one after another, so only one result set is open at a time
             for (final String table : tables) {
-                log.debug("Loading " + table);
+                log.debug("Saving " + table + " to the backup file");
                 final String enumName = ("LOAD_ALL_" + table).toUpperCase(Locale.ROOT);
-                map.put(table, con.querySQL(QueryType.valueOf(enumName)));
-            }
-            // extract data from resultsets into the config file
-            for (final Map.Entry<String, ResultSet> entry : map.entrySet()) {
-                log.debug("Saving " + entry.getKey() + " to the backup file");
                 // prepare resultset and meta
-                try (ResultSet res = entry.getValue()) {
+                try (ResultSet res = con.querySQL(QueryType.valueOf(enumName))) {
                     final ResultSetMetaData result = res.getMetaData();
                     // get the list of column names
                     final List<String> columns = new ArrayList<>();
@@ -171,7 +162,7 @@ public final class Backup {
                         for (final String columnName : columns) {
                             try {
                                 final String value = res.getString(columnName);
-                                config.set(entry.getKey() + "." + counter + "." + columnName, value);
+                                config.set(table + "." + counter + "." + columnName, value);
                             } catch (final SQLException e) {
                                 log.warn("Could not read SQL: " + e.getMessage(), e);
                                 done = false;
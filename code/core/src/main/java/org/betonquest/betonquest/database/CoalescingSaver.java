@@ -0,0 +1,235 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collapses superseded records before they reach the underlying {@link Saver}.
+ * <p>
+ * Records are held back per (profile, table, key) until the next {@link #flush()}. A removal of a key discards all
+ * pending records of that key, so only the final state is written. A pending removal followed by an addition of
+ * points or objectives is written as a single upsert. Records which do not write a single key are passed through
+ * after all pending records were flushed, so the order of the database changes stays intact.
+ * <p>
+ * Pending records of a profile are flushed when the player quits, and all pending records on {@link #end()}.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public class CoalescingSaver implements Saver, Listener {
+
+    /**
+     * The saver to forward the coalesced records to.
+     */
+    private final Saver delegate;
+
+    /**
+     * The profile provider to get the profile of a quitting player.
+     */
+    private final ProfileProvider profileProvider;
+
+    /**
+     * The pending records per key, in the order the keys were first written.
+     */
+    private final Map<Key, List<Record>> pending;
+
+    /**
+     * The amount of records received.
+     */
+    private long receivedRecords;
+
+    /**
+     * The amount of records forwarded to the delegate.
+     */
+    private long forwardedRecords;
+
+    /**
+     * If the saver has ended and records are forwarded directly.
+     */
+    private boolean ended;
+
+    /**
+     * Creates a new coalescing saver.
+     *
+     * @param delegate        the saver to forward the coalesced records to
+     * @param profileProvider the profile provider to get the profile of a quitting player
+     */
+    public CoalescingSaver(final Saver delegate, final ProfileProvider profileProvider) {
+        this.delegate = delegate;
+        this.profileProvider = profileProvider;
+        this.pending = new LinkedHashMap<>();
+    }
+
+    /**
+     * Gets the key a record writes to.
+     *
+     * @param rec the record to get the key for
+     * @return the key or null if the record does not write a single key
+     */
+    @Nullable
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    public static Key getKey(final Record rec) {
+        final String[] args = rec.args();
+        return switch (rec.type()) {
+            case ADD_POINTS, REMOVE_POINTS -> new Key(args[0], "points", args[1]);
+            case ADD_OBJECTIVES, REMOVE_OBJECTIVES -> new Key(args[0], "objectives", args[1]);
+            case ADD_TAGS, REMOVE_TAGS -> new Key(args[0], "tags", args[1]);
+            case ADD_JOURNAL, REMOVE_JOURNAL -> new Key(args[0], "journal", args[1] + "|" + args[2]);
+            case ADD_BACKPACK, REMOVE_BACKPACK_STACK -> new Key(args[0], "backpack", args[1] + "|" + args[2]);
+            case UPDATE_CONVERSATION -> new Key(args[1], "player", "conversation");
+            case UPDATE_PLAYER_LANGUAGE -> new Key(args[1], "player", "language");
+            case ADD_GLOBAL_POINTS, REMOVE_GLOBAL_POINTS -> new Key("", "global_points", args[0]);
+            case ADD_GLOBAL_TAGS, REMOVE_GLOBAL_TAGS -> new Key("", "global_tags", args[0]);
+            default -> null;
+        };
+    }
+
+    private static boolean supersedesPending(final UpdateType type) {
+        return switch (type) {
+            case REMOVE_POINTS, REMOVE_OBJECTIVES, REMOVE_TAGS, REMOVE_JOURNAL, REMOVE_BACKPACK_STACK, UPDATE_CONVERSATION,
+                 UPDATE_PLAYER_LANGUAGE, REMOVE_GLOBAL_POINTS, REMOVE_GLOBAL_TAGS -> true;
+            default -> false;
+        };
+    }
+
+    @Nullable
+    private static UpdateType getUpsert(final UpdateType remove, final UpdateType add) {
+        if (remove == UpdateType.REMOVE_POINTS && add == UpdateType.ADD_POINTS) {
+            return UpdateType.UPSERT_POINTS;
+        }
+        if (remove == UpdateType.REMOVE_OBJECTIVES && add == UpdateType.ADD_OBJECTIVES) {
+            return UpdateType.UPSERT_OBJECTIVES;
+        }
+        if (remove == UpdateType.REMOVE_GLOBAL_POINTS && add == UpdateType.ADD_GLOBAL_POINTS) {
+            return UpdateType.UPSERT_GLOBAL_POINTS;
+        }
+        return null;
+    }
+
+    @Override
+    public void add(final Record rec) {
+        synchronized (this) {
+            receivedRecords++;
+            final Key key = getKey(rec);
+            if (key == null || ended) {
+                flush();
+                forward(rec);
+                return;
+            }
+            if (supersedesPending(rec.type())) {
+                final List<Record> records = new ArrayList<>();
+                records.add(rec);
+                pending.put(key, records);
+            } else {
+                pending.computeIfAbsent(key, k -> new ArrayList<>()).add(rec);
+            }
+        }
+    }
+
+    /**
+     * Forwards all pending records to the underlying saver.
+     */
+    public void flush() {
+        synchronized (this) {
+            for (final List<Record> records : pending.values()) {
+                forwardCoalesced(records);
+            }
+            pending.clear();
+        }
+    }
+
+    /**
+     * Forwards all pending records of a profile to the underlying saver.
+     *
+     * @param profileID the profile to flush
+     */
+    public void flush(final String profileID) {
+        synchronized (this) {
+            final Iterator<Map.Entry<Key, List<Record>>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<Key, List<Record>> entry = iterator.next();
+                if (entry.getKey().profileID().equals(profileID)) {
+                    forwardCoalesced(entry.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private void forwardCoalesced(final List<Record> records) {
+        if (records.size() == 2) {
+            final Record remove = records.get(0);
+            final Record add = records.get(1);
+            final UpdateType upsert = getUpsert(remove.type(), add.type());
+            if (upsert != null) {
+                forward(new Record(upsert, add.args()));
+                return;
+            }
+        }
+        records.forEach(this::forward);
+    }
+
+    private void forward(final Record rec) {
+        forwardedRecords++;
+        delegate.add(rec);
+    }
+
+    /**
+     * Flushes the pending records of a quitting player, so they are persisted before the data might be loaded again.
+     *
+     * @param event the quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        flush(profileProvider.getProfile(event.getPlayer()).getProfileUUID().toString());
+    }
+
+    /**
+     * Gets the amount of records received by this saver.
+     *
+     * @return the amount of received records
+     */
+    public long getReceivedRecords() {
+        synchronized (this) {
+            return receivedRecords;
+        }
+    }
+
+    /**
+     * Gets the amount of records forwarded to the underlying saver.
+     *
+     * @return the amount of forwarded records
+     */
+    public long getForwardedRecords() {
+        synchronized (this) {
+            return forwardedRecords;
+        }
+    }
+
+    @Override
+    public void end() {
+        synchronized (this) {
+            flush();
+            ended = true;
+        }
+        delegate.end();
+    }
+
+    /**
+     * The target of a record.
+     *
+     * @param profileID the profile the record belongs to, empty for global data
+     * @param table     the table the record writes to
+     * @param key       the key inside the table
+     */
+    public record Key(String profileID, String table, String key) {
+    }
+}
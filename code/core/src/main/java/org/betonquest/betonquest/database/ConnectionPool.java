@@ -0,0 +1,341 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A bounded pool of database connections.
+ * <p>
+ * Connections are leased to a thread: borrowing again on the same thread returns the same connection, so callers may
+ * hold multiple result sets at once without exhausting the pool. A lease may be released on another thread, it is
+ * still removed from the thread that borrowed the connection. A connection is validated only when it is borrowed
+ * after being idle for longer than the validation interval, instead of on every use. Borrows on the primary thread
+ * wait at most {@link #PRIMARY_THREAD_TIMEOUT} milliseconds for a released connection, so a short burst of
+ * asynchronous queries does not fail them, while an exhausted pool cannot stall the server.
+ */
+@SuppressWarnings({"PMD.AvoidSynchronizedStatement", "PMD.TooManyFields"})
+public class ConnectionPool {
+
+    /**
+     * Factor to convert nanoseconds to milliseconds.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Timeout in seconds for validating a connection.
+     */
+    private static final int VALIDATION_TIMEOUT = 2;
+
+    /**
+     * The maximal time in milliseconds a borrow on the primary thread waits for a released connection.
+     */
+    private static final long PRIMARY_THREAD_TIMEOUT = 50;
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The factory to open new connections.
+     */
+    private final ConnectionFactory factory;
+
+    /**
+     * The maximal amount of open connections.
+     */
+    private final int maxSize;
+
+    /**
+     * The idle time in milliseconds after which a connection is validated on checkout.
+     */
+    private final long validationInterval;
+
+    /**
+     * The maximal time in milliseconds a borrow waits for a released connection.
+     */
+    private final long borrowTimeout;
+
+    /**
+     * Checks if the current thread is the primary thread.
+     */
+    private final BooleanSupplier primaryThread;
+
+    /**
+     * The connections waiting to be borrowed, the most recently released first.
+     */
+    private final Deque<PooledConnection> idle;
+
+    /**
+     * The connections leased to a thread.
+     */
+    private final Map<Thread, PooledConnection> leased;
+
+    /**
+     * The amount of open connections.
+     */
+    private int open;
+
+    /**
+     * The highest amount of connections leased at the same time.
+     */
+    private int peakInUse;
+
+    /**
+     * The amount of connections handed out.
+     */
+    private long borrows;
+
+    /**
+     * The amount of borrows which had to wait.
+     */
+    private long waits;
+
+    /**
+     * The amount of borrows which timed out.
+     */
+    private long timeouts;
+
+    /**
+     * The amount of validations on checkout.
+     */
+    private long validations;
+
+    /**
+     * The amount of discarded broken connections.
+     */
+    private long discarded;
+
+    /**
+     * The highest time a borrow waited in nanoseconds.
+     */
+    private long maxWaitNanos;
+
+    /**
+     * If the pool was closed.
+     */
+    private boolean closed;
+
+    /**
+     * Creates a new connection pool.
+     *
+     * @param log                the logger that will be used for logging
+     * @param factory            the factory to open new connections
+     * @param maxSize            the maximal amount of open connections
+     * @param validationInterval the idle time in milliseconds after which a connection is validated on checkout
+     * @param borrowTimeout      the maximal time in milliseconds to wait for a released connection
+     * @param primaryThread      checks if the current thread is the primary thread, which waits only briefly
+     */
+    public ConnectionPool(final BetonQuestLogger log, final ConnectionFactory factory, final int maxSize,
+                          final long validationInterval, final long borrowTimeout, final BooleanSupplier primaryThread) {
+        this.log = log;
+        this.factory = factory;
+        this.maxSize = Math.max(1, maxSize);
+        this.validationInterval = Math.max(0, validationInterval);
+        this.borrowTimeout = Math.max(0, borrowTimeout);
+        this.primaryThread = primaryThread;
+        this.idle = new ArrayDeque<>();
+        this.leased = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Borrows a connection for the current thread.
+     * The connection must be released by closing it, preferably with try-with-resources.
+     *
+     * @return the connection leased to the current thread
+     * @throws IllegalStateException if no connection could be opened or the pool is exhausted
+     */
+    public PooledConnection borrow() {
+        final Thread thread = Thread.currentThread();
+        final PooledConnection current = leased.get(thread);
+        if (current != null && current.acquire(thread)) {
+            return current;
+        }
+        final PooledConnection connection = checkout();
+        connection.lease(thread);
+        leased.put(thread, connection);
+        return connection;
+    }
+
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private PooledConnection checkout() {
+        final long start = System.nanoTime();
+        final long timeout = primaryThread.getAsBoolean() ? Math.min(PRIMARY_THREAD_TIMEOUT, borrowTimeout) : borrowTimeout;
+        final long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeout);
+        boolean waited = false;
+        while (true) {
+            final PooledConnection candidate;
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("The database connection pool is closed!");
+                }
+                candidate = idle.pollFirst();
+                if (candidate == null && open >= maxSize) {
+                    final long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        timeouts++;
+                        throw new IllegalStateException("Timed out waiting for a database connection, all "
+                                + maxSize + " connections are in use!");
+                    }
+                    waited = true;
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for a database connection!", e);
+                    }
+                    continue;
+                }
+                if (candidate == null) {
+                    open++;
+                }
+            }
+            final PooledConnection connection = candidate == null ? openNew() : validate(candidate);
+            if (connection != null) {
+                recordBorrow(waited, System.nanoTime() - start);
+                return connection;
+            }
+        }
+    }
+
+    private PooledConnection openNew() {
+        boolean opened = false;
+        try {
+            final PooledConnection connection = new PooledConnection(this, factory.open());
+            opened = true;
+            return connection;
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Not able to create a database connection!", e);
+        } finally {
+            if (!opened) {
+                synchronized (this) {
+                    open--;
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings("PMD.CloseResource")
+    private PooledConnection validate(final PooledConnection connection) {
+        if (System.currentTimeMillis() - connection.getLastReleased() < validationInterval) {
+            return connection;
+        }
+        final Connection jdbc = connection.getConnection();
+        boolean valid;
+        try {
+            valid = !jdbc.isClosed() && jdbc.isValid(VALIDATION_TIMEOUT);
+        } catch (final SQLException e) {
+            valid = false;
+        }
+        synchronized (this) {
+            validations++;
+        }
+        if (valid) {
+            return connection;
+        }
+        log.debug("Discarding a broken idle database connection.");
+        discard(connection);
+        return null;
+    }
+
+    private void recordBorrow(final boolean waited, final long duration) {
+        synchronized (this) {
+            borrows++;
+            if (waited) {
+                waits++;
+                maxWaitNanos = Math.max(maxWaitNanos, duration);
+            }
+            peakInUse = Math.max(peakInUse, open - idle.size());
+        }
+    }
+
+    /**
+     * Releases a lease of the connection.
+     * The connection is returned to the pool when all leases of the owning thread are released.
+     *
+     * @param connection the connection to release
+     */
+    void release(final PooledConnection connection) {
+        final Thread owner = connection.releaseLease();
+        if (owner == null) {
+            return;
+        }
+        leased.remove(owner, connection);
+        final boolean close;
+        synchronized (this) {
+            close = closed || connection.isBroken();
+            if (!close) {
+                idle.addFirst(connection);
+                notifyAll();
+            }
+        }
+        if (close) {
+            discard(connection);
+        }
+    }
+
+    private void discard(final PooledConnection connection) {
+        for (final SQLException exception : connection.destroy()) {
+            log.debug("Failed to close a database connection: " + exception.getMessage(), exception);
+        }
+        synchronized (this) {
+            open--;
+            if (!closed) {
+                discarded++;
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Gets the current saturation counters of this pool.
+     *
+     * @return a snapshot of the metrics
+     */
+    public PoolMetrics getMetrics() {
+        synchronized (this) {
+            return new PoolMetrics(maxSize, open, idle.size(), open - idle.size(), peakInUse, borrows, waits,
+                    timeouts, validations, discarded, maxWaitNanos / NANOS_PER_MILLI);
+        }
+    }
+
+    /**
+     * Closes all idle connections and every leased connection once it is released.
+     */
+    public void close() {
+        final Deque<PooledConnection> toClose;
+        synchronized (this) {
+            closed = true;
+            toClose = new ArrayDeque<>(idle);
+            idle.clear();
+            notifyAll();
+        }
+        toClose.forEach(this::discard);
+    }
+
+    /**
+     * Opens new database connections.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+
+        /**
+         * Opens a new database connection.
+         *
+         * @return the new connection
+         * @throws SQLException if the connection could not be opened
+         */
+        Connection open() throws SQLException;
+    }
+}
@@ -1,16 +1,31 @@
 package org.betonquest.betonquest.database;
 
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Connects to the database and queries it.
+ * <p>
+ * Every call borrows a pooled connection and uses its cached prepared statements.
  */
 public class Connector {
 
+    /**
+     * Timeout in seconds for checking a connection after an exception.
+     */
+    private static final int VALIDATION_TIMEOUT = 2;
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -56,6 +71,7 @@ public class Connector {
 
     /**
      * Queries the database with the given type and arguments.
+     * The connection stays leased to the current thread until the returned ResultSet is closed.
      *
      * @param type     type of the query
      * @param resolver resolver for placeholders in prepared statements
@@ -63,16 +79,40 @@ public class Connector {
      */
     @SuppressWarnings("PMD.CloseResource")
     public ResultSet querySQL(final QueryType type, final VariableResolver resolver) {
-        final String sql = type.createSql(prefix);
+        final PooledConnection connection = database.borrowConnection();
+        PreparedStatement statement = null;
         try {
-            final PreparedStatement statement = database.getConnection().prepareStatement(sql);
+            statement = connection.prepare(type, prefix);
             resolver.resolve(statement);
-            return statement.executeQuery();
+            return releaseOnClose(statement.executeQuery(), connection, type, statement);
         } catch (final SQLException e) {
+            connection.validateAfterFailure(VALIDATION_TIMEOUT);
+            finishQuery(connection, type, statement);
+            connection.close();
             throw new IllegalStateException("There was a exception with SQL", e);
         }
     }
 
+    private void finishQuery(final PooledConnection connection, final QueryType type, @Nullable final PreparedStatement statement) {
+        if (statement == null) {
+            return;
+        }
+        try {
+            connection.finishQuery(type, statement);
+        } catch (final SQLException e) {
+            log.debug("Could not close a query statement: " + e.getMessage(), e);
+        }
+    }
+
+    private ResultSet releaseOnClose(final ResultSet resultSet, final PooledConnection connection, final QueryType type,
+                                     final PreparedStatement statement) {
+        return (ResultSet) Proxy.newProxyInstance(Connector.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                new ReleasingResultSet(resultSet, () -> {
+                    finishQuery(connection, type, statement);
+                    connection.close();
+                }));
+    }
+
     /**
      * Updates the database with the given type and arguments.
      *
@@ -80,14 +120,68 @@ public class Connector {
      * @param args arguments
      */
     public void updateSQL(final UpdateType type, final String... args) {
-        final String sql = type.createSql(prefix);
-        try (PreparedStatement statement = database.getConnection().prepareStatement(sql)) {
+        try (PooledConnection connection = database.borrowConnection()) {
+            try {
+                final PreparedStatement statement = connection.prepare(type, prefix);
+                for (int i = 0; i < args.length; i++) {
+                    statement.setString(i + 1, args[i]);
+                }
+                statement.executeUpdate();
+            } catch (final SQLException e) {
+                connection.validateAfterFailure(VALIDATION_TIMEOUT);
+                log.error("There was an exception with SQL", e);
+            }
+        }
+    }
+
+    /**
+     * Executes all records of the batch as JDBC batches inside a single transaction.
+     * If any statement fails, the whole transaction is rolled back and nothing of the batch is persisted.
+     *
+     * @param batch the grouped records to execute
+     * @return true if the batch was committed, false if it was rolled back
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    public boolean updateSQL(final RecordBatch batch) {
+        try (PooledConnection pooled = database.borrowConnection()) {
+            final Connection connection = pooled.getConnection();
+            try {
+                connection.setAutoCommit(false);
+                try {
+                    for (final Map<UpdateType, List<String[]>> wave : batch.getWaves()) {
+                        for (final Map.Entry<UpdateType, List<String[]>> entry : wave.entrySet()) {
+                            executeBatch(pooled, entry.getKey(), entry.getValue());
+                        }
+                    }
+                    connection.commit();
+                    return true;
+                } catch (final SQLException e) {
+                    connection.rollback();
+                    log.warn("There was an exception with SQL while executing a batch of " + batch.size() + " records", e);
+                    return false;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            } catch (final SQLException e) {
+                pooled.validateAfterFailure(VALIDATION_TIMEOUT);
+                log.error("There was an exception with SQL", e);
+                return false;
+            }
+        }
+    }
+
+    private void executeBatch(final PooledConnection connection, final UpdateType type, final List<String[]> argsList) throws SQLException {
+        final PreparedStatement statement = connection.prepare(type, prefix);
+        for (final String[] args : argsList) {
             for (int i = 0; i < args.length; i++) {
                 statement.setString(i + 1, args[i]);
             }
-            statement.executeUpdate();
-        } catch (final SQLException e) {
-            log.error("There was an exception with SQL", e);
+            statement.addBatch();
+        }
+        try {
+            statement.executeBatch();
+        } finally {
+            statement.clearBatch();
         }
     }
 
@@ -100,6 +194,54 @@ public class Connector {
         return database;
     }
 
+    /**
+     * Forwards all calls to a ResultSet and releases its statement and the connection lease when it is closed.
+     */
+    private static final class ReleasingResultSet implements InvocationHandler {
+
+        /**
+         * The wrapped result set.
+         */
+        private final ResultSet resultSet;
+
+        /**
+         * Releases the statement and the connection.
+         */
+        private final Runnable release;
+
+        /**
+         * If the connection was already released.
+         */
+        private boolean released;
+
+        private ReleasingResultSet(final ResultSet resultSet, final Runnable release) {
+            this.resultSet = resultSet;
+            this.release = release;
+        }
+
+        @Override
+        @Nullable
+        @SuppressWarnings("PMD.AvoidRethrowingException")
+        public Object invoke(final Object proxy, final Method method, @Nullable final Object[] args) throws Throwable {
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                try {
+                    resultSet.close();
+                } finally {
+                    if (!released) {
+                        released = true;
+                        release.run();
+                    }
+                }
+                return null;
+            }
+            try {
+                return method.invoke(resultSet, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
     /**
      * Resolver for placeholders in prepared statements.
      */
@@ -3,11 +3,8 @@ package org.betonquest.betonquest.database;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.bukkit.plugin.Plugin;
-import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Set;
 import java.util.SortedMap;
@@ -39,10 +36,9 @@ public abstract class Database {
     private final BetonQuestLogger log;
 
     /**
-     * The current database connection.
+     * The pool of database connections.
      */
-    @Nullable
-    protected Connection con;
+    private final ConnectionPool pool;
 
     /**
      * Creates a new Database instance.
@@ -55,35 +51,32 @@ public abstract class Database {
         this.plugin = plugin;
         this.prefix = plugin.getPluginConfig().getString("mysql.prefix", "");
         this.profileInitialName = plugin.getPluginConfig().getString("profile.initial_name", "default");
+        this.pool = new ConnectionPool(log, this::openConnection,
+                plugin.getPluginConfig().getInt("mysql.pool.size", 4),
+                plugin.getPluginConfig().getLong("mysql.pool.validation_interval", 30_000),
+                plugin.getPluginConfig().getLong("mysql.pool.timeout", 30_000), plugin.getServer()::isPrimaryThread);
     }
 
     /**
-     * Returns the current database connection.
-     * If the connection is closed or broken, it will try to open a new connection.
+     * Borrows a database connection for the current thread.
+     * Borrowing again on the same thread returns the same connection until all borrows are released.
+     * On the primary thread the borrow fails immediately instead of waiting if all connections are in use.
+     * The connection must be released by closing it, preferably with try-with-resources.
      *
-     * @return the current database connection
+     * @return the connection leased to the current thread
+     * @throws IllegalStateException if no connection could be opened
      */
-    public Connection getConnection() {
-        try {
-            if (con == null || con.isClosed() || isConnectionBroken(con)) {
-                con = openConnection();
-            }
-        } catch (final SQLException e) {
-            log.error("Failed opening database connection!", e);
-        }
-        if (con == null) {
-            throw new IllegalStateException("Not able to create a database connection!");
-        }
-        return con;
+    public PooledConnection borrowConnection() {
+        return pool.borrow();
     }
 
-    private boolean isConnectionBroken(final Connection connection) throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement("SELECT 1");
-             ResultSet result = statement.executeQuery()) {
-            return !result.next();
-        } catch (final SQLException e) {
-            return true;
-        }
+    /**
+     * Gets the current saturation counters of the connection pool.
+     *
+     * @return a snapshot of the pool metrics
+     */
+    public PoolMetrics getPoolMetrics() {
+        return pool.getMetrics();
     }
 
     /**
@@ -95,33 +88,36 @@ public abstract class Database {
     protected abstract Connection openConnection() throws SQLException;
 
     /**
-     * Closes the database connection if it is open.
+     * Writes all pending changes into the database file, so it can be copied on its own.
+     * Does nothing for databases that are not stored in a local file.
+     */
+    public void checkpoint() {
+        // Empty
+    }
+
+    /**
+     * Closes all database connections.
      */
     public void closeConnection() {
-        if (con != null) {
-            try {
-                con.close();
-            } catch (final SQLException e) {
-                log.error("Failed to close the database connection!", e);
-            }
-        }
-        con = null;
+        log.debug("Closing database connections, pool usage: " + pool.getMetrics());
+        pool.close();
     }
 
     /**
      * Creates the database tables by executing all migrations that have not been executed yet.
      */
     public final void createTables() {
-        try {
+        try (PooledConnection pooled = borrowConnection()) {
+            final Connection connection = pooled.getConnection();
             final SortedMap<MigrationKey, DatabaseUpdate> migrations = getMigrations();
-            final Set<MigrationKey> executedMigrations = queryExecutedMigrations(getConnection());
+            final Set<MigrationKey> executedMigrations = queryExecutedMigrations(connection);
             executedMigrations.forEach(migrations::remove);
 
             while (!migrations.isEmpty()) {
                 final MigrationKey key = migrations.firstKey();
                 final DatabaseUpdate migration = migrations.remove(key);
-                migration.executeUpdate(getConnection());
-                markMigrationExecuted(getConnection(), key);
+                migration.executeUpdate(connection);
+                markMigrationExecuted(connection, key);
             }
         } catch (final SQLException sqlException) {
             log.error("There was an exception with SQL while creating the database tables!", sqlException);
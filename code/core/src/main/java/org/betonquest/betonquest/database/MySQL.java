@@ -115,6 +115,7 @@ public class MySQL extends Database {
         migrations.put(new MigrationKey("betonquest", 4), this::migration4);
         migrations.put(new MigrationKey("betonquest", 5), this::migration5);
         migrations.put(new MigrationKey("betonquest", 6), this::migration6);
+        migrations.put(new MigrationKey("betonquest", 7), this::migration7);
         return migrations;
     }
 
@@ -376,4 +377,22 @@ public class MySQL extends Database {
             preparedStatement.executeBatch();
         }
     }
+
+    /**
+     * Indexes the tables by the columns the per-profile queries filter by.
+     * Objectives, points and tags are already keyed by profile and name and the foreign keys index
+     * the backpack and the active profile of a player.
+     *
+     * @param connection the connection to the database
+     * @throws SQLException if something goes wrong, while executing the query's
+     */
+    @SuppressFBWarnings("SQL_NONCONSTANT_STRING_PASSED_TO_EXECUTE")
+    private void migration7(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE INDEX " + prefix + "journal_profile_pointer "
+                    + "ON " + prefix + "journal (profileID, pointer)");
+            statement.executeUpdate("CREATE INDEX " + prefix + "points_category "
+                    + "ON " + prefix + "points (category, count)");
+        }
+    }
 }
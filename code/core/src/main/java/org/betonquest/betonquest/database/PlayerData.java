@@ -72,6 +72,11 @@ public class PlayerData implements TagData, PointData {
      */
     private final IdentifierRegistry identifierRegistry;
 
+    /**
+     * The leaderboard to remove deleted points from.
+     */
+    private final PointLeaderboard leaderboard;
+
     /**
      * The profile this data belongs to.
      */
@@ -113,6 +118,11 @@ public class PlayerData implements TagData, PointData {
      */
     private List<ItemStack> backpack = new CopyOnWriteArrayList<>();
 
+    /**
+     * The persisted state of the backpack, to only write changed stacks.
+     */
+    private final BackpackPersistence backpackPersistence = new BackpackPersistence();
+
     /**
      * The state of a conversation the player is in.
      */
@@ -134,13 +144,15 @@ public class PlayerData implements TagData, PointData {
      * @param identifierRegistry the identifier registry to resolve identifiers
      * @param questTypeApi       the Quest Type API
      * @param journalFactory     the factory to create a new journal
+     * @param leaderboard        the leaderboard to remove deleted points from
      * @param profile            the profile to load the data for
      */
     public PlayerData(final BetonQuestLogger log, final Saver saver, final Server server,
                       final IdentifierRegistry identifierRegistry, final QuestTypeApi questTypeApi,
-                      final JournalFactory journalFactory, final Profile profile) {
+                      final JournalFactory journalFactory, final PointLeaderboard leaderboard, final Profile profile) {
         this.log = log;
         this.identifierRegistry = identifierRegistry;
+        this.leaderboard = leaderboard;
         this.saver = saver;
         this.server = server;
         this.questTypeApi = questTypeApi;
@@ -152,45 +164,33 @@ public class PlayerData implements TagData, PointData {
 
     /**
      * Loads all data for the profile and puts it in appropriate lists.
+     * All tables are read with a single query, so loading a profile needs only one database round trip.
      */
     public final void loadAllPlayerData() {
         final Connector con = BetonQuest.getInstance().getDBConnector();
-        try (ResultSet objectiveResults = con.querySQL(QueryType.SELECT_OBJECTIVES, profileID);
-             ResultSet tagResults = con.querySQL(QueryType.SELECT_TAGS, profileID);
-             ResultSet journalResults = con.querySQL(QueryType.SELECT_JOURNAL, profileID);
-             ResultSet pointResults = con.querySQL(QueryType.SELECT_POINTS, profileID);
-             ResultSet backpackResults = con.querySQL(QueryType.SELECT_BACKPACK, profileID);
-             ResultSet profileResult = con.querySQL(QueryType.SELECT_PLAYER, profileID)) {
-
-            while (objectiveResults.next()) {
-                objectives.put(objectiveResults.getString("objective"), objectiveResults.getString("instructions"));
-            }
-
-            while (tagResults.next()) {
-                tags.add(tagResults.getString("tag"));
-            }
-
-            while (journalResults.next()) {
-                loadJournalPointer(journalResults.getString("pointer"), journalResults.getTimestamp("date").getTime());
-            }
-
-            while (pointResults.next()) {
-                final String category = pointResults.getString("category");
-                points.put(category, new Point(category, pointResults.getInt("count")));
-            }
-
-            while (backpackResults.next()) {
-                addItemToBackpack(backpackResults);
+        try (ResultSet results = con.querySQL(QueryType.SELECT_PROFILE_DATA,
+                profileID, profileID, profileID, profileID, profileID, profileID)) {
+            boolean profileExists = false;
+            while (results.next()) {
+                final String entry = results.getString("entry");
+                switch (ProfileDataKind.fromOrdinal(results.getInt("kind"))) {
+                    case OBJECTIVE -> objectives.put(entry, results.getString("data"));
+                    case TAG -> tags.add(entry);
+                    case JOURNAL -> loadJournalPointer(entry, results.getTimestamp("date").getTime());
+                    case POINT -> points.put(entry, new Point(entry, results.getInt("amount")));
+                    case BACKPACK -> addItemToBackpack(entry, results.getInt("amount"));
+                    case PLAYER -> {
+                        profileExists = true;
+                        profileLanguage = entry;
+                        loadActiveConversation(results.getString("data"));
+                    }
+                }
             }
-
-            if (profileResult.next()) {
-                profileLanguage = profileResult.getString("language");
-                loadActiveConversation(profileResult);
-            } else {
+            if (!profileExists) {
                 setupProfile();
             }
 
-            log.debug("Loaded " + objectives.size() + " objectives, " + tags.size() + " tags, " + points.size()
+            log.debug(() -> "Loaded " + objectives.size() + " objectives, " + tags.size() + " tags, " + points.size()
                     + " points, " + entries.size() + " journal entries and " + backpack.size()
                     + " items for " + profile);
         } catch (final SQLException e) {
@@ -208,9 +208,7 @@ public class PlayerData implements TagData, PointData {
         }
     }
 
-    private void loadActiveConversation(final ResultSet playerResult) throws SQLException {
-        final String fullInstruction = playerResult.getString("conversation");
-
+    private void loadActiveConversation(@Nullable final String fullInstruction) {
         try {
             final Optional<PlayerConversationState> playerConversationState = PlayerConversationState.fromString(fullInstruction,
                     identifierRegistry.getFactory(ConversationIdentifier.class));
@@ -230,12 +228,11 @@ public class PlayerData implements TagData, PointData {
                 profileID, BetonQuest.getInstance().getPluginConfig().getString("profile.initial_name", "default")));
     }
 
-    private void addItemToBackpack(final ResultSet backpackResults) throws SQLException {
-        final String serialized = backpackResults.getString("serialized");
-        final int amount = backpackResults.getInt("amount");
+    private void addItemToBackpack(final String serialized, final int amount) {
         final byte[] bytes = Base64.getDecoder().decode(serialized);
         final ItemStack item = ItemStack.deserializeBytes(bytes).asQuantity(amount);
         backpack.add(item);
+        backpackPersistence.loaded(item, serialized);
     }
 
     @Override
@@ -312,6 +309,7 @@ public class PlayerData implements TagData, PointData {
             final Point removed = points.remove(category);
             if (removed != null) {
                 new PlayerUpdatePointEvent(profile, !server.isPrimaryThread(), category, 0).callEvent();
+                leaderboard.removePoints(profile, category);
             }
             saver.add(new Record(UpdateType.REMOVE_POINTS, profileID, category));
         }
@@ -448,7 +446,7 @@ public class PlayerData implements TagData, PointData {
      */
     public void setBackpack(final List<ItemStack> list) {
         this.backpack = (List<ItemStack>) copyItemList(list, new CopyOnWriteArrayList<>());
-        refreshBackpack(list);
+        refreshBackpack(backpack);
     }
 
     /**
@@ -507,14 +505,7 @@ public class PlayerData implements TagData, PointData {
     }
 
     private void refreshBackpack(final List<ItemStack> backpack) {
-        // quite expensive, should be changed
-        saver.add(new Record(UpdateType.DELETE_BACKPACK, profileID));
-        for (final ItemStack itemStack : backpack) {
-            final byte[] bytes = itemStack.asOne().serializeAsBytes();
-            final String serialized = Base64.getEncoder().encodeToString(bytes);
-            final String newAmount = String.valueOf(itemStack.getAmount());
-            saver.add(new Record(UpdateType.ADD_BACKPACK, profileID, serialized, newAmount));
-        }
+        backpackPersistence.update(profileID, backpack, saver::add);
     }
 
     /**
@@ -568,12 +559,12 @@ public class PlayerData implements TagData, PointData {
             journal.clear();
         }
         backpack.clear();
+        backpackPersistence.clear(profileID, saver::add);
         // clear the database
         saver.add(new Record(UpdateType.DELETE_OBJECTIVES, profileID));
         saver.add(new Record(UpdateType.DELETE_JOURNAL, profileID));
         saver.add(new Record(UpdateType.DELETE_POINTS, profileID));
         saver.add(new Record(UpdateType.DELETE_TAGS, profileID));
-        saver.add(new Record(UpdateType.DELETE_BACKPACK, profileID));
         saver.add(new Record(UpdateType.UPDATE_CONVERSATION, "null", profileID));
         // update the journal so it's empty
         if (profile.getOnlineProfile().isPresent()) {
@@ -44,6 +44,11 @@ public class PlayerDataFactory {
      */
     private final Supplier<JournalFactory> journalFactory;
 
+    /**
+     * The leaderboard to remove deleted points from.
+     */
+    private final PointLeaderboard leaderboard;
+
     /**
      * Create a new Player Data Factory.
      *
@@ -53,16 +58,18 @@ public class PlayerDataFactory {
      * @param identifierRegistry the identifier registry to resolve identifiers
      * @param questTypeApi       the Quest Type API
      * @param journalFactory     the supplier for the journal factory to use
+     * @param leaderboard        the leaderboard to remove deleted points from
      */
     public PlayerDataFactory(final BetonQuestLoggerFactory loggerFactory, final Saver saver, final Server server,
                              final IdentifierRegistry identifierRegistry, final QuestTypeApi questTypeApi,
-                             final Supplier<JournalFactory> journalFactory) {
+                             final Supplier<JournalFactory> journalFactory, final PointLeaderboard leaderboard) {
         this.identifierRegistry = identifierRegistry;
         this.loggerFactory = loggerFactory;
         this.saver = saver;
         this.server = server;
         this.questTypeApi = questTypeApi;
         this.journalFactory = journalFactory;
+        this.leaderboard = leaderboard;
     }
 
     /**
@@ -73,6 +80,6 @@ public class PlayerDataFactory {
      */
     public PlayerData createPlayerData(final Profile profile) {
         return new PlayerData(loggerFactory.create(PlayerData.class), saver, server, identifierRegistry,
-                questTypeApi, journalFactory.get(), profile);
+                questTypeApi, journalFactory.get(), leaderboard, profile);
     }
 }
@@ -0,0 +1,332 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.bukkit.event.PlayerUpdatePointEvent;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Keeps a {@link PointRanking} of each requested point category in memory.
+ * <p>
+ * A category is loaded from the database once, when it is requested the first time,
+ * and then kept up to date with {@link PlayerUpdatePointEvent}s. The points of online players are taken from their
+ * data instead, as the database may not contain their latest changes yet. Player names are cached as well,
+ * so reading the top entries neither queries the database nor the player files.
+ * <p>
+ * Like the database query, the rankings are keyed by player and only contain the points of the active profile,
+ * so updates of other profiles are ignored and a player's entries are reloaded when they join.
+ */
+public class PointLeaderboard implements Listener {
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The connector for database access.
+     */
+    private final Connector connector;
+
+    /**
+     * The executor to load categories and names off the main thread.
+     */
+    private final Executor executor;
+
+    /**
+     * The function to look up the name of a player who was not online since the start.
+     */
+    private final Function<UUID, String> nameResolver;
+
+    /**
+     * The check if a profile is the active profile of its player.
+     */
+    private final Predicate<Profile> activeProfile;
+
+    /**
+     * The function to get the points of a category per online player.
+     */
+    private final Function<String, Map<UUID, Long>> onlinePoints;
+
+    /**
+     * The requested categories by their name.
+     */
+    private final Map<String, Category> categories;
+
+    /**
+     * The known player names.
+     */
+    private final Map<UUID, String> names;
+
+    /**
+     * The players whose name was already looked up.
+     */
+    private final Set<UUID> resolvedNames;
+
+    /**
+     * Creates a new empty leaderboard.
+     *
+     * @param log           the custom logger for this class
+     * @param connector     the connector for database access
+     * @param executor      the executor to load categories and names off the main thread
+     * @param nameResolver  the function to look up the name of a player who was not online since the start, may return null
+     * @param activeProfile the check if a profile is the active profile of its player
+     * @param onlinePoints  the function to get the points of a category per online player from their active profile
+     */
+    public PointLeaderboard(final BetonQuestLogger log, final Connector connector, final Executor executor,
+                            final Function<UUID, String> nameResolver, final Predicate<Profile> activeProfile,
+                            final Function<String, Map<UUID, Long>> onlinePoints) {
+        this.log = log;
+        this.connector = connector;
+        this.executor = executor;
+        this.nameResolver = nameResolver;
+        this.activeProfile = activeProfile;
+        this.onlinePoints = onlinePoints;
+        this.categories = new ConcurrentHashMap<>();
+        this.names = new ConcurrentHashMap<>();
+        this.resolvedNames = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Gets the first entries of the category.
+     * <p>
+     * A category requested the first time is loaded in the background, until then it is empty.
+     *
+     * @param category   the point category with package
+     * @param limit      the maximal amount of entries
+     * @param descending if the entries with the most points come first
+     * @return the first entries in order
+     */
+    public List<RankingEntry> getTop(final String category, final int limit, final boolean descending) {
+        return categories.computeIfAbsent(category, this::load).ranking.top(limit, descending);
+    }
+
+    /**
+     * Gets the cached name of the player.
+     * <p>
+     * An unknown name is looked up in the background, until then null is returned.
+     *
+     * @param playerID the UUID of the player
+     * @return the name or null if it is not known yet
+     */
+    @Nullable
+    public String getName(final UUID playerID) {
+        final String name = names.get(playerID);
+        if (name == null && resolvedNames.add(playerID)) {
+            executor.execute(() -> {
+                final String resolved = nameResolver.apply(playerID);
+                if (resolved != null) {
+                    names.putIfAbsent(playerID, resolved);
+                }
+            });
+        }
+        return name;
+    }
+
+    /**
+     * Removes all players from the category, as it was deleted from the database.
+     *
+     * @param category the point category with package
+     */
+    public void removeCategory(final String category) {
+        categories.put(category, new Category());
+    }
+
+    /**
+     * Removes the player of the profile from the category, as the profile's points of the category were deleted.
+     *
+     * @param profile  the profile whose points were deleted
+     * @param category the point category with package
+     */
+    public void removePoints(final Profile profile, final String category) {
+        final Category loaded = categories.get(category);
+        if (loaded != null && activeProfile.test(profile)) {
+            loaded.remove(profile.getPlayerUUID());
+        }
+    }
+
+    /**
+     * Reloads the entries of the player in all requested categories from the points of their active profile,
+     * as the active profile may have changed.
+     *
+     * @param playerID the UUID of the player
+     */
+    public void refresh(final UUID playerID) {
+        if (categories.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> {
+            final Map<String, Long> counts = new HashMap<>();
+            try (ResultSet resultSet = connector.querySQL(QueryType.LOAD_POINTS_OF_ACTIVE_PROFILE, playerID.toString())) {
+                while (resultSet.next()) {
+                    counts.put(resultSet.getString("category"), resultSet.getLong("count"));
+                }
+            } catch (final SQLException e) {
+                log.error("There was an SQL exception while loading the points of player '" + playerID + "'", e);
+                return;
+            }
+            for (final Map.Entry<String, Category> category : categories.entrySet()) {
+                final Long count = counts.get(category.getKey());
+                if (count == null) {
+                    category.getValue().remove(playerID);
+                } else {
+                    category.getValue().update(playerID, count);
+                }
+            }
+        });
+    }
+
+    /**
+     * Moves the players of the category to another one, as it was renamed in the database.
+     * Players already ranked in the new category keep their points.
+     *
+     * @param category the old point category with package
+     * @param renamed  the new point category with package
+     */
+    public void renameCategory(final String category, final String renamed) {
+        final Category previous = categories.put(category, new Category());
+        final Category target = categories.get(renamed);
+        if (previous == null || target == null) {
+            categories.remove(renamed);
+            return;
+        }
+        for (final Map.Entry<UUID, Long> entry : previous.ranking.getCounts().entrySet()) {
+            target.ranking.updateIfAbsent(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Discards all loaded categories, so they are loaded from the database again when they are requested.
+     */
+    public void invalidate() {
+        categories.clear();
+    }
+
+    /**
+     * Updates the points of the player in the category, if the category was requested
+     * and the points belong to the active profile.
+     *
+     * @param event the point update event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPointUpdate(final PlayerUpdatePointEvent event) {
+        final Category category = categories.get(event.getCategory());
+        if (category != null && activeProfile.test(event.getProfile())) {
+            category.update(event.getProfile().getPlayerUUID(), event.getNewCount());
+        }
+    }
+
+    /**
+     * Caches the name of joining players and reloads their entries.
+     *
+     * @param event the join event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(final PlayerJoinEvent event) {
+        final Player player = event.getPlayer();
+        names.put(player.getUniqueId(), player.getName());
+        refresh(player.getUniqueId());
+    }
+
+    private Category load(final String name) {
+        final Category category = new Category(new HashMap<>());
+        onlinePoints.apply(name).forEach(category::update);
+        executor.execute(() -> {
+            final Map<UUID, Long> counts = new HashMap<>();
+            try (ResultSet resultSet = connector.querySQL(QueryType.LOAD_ALL_POINTS_OF_CATEGORY, name)) {
+                while (resultSet.next()) {
+                    counts.put(UUID.fromString(resultSet.getString("playerID")), resultSet.getLong("count"));
+                }
+            } catch (final SQLException e) {
+                log.error("There was an SQL exception while loading the ranking of '" + name + "'", e);
+            }
+            category.loaded(counts);
+            log.debug("Loaded " + counts.size() + " entries of the ranking of '" + name + "'");
+        });
+        return category;
+    }
+
+    /**
+     * The ranking of one category.
+     */
+    private static final class Category {
+
+        /**
+         * The ranking of the players.
+         */
+        private final PointRanking ranking;
+
+        /**
+         * The updates since loading started or null if the category is loaded.
+         */
+        @Nullable
+        private Map<UUID, Long> pendingUpdates;
+
+        /**
+         * The players removed since loading started.
+         */
+        private final Set<UUID> pendingRemovals;
+
+        /**
+         * Creates a new loaded, empty category.
+         */
+        private Category() {
+            this(null);
+        }
+
+        /**
+         * Creates a new category.
+         *
+         * @param pendingUpdates the map to collect updates while loading or null if the category is loaded
+         */
+        private Category(@Nullable final Map<UUID, Long> pendingUpdates) {
+            this.ranking = new PointRanking();
+            this.pendingUpdates = pendingUpdates;
+            this.pendingRemovals = new HashSet<>();
+        }
+
+        private synchronized void update(final UUID playerID, final long count) {
+            ranking.update(playerID, count);
+            if (pendingUpdates != null) {
+                pendingUpdates.put(playerID, count);
+                pendingRemovals.remove(playerID);
+            }
+        }
+
+        private synchronized void remove(final UUID playerID) {
+            ranking.remove(playerID);
+            if (pendingUpdates != null) {
+                pendingUpdates.remove(playerID);
+                pendingRemovals.add(playerID);
+            }
+        }
+
+        private synchronized void loaded(final Map<UUID, Long> counts) {
+            if (pendingUpdates != null) {
+                counts.keySet().removeAll(pendingRemovals);
+                counts.putAll(pendingUpdates);
+            }
+            ranking.replaceAll(counts);
+            pendingUpdates = null;
+            pendingRemovals.clear();
+        }
+    }
+}
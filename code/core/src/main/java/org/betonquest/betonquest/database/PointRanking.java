@@ -0,0 +1,133 @@
+package org.betonquest.betonquest.database;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * The points of all players in one category, sorted by their count.
+ * <p>
+ * Updates take logarithmic time and the top entries are read in the time of their amount. All methods are thread safe.
+ */
+public class PointRanking {
+
+    /**
+     * The order of the entries, ascending by count and then by player.
+     */
+    private static final Comparator<RankingEntry> ORDER = Comparator.comparingLong(RankingEntry::count)
+            .thenComparing(RankingEntry::playerID);
+
+    /**
+     * The current entry of each player.
+     */
+    private final Map<UUID, RankingEntry> entries;
+
+    /**
+     * The entries sorted by their count.
+     */
+    private final NavigableSet<RankingEntry> sorted;
+
+    /**
+     * Creates a new empty ranking.
+     */
+    public PointRanking() {
+        this.entries = new HashMap<>();
+        this.sorted = new TreeSet<>(ORDER);
+    }
+
+    /**
+     * Sets the points of the player.
+     *
+     * @param playerID the UUID of the player
+     * @param count    the new points of the player
+     */
+    public synchronized void update(final UUID playerID, final long count) {
+        final RankingEntry entry = new RankingEntry(playerID, count);
+        final RankingEntry previous = entries.put(playerID, entry);
+        if (previous != null) {
+            sorted.remove(previous);
+        }
+        sorted.add(entry);
+    }
+
+    /**
+     * Sets the points of the player, if the player is not yet ranked.
+     *
+     * @param playerID the UUID of the player
+     * @param count    the points of the player
+     */
+    public synchronized void updateIfAbsent(final UUID playerID, final long count) {
+        if (!entries.containsKey(playerID)) {
+            update(playerID, count);
+        }
+    }
+
+    /**
+     * Removes the player from the ranking.
+     *
+     * @param playerID the UUID of the player
+     */
+    public synchronized void remove(final UUID playerID) {
+        final RankingEntry previous = entries.remove(playerID);
+        if (previous != null) {
+            sorted.remove(previous);
+        }
+    }
+
+    /**
+     * Replaces all entries of the ranking.
+     *
+     * @param counts the points per player
+     */
+    public synchronized void replaceAll(final Map<UUID, Long> counts) {
+        entries.clear();
+        sorted.clear();
+        for (final Map.Entry<UUID, Long> count : counts.entrySet()) {
+            update(count.getKey(), count.getValue());
+        }
+    }
+
+    /**
+     * Gets all entries of the ranking.
+     *
+     * @return the points per player
+     */
+    public synchronized Map<UUID, Long> getCounts() {
+        final Map<UUID, Long> counts = new HashMap<>();
+        for (final RankingEntry entry : sorted) {
+            counts.put(entry.playerID(), entry.count());
+        }
+        return counts;
+    }
+
+    /**
+     * Gets the first entries of the ranking.
+     *
+     * @param limit      the maximal amount of entries
+     * @param descending if the entries with the most points come first
+     * @return the first entries in order
+     */
+    public synchronized List<RankingEntry> top(final int limit, final boolean descending) {
+        final List<RankingEntry> top = new ArrayList<>(Math.min(limit, sorted.size()));
+        final Iterator<RankingEntry> iterator = descending ? sorted.descendingIterator() : sorted.iterator();
+        while (top.size() < limit && iterator.hasNext()) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    /**
+     * Gets the amount of ranked players.
+     *
+     * @return the amount of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+}
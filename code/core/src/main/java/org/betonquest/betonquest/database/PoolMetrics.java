@@ -0,0 +1,40 @@
+package org.betonquest.betonquest.database;
+
+/**
+ * Snapshot of the saturation counters of a {@link ConnectionPool}.
+ *
+ * @param maxSize       the maximal amount of open connections
+ * @param open          the amount of currently open connections
+ * @param idle          the amount of open connections waiting to be borrowed
+ * @param inUse         the amount of connections currently leased to a thread
+ * @param peakInUse     the highest amount of connections leased at the same time
+ * @param borrows       the amount of connections handed out since the start
+ * @param waits         the amount of borrows which had to wait for a connection to be released
+ * @param timeouts      the amount of borrows which gave up waiting
+ * @param validations   the amount of idle connections validated on checkout
+ * @param discarded     the amount of connections closed because they were broken
+ * @param maxWaitMillis the highest time a single borrow waited in milliseconds
+ */
+public record PoolMetrics(
+        int maxSize,
+        int open,
+        int idle,
+        int inUse,
+        int peakInUse,
+        long borrows,
+        long waits,
+        long timeouts,
+        long validations,
+        long discarded,
+        double maxWaitMillis
+) {
+
+    /**
+     * Gets the share of borrows which had to wait for a connection.
+     *
+     * @return the saturation between 0 and 1 or 0 if nothing was borrowed yet
+     */
+    public double saturation() {
+        return borrows == 0 ? 0 : (double) waits / borrows;
+    }
+}
@@ -0,0 +1,289 @@
+package org.betonquest.betonquest.database;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A connection of a {@link ConnectionPool} leased to a thread.
+ * <p>
+ * Prepared statements of the {@link QueryType}s and {@link UpdateType}s are cached for the lifetime of the connection,
+ * so they must not be closed by the caller. While the result of a cached query is open, the same query type gets a new
+ * statement, so executing it again does not close the open result. Closing this object releases the lease,
+ * the connection itself stays open in the pool.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public class PooledConnection implements AutoCloseable {
+
+    /**
+     * The pool this connection belongs to.
+     */
+    private final ConnectionPool pool;
+
+    /**
+     * The underlying JDBC connection.
+     */
+    private final Connection connection;
+
+    /**
+     * Cached statements of the query types.
+     */
+    private final Map<QueryType, PreparedStatement> queries;
+
+    /**
+     * Cached statements of the update types.
+     */
+    private final Map<UpdateType, PreparedStatement> updates;
+
+    /**
+     * The query types whose cached statement has an open result.
+     */
+    private final Set<QueryType> openQueries;
+
+    /**
+     * The thread the connection is leased to or null if it is not leased.
+     */
+    @Nullable
+    private Thread owner;
+
+    /**
+     * The amount of open leases of the owning thread.
+     */
+    private int leases;
+
+    /**
+     * The time in milliseconds the connection was last released to the pool.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile long lastReleased;
+
+    /**
+     * If the connection failed and must not be returned to the pool.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile boolean broken;
+
+    /**
+     * Creates a new pooled connection.
+     *
+     * @param pool       the pool this connection belongs to
+     * @param connection the underlying JDBC connection
+     */
+    PooledConnection(final ConnectionPool pool, final Connection connection) {
+        this.pool = pool;
+        this.connection = connection;
+        this.queries = new EnumMap<>(QueryType.class);
+        this.updates = new EnumMap<>(UpdateType.class);
+        this.openQueries = EnumSet.noneOf(QueryType.class);
+        this.lastReleased = System.currentTimeMillis();
+    }
+
+    /**
+     * Gets the underlying JDBC connection.
+     * Statements created directly on it are not cached and must be closed by the caller.
+     *
+     * @return the JDBC connection
+     */
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Gets the cached statement of the query type or prepares it.
+     * If the result of the cached statement is still open, a new statement is prepared instead.
+     * The statement must be handed back with {@link #finishQuery(QueryType, PreparedStatement)} once its result is
+     * closed.
+     *
+     * @param type   the type of the query
+     * @param prefix the table prefix
+     * @return the statement with cleared parameters
+     * @throws SQLException if the statement could not be prepared
+     */
+    public PreparedStatement prepare(final QueryType type, final String prefix) throws SQLException {
+        synchronized (openQueries) {
+            if (!openQueries.add(type)) {
+                return connection.prepareStatement(type.createSql(prefix));
+            }
+            try {
+                return prepare(queries.get(type), type.createSql(prefix), statement -> queries.put(type, statement));
+            } catch (final SQLException e) {
+                openQueries.remove(type);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Hands back a statement of the query type after its result was closed.
+     * The cached statement becomes available again, any other statement is closed.
+     *
+     * @param type      the type of the query
+     * @param statement the statement returned by {@link #prepare(QueryType, String)}
+     * @throws SQLException if the statement could not be closed
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public void finishQuery(final QueryType type, final PreparedStatement statement) throws SQLException {
+        synchronized (openQueries) {
+            if (queries.get(type) == statement) {
+                openQueries.remove(type);
+                return;
+            }
+        }
+        statement.close();
+    }
+
+    /**
+     * Gets the cached statement of the update type or prepares it.
+     *
+     * @param type   the type of the update
+     * @param prefix the table prefix
+     * @return the statement with cleared parameters
+     * @throws SQLException if the statement could not be prepared
+     */
+    public PreparedStatement prepare(final UpdateType type, final String prefix) throws SQLException {
+        return prepare(updates.get(type), type.createSql(prefix), statement -> updates.put(type, statement));
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    private PreparedStatement prepare(@Nullable final PreparedStatement cached, final String sql,
+                                      final Consumer<PreparedStatement> cache) throws SQLException {
+        if (cached != null && !cached.isClosed()) {
+            cached.clearParameters();
+            return cached;
+        }
+        final PreparedStatement statement = connection.prepareStatement(sql);
+        cache.accept(statement);
+        return statement;
+    }
+
+    /**
+     * Marks the connection as broken, so it is closed instead of returned to the pool on release.
+     */
+    public void markBroken() {
+        broken = true;
+    }
+
+    /**
+     * Checks the connection after an exception and marks it as broken if it is no longer usable.
+     *
+     * @param timeout the validation timeout in seconds
+     */
+    public void validateAfterFailure(final int timeout) {
+        try {
+            if (!connection.isValid(timeout)) {
+                broken = true;
+            }
+        } catch (final SQLException e) {
+            broken = true;
+        }
+    }
+
+    /**
+     * Releases a lease of the owning thread.
+     */
+    @Override
+    public void close() {
+        pool.release(this);
+    }
+
+    /**
+     * Checks if the connection failed and must not be returned to the pool.
+     *
+     * @return true if the connection is broken
+     */
+    boolean isBroken() {
+        return broken;
+    }
+
+    /**
+     * Leases the connection to the thread.
+     *
+     * @param thread the thread borrowing the connection
+     */
+    void lease(final Thread thread) {
+        synchronized (this) {
+            owner = thread;
+            leases = 1;
+        }
+    }
+
+    /**
+     * Adds a lease if the connection is still leased to the thread.
+     *
+     * @param thread the thread borrowing the connection again
+     * @return true if the lease was added, false if the connection is no longer leased to the thread
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    boolean acquire(final Thread thread) {
+        synchronized (this) {
+            if (owner != thread) {
+                return false;
+            }
+            leases++;
+            return true;
+        }
+    }
+
+    /**
+     * Removes a lease of the owning thread, which may be released on any thread.
+     *
+     * @return the owning thread if this was its last lease, null if leases remain
+     */
+    @Nullable
+    Thread releaseLease() {
+        synchronized (this) {
+            leases--;
+            if (leases > 0) {
+                return null;
+            }
+            final Thread released = owner;
+            owner = null;
+            lastReleased = System.currentTimeMillis();
+            return released;
+        }
+    }
+
+    /**
+     * Gets the time the connection was last released to the pool.
+     *
+     * @return the time in milliseconds
+     */
+    long getLastReleased() {
+        return lastReleased;
+    }
+
+    /**
+     * Closes the cached statements and the underlying connection.
+     *
+     * @return the exceptions which occurred while closing
+     */
+    List<SQLException> destroy() {
+        final List<SQLException> exceptions = new ArrayList<>();
+        final List<PreparedStatement> statements = new ArrayList<>(queries.values());
+        statements.addAll(updates.values());
+        queries.clear();
+        updates.clear();
+        for (final PreparedStatement statement : statements) {
+            try {
+                statement.close();
+            } catch (final SQLException e) {
+                exceptions.add(e);
+            }
+        }
+        try {
+            connection.close();
+        } catch (final SQLException e) {
+            exceptions.add(e);
+        }
+        return exceptions;
+    }
+}
@@ -0,0 +1,47 @@
+package org.betonquest.betonquest.database;
+
+/**
+ * The kind of a row returned by {@link QueryType#SELECT_PROFILE_DATA}.
+ * The ordinal is stored in the {@code kind} column, so the order must not be changed.
+ */
+public enum ProfileDataKind {
+    /**
+     * An objective, with the objective in {@code entry} and the instructions in {@code data}.
+     */
+    OBJECTIVE,
+    /**
+     * A tag in {@code entry}.
+     */
+    TAG,
+    /**
+     * A journal entry, with the pointer in {@code entry} and the timestamp in {@code date}.
+     */
+    JOURNAL,
+    /**
+     * A point, with the category in {@code entry} and the count in {@code amount}.
+     */
+    POINT,
+    /**
+     * A backpack item, with the serialized item in {@code entry} and the amount in {@code amount}.
+     */
+    BACKPACK,
+    /**
+     * The player row, with the language in {@code entry} and the conversation in {@code data}.
+     */
+    PLAYER;
+
+    /**
+     * Gets the kind of the ordinal stored in the {@code kind} column.
+     *
+     * @param ordinal the stored ordinal
+     * @return the kind
+     * @throws IllegalArgumentException if the ordinal is unknown
+     */
+    public static ProfileDataKind fromOrdinal(final int ordinal) {
+        final ProfileDataKind[] kinds = values();
+        if (ordinal < 0 || ordinal >= kinds.length) {
+            throw new IllegalArgumentException("Unknown profile data kind: " + ordinal);
+        }
+        return kinds[ordinal];
+    }
+}
@@ -31,6 +31,16 @@ public enum QueryType {
      * Get the current language and conversation of a profile. ProfileID.
      */
     SELECT_PLAYER(prefix -> "SELECT language, conversation FROM " + prefix + "player WHERE playerID = ?;"),
+    /**
+     * Get the objectives, tags, journal entries, points, backpack items and player row of a profile in one query.
+     * The rows are distinguished by the {@code kind} column, see {@link ProfileDataKind}. ProfileID six times.
+     */
+    SELECT_PROFILE_DATA(prefix -> "SELECT " + ProfileDataKind.OBJECTIVE.ordinal() + " AS kind, objective AS entry, instructions AS data, 0 AS amount, NULL AS date FROM " + prefix + "objectives WHERE profileID = ?"
+            + " UNION ALL SELECT " + ProfileDataKind.TAG.ordinal() + ", tag, NULL, 0, NULL FROM " + prefix + "tags WHERE profileID = ?"
+            + " UNION ALL SELECT " + ProfileDataKind.JOURNAL.ordinal() + ", pointer, NULL, 0, date FROM " + prefix + "journal WHERE profileID = ?"
+            + " UNION ALL SELECT " + ProfileDataKind.POINT.ordinal() + ", category, NULL, count, NULL FROM " + prefix + "points WHERE profileID = ?"
+            + " UNION ALL SELECT " + ProfileDataKind.BACKPACK.ordinal() + ", serialized, NULL, amount, NULL FROM " + prefix + "backpack WHERE profileID = ?"
+            + " UNION ALL SELECT " + ProfileDataKind.PLAYER.ordinal() + ", language, conversation, 0, NULL FROM " + prefix + "player WHERE playerID = ?;"),
 
     /**
      * Get all objectives.
@@ -93,7 +103,17 @@ public enum QueryType {
     /**
      * Get all points of a category ordered descending with a limit. Category, limit.
      */
-    LOAD_TOP_X_POINTS_DESC(prefix -> "SELECT playerID,count FROM " + prefix + "points po join " + prefix + "player pl on po.profileID = pl.active_profile WHERE category = ? ORDER BY count DESC LIMIT ?;");
+    LOAD_TOP_X_POINTS_DESC(prefix -> "SELECT playerID,count FROM " + prefix + "points po join " + prefix + "player pl on po.profileID = pl.active_profile WHERE category = ? ORDER BY count DESC LIMIT ?;"),
+
+    /**
+     * Get all points of a category of the active profiles. Category.
+     */
+    LOAD_ALL_POINTS_OF_CATEGORY(prefix -> "SELECT playerID,count FROM " + prefix + "points po join " + prefix + "player pl on po.profileID = pl.active_profile WHERE category = ?;"),
+
+    /**
+     * Get all points of the active profile of a player. PlayerID.
+     */
+    LOAD_POINTS_OF_ACTIVE_PROFILE(prefix -> "SELECT category,count FROM " + prefix + "points po join " + prefix + "player pl on po.profileID = pl.active_profile WHERE pl.playerID = ?;");
 
     /**
      * Function to create the SQL code from a prefix.
@@ -0,0 +1,12 @@
+package org.betonquest.betonquest.database;
+
+import java.util.UUID;
+
+/**
+ * An entry of a {@link PointRanking}.
+ *
+ * @param playerID the UUID of the player
+ * @param count    the points of the player in the category
+ */
+public record RankingEntry(UUID playerID, long count) {
+}
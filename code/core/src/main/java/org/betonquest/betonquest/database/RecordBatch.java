@@ -0,0 +1,149 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups the records of one flush window by their {@link UpdateType}, so they can be executed as JDBC batches.
+ * <p>
+ * Records are collected into waves. Inside a wave every {@link UpdateType} is executed once as a batch in the order
+ * the types were first added. A record only joins an existing batch if that does not move it before an earlier
+ * record of the same profile, otherwise a new wave is started. Records that are not bound to a single profile
+ * act as a barrier and are executed in a wave of their own. This includes the creation and removal of players and
+ * profiles, as their rows are referenced by both player and profile keyed records.
+ */
+public class RecordBatch {
+
+    /**
+     * All records in the order they were added, used to replay them one by one if the batch fails.
+     */
+    private final List<Record> records;
+
+    /**
+     * The closed and the current wave of grouped arguments.
+     */
+    private final List<Map<UpdateType, List<String[]>>> waves;
+
+    /**
+     * The position of each update type inside the current wave.
+     */
+    private final Map<UpdateType, Integer> typePositions;
+
+    /**
+     * The highest type position each profile used inside the current wave.
+     */
+    private final Map<String, Integer> profilePositions;
+
+    /**
+     * Creates a new empty batch.
+     */
+    public RecordBatch() {
+        this.records = new ArrayList<>();
+        this.waves = new ArrayList<>();
+        this.typePositions = new HashMap<>();
+        this.profilePositions = new HashMap<>();
+    }
+
+    /**
+     * Gets the profile a record is bound to.
+     *
+     * @param rec the record to check
+     * @return the profile or player ID the record writes to, or null if it is not bound to a single profile
+     * or creates or removes a player or profile
+     */
+    @Nullable
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    public static String getOrderingKey(final Record rec) {
+        final String[] args = rec.args();
+        return switch (rec.type()) {
+            case UPDATE_PROFILE_NAME, UPDATE_PLAYER_LANGUAGE, UPDATE_CONVERSATION -> args[1];
+            case ADD_OBJECTIVES, ADD_TAGS, ADD_POINTS, ADD_JOURNAL, ADD_BACKPACK, UPSERT_OBJECTIVES, UPSERT_POINTS,
+                 REMOVE_OBJECTIVES, REMOVE_TAGS, REMOVE_POINTS, REMOVE_JOURNAL, REMOVE_BACKPACK_STACK,
+                 DELETE_OBJECTIVES, DELETE_TAGS, DELETE_POINTS, DELETE_JOURNAL, DELETE_BACKPACK -> args[0];
+            default -> null;
+        };
+    }
+
+    /**
+     * Adds a record to this batch.
+     *
+     * @param rec the record to add
+     */
+    public void add(final Record rec) {
+        records.add(rec);
+        final String key = getOrderingKey(rec);
+        if (key == null) {
+            closeWave();
+            final List<String[]> arguments = new ArrayList<>();
+            arguments.add(rec.args());
+            currentWave().put(rec.type(), arguments);
+            closeWave();
+            return;
+        }
+        final Integer typePosition = typePositions.get(rec.type());
+        final Integer profilePosition = profilePositions.get(key);
+        if (typePosition != null && profilePosition != null && profilePosition > typePosition) {
+            closeWave();
+        }
+        final Map<UpdateType, List<String[]>> wave = currentWave();
+        final int position = typePositions.computeIfAbsent(rec.type(), type -> typePositions.size());
+        wave.computeIfAbsent(rec.type(), type -> new ArrayList<>()).add(rec.args());
+        profilePositions.merge(key, position, Math::max);
+    }
+
+    private Map<UpdateType, List<String[]>> currentWave() {
+        if (waves.isEmpty() || (typePositions.isEmpty() && !waves.get(waves.size() - 1).isEmpty())) {
+            waves.add(new LinkedHashMap<>());
+        }
+        return waves.get(waves.size() - 1);
+    }
+
+    private void closeWave() {
+        typePositions.clear();
+        profilePositions.clear();
+    }
+
+    /**
+     * Gets the amount of records in this batch.
+     *
+     * @return the amount of added records
+     */
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Checks if this batch contains no records.
+     *
+     * @return true if no record was added
+     */
+    public boolean isEmpty() {
+        return records.isEmpty();
+    }
+
+    /**
+     * Gets the records in the order they were added.
+     *
+     * @return an unmodifiable list of all records
+     */
+    public List<Record> getRecords() {
+        return Collections.unmodifiableList(records);
+    }
+
+    /**
+     * Gets the grouped waves in execution order.
+     * Each wave maps the update types in execution order to the arguments of their statements.
+     *
+     * @return an unmodifiable list of the waves
+     */
+    public List<Map<UpdateType, List<String[]>>> getWaves() {
+        return Collections.unmodifiableList(waves);
+    }
+}
@@ -36,6 +36,11 @@ import static org.betonquest.betonquest.item.typehandler.QuestHandler.QUEST_ITEM
 @SuppressWarnings("PMD.AvoidDuplicateLiterals")
 public class SQLite extends Database {
 
+    /**
+     * Time in milliseconds a connection waits for a lock held by another connection.
+     */
+    private static final int BUSY_TIMEOUT = 5000;
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -79,6 +84,7 @@ public class SQLite extends Database {
             Class.forName("org.sqlite.JDBC");
             connection = DriverManager
                     .getConnection("jdbc:sqlite:" + plugin.getDataFolder().toPath() + "/" + dbLocation);
+            configureConnection(connection);
         } catch (ClassNotFoundException | SQLException e) {
             log.error("There was an exception with SQL", e);
         }
@@ -88,6 +94,32 @@ public class SQLite extends Database {
         return connection;
     }
 
+    /**
+     * Enables the write-ahead log, so the pooled connections can read while another one writes,
+     * and lets a connection wait for a lock instead of failing immediately.
+     *
+     * @param connection the new connection
+     * @throws SQLException if the connection could not be configured
+     */
+    private void configureConnection(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("PRAGMA busy_timeout=" + BUSY_TIMEOUT);
+        }
+    }
+
+    /**
+     * Moves the content of the write-ahead log into the database file and truncates the log.
+     */
+    @Override
+    public void checkpoint() {
+        try (PooledConnection pooled = borrowConnection(); Statement statement = pooled.getConnection().createStatement()) {
+            statement.execute("PRAGMA wal_checkpoint(TRUNCATE)");
+        } catch (final SQLException e) {
+            log.warn("Could not checkpoint the database write-ahead log: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     protected SortedMap<MigrationKey, DatabaseUpdate> getMigrations() {
         final SortedMap<MigrationKey, DatabaseUpdate> migrations = new TreeMap<>();
@@ -97,6 +129,7 @@ public class SQLite extends Database {
         migrations.put(new MigrationKey("betonquest", 4), this::migration4);
         migrations.put(new MigrationKey("betonquest", 5), this::migration5);
         migrations.put(new MigrationKey("betonquest", 6), this::migration6);
+        migrations.put(new MigrationKey("betonquest", 7), this::migration7);
         return migrations;
     }
 
@@ -378,4 +411,25 @@ public class SQLite extends Database {
             preparedStatement.executeBatch();
         }
     }
+
+    /**
+     * Indexes the tables by the columns the per-profile queries filter by.
+     * Objectives, points and tags are already keyed by profile and name and need no further index.
+     *
+     * @param connection the connection to the database
+     * @throws SQLException if something goes wrong, while executing the query's
+     */
+    @SuppressFBWarnings("SQL_NONCONSTANT_STRING_PASSED_TO_EXECUTE")
+    private void migration7(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS " + prefix + "journal_profile_pointer "
+                    + "ON " + prefix + "journal (profileID, pointer)");
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS " + prefix + "backpack_profile "
+                    + "ON " + prefix + "backpack (profileID)");
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS " + prefix + "points_category "
+                    + "ON " + prefix + "points (category, count)");
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS " + prefix + "player_active_profile "
+                    + "ON " + prefix + "player (active_profile)");
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package org.betonquest.betonquest.database;
+
+/**
+ * Snapshot of the performance counters of a {@link Saver}.
+ *
+ * @param queueDepth      the amount of records currently waiting to be saved
+ * @param flushes         the amount of flushes executed since the start
+ * @param savedRecords    the amount of records saved since the start
+ * @param lastBatchSize   the amount of records of the last flush
+ * @param maxBatchSize    the highest amount of records a single flush contained
+ * @param lastFlushMillis the time the last flush took in milliseconds
+ * @param maxFlushMillis  the highest time a single flush took in milliseconds
+ */
+public record SaverMetrics(
+        int queueDepth,
+        long flushes,
+        long savedRecords,
+        int lastBatchSize,
+        int maxBatchSize,
+        double lastFlushMillis,
+        double maxFlushMillis
+) {
+
+    /**
+     * Gets the average amount of records per flush.
+     *
+     * @return the average batch size or 0 if nothing was flushed yet
+     */
+    public double averageBatchSize() {
+        return flushes == 0 ? 0 : (double) savedRecords / flushes;
+    }
+}
@@ -48,6 +48,18 @@ public enum UpdateType {
      * Add single player profile. PlayerID, profileID, name.
      */
     ADD_PLAYER_PROFILE(prefix -> "INSERT INTO " + prefix + "player_profile (playerID, profileID, name) VALUES (?, ?, ?);"),
+    /**
+     * Adds or replaces the single objective. ProfileID, objectiveID, instruction.
+     */
+    UPSERT_OBJECTIVES(prefix -> "REPLACE INTO " + prefix + "objectives (profileID, objective, instructions) VALUES (?, ?, ?);"),
+    /**
+     * Adds or replaces single point category. ProfileID, category, amount.
+     */
+    UPSERT_POINTS(prefix -> "REPLACE INTO " + prefix + "points (profileID, category, count) VALUES (?, ?, ?);"),
+    /**
+     * Adds or replaces single global point category. Category, amount.
+     */
+    UPSERT_GLOBAL_POINTS(prefix -> "REPLACE INTO " + prefix + "global_points (category, count) VALUES (?, ?);"),
     /**
      * Removes the single objective. ProfileID, objectiveID.
      */
@@ -72,6 +84,10 @@ public enum UpdateType {
      * Removes single journal entry. ProfileID, pointer, date.
      */
     REMOVE_JOURNAL(prefix -> "DELETE FROM " + prefix + "journal WHERE profileID = ? AND pointer = ? AND date = ?;"),
+    /**
+     * Removes all itemstacks with the serialized item and amount. ProfileID, serialized item, amount.
+     */
+    REMOVE_BACKPACK_STACK(prefix -> "DELETE FROM " + prefix + "backpack WHERE profileID = ? AND serialized = ? AND amount = ?;"),
     /**
      * Removes single profile. ProfileID.
      */
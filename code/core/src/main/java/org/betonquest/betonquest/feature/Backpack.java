@@ -17,12 +17,10 @@ import org.betonquest.betonquest.config.PluginMessage;
 import org.betonquest.betonquest.database.PlayerData;
 import org.betonquest.betonquest.feature.journal.Journal;
 import org.betonquest.betonquest.item.typehandler.QuestHandler;
+import org.betonquest.betonquest.listener.SessionEventRouters;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
@@ -39,7 +37,7 @@ import java.util.Map;
  * Represents a chest GUI for the backpack displayed to the player.
  */
 @SuppressWarnings("PMD.CouplingBetweenObjects")
-public class Backpack implements Listener {
+public class Backpack {
 
     /**
      * The maximum amount of rows an inventory can have.
@@ -115,9 +113,8 @@ public class Backpack implements Listener {
      *
      * @param event the click event
      */
-    @EventHandler(ignoreCancelled = true)
     public void onClick(final InventoryClickEvent event) {
-        if (event.getWhoClicked().equals(onlineProfile.getPlayer())) {
+        if (!event.isCancelled() && event.getWhoClicked().equals(onlineProfile.getPlayer())) {
             event.setCancelled(true);
             if (event.getRawSlot() < 0) {
                 return;
@@ -131,13 +128,21 @@ public class Backpack implements Listener {
      *
      * @param event the close event
      */
-    @EventHandler(ignoreCancelled = true)
     public void onInventoryClosing(final InventoryCloseEvent event) {
         if (event.getPlayer().equals(onlineProfile.getPlayer())) {
-            HandlerList.unregisterAll(this);
+            BetonQuest.getInstance().getSessionEvents().unregisterAll(onlineProfile.getPlayerUUID(), this);
         }
     }
 
+    /**
+     * Registers the backpack listeners for the opened page.
+     */
+    private void registerSessionEvents() {
+        final SessionEventRouters sessionEvents = BetonQuest.getInstance().getSessionEvents();
+        sessionEvents.inventoryClick().register(onlineProfile.getPlayerUUID(), this, this::onClick);
+        sessionEvents.inventoryClose().register(onlineProfile.getPlayerUUID(), this, this::onInventoryClosing);
+    }
+
     /**
      * The parts of the backpack.
      */
@@ -250,7 +255,7 @@ public class Backpack implements Listener {
             super();
             final boolean showJournalInBackpack = config.getBoolean("journal.show_in_backpack");
             this.page = page;
-            this.showJournal = showJournalInBackpack && !Journal.hasJournal(onlineProfile);
+            this.showJournal = showJournalInBackpack && !playerData.getJournal().isInInventory();
             this.backpackItems = playerData.getBackpack();
             if (showJournal) {
                 try {
@@ -303,7 +308,7 @@ public class Backpack implements Listener {
 
             inv.setContents(content);
             onlineProfile.getPlayer().openInventory(inv);
-            Bukkit.getPluginManager().registerEvents(Backpack.this, BetonQuest.getInstance());
+            registerSessionEvents();
         }
 
         private Pair<ItemStack, Boolean> button(final String button, final Material fallback) {
@@ -460,7 +465,7 @@ public class Backpack implements Listener {
             }
             inv.setContents(content);
             onlineProfile.getPlayer().openInventory(inv);
-            Bukkit.getPluginManager().registerEvents(Backpack.this, BetonQuest.getInstance());
+            registerSessionEvents();
         }
 
         @Override
@@ -516,7 +521,7 @@ public class Backpack implements Listener {
             }
             inv.setContents(getContent(numberOfRows));
             onlineProfile.getPlayer().openInventory(inv);
-            Bukkit.getPluginManager().registerEvents(Backpack.this, BetonQuest.getInstance());
+            registerSessionEvents();
         }
 
         @SuppressWarnings("NullAway")
@@ -49,6 +49,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Represents player's journal.
@@ -102,9 +103,19 @@ public class Journal {
     private final List<Pointer> pointers;
 
     /**
-     * List of texts generated from pointers.
+     * List of entries rendered from pointers.
      */
-    private final List<Component> texts = new ArrayList<>();
+    private final List<RenderedEntry> texts = new ArrayList<>();
+
+    /**
+     * The entries rendered by the last generation, reused if neither the entry nor its content changed.
+     */
+    private final Map<Pointer, RenderedEntry> renderedEntries = new HashMap<>();
+
+    /**
+     * Whether an update is already scheduled.
+     */
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
 
     /**
      * The configuration accessor for the plugin's configuration.
@@ -122,6 +133,11 @@ public class Journal {
     @Nullable
     private Component mainPage;
 
+    /**
+     * The inventory slot the journal was last seen in or -1 if unknown.
+     */
+    private int journalSlot = -1;
+
     /**
      * Creates new Journal instance from List of Pointers.
      *
@@ -236,21 +252,22 @@ public class Journal {
      * @return list of Strings - texts for every journal entry
      */
     public List<Component> getText() {
-        final List<Component> list;
+        final List<RenderedEntry> list;
         if (config.getBoolean("journal.format.reversed_order")) {
             list = Lists.reverse(texts);
         } else {
             list = texts;
         }
         final List<Component> pagesList = new ArrayList<>();
-        for (final Component entry : list) {
-            pagesList.addAll(bookWrapper.splitPages(entry));
+        for (final RenderedEntry entry : list) {
+            pagesList.addAll(entry.pages());
         }
         return pagesList;
     }
 
     /**
      * Generates texts for every pointer and places them inside a List.
+     * Entries whose text and content did not change since the last generation are not rendered again.
      *
      * @throws QuestException if an error occurs while generating the texts
      */
@@ -258,8 +275,9 @@ public class Journal {
         texts.clear();
         mainPage = generateMainPage();
         final boolean displayDatePrefix = !config.getBoolean("journal.format.hide_date");
+        final Component textColor = textParser.parse(config.getString("journal.format.color.text"));
+        final Map<Pointer, RenderedEntry> rendered = new HashMap<>();
         for (final Pointer pointer : pointers) {
-            final Component datePrefix = displayDatePrefix ? pointer.generateDatePrefix(textParser, config).append(Component.newline()) : Component.empty();
             final JournalEntryIdentifier entryID = pointer.pointer();
             final Text journalEntry;
             try {
@@ -278,8 +296,17 @@ public class Journal {
                 text = Component.text("error");
             }
 
-            texts.add(Component.empty().append(datePrefix).append(textParser.parse(config.getString("journal.format.color.text")).append(text)));
+            RenderedEntry entry = renderedEntries.get(pointer);
+            if (entry == null || entry.source() != journalEntry || !entry.content().equals(text)) {
+                final Component datePrefix = displayDatePrefix ? pointer.generateDatePrefix(textParser, config).append(Component.newline()) : Component.empty();
+                entry = new RenderedEntry(journalEntry, text,
+                        bookWrapper.splitPages(Component.empty().append(datePrefix).append(textColor.append(text))));
+            }
+            rendered.put(pointer, entry);
+            texts.add(entry);
         }
+        renderedEntries.clear();
+        renderedEntries.putAll(rendered);
     }
 
     /**
@@ -341,6 +368,7 @@ public class Journal {
      */
     public void clear() {
         texts.clear();
+        renderedEntries.clear();
         pointers.clear();
     }
 
@@ -368,10 +396,12 @@ public class Journal {
         final int targetSlot = getJournalSlot();
         if (inventory.firstEmpty() >= 0) {
             if (targetSlot < 0) {
-                inventory.addItem(item);
+                journalSlot = inventory.firstEmpty();
+                inventory.setItem(journalSlot, item);
             } else {
                 final ItemStack oldItem = inventory.getItem(targetSlot);
                 inventory.setItem(targetSlot, item);
+                journalSlot = targetSlot;
                 if (oldItem != null) {
                     inventory.addItem(oldItem);
                 }
@@ -440,15 +470,46 @@ public class Journal {
         return item;
     }
 
+    /**
+     * Checks if the player has this journal in the inventory, checking the slot it was last seen in first.
+     * Returns false if the player is not online.
+     *
+     * @return true if the player has the journal, false otherwise
+     */
+    public boolean isInInventory() {
+        return profile.getOnlineProfile()
+                .map(onlineProfile -> findJournalSlot(onlineProfile.getPlayer().getInventory()) >= 0)
+                .orElse(false);
+    }
+
     /**
      * Updates journal by removing it and adding it again.
      */
     public void update() {
+        if (isInInventory()) {
+            addToInv();
+        }
+    }
+
+    /**
+     * Schedules an {@link #update()} after the configured {@code journal.update_interval}.
+     * Further calls until the update runs are coalesced into it.
+     */
+    public void scheduleUpdate() {
         if (profile.getOnlineProfile().isEmpty()) {
             return;
         }
-        if (hasJournal(profile.getOnlineProfile().get())) {
-            addToInv();
+        final BetonQuest plugin = BetonQuest.getInstance();
+        final int interval = config.getInt("journal.update_interval");
+        if (interval <= 0 || !plugin.isEnabled()) {
+            update();
+            return;
+        }
+        if (updateScheduled.compareAndSet(false, true)) {
+            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+                updateScheduled.set(false);
+                update();
+            }, interval);
         }
     }
 
@@ -463,12 +524,41 @@ public class Journal {
         }
         final OnlineProfile onlineProfile = profile.getOnlineProfile().get();
         final Inventory inventory = onlineProfile.getPlayer().getInventory();
+        final int slot = findJournalSlot(inventory);
+        if (slot >= 0) {
+            inventory.setItem(slot, new ItemStack(Material.AIR));
+            journalSlot = -1;
+        }
+        return slot;
+    }
+
+    /**
+     * Finds the slot of the journal, checking the slot it was last seen in before searching the inventory.
+     *
+     * @param inventory the inventory of the player
+     * @return the slot of the journal or -1 if the player has no journal
+     */
+    private int findJournalSlot(final Inventory inventory) {
+        if (journalSlot >= 0 && journalSlot < inventory.getSize() && isJournal(inventory.getItem(journalSlot))) {
+            return journalSlot;
+        }
+        journalSlot = -1;
         for (int i = 0; i < inventory.getSize(); i++) {
             if (isJournal(inventory.getItem(i))) {
-                inventory.setItem(i, new ItemStack(Material.AIR));
+                journalSlot = i;
                 return i;
             }
         }
         return -1;
     }
+
+    /**
+     * A journal entry rendered into pages.
+     *
+     * @param source  the text the entry was rendered from
+     * @param content the content of the text for the profile, with resolved placeholders
+     * @param pages   the pages of the entry including its date prefix
+     */
+    private record RenderedEntry(Text source, Component content, List<Component> pages) {
+    }
 }
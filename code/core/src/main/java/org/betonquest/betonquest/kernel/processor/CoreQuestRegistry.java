@@ -18,15 +18,21 @@ import org.betonquest.betonquest.api.quest.objective.Objective;
 import org.betonquest.betonquest.api.quest.objective.service.DefaultObjectiveServiceProvider;
 import org.betonquest.betonquest.bstats.InstructionMetricsSupplier;
 import org.betonquest.betonquest.kernel.processor.quest.ActionProcessor;
+import org.betonquest.betonquest.kernel.processor.quest.CompiledInstructionCache;
 import org.betonquest.betonquest.kernel.processor.quest.ConditionProcessor;
+import org.betonquest.betonquest.kernel.processor.quest.ConditionResultCache;
 import org.betonquest.betonquest.kernel.processor.quest.ObjectiveProcessor;
 import org.betonquest.betonquest.kernel.processor.quest.PlaceholderProcessor;
+import org.betonquest.betonquest.kernel.processor.quest.PlaceholderValueCache;
+import org.betonquest.betonquest.kernel.processor.quest.PrimaryThreadBridge;
 import org.betonquest.betonquest.kernel.registry.quest.BaseQuestTypeRegistries;
+import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.scheduler.BukkitScheduler;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.InstantSource;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -34,17 +40,19 @@ import java.util.Map;
 /**
  * Stores the active core quest type Processors to store and execute type logic.
  *
- * @param conditions   Condition logic.
- * @param actions      Action logic.
- * @param objectives   Objective logic.
- * @param placeholders Placeholder logic.
+ * @param conditions    Condition logic.
+ * @param actions       Action logic.
+ * @param objectives    Objective logic.
+ * @param placeholders  Placeholder logic.
+ * @param primaryThread Bridge to run primary thread enforced calls from other threads.
  */
 @SuppressWarnings("PMD.CouplingBetweenObjects")
 public record CoreQuestRegistry(
         ConditionProcessor conditions,
         ActionProcessor actions,
         PlaceholderProcessor placeholders,
-        ObjectiveProcessor objectives
+        ObjectiveProcessor objectives,
+        PrimaryThreadBridge primaryThread
 ) implements QuestTypeApi {
 
     /**
@@ -70,23 +78,36 @@ public record CoreQuestRegistry(
         final IdentifierFactory<ConditionIdentifier> conditionIdentifierFactory = questTypeRegistries.identifier().getFactory(ConditionIdentifier.class);
         final IdentifierFactory<PlaceholderIdentifier> placeholderIdentifierFactory = questTypeRegistries.identifier().getFactory(PlaceholderIdentifier.class);
 
+        final PrimaryThreadBridge primaryThread = new PrimaryThreadBridge(loggerFactory.create(PrimaryThreadBridge.class),
+                PrimaryThreadBridge.DEFAULT_TICK_BUDGET, System::nanoTime);
+        primaryThread.start(plugin, scheduler);
+        final PlaceholderValueCache valueCache = new PlaceholderValueCache(InstantSource.system(), profileProvider);
+        pluginManager.registerEvents(valueCache, plugin);
         final PlaceholderProcessor placeholderProcessor = new PlaceholderProcessor(loggerFactory.create(PlaceholderProcessor.class),
-                packManager, questTypeRegistries.placeholder(), scheduler, placeholderIdentifierFactory, instructionApi, plugin);
+                packManager, questTypeRegistries.placeholder(), primaryThread, placeholderIdentifierFactory, instructionApi,
+                valueCache,
+                new CompiledInstructionCache<>(CompiledInstructionCache.DEFAULT_MAX_SIZE));
+        final ConditionResultCache conditionCache = new ConditionResultCache(profileProvider, Bukkit::getCurrentTick);
+        pluginManager.registerEvents(conditionCache, plugin);
         final ActionProcessor actionProcessor = new ActionProcessor(loggerFactory.create(ActionProcessor.class),
-                placeholderProcessor, packManager, actionIdentifierFactory, questTypeRegistries.action(), scheduler, instructionApi, plugin);
+                placeholderProcessor, packManager, actionIdentifierFactory, questTypeRegistries.action(), primaryThread, instructionApi,
+                conditionCache, new CompiledInstructionCache<>(CompiledInstructionCache.DEFAULT_MAX_SIZE));
         final ConditionProcessor conditionProcessor = new ConditionProcessor(loggerFactory.create(ConditionProcessor.class),
-                placeholderProcessor, packManager, questTypeRegistries.condition(), scheduler, conditionIdentifierFactory, plugin, instructionApi);
+                placeholderProcessor, packManager, questTypeRegistries.condition(), primaryThread, conditionIdentifierFactory, instructionApi,
+                conditionCache, new CompiledInstructionCache<>(CompiledInstructionCache.DEFAULT_MAX_SIZE));
         final DefaultObjectiveServiceProvider objectiveService = new DefaultObjectiveServiceProvider(plugin, conditionProcessor,
                 actionProcessor, loggerFactory, profileProvider, instructionApi);
         return new CoreQuestRegistry(conditionProcessor, actionProcessor, placeholderProcessor,
                 new ObjectiveProcessor(loggerFactory.create(ObjectiveProcessor.class), placeholderProcessor, packManager,
-                        questTypeRegistries.objective(), objectiveIdentifierFactory, pluginManager, objectiveService, instructionApi, plugin));
+                        questTypeRegistries.objective(), objectiveIdentifierFactory, pluginManager, objectiveService, instructionApi, plugin),
+                primaryThread);
     }
 
     /**
      * Clears the loaded Core Quest Types. Used before reloading all QuestPackages.
      */
     public void clear() {
+        primaryThread.logMetrics();
         conditions.clear();
         actions.clear();
         objectives.clear();
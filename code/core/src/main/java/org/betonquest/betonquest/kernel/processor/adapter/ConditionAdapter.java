@@ -4,14 +4,18 @@ import org.betonquest.betonquest.api.QuestException;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.PrimaryThreadEnforceable;
+import org.betonquest.betonquest.api.quest.condition.CacheableCondition;
+import org.betonquest.betonquest.api.quest.condition.ConditionDependency;
 import org.betonquest.betonquest.api.quest.condition.PlayerCondition;
 import org.betonquest.betonquest.api.quest.condition.PlayerlessCondition;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Set;
+
 /**
  * Adapter for {@link PlayerCondition} and {@link PlayerlessCondition}.
  */
-public class ConditionAdapter extends QuestAdapter<PlayerCondition, PlayerlessCondition> implements PrimaryThreadEnforceable {
+public class ConditionAdapter extends QuestAdapter<PlayerCondition, PlayerlessCondition> implements PrimaryThreadEnforceable, CacheableCondition {
 
     /**
      * Create a new Adapter with instruction and at least one type.
@@ -46,4 +50,15 @@ public class ConditionAdapter extends QuestAdapter<PlayerCondition, PlayerlessCo
     public boolean isPrimaryThreadEnforced() {
         return player != null && player.isPrimaryThreadEnforced() || playerless != null && playerless.isPrimaryThreadEnforced();
     }
+
+    /**
+     * Gets the dependencies of the condition checked for a profile.
+     * The playerless variant is never cached.
+     *
+     * @return the dependencies of the player condition or an empty set if there is none
+     */
+    @Override
+    public Set<ConditionDependency> getDependencies() {
+        return player == null ? Set.of() : player.getDependencies();
+    }
 }
@@ -12,13 +12,12 @@ import org.betonquest.betonquest.kernel.processor.TypedQuestProcessor;
 import org.betonquest.betonquest.kernel.processor.adapter.ActionAdapter;
 import org.betonquest.betonquest.kernel.registry.quest.ActionTypeRegistry;
 import org.bukkit.Bukkit;
-import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitScheduler;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -29,14 +28,19 @@ import java.util.concurrent.Future;
 public class ActionProcessor extends TypedQuestProcessor<ActionIdentifier, ActionAdapter> {
 
     /**
-     * The Bukkit scheduler to run sync tasks.
+     * The bridge to run primary thread enforced calls from other threads.
      */
-    private final BukkitScheduler scheduler;
+    private final PrimaryThreadBridge primaryThread;
 
     /**
-     * The plugin instance.
+     * The condition result cache to invalidate when actions change player data.
      */
-    private final Plugin plugin;
+    private final ConditionResultCache conditionCache;
+
+    /**
+     * The cache for actions compiled from evaluated instructions.
+     */
+    private final CompiledInstructionCache<ActionAdapter> evalCache;
 
     /**
      * Create a new Action Processor to store actions and execute them.
@@ -46,17 +50,36 @@ public class ActionProcessor extends TypedQuestProcessor<ActionIdentifier, Actio
      * @param packManager             the quest package manager to get quest packages from
      * @param actionIdentifierFactory the factory to create action identifiers
      * @param actionTypes             the available action types
-     * @param scheduler               the bukkit scheduler to run sync tasks
+     * @param primaryThread           the bridge to run primary thread enforced calls
      * @param instructionApi          the instruction api
-     * @param plugin                  the plugin instance
+     * @param conditionCache          the condition result cache to invalidate when actions change player data
+     * @param evalCache               the cache for actions compiled from evaluated instructions
      */
     public ActionProcessor(final BetonQuestLogger log, final Placeholders placeholders, final QuestPackageManager packManager,
                            final IdentifierFactory<ActionIdentifier> actionIdentifierFactory,
-                           final ActionTypeRegistry actionTypes, final BukkitScheduler scheduler,
-                           final InstructionApi instructionApi, final Plugin plugin) {
+                           final ActionTypeRegistry actionTypes, final PrimaryThreadBridge primaryThread,
+                           final InstructionApi instructionApi, final ConditionResultCache conditionCache,
+                           final CompiledInstructionCache<ActionAdapter> evalCache) {
         super(log, actionTypes, actionIdentifierFactory, instructionApi, "Action", "actions");
-        this.scheduler = scheduler;
-        this.plugin = plugin;
+        this.primaryThread = primaryThread;
+        this.conditionCache = conditionCache;
+        this.evalCache = evalCache;
+    }
+
+    @Override
+    public void clear() {
+        log.debug("Eval action cache usage: " + evalCache.getMetrics());
+        super.clear();
+        evalCache.invalidate();
+    }
+
+    /**
+     * Gets the cache for actions compiled from evaluated instructions.
+     *
+     * @return the eval action cache
+     */
+    public CompiledInstructionCache<ActionAdapter> getEvalCache() {
+        return evalCache;
     }
 
     /**
@@ -81,13 +104,13 @@ public class ActionProcessor extends TypedQuestProcessor<ActionIdentifier, Actio
         });
 
         final Future<Boolean> syncFuture = syncList.isEmpty() ? CompletableFuture.completedFuture(true)
-                : scheduler.callSyncMethod(plugin, () -> syncList.stream().map(actionID -> execute(profile, actionID))
+                : primaryThread.call(() -> syncList.stream().map(actionID -> execute(profile, actionID))
                 .reduce(true, Boolean::logicalAnd));
         final boolean asyncResult = asyncList.stream().map(actionID -> execute(profile, actionID)).reduce(true, Boolean::logicalAnd);
 
         try {
             return asyncResult && syncFuture.get();
-        } catch (final InterruptedException | ExecutionException e) {
+        } catch (final InterruptedException | ExecutionException | CancellationException e) {
             log.reportException(e);
             return true;
         }
@@ -107,10 +130,8 @@ public class ActionProcessor extends TypedQuestProcessor<ActionIdentifier, Actio
             log.warn(actionID.getPackage(), "Action " + actionID + " is not defined");
             return false;
         }
-        if (profile == null) {
-            log.debug(actionID.getPackage(), "Firing action " + actionID + " player independent");
-        } else {
-            log.debug(actionID.getPackage(), "Firing action " + actionID + " for " + profile);
+        if (log.isDebugEnabled(actionID.getPackage())) {
+            log.debug(actionID.getPackage(), "Firing action " + actionID + (profile == null ? " player independent" : " for " + profile));
         }
         if (action.isPrimaryThreadEnforced() && !Bukkit.isPrimaryThread()) {
             return callActionSync(profile, actionID, action);
@@ -120,8 +141,8 @@ public class ActionProcessor extends TypedQuestProcessor<ActionIdentifier, Actio
 
     private boolean callActionSync(@Nullable final Profile profile, final ActionIdentifier actionID, final ActionAdapter action) {
         try {
-            return scheduler.callSyncMethod(plugin, () -> callAction(profile, actionID, action)).get();
-        } catch (final InterruptedException | ExecutionException e) {
+            return primaryThread.call(() -> callAction(profile, actionID, action)).get();
+        } catch (final InterruptedException | ExecutionException | CancellationException e) {
             log.reportException(e);
             return true;
         }
@@ -133,6 +154,19 @@ public class ActionProcessor extends TypedQuestProcessor<ActionIdentifier, Actio
         } catch (final QuestException e) {
             log.warn(actionID.getPackage(), "Error while firing '" + actionID + "' action: " + e.getMessage(), e);
             return true;
+        } finally {
+            invalidateConditions(profile);
+        }
+    }
+
+    private void invalidateConditions(@Nullable final Profile profile) {
+        if (!conditionCache.isEnabled()) {
+            return;
+        }
+        if (profile == null) {
+            conditionCache.invalidate();
+        } else {
+            conditionCache.invalidate(profile);
         }
     }
 }
@@ -0,0 +1,115 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.common.function.QuestFunction;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches quest types compiled from instructions evaluated at runtime, like by the {@code eval} types.
+ * <p>
+ * The compiled types are stored by their package and instruction string. When the cache is full the least recently
+ * used type is removed. Instructions which fail to compile are not cached, so the error is reported on every use.
+ *
+ * @param <T> the type of the compiled instructions
+ */
+public class CompiledInstructionCache<T> {
+
+    /**
+     * The default maximal amount of cached instructions.
+     */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    /**
+     * The compiled types by their package and instruction, in access order.
+     */
+    private final Map<Key, T> compiled;
+
+    /**
+     * The amount of requested instructions.
+     */
+    private final LongAdder requests;
+
+    /**
+     * The amount of requests which found the compiled type in the cache.
+     */
+    private final LongAdder hits;
+
+    /**
+     * Creates a new empty cache.
+     *
+     * @param maxSize the maximal amount of cached instructions
+     */
+    public CompiledInstructionCache(final int maxSize) {
+        this.compiled = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = -3168466523386264562L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, T> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.requests = new LongAdder();
+        this.hits = new LongAdder();
+    }
+
+    /**
+     * Gets the compiled type of the instruction, compiling it if it is not cached.
+     *
+     * @param pack        the package the instruction belongs to
+     * @param instruction the evaluated instruction string
+     * @param compiler    the function to compile the instruction if it is not cached
+     * @return the compiled type
+     * @throws QuestException if the instruction could not be compiled
+     */
+    public T get(final QuestPackage pack, final String instruction, final QuestFunction<String, T> compiler) throws QuestException {
+        requests.increment();
+        final Key key = new Key(pack.getQuestPath(), instruction);
+        synchronized (compiled) {
+            final T cached = compiled.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        final T value = compiler.apply(instruction);
+        synchronized (compiled) {
+            compiled.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes all cached instructions.
+     */
+    public void invalidate() {
+        synchronized (compiled) {
+            compiled.clear();
+        }
+    }
+
+    /**
+     * Gets a snapshot of the cache counters.
+     *
+     * @return the current metrics
+     */
+    public CompiledInstructionMetrics getMetrics() {
+        final int size;
+        synchronized (compiled) {
+            size = compiled.size();
+        }
+        return new CompiledInstructionMetrics(requests.sum(), hits.sum(), size);
+    }
+
+    /**
+     * The key of a compiled instruction.
+     *
+     * @param pack        the path of the package the instruction belongs to
+     * @param instruction the evaluated instruction string
+     */
+    private record Key(String pack, String instruction) {
+    }
+}
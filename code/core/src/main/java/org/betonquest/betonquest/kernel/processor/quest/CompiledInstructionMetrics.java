@@ -0,0 +1,33 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+/**
+ * Snapshot of the counters of a {@link CompiledInstructionCache}.
+ *
+ * @param requests     the amount of requested instructions since the start
+ * @param hits         the amount of requests which found the compiled type in the cache
+ * @param instructions the amount of currently cached instructions
+ */
+public record CompiledInstructionMetrics(
+        long requests,
+        long hits,
+        int instructions
+) {
+
+    /**
+     * Gets the amount of requests which had to compile the instruction.
+     *
+     * @return the amount of misses
+     */
+    public long misses() {
+        return requests - hits;
+    }
+
+    /**
+     * Gets the share of requests which did not need to compile the instruction.
+     *
+     * @return the hit rate between 0 and 1 or 0 if nothing was requested yet
+     */
+    public double hitRate() {
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
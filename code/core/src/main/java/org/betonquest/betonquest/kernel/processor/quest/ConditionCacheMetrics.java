@@ -0,0 +1,24 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+/**
+ * Snapshot of the counters of a {@link ConditionResultCache}.
+ *
+ * @param requests the amount of checks of cacheable conditions since the start
+ * @param hits     the amount of checks which found a result of the current tick in the cache
+ * @param results  the amount of currently cached results, including outdated ones
+ */
+public record ConditionCacheMetrics(
+        long requests,
+        long hits,
+        int results
+) {
+
+    /**
+     * Gets the share of checks which did not need to check the condition.
+     *
+     * @return the hit rate between 0 and 1 or 0 if nothing was checked yet
+     */
+    public double hitRate() {
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -12,13 +12,12 @@ import org.betonquest.betonquest.kernel.processor.TypedQuestProcessor;
 import org.betonquest.betonquest.kernel.processor.adapter.ConditionAdapter;
 import org.betonquest.betonquest.kernel.registry.quest.ConditionTypeRegistry;
 import org.bukkit.Bukkit;
-import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitScheduler;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -31,14 +30,19 @@ import java.util.stream.Stream;
 public class ConditionProcessor extends TypedQuestProcessor<ConditionIdentifier, ConditionAdapter> {
 
     /**
-     * The Bukkit scheduler to run sync tasks.
+     * The bridge to run primary thread enforced calls from other threads.
      */
-    private final BukkitScheduler scheduler;
+    private final PrimaryThreadBridge primaryThread;
 
     /**
-     * The plugin instance.
+     * The cache for results of cacheable conditions.
      */
-    private final Plugin plugin;
+    private final ConditionResultCache resultCache;
+
+    /**
+     * The cache for conditions compiled from evaluated instructions.
+     */
+    private final CompiledInstructionCache<ConditionAdapter> evalCache;
 
     /**
      * Create a new Condition Processor to store Conditions and checks them.
@@ -47,18 +51,48 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionIdentifier,
      * @param placeholders               the {@link Placeholders} to create and resolve placeholders
      * @param packManager                the quest package manager to get quest packages from
      * @param conditionTypes             the available condition types
-     * @param scheduler                  the bukkit scheduler to run sync tasks
+     * @param primaryThread              the bridge to run primary thread enforced calls
      * @param conditionIdentifierFactory the factory to create condition identifiers
-     * @param plugin                     the plugin instance
      * @param instructionApi             the instruction api
+     * @param resultCache                the cache for results of cacheable conditions
+     * @param evalCache                  the cache for conditions compiled from evaluated instructions
      */
     public ConditionProcessor(final BetonQuestLogger log, final Placeholders placeholders, final QuestPackageManager packManager,
-                              final ConditionTypeRegistry conditionTypes, final BukkitScheduler scheduler,
-                              final IdentifierFactory<ConditionIdentifier> conditionIdentifierFactory, final Plugin plugin,
-                              final InstructionApi instructionApi) {
+                              final ConditionTypeRegistry conditionTypes, final PrimaryThreadBridge primaryThread,
+                              final IdentifierFactory<ConditionIdentifier> conditionIdentifierFactory,
+                              final InstructionApi instructionApi, final ConditionResultCache resultCache,
+                              final CompiledInstructionCache<ConditionAdapter> evalCache) {
         super(log, conditionTypes, conditionIdentifierFactory, instructionApi, "Condition", "conditions");
-        this.scheduler = scheduler;
-        this.plugin = plugin;
+        this.primaryThread = primaryThread;
+        this.resultCache = resultCache;
+        this.evalCache = evalCache;
+    }
+
+    @Override
+    public void clear() {
+        log.debug("Condition cache usage: " + resultCache.getMetrics());
+        log.debug("Eval condition cache usage: " + evalCache.getMetrics());
+        super.clear();
+        resultCache.invalidate();
+        evalCache.invalidate();
+    }
+
+    /**
+     * Gets the cache for results of cacheable conditions.
+     *
+     * @return the condition result cache
+     */
+    public ConditionResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Gets the cache for conditions compiled from evaluated instructions.
+     *
+     * @return the eval condition cache
+     */
+    public CompiledInstructionCache<ConditionAdapter> getEvalCache() {
+        return evalCache;
     }
 
     /**
@@ -80,19 +114,15 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionIdentifier,
 
         final List<ConditionIdentifier> syncList = new ArrayList<>();
         final List<ConditionIdentifier> asyncList = new ArrayList<>();
-        conditionIDs.forEach(id -> {
-            final ConditionAdapter adapter = values.get(id);
-            final boolean syncAsync = adapter != null && adapter.isPrimaryThreadEnforced();
-            (syncAsync ? syncList : asyncList).add(id);
-        });
+        conditionIDs.forEach(id -> (isPrimaryThreadEnforced(id) ? syncList : asyncList).add(id));
 
         final Future<Boolean> syncFuture = syncList.isEmpty() ? CompletableFuture.completedFuture(matchAll)
-                : scheduler.callSyncMethod(plugin, () -> allOrAnyMatch.apply(syncList.stream()));
+                : primaryThread.call(() -> allOrAnyMatch.apply(syncList.stream()));
         final boolean asyncResult = allOrAnyMatch.apply(asyncList.stream());
 
         try {
             return matchAll ? asyncResult && syncFuture.get() : asyncResult || syncFuture.get();
-        } catch (final InterruptedException | ExecutionException e) {
+        } catch (final InterruptedException | ExecutionException | CancellationException e) {
             log.reportException(e);
             return false;
         }
@@ -122,10 +152,39 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionIdentifier,
         return checkOutcome(profile, conditionID, condition);
     }
 
+    /**
+     * Checks if the condition must be checked on the primary thread.
+     *
+     * @param conditionID ID of the condition
+     * @return true if the condition is defined and enforces the primary thread
+     */
+    public boolean isPrimaryThreadEnforced(final ConditionIdentifier conditionID) {
+        final ConditionAdapter condition = values.get(conditionID);
+        return condition != null && condition.isPrimaryThreadEnforced();
+    }
+
+    /**
+     * Checks if the condition described by conditionID is met without blocking the calling thread.
+     * <p>
+     * Primary thread enforced conditions checked from another thread are queued on the {@link PrimaryThreadBridge},
+     * all other conditions are checked directly.
+     *
+     * @param profile     the {@link Profile} of the player which should be checked
+     * @param conditionID ID of the condition to check
+     * @return the future completed with the result of the condition
+     */
+    public CompletableFuture<Boolean> checkAsync(@Nullable final Profile profile, final ConditionIdentifier conditionID) {
+        final ConditionAdapter condition = values.get(conditionID);
+        if (condition != null && condition.isPrimaryThreadEnforced() && !Bukkit.isPrimaryThread()) {
+            return primaryThread.call(() -> check(profile, conditionID));
+        }
+        return CompletableFuture.completedFuture(check(profile, conditionID));
+    }
+
     private boolean checkOutcomeSync(@Nullable final Profile profile, final ConditionIdentifier conditionID, final ConditionAdapter condition) {
         try {
-            return scheduler.callSyncMethod(plugin, () -> checkOutcome(profile, conditionID, condition)).get();
-        } catch (final InterruptedException | ExecutionException e) {
+            return primaryThread.call(() -> checkOutcome(profile, conditionID, condition)).get();
+        } catch (final InterruptedException | ExecutionException | CancellationException e) {
             log.reportException(e);
             return false;
         }
@@ -134,15 +193,18 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionIdentifier,
     private boolean checkOutcome(@Nullable final Profile profile, final ConditionIdentifier conditionID, final ConditionAdapter condition) {
         final boolean outcome;
         try {
-            outcome = condition.check(profile);
+            outcome = profile == null ? condition.check(null)
+                    : resultCache.check(profile, conditionID, condition.getDependencies(), () -> condition.check(profile));
         } catch (final QuestException e) {
             log.warn(conditionID.getPackage(), "Error while checking '" + conditionID + "' condition: " + e.getMessage(), e);
             return false;
         }
         final boolean isMet = outcome != conditionID.isInverted();
-        log.debug(conditionID.getPackage(),
-                (isMet ? "TRUE" : "FALSE") + ": " + (conditionID.isInverted() ? "inverted" : "") + " condition "
-                        + conditionID + " for " + profile);
+        if (log.isDebugEnabled(conditionID.getPackage())) {
+            log.debug(conditionID.getPackage(),
+                    (isMet ? "TRUE" : "FALSE") + ": " + (conditionID.isInverted() ? "inverted" : "") + " condition "
+                            + conditionID + " for " + profile);
+        }
         return isMet;
     }
 }
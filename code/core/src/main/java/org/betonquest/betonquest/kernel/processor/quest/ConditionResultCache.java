@@ -0,0 +1,381 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.bukkit.event.PlayerObjectiveChangeEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerTagAddEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerTagRemoveEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerUpdatePointEvent;
+import org.betonquest.betonquest.api.common.function.QuestSupplier;
+import org.betonquest.betonquest.api.identifier.ConditionIdentifier;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.betonquest.betonquest.api.quest.condition.ConditionDependency;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Memoizes condition results per profile for the current server tick.
+ * <p>
+ * Only conditions declaring {@link ConditionDependency dependencies} are cached. A result is reused until the tick
+ * ends or until the declared data of the profile changes, which is detected by the BetonQuest data events and the
+ * Bukkit inventory events. Every action fired for a profile drops all its results, as actions may change the data
+ * without firing an event. Changes by other plugins without an event are visible in the next tick at the latest.
+ */
+@SuppressWarnings("PMD.CouplingBetweenObjects")
+public class ConditionResultCache implements Listener {
+
+    /**
+     * The minimal amount of ticks between two removals of outdated results.
+     */
+    private static final int SWEEP_INTERVAL = 1200;
+
+    /**
+     * The profile provider to get the profiles of players.
+     */
+    private final ProfileProvider profileProvider;
+
+    /**
+     * The supplier of the current server tick.
+     */
+    private final IntSupplier currentTick;
+
+    /**
+     * The cached results per profile and condition.
+     */
+    private final Map<UUID, Map<ConditionIdentifier, Result>> results;
+
+    /**
+     * Incremented on every invalidation, so results checked concurrently to an invalidation are not stored.
+     */
+    private final AtomicLong version;
+
+    /**
+     * The tick of the last removal of outdated results.
+     */
+    private final AtomicLong lastSweep;
+
+    /**
+     * The amount of checks of cacheable conditions.
+     */
+    private final LongAdder requests;
+
+    /**
+     * The amount of checks answered from the cache.
+     */
+    private final LongAdder hits;
+
+    /**
+     * If results are cached.
+     */
+    private volatile boolean enabled;
+
+    /**
+     * Creates a new disabled condition result cache.
+     *
+     * @param profileProvider the profile provider to get the profiles of players
+     * @param currentTick     the supplier of the current server tick
+     */
+    public ConditionResultCache(final ProfileProvider profileProvider, final IntSupplier currentTick) {
+        this.profileProvider = profileProvider;
+        this.currentTick = currentTick;
+        this.results = new ConcurrentHashMap<>();
+        this.version = new AtomicLong();
+        this.lastSweep = new AtomicLong();
+        this.requests = new LongAdder();
+        this.hits = new LongAdder();
+    }
+
+    /**
+     * Enables or disables the cache and removes all cached results.
+     *
+     * @param enabled if results should be cached
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+        invalidate();
+    }
+
+    /**
+     * Checks if results are cached.
+     *
+     * @return true if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the result of the condition for the profile from the cache or checks and caches it.
+     * <p>
+     * The result is only cached if the cache is enabled and the condition declares dependencies.
+     *
+     * @param profile      the profile the condition is checked for
+     * @param conditionID  the condition to check
+     * @param dependencies the player data the result depends on
+     * @param check        the check of the condition
+     * @return the result of the condition
+     * @throws QuestException if the condition could not be checked
+     */
+    public boolean check(final Profile profile, final ConditionIdentifier conditionID,
+                         final Set<ConditionDependency> dependencies, final QuestSupplier<Boolean> check) throws QuestException {
+        if (!enabled || dependencies.isEmpty()) {
+            return check.get();
+        }
+        requests.increment();
+        final int tick = currentTick.getAsInt();
+        final Map<ConditionIdentifier, Result> profileResults = results.computeIfAbsent(profile.getProfileUUID(),
+                uuid -> new ConcurrentHashMap<>());
+        final Result cached = profileResults.get(conditionID);
+        if (cached != null && cached.tick() == tick) {
+            hits.increment();
+            return cached.outcome();
+        }
+        final long checkedVersion = version.get();
+        final boolean outcome = check.get();
+        if (version.get() == checkedVersion) {
+            profileResults.put(conditionID, new Result(outcome, tick, dependencies));
+        }
+        sweep(tick);
+        return outcome;
+    }
+
+    private void sweep(final int tick) {
+        final long last = lastSweep.get();
+        if (tick - last >= SWEEP_INTERVAL && lastSweep.compareAndSet(last, tick)) {
+            results.values().forEach(profileResults -> profileResults.values().removeIf(result -> result.tick() != tick));
+            results.values().removeIf(Map::isEmpty);
+        }
+    }
+
+    /**
+     * Removes the cached results of the profile which depend on the given data.
+     *
+     * @param profile    the profile whose data changed
+     * @param dependency the changed data
+     */
+    public void invalidate(final Profile profile, final ConditionDependency dependency) {
+        version.incrementAndGet();
+        final Map<ConditionIdentifier, Result> profileResults = results.get(profile.getProfileUUID());
+        if (profileResults != null) {
+            profileResults.values().removeIf(result -> result.dependencies().contains(dependency));
+        }
+    }
+
+    /**
+     * Removes all cached results of the profile.
+     *
+     * @param profile the profile to remove the results of
+     */
+    public void invalidate(final Profile profile) {
+        version.incrementAndGet();
+        results.remove(profile.getProfileUUID());
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        results.clear();
+    }
+
+    /**
+     * Gets a snapshot of the cache counters.
+     *
+     * @return the current metrics
+     */
+    public ConditionCacheMetrics getMetrics() {
+        final int size = results.values().stream().mapToInt(Map::size).sum();
+        return new ConditionCacheMetrics(requests.sum(), hits.sum(), size);
+    }
+
+    private void invalidateInventory(final HumanEntity entity) {
+        if (entity instanceof final Player player) {
+            invalidate(profileProvider.getProfile(player), ConditionDependency.INVENTORY);
+        }
+    }
+
+    /**
+     * Invalidates tag dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTagAdd(final PlayerTagAddEvent event) {
+        invalidate(event.getProfile(), ConditionDependency.TAGS);
+    }
+
+    /**
+     * Invalidates tag dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTagRemove(final PlayerTagRemoveEvent event) {
+        invalidate(event.getProfile(), ConditionDependency.TAGS);
+    }
+
+    /**
+     * Invalidates point dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPointUpdate(final PlayerUpdatePointEvent event) {
+        invalidate(event.getProfile(), ConditionDependency.POINTS);
+    }
+
+    /**
+     * Invalidates objective dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onObjectiveChange(final PlayerObjectiveChangeEvent event) {
+        invalidate(event.getProfile(), ConditionDependency.OBJECTIVES);
+    }
+
+    /**
+     * Invalidates inventory dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(final InventoryClickEvent event) {
+        invalidateInventory(event.getWhoClicked());
+    }
+
+    /**
+     * Invalidates inventory dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(final InventoryDragEvent event) {
+        invalidateInventory(event.getWhoClicked());
+    }
+
+    /**
+     * Invalidates inventory dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(final InventoryCloseEvent event) {
+        invalidateInventory(event.getPlayer());
+    }
+
+    /**
+     * Invalidates inventory dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(final EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof final Player player) {
+            invalidateInventory(player);
+        }
+    }
+
+    /**
+     * Invalidates inventory dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(final PlayerDropItemEvent event) {
+        invalidateInventory(event.getPlayer());
+    }
+
+    /**
+     * Invalidates inventory dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onConsume(final PlayerItemConsumeEvent event) {
+        invalidateInventory(event.getPlayer());
+    }
+
+    /**
+     * Invalidates inventory dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(final PlayerItemBreakEvent event) {
+        invalidateInventory(event.getPlayer());
+    }
+
+    /**
+     * Invalidates inventory dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(final BlockPlaceEvent event) {
+        invalidateInventory(event.getPlayer());
+    }
+
+    /**
+     * Invalidates inventory dependent results.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(final PlayerDeathEvent event) {
+        invalidateInventory(event.getEntity());
+    }
+
+    /**
+     * Removes all results of the joining player, as offline results may differ.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(final PlayerJoinEvent event) {
+        invalidate(profileProvider.getProfile(event.getPlayer()));
+    }
+
+    /**
+     * Removes all results of the leaving player.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+        invalidate(profileProvider.getProfile(event.getPlayer()));
+    }
+
+    /**
+     * A cached result.
+     *
+     * @param outcome      the not inverted result of the condition
+     * @param tick         the tick the condition was checked in
+     * @param dependencies the player data the result depends on
+     */
+    private record Result(boolean outcome, int tick, Set<ConditionDependency> dependencies) {
+    }
+}
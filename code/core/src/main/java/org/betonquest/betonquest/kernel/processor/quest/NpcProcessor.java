@@ -2,6 +2,10 @@ package org.betonquest.betonquest.kernel.processor.quest;
 
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.bukkit.event.PlayerObjectiveChangeEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerTagAddEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerTagRemoveEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerUpdatePointEvent;
 import org.betonquest.betonquest.api.bukkit.event.npc.NpcInteractEvent;
 import org.betonquest.betonquest.api.bukkit.event.npc.NpcVisibilityUpdateEvent;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
@@ -35,7 +39,10 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -300,8 +307,83 @@ public class NpcProcessor extends TypedQuestProcessor<NpcIdentifier, NpcWrapper<
          */
         @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
         public void onPlayerJoin(final PlayerJoinEvent event) {
-            Bukkit.getScheduler().runTask(plugin, () ->
-                    npcHider.applyVisibility(plugin.getProfileProvider().getProfile(event.getPlayer())));
+            final OnlineProfile onlineProfile = plugin.getProfileProvider().getProfile(event.getPlayer());
+            npcHider.forget(onlineProfile);
+            Bukkit.getScheduler().runTask(plugin, () -> npcHider.applyVisibility(onlineProfile));
+        }
+
+        /**
+         * Discards the visibility state on Player quit.
+         *
+         * @param event the event to listen
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPlayerQuit(final PlayerQuitEvent event) {
+            npcHider.forget(plugin.getProfileProvider().getProfile(event.getPlayer()));
+        }
+
+        /**
+         * Applies the visibility again on Player world change, as the Npcs are sent again.
+         *
+         * @param event the event to listen
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onWorldChange(final PlayerChangedWorldEvent event) {
+            final OnlineProfile onlineProfile = plugin.getProfileProvider().getProfile(event.getPlayer());
+            npcHider.forget(onlineProfile);
+            npcHider.requestUpdate(onlineProfile);
+        }
+
+        /**
+         * Applies the visibility again on Player teleport, as the Npcs may be sent again.
+         *
+         * @param event the event to listen
+         */
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onTeleport(final PlayerTeleportEvent event) {
+            final OnlineProfile onlineProfile = plugin.getProfileProvider().getProfile(event.getPlayer());
+            npcHider.forget(onlineProfile);
+            npcHider.requestUpdate(onlineProfile);
+        }
+
+        /**
+         * Applies the visibility on tag additions.
+         *
+         * @param event the event to listen
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onTagAdd(final PlayerTagAddEvent event) {
+            npcHider.requestUpdate(event.getProfile());
+        }
+
+        /**
+         * Applies the visibility on tag removals.
+         *
+         * @param event the event to listen
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onTagRemove(final PlayerTagRemoveEvent event) {
+            npcHider.requestUpdate(event.getProfile());
+        }
+
+        /**
+         * Applies the visibility on point changes.
+         *
+         * @param event the event to listen
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPointUpdate(final PlayerUpdatePointEvent event) {
+            npcHider.requestUpdate(event.getProfile());
+        }
+
+        /**
+         * Applies the visibility on objective changes.
+         *
+         * @param event the event to listen
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onObjectiveChange(final PlayerObjectiveChangeEvent event) {
+            npcHider.requestUpdate(event.getProfile());
         }
 
         /**
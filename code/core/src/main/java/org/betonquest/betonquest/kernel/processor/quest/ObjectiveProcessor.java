@@ -154,6 +154,7 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveIdentifier, Obje
     private void closeObjective(final Objective objective) {
         objective.close();
         final ObjectiveService service = objective.getService();
+        service.flushData();
         for (final Map.Entry<Profile, String> entry : service.getData().entrySet()) {
             final Profile profile = entry.getKey();
             BetonQuest.getInstance().getPlayerDataStorage().get(profile).addRawObjective(service.getObjectiveID(),
@@ -161,6 +162,15 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveIdentifier, Obje
         }
     }
 
+    /**
+     * Writes the changed typed data of all objectives into the database.
+     */
+    public void flushData() {
+        for (final Objective objective : values.values()) {
+            objective.getService().flushData();
+        }
+    }
+
     @Override
     public void clear() {
         objectiveService.clear();
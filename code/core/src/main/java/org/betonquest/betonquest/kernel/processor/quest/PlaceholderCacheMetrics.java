@@ -0,0 +1,37 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+/**
+ * Snapshot of the counters of the placeholder caches of a {@link PlaceholderProcessor}.
+ *
+ * @param requests        the amount of placeholders requested by their raw string since the start
+ * @param placeholderHits the amount of requests which found the parsed placeholder in the cache
+ * @param valueHits       the amount of requests which found a valid value in the cache
+ * @param placeholders    the amount of currently cached parsed placeholders
+ * @param values          the amount of currently cached values, including expired ones
+ */
+public record PlaceholderCacheMetrics(
+        long requests,
+        long placeholderHits,
+        long valueHits,
+        int placeholders,
+        int values
+) {
+
+    /**
+     * Gets the share of requests which did not need to parse the placeholder.
+     *
+     * @return the hit rate between 0 and 1 or 0 if nothing was requested yet
+     */
+    public double placeholderHitRate() {
+        return requests == 0 ? 0 : (double) placeholderHits / requests;
+    }
+
+    /**
+     * Gets the share of requests which did not need to resolve the placeholder.
+     *
+     * @return the hit rate between 0 and 1 or 0 if nothing was requested yet
+     */
+    public double valueHitRate() {
+        return requests == 0 ? 0 : (double) valueHits / requests;
+    }
+}
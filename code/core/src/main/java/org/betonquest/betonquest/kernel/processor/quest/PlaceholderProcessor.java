@@ -5,6 +5,7 @@ import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.config.quest.QuestPackageManager;
 import org.betonquest.betonquest.api.identifier.IdentifierFactory;
 import org.betonquest.betonquest.api.identifier.PlaceholderIdentifier;
+import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.instruction.Instruction;
 import org.betonquest.betonquest.api.instruction.InstructionApi;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
@@ -15,14 +16,21 @@ import org.betonquest.betonquest.kernel.processor.TypedQuestProcessor;
 import org.betonquest.betonquest.kernel.processor.adapter.PlaceholderAdapter;
 import org.betonquest.betonquest.kernel.registry.quest.PlaceholderTypeRegistry;
 import org.bukkit.Bukkit;
-import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitScheduler;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Stores Placeholders and resolve them.
+ * <p>
+ * Placeholders requested by their raw string, like from PlaceholderAPI, are parsed only once and the parsed
+ * placeholder is cached by the raw string. Their values can additionally be cached for a short time
+ * with the {@link PlaceholderValueCache}.
  */
 public class PlaceholderProcessor extends TypedQuestProcessor<PlaceholderIdentifier, PlaceholderAdapter> implements Placeholders {
 
@@ -52,14 +60,44 @@ public class PlaceholderProcessor extends TypedQuestProcessor<PlaceholderIdentif
     private final QuestPackageManager packManager;
 
     /**
-     * The Bukkit scheduler to run sync tasks.
+     * The bridge to run primary thread enforced calls from other threads.
      */
-    private final BukkitScheduler scheduler;
+    private final PrimaryThreadBridge primaryThread;
 
     /**
-     * The plugin instance.
+     * The maximal amount of placeholders kept by their raw string.
      */
-    private final Plugin plugin;
+    private static final int MAX_RAW_PLACEHOLDERS = 1024;
+
+    /**
+     * The parsed placeholders by their raw string, in access order.
+     */
+    private final Map<String, PlaceholderAdapter> rawPlaceholders;
+
+    /**
+     * The cache for resolved values of placeholders requested by their raw string.
+     */
+    private final PlaceholderValueCache valueCache;
+
+    /**
+     * The cache for placeholders compiled from evaluated instructions.
+     */
+    private final CompiledInstructionCache<Argument<String>> evalCache;
+
+    /**
+     * The amount of placeholders requested by their raw string.
+     */
+    private final LongAdder requests;
+
+    /**
+     * The amount of requests which found the parsed placeholder in the cache.
+     */
+    private final LongAdder placeholderHits;
+
+    /**
+     * The amount of requests which found a valid value in the cache.
+     */
+    private final LongAdder valueHits;
 
     /**
      * Create a new {@link Placeholders} to store placeholders, resolves them and create new.
@@ -67,20 +105,72 @@ public class PlaceholderProcessor extends TypedQuestProcessor<PlaceholderIdentif
      * @param log                          the custom logger for this class
      * @param packManager                  the quest package manager to get quest packages from
      * @param placeholderTypes             the available placeholder types
-     * @param scheduler                    the bukkit scheduler to run sync tasks
+     * @param primaryThread                the bridge to run primary thread enforced calls
      * @param placeholderIdentifierFactory the factory to create placeholder identifiers
      * @param instructionApi               the instruction api
-     * @param plugin                       the plugin instance
+     * @param valueCache                   the cache for resolved values of placeholders
+     * @param evalCache                    the cache for placeholders compiled from evaluated instructions
      */
     public PlaceholderProcessor(final BetonQuestLogger log, final QuestPackageManager packManager,
-                                final PlaceholderTypeRegistry placeholderTypes, final BukkitScheduler scheduler,
+                                final PlaceholderTypeRegistry placeholderTypes, final PrimaryThreadBridge primaryThread,
                                 final IdentifierFactory<PlaceholderIdentifier> placeholderIdentifierFactory,
-                                final InstructionApi instructionApi, final Plugin plugin) {
+                                final InstructionApi instructionApi, final PlaceholderValueCache valueCache,
+                                final CompiledInstructionCache<Argument<String>> evalCache) {
         super(log, placeholderTypes, placeholderIdentifierFactory,
                 instructionApi, "Placeholders", "placeholders");
         this.packManager = packManager;
-        this.scheduler = scheduler;
-        this.plugin = plugin;
+        this.primaryThread = primaryThread;
+        this.valueCache = valueCache;
+        this.evalCache = evalCache;
+        this.rawPlaceholders = Collections.synchronizedMap(new LinkedHashMap<String, PlaceholderAdapter>(16, 0.75f, true) {
+            private static final long serialVersionUID = 4187239576164617362L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, PlaceholderAdapter> eldest) {
+                return size() > MAX_RAW_PLACEHOLDERS;
+            }
+        });
+        this.requests = new LongAdder();
+        this.placeholderHits = new LongAdder();
+        this.valueHits = new LongAdder();
+    }
+
+    @Override
+    public void clear() {
+        log.debug("Placeholder cache usage: " + getCacheMetrics());
+        log.debug("Eval placeholder cache usage: " + evalCache.getMetrics());
+        super.clear();
+        rawPlaceholders.clear();
+        valueCache.invalidate();
+        evalCache.invalidate();
+    }
+
+    /**
+     * Gets the cache for resolved values of placeholders requested by their raw string.
+     *
+     * @return the value cache
+     */
+    public PlaceholderValueCache getValueCache() {
+        return valueCache;
+    }
+
+    /**
+     * Gets the cache for placeholders compiled from evaluated instructions.
+     *
+     * @return the eval placeholder cache
+     */
+    public CompiledInstructionCache<Argument<String>> getEvalCache() {
+        return evalCache;
+    }
+
+    /**
+     * Gets a snapshot of the cache counters.
+     *
+     * @return the current cache metrics
+     */
+    public PlaceholderCacheMetrics getCacheMetrics() {
+        return new PlaceholderCacheMetrics(requests.sum(), placeholderHits.sum(), valueHits.sum(),
+                rawPlaceholders.size(), valueCache.size());
     }
 
     @Override
@@ -111,20 +201,23 @@ public class PlaceholderProcessor extends TypedQuestProcessor<PlaceholderIdentif
 
     @Override
     public String getValue(final QuestPackage pack, final String name, @Nullable final Profile profile) throws QuestException {
-        final PlaceholderAdapter placeholder;
-        try {
-            placeholder = create(pack, name);
-        } catch (final QuestException e) {
-            throw new QuestException("Could not create placeholder '" + name + "': " + e.getMessage(), e);
-        }
-        if (placeholder.isPrimaryThreadEnforced() && !Bukkit.isPrimaryThread()) {
-            return valueSync(profile, name, placeholder);
-        }
-        return value(profile, name, placeholder);
+        return resolve(profile, name, createChecked(pack, name));
     }
 
     @Override
     public String getValue(final String placeholder, @Nullable final Profile profile) throws QuestException {
+        requests.increment();
+        final PlaceholderAdapter adapter = rawPlaceholders.get(placeholder);
+        if (adapter == null) {
+            final PlaceholderAdapter created = createRaw(placeholder);
+            rawPlaceholders.put(placeholder, created);
+            return resolveCached(profile, placeholder, created);
+        }
+        placeholderHits.increment();
+        return resolveCached(profile, placeholder, adapter);
+    }
+
+    private PlaceholderAdapter createRaw(final String placeholder) throws QuestException {
         final int index = placeholder.indexOf(':');
         if (index == -1) {
             throw new QuestException("Placeholder without explicit package '" + placeholder + "'! Expected format '<package>:<placeholder>'");
@@ -134,14 +227,42 @@ public class PlaceholderProcessor extends TypedQuestProcessor<PlaceholderIdentif
         if (pack == null) {
             throw new QuestException("The placeholder '" + placeholder + "' reference the non-existent package '" + packString + "' !");
         }
-        final String value = placeholder.substring(index + 1);
-        return getValue(pack, '%' + value + '%', profile);
+        return createChecked(pack, '%' + placeholder.substring(index + 1) + '%');
+    }
+
+    private PlaceholderAdapter createChecked(final QuestPackage pack, final String name) throws QuestException {
+        try {
+            return create(pack, name);
+        } catch (final QuestException e) {
+            throw new QuestException("Could not create placeholder '" + name + "': " + e.getMessage(), e);
+        }
+    }
+
+    private String resolveCached(@Nullable final Profile profile, final String placeholder, final PlaceholderAdapter adapter) throws QuestException {
+        if (!valueCache.isEnabled()) {
+            return resolve(profile, placeholder, adapter);
+        }
+        final String cached = valueCache.get(profile, placeholder);
+        if (cached != null) {
+            valueHits.increment();
+            return cached;
+        }
+        final String value = resolve(profile, placeholder, adapter);
+        valueCache.put(profile, placeholder, value);
+        return value;
+    }
+
+    private String resolve(@Nullable final Profile profile, final String name, final PlaceholderAdapter placeholder) throws QuestException {
+        if (placeholder.isPrimaryThreadEnforced() && !Bukkit.isPrimaryThread()) {
+            return valueSync(profile, name, placeholder);
+        }
+        return value(profile, name, placeholder);
     }
 
     private String valueSync(@Nullable final Profile profile, final String placeholderString, final PlaceholderAdapter placeholder) throws QuestException {
         try {
-            return scheduler.callSyncMethod(plugin, () -> value(profile, placeholderString, placeholder)).get();
-        } catch (final InterruptedException | ExecutionException e) {
+            return primaryThread.call(() -> value(profile, placeholderString, placeholder)).get();
+        } catch (final InterruptedException | ExecutionException | CancellationException e) {
             log.reportException(e);
             throw new QuestException(e);
         }
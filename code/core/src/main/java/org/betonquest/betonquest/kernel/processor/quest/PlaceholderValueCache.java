@@ -0,0 +1,237 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+import org.betonquest.betonquest.api.bukkit.event.PlayerObjectiveChangeEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerTagAddEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerTagRemoveEvent;
+import org.betonquest.betonquest.api.bukkit.event.PlayerUpdatePointEvent;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.InstantSource;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches resolved placeholder values per profile for a short time.
+ * <p>
+ * The cache is disabled while the time to live is zero or less. Expired values are replaced when they are requested
+ * again and removed from time to time. The values of a profile are removed when its tags, points or objectives change
+ * and when its player joins or leaves, so a changed value is not served until it expires.
+ */
+public class PlaceholderValueCache implements Listener {
+
+    /**
+     * The minimal time in milliseconds between two removals of expired values.
+     */
+    private static final long SWEEP_INTERVAL = 1000;
+
+    /**
+     * The clock to get the current time from.
+     */
+    private final InstantSource clock;
+
+    /**
+     * The profile provider to get the profile of joining and leaving players.
+     */
+    private final ProfileProvider profileProvider;
+
+    /**
+     * The cached values per profile and placeholder.
+     */
+    private final Map<Key, Value> values;
+
+    /**
+     * The time of the last removal of expired values.
+     */
+    private final AtomicLong lastSweep;
+
+    /**
+     * The time in milliseconds a value is cached.
+     */
+    private volatile long timeToLive;
+
+    /**
+     * Creates a new disabled value cache.
+     *
+     * @param clock           the clock to get the current time from
+     * @param profileProvider the profile provider to get the profile of joining and leaving players
+     */
+    public PlaceholderValueCache(final InstantSource clock, final ProfileProvider profileProvider) {
+        this.clock = clock;
+        this.profileProvider = profileProvider;
+        this.values = new ConcurrentHashMap<>();
+        this.lastSweep = new AtomicLong();
+    }
+
+    /**
+     * Sets the time values are cached and removes all cached values.
+     *
+     * @param timeToLive the time in milliseconds, zero or less to disable the cache
+     */
+    public void setTimeToLive(final long timeToLive) {
+        this.timeToLive = timeToLive;
+        values.clear();
+    }
+
+    /**
+     * Checks if values are cached.
+     *
+     * @return true if the time to live is greater than zero
+     */
+    public boolean isEnabled() {
+        return timeToLive > 0;
+    }
+
+    /**
+     * Gets the cached value of the placeholder for the profile.
+     *
+     * @param profile     the profile the value was resolved for or null if no profile was involved
+     * @param placeholder the placeholder
+     * @return the cached value or null if there is no valid value
+     */
+    @Nullable
+    public String get(@Nullable final Profile profile, final String placeholder) {
+        final Value value = values.get(new Key(uuid(profile), placeholder));
+        if (value == null || value.expires() <= clock.millis()) {
+            return null;
+        }
+        return value.value();
+    }
+
+    /**
+     * Caches the value of the placeholder for the profile, if the cache is enabled.
+     *
+     * @param profile     the profile the value was resolved for or null if no profile was involved
+     * @param placeholder the placeholder
+     * @param value       the resolved value
+     */
+    public void put(@Nullable final Profile profile, final String placeholder, final String value) {
+        final long ttl = timeToLive;
+        if (ttl <= 0) {
+            return;
+        }
+        final long now = clock.millis();
+        values.put(new Key(uuid(profile), placeholder), new Value(value, now + ttl));
+        final long last = lastSweep.get();
+        if (now - last >= SWEEP_INTERVAL && lastSweep.compareAndSet(last, now)) {
+            values.values().removeIf(cached -> cached.expires() <= now);
+        }
+    }
+
+    /**
+     * Removes all cached values of the profile.
+     *
+     * @param profile the profile to remove the values of
+     */
+    public void invalidate(final Profile profile) {
+        final UUID uuid = profile.getProfileUUID();
+        values.keySet().removeIf(key -> uuid.equals(key.profile()));
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void invalidate() {
+        values.clear();
+    }
+
+    /**
+     * Gets the amount of cached values, including expired ones.
+     *
+     * @return the amount of values
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Removes the values of the profile whose tags changed.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTagAdd(final PlayerTagAddEvent event) {
+        invalidate(event.getProfile());
+    }
+
+    /**
+     * Removes the values of the profile whose tags changed.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTagRemove(final PlayerTagRemoveEvent event) {
+        invalidate(event.getProfile());
+    }
+
+    /**
+     * Removes the values of the profile whose points changed.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPointUpdate(final PlayerUpdatePointEvent event) {
+        invalidate(event.getProfile());
+    }
+
+    /**
+     * Removes the values of the profile whose objectives changed.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onObjectiveChange(final PlayerObjectiveChangeEvent event) {
+        invalidate(event.getProfile());
+    }
+
+    /**
+     * Removes the values of the joining player, as the active profile may have changed while offline.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(final PlayerJoinEvent event) {
+        invalidate(profileProvider.getProfile(event.getPlayer()));
+    }
+
+    /**
+     * Removes the values of the leaving player.
+     *
+     * @param event the event to listen to
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+        invalidate(profileProvider.getProfile(event.getPlayer()));
+    }
+
+    @Nullable
+    private UUID uuid(@Nullable final Profile profile) {
+        return profile == null ? null : profile.getProfileUUID();
+    }
+
+    /**
+     * The key of a cached value.
+     *
+     * @param profile     the UUID of the profile or null if no profile was involved
+     * @param placeholder the placeholder
+     */
+    private record Key(@Nullable UUID profile, String placeholder) {
+    }
+
+    /**
+     * A cached value.
+     *
+     * @param value   the resolved value
+     * @param expires the time in milliseconds the value expires
+     */
+    private record Value(String value, long expires) {
+    }
+}
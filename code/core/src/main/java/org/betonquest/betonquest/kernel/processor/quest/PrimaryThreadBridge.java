@@ -0,0 +1,233 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs calls from other threads on the primary thread.
+ * <p>
+ * Instead of scheduling one task per call, all pending calls are collected and run by a single task once per tick.
+ * The task stops after the time budget of the tick is used up and leaves the remaining calls for the next tick,
+ * but always runs at least one call, so the queue cannot stall.
+ * <p>
+ * The returned futures are completed on the primary thread, so they must not be awaited on it.
+ * Calls made while the bridge is not running fail with an {@link IllegalStateException} instead of waiting forever.
+ */
+public class PrimaryThreadBridge {
+
+    /**
+     * The default time in nanoseconds calls may run per tick.
+     */
+    public static final long DEFAULT_TICK_BUDGET = TimeUnit.MILLISECONDS.toNanos(5);
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The time in nanoseconds calls may run per tick.
+     */
+    private final long tickBudget;
+
+    /**
+     * The clock to measure times in nanoseconds.
+     */
+    private final LongSupplier nanoClock;
+
+    /**
+     * The calls waiting for the primary thread.
+     */
+    private final Queue<Request<?>> queue;
+
+    /**
+     * The amount of calls waiting for the primary thread.
+     */
+    private final AtomicInteger queued;
+
+    /**
+     * The amount of calls run on the primary thread.
+     */
+    private final LongAdder completed;
+
+    /**
+     * The combined time in nanoseconds the completed calls waited.
+     */
+    private final LongAdder totalWait;
+
+    /**
+     * The longest time in nanoseconds a completed call waited.
+     */
+    private final AtomicLong maxWait;
+
+    /**
+     * The amount of ticks which left calls for the next tick.
+     */
+    private final LongAdder overflowTicks;
+
+    /**
+     * The task draining the queue, null while not started.
+     */
+    @Nullable
+    private BukkitTask task;
+
+    /**
+     * If the bridge accepts calls.
+     */
+    private volatile boolean running;
+
+    /**
+     * Creates a new bridge, which needs to be {@link #start(Plugin, BukkitScheduler) started} to run calls.
+     *
+     * @param log        the custom logger for this class
+     * @param tickBudget the time in nanoseconds calls may run per tick
+     * @param nanoClock  the clock to measure times in nanoseconds
+     */
+    public PrimaryThreadBridge(final BetonQuestLogger log, final long tickBudget, final LongSupplier nanoClock) {
+        this.log = log;
+        this.tickBudget = tickBudget;
+        this.nanoClock = nanoClock;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.queued = new AtomicInteger();
+        this.completed = new LongAdder();
+        this.totalWait = new LongAdder();
+        this.maxWait = new AtomicLong();
+        this.overflowTicks = new LongAdder();
+    }
+
+    /**
+     * Starts draining the queue every tick.
+     *
+     * @param plugin    the plugin to run the task for
+     * @param scheduler the scheduler to run the task with
+     */
+    public void start(final Plugin plugin, final BukkitScheduler scheduler) {
+        if (task == null) {
+            task = scheduler.runTaskTimer(plugin, this::drain, 1, 1);
+            running = true;
+        }
+    }
+
+    /**
+     * Stops draining the queue and fails all waiting calls.
+     */
+    public void stop() {
+        running = false;
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        Request<?> request = queue.poll();
+        while (request != null) {
+            queued.decrementAndGet();
+            request.reject();
+            request = queue.poll();
+        }
+    }
+
+    /**
+     * Queues the call to be run on the primary thread.
+     * <p>
+     * The call is queued even if this method is called on the primary thread, it is up to the caller to run calls
+     * on the primary thread directly.
+     *
+     * @param call the call to run
+     * @param <T>  the type of the result
+     * @return the future completed with the result of the call on the primary thread,
+     * or failed if the bridge is not running
+     */
+    public <T> CompletableFuture<T> call(final Callable<T> call) {
+        final Request<T> request = new Request<>(call, new CompletableFuture<>(), nanoClock.getAsLong());
+        if (!running) {
+            request.reject();
+            return request.future();
+        }
+        queued.incrementAndGet();
+        queue.add(request);
+        if (!running && queue.remove(request)) {
+            queued.decrementAndGet();
+            request.reject();
+        }
+        return request.future();
+    }
+
+    /**
+     * Runs waiting calls until the queue is empty or the time budget of the tick is used up.
+     */
+    public void drain() {
+        final long start = nanoClock.getAsLong();
+        Request<?> request = queue.poll();
+        while (request != null) {
+            queued.decrementAndGet();
+            final long now = nanoClock.getAsLong();
+            record(now - request.queued());
+            request.run();
+            if (nanoClock.getAsLong() - start >= tickBudget) {
+                if (!queue.isEmpty()) {
+                    overflowTicks.increment();
+                }
+                return;
+            }
+            request = queue.poll();
+        }
+    }
+
+    private void record(final long wait) {
+        completed.increment();
+        totalWait.add(wait);
+        maxWait.accumulateAndGet(wait, Math::max);
+    }
+
+    /**
+     * Gets a snapshot of the bridge counters.
+     *
+     * @return the current metrics
+     */
+    public PrimaryThreadMetrics getMetrics() {
+        return new PrimaryThreadMetrics(queued.get(), completed.sum(), totalWait.sum(), maxWait.get(), overflowTicks.sum());
+    }
+
+    /**
+     * Writes the current metrics to the debug log.
+     */
+    public void logMetrics() {
+        log.debug("Primary thread bridge usage: " + getMetrics());
+    }
+
+    /**
+     * A call waiting for the primary thread.
+     *
+     * @param call   the call to run
+     * @param future the future to complete with the result
+     * @param queued the time in nanoseconds the call was queued
+     * @param <T>    the type of the result
+     */
+    private record Request<T>(Callable<T> call, CompletableFuture<T> future, long queued) {
+
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private void run() {
+            try {
+                future.complete(call.call());
+            } catch (final Exception e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        private void reject() {
+            future.completeExceptionally(new IllegalStateException("The primary thread bridge is not running!"));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+/**
+ * Snapshot of the counters of a {@link PrimaryThreadBridge}.
+ *
+ * @param queued        the amount of requests currently waiting for the primary thread
+ * @param completed     the amount of requests run on the primary thread since the start
+ * @param totalWait     the combined time in nanoseconds the completed requests waited for the primary thread
+ * @param maxWait       the longest time in nanoseconds a completed request waited for the primary thread
+ * @param overflowTicks the amount of ticks which exceeded the time budget and left requests for the next tick
+ */
+public record PrimaryThreadMetrics(
+        int queued,
+        long completed,
+        long totalWait,
+        long maxWait,
+        long overflowTicks
+) {
+
+    /**
+     * Gets the average time a completed request waited for the primary thread.
+     *
+     * @return the average wait in nanoseconds or 0 if nothing was completed yet
+     */
+    public double averageWait() {
+        return completed == 0 ? 0 : (double) totalWait / completed;
+    }
+}
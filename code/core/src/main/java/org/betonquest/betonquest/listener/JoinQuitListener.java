@@ -9,7 +9,6 @@ import org.betonquest.betonquest.api.quest.objective.Objective;
 import org.betonquest.betonquest.conversation.ConversationResumer;
 import org.betonquest.betonquest.data.PlayerDataStorage;
 import org.betonquest.betonquest.database.PlayerData;
-import org.betonquest.betonquest.feature.journal.Journal;
 import org.betonquest.betonquest.kernel.processor.quest.ObjectiveProcessor;
 import org.betonquest.betonquest.quest.objective.resourcepack.ResourcepackObjective;
 import org.betonquest.betonquest.web.updater.Updater;
@@ -81,17 +80,37 @@ public class JoinQuitListener implements Listener {
     }
 
     /**
-     * Loads the player data async before it joins.
+     * Starts loading the player data async before it joins,
+     * so the database is queried while other plugins handle the login.
      *
      * @param event the async event to listen
      */
-    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
     public void playerPreLogin(final AsyncPlayerPreLoginEvent event) {
         if (event.getLoginResult() != Result.ALLOWED) {
             return;
         }
-        final Profile profile = profileProvider.getProfile(Bukkit.getOfflinePlayer(event.getUniqueId()));
-        playerDataStorage.init(profile);
+        playerDataStorage.load(getProfile(event));
+    }
+
+    /**
+     * Waits for the player data to be loaded, so it is available before the player joins.
+     * If another plugin denied the login, the loaded data is discarded.
+     *
+     * @param event the async event to listen
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void awaitPlayerData(final AsyncPlayerPreLoginEvent event) {
+        final Profile profile = getProfile(event);
+        if (event.getLoginResult() != Result.ALLOWED) {
+            playerDataStorage.discard(profile);
+            return;
+        }
+        playerDataStorage.load(profile).join();
+    }
+
+    private Profile getProfile(final AsyncPlayerPreLoginEvent event) {
+        return profileProvider.getProfile(Bukkit.getOfflinePlayer(event.getUniqueId()));
     }
 
     /**
@@ -108,9 +127,7 @@ public class JoinQuitListener implements Listener {
         questTypeApi.startAll(onlineProfile, playerDataStorage);
         checkResourcepack(player, onlineProfile);
 
-        if (Journal.hasJournal(onlineProfile)) {
-            playerData.getJournal().update();
-        }
+        playerData.getJournal().update();
         if (player.hasPermission("betonquest.admin")) {
             updater.sendUpdateNotification(player);
         }
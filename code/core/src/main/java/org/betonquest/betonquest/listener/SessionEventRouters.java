@@ -0,0 +1,273 @@
+package org.betonquest.betonquest.listener;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.bukkit.event.BukkitEventService;
+import org.betonquest.betonquest.lib.bukkit.event.SessionEventRouter;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The {@link SessionEventRouter}s for the events handled by player sessions like opened menus, backpacks,
+ * conversations and running folder actions.
+ * <p>
+ * Each router is subscribed once, so starting or ending a session does not touch Bukkit's handler lists and an
+ * event is only passed to the sessions of the player involved in it.
+ */
+@SuppressWarnings("PMD.TooManyFields")
+public class SessionEventRouters {
+
+    /**
+     * All routers, to unregister a session from each of them.
+     */
+    private final List<SessionEventRouter<?>> routers;
+
+    /**
+     * The router for inventory clicks, also called for cancelled clicks.
+     */
+    private final SessionEventRouter<InventoryClickEvent> inventoryClick;
+
+    /**
+     * The router for closed inventories.
+     */
+    private final SessionEventRouter<InventoryCloseEvent> inventoryClose;
+
+    /**
+     * The router for consumed items.
+     */
+    private final SessionEventRouter<PlayerItemConsumeEvent> itemConsume;
+
+    /**
+     * The router for player movement, ignoring cancelled movement.
+     */
+    private final SessionEventRouter<PlayerMoveEvent> move;
+
+    /**
+     * The router for chat messages of the sender with the lowest priority, ignoring cancelled messages.
+     */
+    private final SessionEventRouter<AsyncPlayerChatEvent> chatReply;
+
+    /**
+     * The router for chat messages of each recipient with the highest priority, ignoring cancelled messages.
+     */
+    private final SessionEventRouter<AsyncPlayerChatEvent> chatIntercept;
+
+    /**
+     * The router for commands, ignoring cancelled commands.
+     */
+    private final SessionEventRouter<PlayerCommandPreprocessEvent> command;
+
+    /**
+     * The router for players leaving the server.
+     */
+    private final SessionEventRouter<PlayerQuitEvent> quit;
+
+    /**
+     * The router for player interactions with the lowest priority.
+     */
+    private final SessionEventRouter<PlayerInteractEvent> interact;
+
+    /**
+     * The router for player interactions with entities with the lowest priority.
+     */
+    private final SessionEventRouter<PlayerInteractEntityEvent> interactEntity;
+
+    /**
+     * The router for damage dealt by the player with the lowest priority.
+     */
+    private final SessionEventRouter<EntityDamageByEntityEvent> damageDealt;
+
+    /**
+     * The router for changes of the held item with the lowest priority.
+     */
+    private final SessionEventRouter<PlayerItemHeldEvent> itemHeld;
+
+    /**
+     * Creates the routers and subscribes them to the event service.
+     *
+     * @param eventService the event service to subscribe the routers to
+     * @throws QuestException if a router could not be subscribed
+     */
+    public SessionEventRouters(final BukkitEventService eventService) throws QuestException {
+        this.routers = new ArrayList<>();
+        this.inventoryClick = subscribe(eventService, InventoryClickEvent.class, EventPriority.NORMAL, false,
+                event -> event.getWhoClicked().getUniqueId());
+        this.inventoryClose = subscribe(eventService, InventoryCloseEvent.class, EventPriority.NORMAL, false,
+                event -> event.getPlayer().getUniqueId());
+        this.itemConsume = subscribe(eventService, PlayerItemConsumeEvent.class, EventPriority.NORMAL, false, SessionEventRouters::player);
+        this.move = subscribe(eventService, PlayerMoveEvent.class, EventPriority.NORMAL, true, SessionEventRouters::player);
+        this.chatReply = subscribe(eventService, AsyncPlayerChatEvent.class, EventPriority.LOWEST, true, SessionEventRouters::player);
+        this.chatIntercept = route(new SessionEventRouter<>(SessionEventRouters::player));
+        eventService.subscribe(AsyncPlayerChatEvent.class, EventPriority.HIGHEST, true, (event, priority) -> {
+            if (chatIntercept.size() == 0) {
+                return;
+            }
+            for (final Player recipient : List.copyOf(event.getRecipients())) {
+                chatIntercept.dispatch(recipient.getUniqueId(), event);
+            }
+        });
+        this.command = subscribe(eventService, PlayerCommandPreprocessEvent.class, EventPriority.NORMAL, true, SessionEventRouters::player);
+        this.quit = subscribe(eventService, PlayerQuitEvent.class, EventPriority.NORMAL, false, SessionEventRouters::player);
+        this.interact = subscribe(eventService, PlayerInteractEvent.class, EventPriority.LOWEST, false, SessionEventRouters::player);
+        this.interactEntity = subscribe(eventService, PlayerInteractEntityEvent.class, EventPriority.LOWEST, false, SessionEventRouters::player);
+        this.damageDealt = subscribe(eventService, EntityDamageByEntityEvent.class, EventPriority.LOWEST, false,
+                event -> event.getDamager().getUniqueId());
+        this.itemHeld = subscribe(eventService, PlayerItemHeldEvent.class, EventPriority.LOWEST, false, SessionEventRouters::player);
+    }
+
+    private static UUID player(final PlayerEvent event) {
+        return event.getPlayer().getUniqueId();
+    }
+
+    private <T extends Event> SessionEventRouter<T> subscribe(final BukkitEventService eventService, final Class<T> event,
+                                                              final EventPriority priority, final boolean ignoreCancelled,
+                                                              final Function<T, UUID> playerExtractor) throws QuestException {
+        final SessionEventRouter<T> router = route(new SessionEventRouter<>(playerExtractor));
+        eventService.subscribe(event, priority, ignoreCancelled, router);
+        return router;
+    }
+
+    private <T extends Event> SessionEventRouter<T> route(final SessionEventRouter<T> router) {
+        routers.add(router);
+        return router;
+    }
+
+    /**
+     * Unregisters the session from all routers.
+     *
+     * @param player  the UUID of the player the session belongs to
+     * @param session the session to unregister
+     */
+    public void unregisterAll(final UUID player, final Object session) {
+        for (final SessionEventRouter<?> router : routers) {
+            router.unregister(player, session);
+        }
+    }
+
+    /**
+     * Gets the router for inventory clicks. It is also called for cancelled clicks.
+     *
+     * @return the inventory click router
+     */
+    public SessionEventRouter<InventoryClickEvent> inventoryClick() {
+        return inventoryClick;
+    }
+
+    /**
+     * Gets the router for closed inventories.
+     *
+     * @return the inventory close router
+     */
+    public SessionEventRouter<InventoryCloseEvent> inventoryClose() {
+        return inventoryClose;
+    }
+
+    /**
+     * Gets the router for consumed items.
+     *
+     * @return the item consume router
+     */
+    public SessionEventRouter<PlayerItemConsumeEvent> itemConsume() {
+        return itemConsume;
+    }
+
+    /**
+     * Gets the router for player movement. It is not called for cancelled movement.
+     *
+     * @return the move router
+     */
+    public SessionEventRouter<PlayerMoveEvent> move() {
+        return move;
+    }
+
+    /**
+     * Gets the router for chat messages of the sender with the lowest priority.
+     * It is not called for cancelled messages.
+     *
+     * @return the chat reply router
+     */
+    public SessionEventRouter<AsyncPlayerChatEvent> chatReply() {
+        return chatReply;
+    }
+
+    /**
+     * Gets the router for chat messages of each recipient with the highest priority.
+     * It is not called for cancelled messages.
+     *
+     * @return the chat intercept router
+     */
+    public SessionEventRouter<AsyncPlayerChatEvent> chatIntercept() {
+        return chatIntercept;
+    }
+
+    /**
+     * Gets the router for commands. It is not called for cancelled commands.
+     *
+     * @return the command router
+     */
+    public SessionEventRouter<PlayerCommandPreprocessEvent> command() {
+        return command;
+    }
+
+    /**
+     * Gets the router for players leaving the server.
+     *
+     * @return the quit router
+     */
+    public SessionEventRouter<PlayerQuitEvent> quit() {
+        return quit;
+    }
+
+    /**
+     * Gets the router for player interactions with the lowest priority.
+     *
+     * @return the interact router
+     */
+    public SessionEventRouter<PlayerInteractEvent> interact() {
+        return interact;
+    }
+
+    /**
+     * Gets the router for player interactions with entities with the lowest priority.
+     *
+     * @return the interact entity router
+     */
+    public SessionEventRouter<PlayerInteractEntityEvent> interactEntity() {
+        return interactEntity;
+    }
+
+    /**
+     * Gets the router for damage dealt by the player with the lowest priority.
+     *
+     * @return the damage dealt router
+     */
+    public SessionEventRouter<EntityDamageByEntityEvent> damageDealt() {
+        return damageDealt;
+    }
+
+    /**
+     * Gets the router for changes of the held item with the lowest priority.
+     *
+     * @return the item held router
+     */
+    public SessionEventRouter<PlayerItemHeldEvent> itemHeld() {
+        return itemHeld;
+    }
+}
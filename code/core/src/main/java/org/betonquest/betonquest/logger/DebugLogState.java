@@ -0,0 +1,74 @@
+package org.betonquest.betonquest.logger;
+
+import org.betonquest.betonquest.logger.handler.chat.RecordReceiverSelector;
+import org.betonquest.betonquest.logger.handler.history.LogPublishingController;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.logging.Level;
+
+/**
+ * Tells if debug records would be processed by any of BetonQuest's {@link java.util.logging.Handler}s.
+ * <p>
+ * Debug records are processed if the debug log is enabled, if they are kept in the history for a later debug log
+ * or if a player watches their source in the chat. Until the debug log is set all records are processed.
+ */
+public class DebugLogState {
+
+    /**
+     * The controller of the debug log or null if it is not set up yet.
+     */
+    @Nullable
+    private volatile LogPublishingController debugLog;
+
+    /**
+     * Whether debug records are kept in the history while the debug log is disabled.
+     */
+    private volatile boolean keepsHistory;
+
+    /**
+     * The selector of players watching the log in the chat or null if it is not set up yet.
+     */
+    @Nullable
+    private volatile RecordReceiverSelector chatReceivers;
+
+    /**
+     * Creates a new state that processes all records until the debug log is set.
+     */
+    public DebugLogState() {
+    }
+
+    /**
+     * Sets the debug log.
+     *
+     * @param debugLog     the controller of the debug log
+     * @param keepsHistory whether debug records are kept in the history while the debug log is disabled
+     */
+    public void setDebugLog(final LogPublishingController debugLog, final boolean keepsHistory) {
+        this.keepsHistory = keepsHistory;
+        this.debugLog = debugLog;
+    }
+
+    /**
+     * Sets the selector of players watching the log in the chat.
+     *
+     * @param chatReceivers the selector of the chat log
+     */
+    public void setChatReceivers(final RecordReceiverSelector chatReceivers) {
+        this.chatReceivers = chatReceivers;
+    }
+
+    /**
+     * Checks if debug records of the source would be processed.
+     *
+     * @param sourcePath the source path of the records or null if they have no source
+     * @return true if debug records of the source would be processed
+     */
+    public boolean isEnabled(@Nullable final String sourcePath) {
+        final LogPublishingController log = debugLog;
+        if (log == null || keepsHistory || log.isLogging()) {
+            return true;
+        }
+        final RecordReceiverSelector receivers = chatReceivers;
+        return receivers != null && receivers.mayReceive(Level.FINE, sourcePath == null ? "" : sourcePath);
+    }
+}
@@ -25,7 +25,12 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
     private final Logger logger;
 
     /**
-     * Creates a decorator for the {@link TopicLogger}.
+     * The state telling if debug records are processed.
+     */
+    private final DebugLogState debugState;
+
+    /**
+     * Creates a decorator for the {@link TopicLogger} that logs all debug records.
      *
      * @param plugin       The {@link Plugin} this logger belongs to.
      * @param parentLogger The parent logger for this logger.
@@ -33,8 +38,28 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
      * @param topic        The topic of the logger.
      */
     public DefaultBetonQuestLogger(final Plugin plugin, final Logger parentLogger, final Class<?> clazz, @Nullable final String topic) {
+        this(plugin, parentLogger, clazz, topic, new DebugLogState());
+    }
+
+    /**
+     * Creates a decorator for the {@link TopicLogger}.
+     *
+     * @param plugin       The {@link Plugin} this logger belongs to.
+     * @param parentLogger The parent logger for this logger.
+     * @param clazz        The calling class.
+     * @param topic        The topic of the logger.
+     * @param debugState   The state telling if debug records are processed.
+     */
+    public DefaultBetonQuestLogger(final Plugin plugin, final Logger parentLogger, final Class<?> clazz, @Nullable final String topic,
+                                   final DebugLogState debugState) {
         this.plugin = plugin;
         this.logger = new TopicLogger(parentLogger, clazz, topic);
+        this.debugState = debugState;
+    }
+
+    @Override
+    public boolean isDebugEnabled(final LogSource logSource) {
+        return debugState.isEnabled(logSource.getSourcePath());
     }
 
     @Override
@@ -44,6 +69,9 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
 
     @Override
     public void debug(final LogSource logSource, @Nullable final String msg) {
+        if (!isDebugEnabled(logSource)) {
+            return;
+        }
         final BetonQuestLogRecord record = new BetonQuestLogRecord(Level.FINE, msg, plugin, logSource);
         logger.log(record);
     }
@@ -55,6 +83,9 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
 
     @Override
     public void debug(final LogSource logSource, @Nullable final String msg, final Throwable thrown) {
+        if (!isDebugEnabled(logSource)) {
+            return;
+        }
         final BetonQuestLogRecord record = new BetonQuestLogRecord(Level.FINE, msg, plugin, logSource);
         record.setThrown(thrown);
         logger.log(record);
@@ -11,10 +11,18 @@ import org.jetbrains.annotations.Nullable;
  */
 public class DefaultBetonQuestLoggerFactory implements BetonQuestLoggerFactory {
 
+    /**
+     * The state telling if debug records are processed, shared by all created loggers.
+     */
+    private final DebugLogState debugState;
+
     /**
      * Creates a new instance.
+     *
+     * @param debugState the state telling if debug records are processed
      */
-    public DefaultBetonQuestLoggerFactory() {
+    public DefaultBetonQuestLoggerFactory(final DebugLogState debugState) {
+        this.debugState = debugState;
     }
 
     @Override
@@ -26,7 +34,7 @@ public class DefaultBetonQuestLoggerFactory implements BetonQuestLoggerFactory {
         }
         for (final Plugin plugin : Bukkit.getPluginManager().getPlugins()) {
             if (plugin.getClass().getClassLoader().equals(clazz.getClassLoader())) {
-                return new DefaultBetonQuestLogger(plugin, plugin.getLogger(), clazz, topic);
+                return new DefaultBetonQuestLogger(plugin, plugin.getLogger(), clazz, topic, debugState);
             }
         }
         throw new IllegalStateException("The class '" + clazz.getName()
@@ -36,6 +44,6 @@ public class DefaultBetonQuestLoggerFactory implements BetonQuestLoggerFactory {
 
     @Override
     public BetonQuestLogger create(final Plugin plugin, @Nullable final String topic) {
-        return new DefaultBetonQuestLogger(plugin, plugin.getLogger(), plugin.getClass(), topic);
+        return new DefaultBetonQuestLogger(plugin, plugin.getLogger(), plugin.getClass(), topic, debugState);
     }
 }
@@ -67,14 +67,17 @@ public final class HandlerFactory {
      * @param config        {@link ConfigAccessor} instance
      * @param logFileFolder {@link File} to the log folder
      * @param instantSource {@link InstantSource} instance
+     * @param debugState    the state to tell if the handler processes debug records
      * @return a new {@link HistoryHandler}
      */
-    public static HistoryHandler createHistoryHandler(final BetonQuestLoggerFactory loggerFactory, final Plugin plugin, final BukkitScheduler scheduler, final FileConfigAccessor config, final File logFileFolder, final InstantSource instantSource) {
+    public static HistoryHandler createHistoryHandler(final BetonQuestLoggerFactory loggerFactory, final Plugin plugin, final BukkitScheduler scheduler, final FileConfigAccessor config, final File logFileFolder, final InstantSource instantSource,
+                                                      final DebugLogState debugState) {
         final DebugHandlerConfig debugHandlerConfig = new DebugHandlerConfig(config, logFileFolder);
         final LogRecordQueue logQueue = createLogRecordQueue(plugin, scheduler, instantSource, debugHandlerConfig.getExpireAfterMinutes());
         final ResettableHandler targetHandler = createDebugLogFileHandler(loggerFactory, debugHandlerConfig.getLogFile(), instantSource);
         final HistoryHandler historyHandler = new HistoryHandler(debugHandlerConfig.isDebugging(), debugHandlerConfig::setDebugging, logQueue, targetHandler);
         historyHandler.setFilter(new LogRecordTypeFilter(BetonQuestLogRecord.class));
+        debugState.setDebugLog(historyHandler, debugHandlerConfig.getExpireAfterMinutes() > 0);
         return historyHandler;
     }
 
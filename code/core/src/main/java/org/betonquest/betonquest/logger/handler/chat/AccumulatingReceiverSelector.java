@@ -4,6 +4,7 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 /**
@@ -35,6 +36,19 @@ public class AccumulatingReceiverSelector implements RecordReceiverSelector, Rec
         return matches;
     }
 
+    @Override
+    public boolean mayReceive(final Level level, final String sourcePath) {
+        if (partialSelectors.isEmpty()) {
+            return false;
+        }
+        for (final RecordReceiverSelector selector : partialSelectors) {
+            if (selector.mayReceive(level, sourcePath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void addSelector(final RecordReceiverSelector selector) {
         partialSelectors.add(selector);
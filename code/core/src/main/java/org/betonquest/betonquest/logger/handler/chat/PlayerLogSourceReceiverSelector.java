@@ -95,6 +95,11 @@ public class PlayerLogSourceReceiverSelector implements RecordReceiverSelector {
         return Collections.emptySet();
     }
 
+    @Override
+    public boolean mayReceive(final Level level, final String sourcePath) {
+        return isLevelIncluded(level) && isSourceIncluded(sourcePath);
+    }
+
     private boolean match(final LogRecord record) {
         return isLevelIncluded(record.getLevel())
                 && isSourceIncluded(extractSourcePath(record));
@@ -2,6 +2,7 @@ package org.betonquest.betonquest.logger.handler.chat;
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 /**
@@ -17,4 +18,17 @@ public interface RecordReceiverSelector {
      * @return a set of players that should receive the record
      */
     Set<UUID> findReceivers(LogRecord record);
+
+    /**
+     * Checks if records with the level and source may have any receivers.
+     * <p>
+     * Used to skip building records nobody receives, so it must not return false for records that have receivers.
+     *
+     * @param level      the level of the records
+     * @param sourcePath the source path of the records, empty if they have no source
+     * @return true if such records may have receivers
+     */
+    default boolean mayReceive(final Level level, final String sourcePath) {
+        return true;
+    }
 }
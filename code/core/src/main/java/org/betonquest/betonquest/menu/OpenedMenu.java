@@ -6,14 +6,12 @@ import org.betonquest.betonquest.api.QuestException;
 import org.betonquest.betonquest.api.identifier.MenuIdentifier;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.listener.SessionEventRouters;
 import org.betonquest.betonquest.menu.event.MenuClickEvent;
 import org.betonquest.betonquest.menu.event.MenuCloseEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
@@ -28,7 +26,7 @@ import java.util.UUID;
 /**
  * Class representing a menu which is currently displayed to a player.
  */
-public class OpenedMenu implements Listener {
+public class OpenedMenu {
 
     /**
      * Hashmap containing all currently opened menus.
@@ -88,7 +86,9 @@ public class OpenedMenu implements Listener {
         final Inventory inventory = Bukkit.createInventory(null, data.getSize(), resolvedTitle);
         this.update(onlineProfile, inventory);
         onlineProfile.getPlayer().openInventory(inventory);
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        final SessionEventRouters sessionEvents = BetonQuest.getInstance().getSessionEvents();
+        sessionEvents.inventoryClick().register(onlineProfile.getPlayerUUID(), this, this::onClick);
+        sessionEvents.inventoryClose().register(onlineProfile.getPlayerUUID(), this, this::onClose);
         OPENED_MENUS.put(onlineProfile.getProfileUUID(), this);
     }
 
@@ -209,7 +209,6 @@ public class OpenedMenu implements Listener {
      *
      * @param event the event to process
      */
-    @EventHandler
     @SuppressWarnings("PMD.CyclomaticComplexity")
     public void onClick(final InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof final Player player) || !player.equals(onlineProfile.getPlayer())) {
@@ -273,7 +272,6 @@ public class OpenedMenu implements Listener {
      *
      * @param event the event to process
      */
-    @EventHandler
     public void onClose(final InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof final Player player) || !player.equals(onlineProfile.getPlayer())) {
             return;
@@ -282,7 +280,7 @@ public class OpenedMenu implements Listener {
         new MenuCloseEvent(onlineProfile, getId()).callEvent();
         log.debug(getId().getPackage(), onlineProfile + " closed menu " + getId());
 
-        HandlerList.unregisterAll(this);
+        BetonQuest.getInstance().getSessionEvents().unregisterAll(onlineProfile.getPlayerUUID(), this);
         OPENED_MENUS.remove(onlineProfile.getProfileUUID());
         closed = true;
 
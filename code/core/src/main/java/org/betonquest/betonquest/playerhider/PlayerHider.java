@@ -12,32 +12,69 @@ import org.betonquest.betonquest.api.profile.ProfileProvider;
 import org.betonquest.betonquest.api.quest.Placeholders;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The {@link PlayerHider} can hide others, if both the source and the target {@link Profile} meet all conditions.
+ * <p>
+ * Each visibility update checks the conditions of every player once per hider, computes the hidden players with a
+ * {@link VisibilityMatrix} and only shows or hides players whose visibility changed since the last update.
+ * The update is spread over multiple ticks if it exceeds the configured time budget.
+ * Players joining or leaving are forgotten as source and target and skipped for the rest of a running update.
  */
-public class PlayerHider {
+@SuppressWarnings("PMD.TooManyFields")
+public class PlayerHider implements Listener {
 
     /**
-     * The map's key is an array containing the source {@link Profile}'s conditions
-     * and the map's value is an array containing the target {@link Profile}'s conditions.
+     * The source {@link Profile}'s conditions per hider.
      */
-    private final Map<Collection<ConditionIdentifier>, Collection<ConditionIdentifier>> hiders;
+    private final List<Collection<ConditionIdentifier>> sourceConditions;
+
+    /**
+     * The target {@link Profile}'s conditions per hider, with the same index as the source conditions.
+     */
+    private final List<Collection<ConditionIdentifier>> targetConditions;
+
+    /**
+     * The UUIDs of the players hidden by this hider per source player.
+     */
+    private final Map<UUID, Set<UUID>> hidden;
 
     /**
      * The running hider.
      */
     private final BukkitTask bukkitTask;
 
+    /**
+     * The ticks between the start of two visibility updates.
+     */
+    private final long period;
+
+    /**
+     * The maximal time in nanoseconds a visibility update may run per tick.
+     */
+    private final long tickBudget;
+
     /**
      * Plugin instance to show/hide players.
      */
@@ -53,6 +90,41 @@ public class PlayerHider {
      */
     private final ProfileProvider profileProvider;
 
+    /**
+     * The online profiles of the running visibility update.
+     */
+    private List<OnlineProfile> cycleProfiles;
+
+    /**
+     * The index of the players in {@link #cycleProfiles} by their UUID.
+     */
+    private Map<UUID, Integer> cyclePlayers;
+
+    /**
+     * The condition membership of the running visibility update.
+     */
+    private VisibilityMatrix matrix;
+
+    /**
+     * The index of the next player to process in the running visibility update.
+     */
+    private int cursor;
+
+    /**
+     * The phase of the running visibility update.
+     */
+    private Phase phase;
+
+    /**
+     * The ticks since the hider was started.
+     */
+    private long ticks;
+
+    /**
+     * The tick the next visibility update starts.
+     */
+    private long nextCycle;
+
     /**
      * Initialize and start a new {@link PlayerHider}.
      *
@@ -67,8 +139,8 @@ public class PlayerHider {
                        final ProfileProvider profileProvider, final ConfigAccessor config) throws QuestException {
         this.plugin = plugin;
         this.profileProvider = profileProvider;
-        hiders = new HashMap<>();
         this.api = api;
+        final Map<Collection<ConditionIdentifier>, Collection<ConditionIdentifier>> hiders = new HashMap<>();
 
         for (final QuestPackage pack : api.getQuestPackageManager().getPackages().values()) {
             final ConfigurationSection hiderSection = pack.getConfig().getConfigurationSection("player_hider");
@@ -83,15 +155,76 @@ public class PlayerHider {
             }
         }
 
-        final long period = config.getLong("hider.player_update_interval", 20);
-        bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateVisibility, 1, period);
+        sourceConditions = new ArrayList<>();
+        targetConditions = new ArrayList<>();
+        for (final Map.Entry<Collection<ConditionIdentifier>, Collection<ConditionIdentifier>> hider : hiders.entrySet()) {
+            sourceConditions.add(hider.getKey());
+            targetConditions.add(hider.getValue());
+        }
+        hidden = new HashMap<>();
+        cycleProfiles = List.of();
+        cyclePlayers = new HashMap<>();
+        matrix = new VisibilityMatrix(0);
+        phase = Phase.IDLE;
+
+        period = Math.max(1, config.getLong("hider.player_update_interval", 20));
+        tickBudget = TimeUnit.MILLISECONDS.toNanos(Math.max(1, config.getLong("hider.player_update_budget", 2)));
+        bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1, 1);
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * Forgets the visibility of a joining player, a new session sees all players again.
+     *
+     * @param event the join event
+     */
+    @EventHandler
+    public void onJoin(final PlayerJoinEvent event) {
+        forget(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Forgets the visibility of a leaving player.
+     *
+     * @param event the quit event
+     */
+    @EventHandler
+    public void onQuit(final PlayerQuitEvent event) {
+        forget(event.getPlayer().getUniqueId());
+    }
+
+    private void forget(final UUID player) {
+        cyclePlayers.remove(player);
+        hidden.remove(player);
+        final Iterator<Set<UUID>> targets = hidden.values().iterator();
+        while (targets.hasNext()) {
+            final Set<UUID> hiddenTargets = targets.next();
+            if (hiddenTargets.remove(player) && hiddenTargets.isEmpty()) {
+                targets.remove();
+            }
+        }
     }
 
     /**
-     * Stops the running {@link PlayerHider}.
+     * Stops the running {@link PlayerHider} and shows all players it hid.
      */
     public void stop() {
         bukkitTask.cancel();
+        HandlerList.unregisterAll(this);
+        for (final Map.Entry<UUID, Set<UUID>> entry : hidden.entrySet()) {
+            final Player source = plugin.getServer().getPlayer(entry.getKey());
+            if (source == null) {
+                continue;
+            }
+            for (final UUID targetUUID : entry.getValue()) {
+                final Player target = plugin.getServer().getPlayer(targetUUID);
+                if (target != null) {
+                    source.showPlayer(plugin, target);
+                }
+            }
+        }
+        hidden.clear();
+        phase = Phase.IDLE;
     }
 
     private Collection<ConditionIdentifier> getConditions(final Placeholders placeholders, final QuestPackage pack, final String key,
@@ -109,57 +242,137 @@ public class PlayerHider {
     }
 
     /**
-     * Trigger an update for the visibility.
+     * Trigger a full update of the visibility, ignoring the tick budget.
      */
     public void updateVisibility() {
-        final Collection<? extends OnlineProfile> onlineProfiles = profileProvider.getOnlineProfiles();
-        final Map<OnlineProfile, List<OnlineProfile>> profilesToHide = getProfilesToHide(onlineProfiles);
-        for (final OnlineProfile source : onlineProfiles) {
-            updateVisibilityForProfiles(onlineProfiles, source, profilesToHide.get(source));
+        startCycle();
+        while (phase != Phase.IDLE) {
+            step();
         }
     }
 
-    private void updateVisibilityForProfiles(final Collection<? extends OnlineProfile> onlineProfiles, final OnlineProfile source,
-                                             @Nullable final List<OnlineProfile> profilesToHide) {
-        if (profilesToHide == null) {
-            for (final OnlineProfile target : onlineProfiles) {
-                source.getPlayer().showPlayer(plugin, target.getPlayer());
+    private void tick() {
+        ticks++;
+        if (phase == Phase.IDLE) {
+            if (ticks < nextCycle) {
+                return;
             }
-        } else {
-            for (final OnlineProfile target : onlineProfiles) {
-                if (profilesToHide.contains(target)) {
-                    source.getPlayer().hidePlayer(plugin, target.getPlayer());
-                } else {
-                    source.getPlayer().showPlayer(plugin, target.getPlayer());
-                }
+            nextCycle = ticks + period;
+            startCycle();
+        }
+        final long deadline = System.nanoTime() + tickBudget;
+        do {
+            step();
+        } while (phase != Phase.IDLE && System.nanoTime() < deadline);
+    }
+
+    private void startCycle() {
+        cycleProfiles = new ArrayList<>(profileProvider.getOnlineProfiles());
+        cyclePlayers = new HashMap<>();
+        for (int index = 0; index < cycleProfiles.size(); index++) {
+            cyclePlayers.put(cycleProfiles.get(index).getPlayer().getUniqueId(), index);
+        }
+        matrix = new VisibilityMatrix(sourceConditions.size());
+        cursor = 0;
+        phase = cycleProfiles.isEmpty() ? Phase.IDLE : Phase.EVALUATING;
+        if (phase == Phase.IDLE) {
+            hidden.clear();
+        }
+    }
+
+    private void step() {
+        if (phase == Phase.EVALUATING) {
+            evaluate(cursor);
+            cursor++;
+            if (cursor == cycleProfiles.size()) {
+                cursor = 0;
+                phase = Phase.APPLYING;
+            }
+        } else if (phase == Phase.APPLYING) {
+            apply(cursor);
+            cursor++;
+            if (cursor == cycleProfiles.size()) {
+                hidden.keySet().retainAll(cyclePlayers.keySet());
+                phase = Phase.IDLE;
             }
         }
     }
 
-    private Map<OnlineProfile, List<OnlineProfile>> getProfilesToHide(final Collection<? extends OnlineProfile> onlineProfiles) {
-        final Map<OnlineProfile, List<OnlineProfile>> profilesToHide = new HashMap<>();
-        for (final Map.Entry<Collection<ConditionIdentifier>, Collection<ConditionIdentifier>> hider : hiders.entrySet()) {
-            final List<OnlineProfile> targetProfiles = new ArrayList<>();
-            for (final OnlineProfile target : onlineProfiles) {
-                if (api.getQuestTypeApi().conditions(target, hider.getValue())) {
-                    targetProfiles.add(target);
-                }
+    private boolean isInCycle(final int index) {
+        final Integer current = cyclePlayers.get(cycleProfiles.get(index).getPlayer().getUniqueId());
+        return current != null && current == index;
+    }
+
+    private void evaluate(final int index) {
+        if (!isInCycle(index)) {
+            return;
+        }
+        final OnlineProfile profile = cycleProfiles.get(index);
+        for (int hider = 0; hider < sourceConditions.size(); hider++) {
+            if (api.getQuestTypeApi().conditions(profile, sourceConditions.get(hider))) {
+                matrix.setSource(hider, index);
             }
-            for (final OnlineProfile source : onlineProfiles) {
-                if (!api.getQuestTypeApi().conditions(source, hider.getKey())) {
-                    continue;
-                }
-                final List<OnlineProfile> hiddenProfiles = getOrCreateProfileList(source, profilesToHide);
-                hiddenProfiles.addAll(targetProfiles);
-                hiddenProfiles.remove(source);
-                profilesToHide.put(source, hiddenProfiles);
+            if (api.getQuestTypeApi().conditions(profile, targetConditions.get(hider))) {
+                matrix.setTarget(hider, index);
             }
         }
-        return profilesToHide;
     }
 
-    private List<OnlineProfile> getOrCreateProfileList(final OnlineProfile onlineProfile, final Map<OnlineProfile, List<OnlineProfile>> profilesToHide) {
-        final List<OnlineProfile> profiles = profilesToHide.get(onlineProfile);
-        return profiles == null ? new ArrayList<>() : profiles;
+    private void apply(final int index) {
+        if (!isInCycle(index)) {
+            return;
+        }
+        final Player source = cycleProfiles.get(index).getPlayer();
+        final BitSet toHide = matrix.hiddenBy(index);
+        final Set<UUID> previous = hidden.getOrDefault(source.getUniqueId(), Set.of());
+        final Set<UUID> current = new HashSet<>();
+        final BitSet changed = (BitSet) toHide.clone();
+        for (final UUID target : previous) {
+            final Integer targetIndex = cyclePlayers.get(target);
+            if (targetIndex == null) {
+                current.add(target);
+            } else {
+                changed.flip(targetIndex);
+            }
+        }
+        for (int target = changed.nextSetBit(0); target >= 0; target = changed.nextSetBit(target + 1)) {
+            if (!isInCycle(target)) {
+                continue;
+            }
+            final Player targetPlayer = cycleProfiles.get(target).getPlayer();
+            if (toHide.get(target)) {
+                source.hidePlayer(plugin, targetPlayer);
+            } else {
+                source.showPlayer(plugin, targetPlayer);
+            }
+        }
+        for (int target = toHide.nextSetBit(0); target >= 0; target = toHide.nextSetBit(target + 1)) {
+            if (isInCycle(target)) {
+                current.add(cycleProfiles.get(target).getPlayer().getUniqueId());
+            }
+        }
+        if (current.isEmpty()) {
+            hidden.remove(source.getUniqueId());
+        } else {
+            hidden.put(source.getUniqueId(), current);
+        }
+    }
+
+    /**
+     * The phase of the running visibility update.
+     */
+    private enum Phase {
+        /**
+         * Waiting for the next update.
+         */
+        IDLE,
+        /**
+         * Checking the conditions of the players.
+         */
+        EVALUATING,
+        /**
+         * Showing and hiding the players whose visibility changed.
+         */
+        APPLYING
     }
 }
@@ -0,0 +1,73 @@
+package org.betonquest.betonquest.playerhider;
+
+import java.util.BitSet;
+
+/**
+ * The condition membership of all players for all hiders of one {@link PlayerHider} cycle.
+ * <p>
+ * Players are referenced by their index in the cycle. A source player hides all players that are a target of at
+ * least one hider the source is a source of, except itself.
+ */
+public class VisibilityMatrix {
+
+    /**
+     * The players meeting the source conditions per hider.
+     */
+    private final BitSet[] sources;
+
+    /**
+     * The players meeting the target conditions per hider.
+     */
+    private final BitSet[] targets;
+
+    /**
+     * Creates a new empty matrix.
+     *
+     * @param hiders the amount of hiders
+     */
+    public VisibilityMatrix(final int hiders) {
+        this.sources = new BitSet[hiders];
+        this.targets = new BitSet[hiders];
+        for (int i = 0; i < hiders; i++) {
+            sources[i] = new BitSet();
+            targets[i] = new BitSet();
+        }
+    }
+
+    /**
+     * Marks the player as meeting the source conditions of the hider.
+     *
+     * @param hider  the index of the hider
+     * @param player the index of the player
+     */
+    public void setSource(final int hider, final int player) {
+        sources[hider].set(player);
+    }
+
+    /**
+     * Marks the player as meeting the target conditions of the hider.
+     *
+     * @param hider  the index of the hider
+     * @param player the index of the player
+     */
+    public void setTarget(final int hider, final int player) {
+        targets[hider].set(player);
+    }
+
+    /**
+     * Gets the players the source player hides.
+     *
+     * @param source the index of the source player
+     * @return the indices of the hidden players, a new set that may be modified
+     */
+    public BitSet hiddenBy(final int source) {
+        final BitSet hidden = new BitSet();
+        for (int hider = 0; hider < sources.length; hider++) {
+            if (sources[hider].get(source)) {
+                hidden.or(targets[hider]);
+            }
+        }
+        hidden.clear(source);
+        return hidden;
+    }
+}
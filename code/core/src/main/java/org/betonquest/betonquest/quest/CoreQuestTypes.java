@@ -23,7 +23,6 @@ import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.api.profile.ProfileProvider;
 import org.betonquest.betonquest.api.quest.FeatureRegistry;
 import org.betonquest.betonquest.api.quest.Placeholders;
-import org.betonquest.betonquest.api.quest.QuestTypeApi;
 import org.betonquest.betonquest.api.quest.objective.ObjectiveFactory;
 import org.betonquest.betonquest.config.PluginMessage;
 import org.betonquest.betonquest.data.PlayerDataStorage;
@@ -44,6 +43,7 @@ import org.betonquest.betonquest.id.npc.NpcIdentifierFactory;
 import org.betonquest.betonquest.id.objective.ObjectiveIdentifierFactory;
 import org.betonquest.betonquest.id.placeholder.PlaceholderIdentifierFactory;
 import org.betonquest.betonquest.id.schedule.ScheduleIdentifierFactory;
+import org.betonquest.betonquest.kernel.processor.CoreQuestRegistry;
 import org.betonquest.betonquest.kernel.registry.quest.ActionTypeRegistry;
 import org.betonquest.betonquest.kernel.registry.quest.BaseQuestTypeRegistries;
 import org.betonquest.betonquest.kernel.registry.quest.ConditionTypeRegistry;
@@ -175,6 +175,7 @@ import org.betonquest.betonquest.quest.objective.consume.ConsumeObjectiveFactory
 import org.betonquest.betonquest.quest.objective.crafting.CraftingObjectiveFactory;
 import org.betonquest.betonquest.quest.objective.data.PointObjectiveFactory;
 import org.betonquest.betonquest.quest.objective.data.TagObjectiveFactory;
+import org.betonquest.betonquest.quest.objective.deadline.DeadlineScheduler;
 import org.betonquest.betonquest.quest.objective.delay.DelayObjectiveFactory;
 import org.betonquest.betonquest.quest.objective.die.DieObjectiveFactory;
 import org.betonquest.betonquest.quest.objective.enchant.EnchantObjectiveFactory;
@@ -196,6 +197,7 @@ import org.betonquest.betonquest.quest.objective.resourcepack.ResourcepackObject
 import org.betonquest.betonquest.quest.objective.ride.RideObjectiveFactory;
 import org.betonquest.betonquest.quest.objective.shear.ShearObjectiveFactory;
 import org.betonquest.betonquest.quest.objective.smelt.SmeltingObjectiveFactory;
+import org.betonquest.betonquest.quest.objective.spatial.SpatialIndex;
 import org.betonquest.betonquest.quest.objective.stage.StageObjectiveFactory;
 import org.betonquest.betonquest.quest.objective.step.StepObjectiveFactory;
 import org.betonquest.betonquest.quest.objective.tame.TameObjectiveFactory;
@@ -245,9 +247,9 @@ public class CoreQuestTypes {
     private final BetonQuest betonQuest;
 
     /**
-     * Quest Type API.
+     * Quest Type API with the core processors.
      */
-    private final QuestTypeApi questTypeApi;
+    private final CoreQuestRegistry questTypeApi;
 
     /**
      * Feature API.
@@ -295,7 +297,7 @@ public class CoreQuestTypes {
      * @param loggerFactory     used in factories
      * @param server            the server used for primary server thread access.
      * @param betonQuest        the plugin used for primary server access and type registration
-     * @param questTypeApi      the Quest Type API
+     * @param questTypeApi      the Quest Type API with the core processors
      * @param featureApi        the Feature API
      * @param pluginMessage     the plugin message instance
      * @param placeholders      the {@link Placeholders} to create and resolve placeholders
@@ -308,7 +310,7 @@ public class CoreQuestTypes {
     @SuppressWarnings("PMD.ExcessiveParameterList")
     public CoreQuestTypes(final BetonQuestLoggerFactory loggerFactory,
                           final Server server, final BetonQuest betonQuest,
-                          final QuestTypeApi questTypeApi, final FeatureApi featureApi, final PluginMessage pluginMessage,
+                          final CoreQuestRegistry questTypeApi, final FeatureApi featureApi, final PluginMessage pluginMessage,
                           final Placeholders placeholders, final GlobalData globalData,
                           final PlayerDataStorage dataStorage, final ProfileProvider profileProvider,
                           final LanguageProvider languageProvider, final PlayerDataFactory playerDataFactory) {
@@ -377,7 +379,8 @@ public class CoreQuestTypes {
         conditionTypes.register("effect", new EffectConditionFactory(loggerFactory));
         conditionTypes.register("empty", new EmptySlotsConditionFactory(loggerFactory));
         conditionTypes.registerCombined("entities", new EntityConditionFactory());
-        conditionTypes.registerCombined("eval", new EvalConditionFactory(betonQuest, placeholders, betonQuest.getQuestPackageManager(), conditionTypes, server.getScheduler(), betonQuest));
+        conditionTypes.registerCombined("eval", new EvalConditionFactory(betonQuest, placeholders, betonQuest.getQuestPackageManager(), conditionTypes, questTypeApi.primaryThread(),
+                questTypeApi.conditions().getEvalCache()));
         conditionTypes.register("experience", new ExperienceConditionFactory(loggerFactory));
         conditionTypes.register("facing", new FacingConditionFactory(loggerFactory));
         conditionTypes.register("fly", new FlyingConditionFactory(loggerFactory));
@@ -435,14 +438,16 @@ public class CoreQuestTypes {
         actionTypes.register("damage", new DamageActionFactory(loggerFactory));
         actionTypes.register("deleffect", new DeleteEffectActionFactory(loggerFactory));
         actionTypes.registerCombined("deleteglobalpoint", new DeleteGlobalPointActionFactory(globalData));
-        actionTypes.registerCombined("deletepoint", new DeletePointActionFactory(dataStorage, betonQuest.getSaver(), profileProvider));
+        actionTypes.registerCombined("deletepoint", new DeletePointActionFactory(dataStorage, betonQuest.getSaver(), profileProvider,
+                betonQuest.getPointLeaderboard()));
         actionTypes.registerCombined("door", new DoorActionFactory());
         actionTypes.registerCombined("drop", new DropActionFactory(profileProvider));
         actionTypes.register("effect", new EffectActionFactory(loggerFactory));
-        actionTypes.registerCombined("eval", new EvalActionFactory(placeholders, betonQuest.getQuestPackageManager(), actionTypes, server.getScheduler(), betonQuest));
+        actionTypes.registerCombined("eval", new EvalActionFactory(placeholders, betonQuest.getQuestPackageManager(), actionTypes, questTypeApi.primaryThread(), betonQuest,
+                questTypeApi.actions().getEvalCache()));
         actionTypes.register("experience", new ExperienceActionFactory(loggerFactory));
         actionTypes.registerCombined("explosion", new ExplosionActionFactory());
-        actionTypes.registerCombined("folder", new FolderActionFactory(betonQuest, loggerFactory, server.getPluginManager(), questTypeApi));
+        actionTypes.registerCombined("folder", new FolderActionFactory(loggerFactory, betonQuest.getFolderScheduler(), questTypeApi));
         actionTypes.registerCombined("first", new FirstActionFactory(questTypeApi));
         actionTypes.register("give", new GiveActionFactory(loggerFactory, dataStorage, pluginMessage));
         actionTypes.register("givejournal", new GiveJournalActionFactory(loggerFactory, dataStorage));
@@ -488,6 +493,10 @@ public class CoreQuestTypes {
     }
 
     private void registerObjectives(final FeatureRegistry<ObjectiveFactory> objectiveTypes) {
+        final DeadlineScheduler deadlines = new DeadlineScheduler(loggerFactory.create(DeadlineScheduler.class),
+                betonQuest, server.getScheduler(), betonQuest.getSessionEvents().quit(), InstantSource.system());
+        final SpatialIndex spatialIndex = new SpatialIndex(profileProvider);
+        server.getPluginManager().registerEvents(spatialIndex, betonQuest);
         objectiveTypes.register("action", new ActionObjectiveFactory());
         objectiveTypes.register("arrow", new ArrowShootObjectiveFactory());
         objectiveTypes.register("block", new BlockObjectiveFactory(loggerFactory, pluginMessage));
@@ -497,14 +506,14 @@ public class CoreQuestTypes {
         objectiveTypes.register("command", new CommandObjectiveFactory());
         objectiveTypes.register("consume", new ConsumeObjectiveFactory());
         objectiveTypes.register("craft", new CraftingObjectiveFactory());
-        objectiveTypes.register("delay", new DelayObjectiveFactory());
+        objectiveTypes.register("delay", new DelayObjectiveFactory(deadlines));
         objectiveTypes.register("die", new DieObjectiveFactory());
         objectiveTypes.register("enchant", new EnchantObjectiveFactory());
         objectiveTypes.register("experience", new ExperienceObjectiveFactory(loggerFactory, pluginMessage));
         objectiveTypes.register("fish", new FishObjectiveFactory());
         objectiveTypes.register("interact", new EntityInteractObjectiveFactory());
         objectiveTypes.register("kill", new KillPlayerObjectiveFactory());
-        objectiveTypes.register("location", new LocationObjectiveFactory());
+        objectiveTypes.register("location", new LocationObjectiveFactory(spatialIndex));
         objectiveTypes.register("login", new LoginObjectiveFactory());
         objectiveTypes.register("logout", new LogoutObjectiveFactory());
         objectiveTypes.register("mobkill", new MobKillObjectiveFactory());
@@ -520,7 +529,7 @@ public class CoreQuestTypes {
         objectiveTypes.register("step", new StepObjectiveFactory());
         objectiveTypes.register("tag", new TagObjectiveFactory(betonQuest.getPlayerDataStorage()));
         objectiveTypes.register("tame", new TameObjectiveFactory());
-        objectiveTypes.register("timer", new TimerObjectiveFactory(questTypeApi));
+        objectiveTypes.register("timer", new TimerObjectiveFactory(questTypeApi, deadlines));
         objectiveTypes.register("variable", new VariableObjectiveFactory());
         objectiveTypes.register("equip", new EquipItemObjectiveFactory());
         objectiveTypes.register("jump", new JumpObjectiveFactory());
@@ -530,7 +539,7 @@ public class CoreQuestTypes {
     private void registerPlaceholders(final PlaceholderTypeRegistry placeholderTypes) {
         placeholderTypes.register("condition", new ConditionPlaceholderFactory(questTypeApi, pluginMessage));
         placeholderTypes.registerCombined("constant", new ConstantPlaceholderFactory());
-        placeholderTypes.registerCombined("eval", new EvalPlaceholderFactory());
+        placeholderTypes.registerCombined("eval", new EvalPlaceholderFactory(questTypeApi.placeholders().getEvalCache()));
         placeholderTypes.register("globalpoint", new GlobalPointPlaceholderFactory(globalData, loggerFactory.create(GlobalPointPlaceholderFactory.class)));
         placeholderTypes.register("globaltag", new GlobalTagPlaceholderFactory(globalData, pluginMessage));
         placeholderTypes.registerCombined("item", new ItemPlaceholderFactory(betonQuest.getPlayerDataStorage()));
@@ -543,7 +552,7 @@ public class CoreQuestTypes {
         placeholderTypes.register("player", new PlayerNamePlaceholderFactory());
         placeholderTypes.register("quester", new QuesterPlaceholderFactory(featureApi.conversationApi()));
         placeholderTypes.registerCombined("randomnumber", new RandomNumberPlaceholderFactory());
-        placeholderTypes.registerCombined("sync", new SyncPlaceholderFactory());
+        placeholderTypes.registerCombined("sync", new SyncPlaceholderFactory(questTypeApi.placeholders().getEvalCache()));
         placeholderTypes.register("tag", new TagPlaceholderFactory(dataStorage, pluginMessage));
         placeholderTypes.register("version", new VersionPlaceholderFactory(betonQuest));
     }
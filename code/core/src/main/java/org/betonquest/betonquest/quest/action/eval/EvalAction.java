@@ -13,12 +13,13 @@ import org.betonquest.betonquest.api.quest.Placeholders;
 import org.betonquest.betonquest.api.quest.TypeFactory;
 import org.betonquest.betonquest.api.quest.action.NullableAction;
 import org.betonquest.betonquest.kernel.processor.adapter.ActionAdapter;
+import org.betonquest.betonquest.kernel.processor.quest.CompiledInstructionCache;
+import org.betonquest.betonquest.kernel.processor.quest.PrimaryThreadBridge;
 import org.betonquest.betonquest.kernel.registry.quest.ActionTypeRegistry;
 import org.bukkit.Bukkit;
-import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitScheduler;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -52,19 +53,19 @@ public class EvalAction implements NullableAction {
     private final Argument<String> evaluation;
 
     /**
-     * The scheduler to use for synchronous execution.
+     * The bridge to run primary thread enforced calls from other threads.
      */
-    private final BukkitScheduler scheduler;
+    private final PrimaryThreadBridge primaryThread;
 
     /**
-     * The plugin instance.
+     * The {@link BetonQuestApi}.
      */
-    private final Plugin plugin;
+    private final BetonQuestApi betonQuestApi;
 
     /**
-     * The {@link BetonQuestApi}.
+     * The cache for actions compiled from evaluated instructions.
      */
-    private final BetonQuestApi betonQuestApi;
+    private final CompiledInstructionCache<ActionAdapter> compiledCache;
 
     /**
      * Created a new Eval action.
@@ -75,20 +76,21 @@ public class EvalAction implements NullableAction {
      * @param actionTypeRegistry the action type registry providing factories to parse the evaluated instruction
      * @param pack               the quest package to relate the action to
      * @param evaluation         the evaluation input
-     * @param scheduler          the scheduler to use for synchronous execution
-     * @param plugin             the plugin instance
+     * @param primaryThread      the bridge to run primary thread enforced calls from other threads
+     * @param compiledCache      the cache for actions compiled from evaluated instructions
      */
     public EvalAction(final BetonQuestApi betonQuestApi, final Placeholders placeholders, final QuestPackageManager packManager,
                       final ActionTypeRegistry actionTypeRegistry, final QuestPackage pack,
-                      final Argument<String> evaluation, final BukkitScheduler scheduler, final Plugin plugin) {
+                      final Argument<String> evaluation, final PrimaryThreadBridge primaryThread,
+                      final CompiledInstructionCache<ActionAdapter> compiledCache) {
         this.placeholders = placeholders;
         this.packManager = packManager;
         this.betonQuestApi = betonQuestApi;
         this.actionTypeRegistry = actionTypeRegistry;
         this.pack = pack;
         this.evaluation = evaluation;
-        this.scheduler = scheduler;
-        this.plugin = plugin;
+        this.primaryThread = primaryThread;
+        this.compiledCache = compiledCache;
     }
 
     /**
@@ -113,12 +115,13 @@ public class EvalAction implements NullableAction {
 
     @Override
     public void execute(@Nullable final Profile profile) throws QuestException {
-        final ActionAdapter action = createAction(betonQuestApi.getArgumentParsers(), placeholders, packManager, actionTypeRegistry, pack, evaluation.getValue(profile));
+        final ActionAdapter action = compiledCache.get(pack, evaluation.getValue(profile), instruction ->
+                createAction(betonQuestApi.getArgumentParsers(), placeholders, packManager, actionTypeRegistry, pack, instruction));
         if (action.isPrimaryThreadEnforced() && !Bukkit.isPrimaryThread()) {
             try {
-                scheduler.callSyncMethod(plugin, () -> action.fire(profile)).get();
+                primaryThread.call(() -> action.fire(profile)).get();
                 return;
-            } catch (InterruptedException | ExecutionException e) {
+            } catch (InterruptedException | ExecutionException | CancellationException e) {
                 throw new QuestException("Failed to execute action in primary thread", e);
             }
         }
@@ -10,8 +10,10 @@ import org.betonquest.betonquest.api.quest.action.PlayerAction;
 import org.betonquest.betonquest.api.quest.action.PlayerActionFactory;
 import org.betonquest.betonquest.api.quest.action.PlayerlessAction;
 import org.betonquest.betonquest.api.quest.action.PlayerlessActionFactory;
+import org.betonquest.betonquest.kernel.processor.adapter.ActionAdapter;
+import org.betonquest.betonquest.kernel.processor.quest.CompiledInstructionCache;
+import org.betonquest.betonquest.kernel.processor.quest.PrimaryThreadBridge;
 import org.betonquest.betonquest.kernel.registry.quest.ActionTypeRegistry;
-import org.bukkit.scheduler.BukkitScheduler;
 
 /**
  * A factory for creating Eval actions.
@@ -34,31 +36,39 @@ public class EvalActionFactory implements PlayerActionFactory, PlayerlessActionF
     private final ActionTypeRegistry actionTypeRegistry;
 
     /**
-     * The scheduler to use for synchronous execution.
+     * The bridge to run primary thread enforced calls from other threads.
      */
-    private final BukkitScheduler scheduler;
+    private final PrimaryThreadBridge primaryThread;
 
     /**
      * The plugin instance.
      */
     private final BetonQuest plugin;
 
+    /**
+     * The cache for actions compiled from evaluated instructions.
+     */
+    private final CompiledInstructionCache<ActionAdapter> compiledCache;
+
     /**
      * Create a new Eval action factory.
      *
      * @param placeholders       the {@link Placeholders} to create and resolve placeholders
      * @param packManager        the quest package manager to get quest packages from
      * @param actionTypeRegistry the action type registry providing factories to parse the evaluated instruction
-     * @param scheduler          the scheduler to use for synchronous execution
+     * @param primaryThread      the bridge to run primary thread enforced calls from other threads
      * @param plugin             the plugin instance
+     * @param compiledCache      the cache for actions compiled from evaluated instructions
      */
     public EvalActionFactory(final Placeholders placeholders, final QuestPackageManager packManager,
-                             final ActionTypeRegistry actionTypeRegistry, final BukkitScheduler scheduler, final BetonQuest plugin) {
+                             final ActionTypeRegistry actionTypeRegistry, final PrimaryThreadBridge primaryThread, final BetonQuest plugin,
+                             final CompiledInstructionCache<ActionAdapter> compiledCache) {
         this.placeholders = placeholders;
         this.packManager = packManager;
         this.actionTypeRegistry = actionTypeRegistry;
-        this.scheduler = scheduler;
+        this.primaryThread = primaryThread;
         this.plugin = plugin;
+        this.compiledCache = compiledCache;
     }
 
     @Override
@@ -74,6 +84,6 @@ public class EvalActionFactory implements PlayerActionFactory, PlayerlessActionF
     private NullableActionAdapter parseEvalAction(final Instruction instruction) throws QuestException {
         final String rawInstruction = String.join(" ", instruction.getValueParts());
         return new NullableActionAdapter(new EvalAction(plugin, placeholders, packManager, actionTypeRegistry, instruction.getPackage(),
-                instruction.chainForArgument(rawInstruction).string().get(), scheduler, plugin));
+                instruction.chainForArgument(rawInstruction).string().get(), primaryThread, compiledCache));
     }
 }
@@ -1,6 +1,5 @@
 package org.betonquest.betonquest.quest.action.folder;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.QuestException;
 import org.betonquest.betonquest.api.identifier.ActionIdentifier;
 import org.betonquest.betonquest.api.identifier.ConditionIdentifier;
@@ -11,11 +10,6 @@ import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestTypeApi;
 import org.betonquest.betonquest.api.quest.action.NullableAction;
 import org.bukkit.Bukkit;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.plugin.PluginManager;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -23,6 +17,7 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
+import java.util.UUID;
 
 /**
  * Folder action is a collection of other actions, that can be run after a delay and with a periode between the action.
@@ -30,20 +25,15 @@ import java.util.Random;
  */
 public class FolderAction implements NullableAction {
 
-    /**
-     * The BetonQuest instance.
-     */
-    private final BetonQuest betonQuest;
-
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
     private final BetonQuestLogger log;
 
     /**
-     * The plugin manager to register the quit listener.
+     * The scheduler to run delayed and periodic actions with.
      */
-    private final PluginManager pluginManager;
+    private final FolderScheduler scheduler;
 
     /**
      * Quest Type API.
@@ -96,9 +86,8 @@ public class FolderAction implements NullableAction {
     /**
      * Create a folder action with the given parameters.
      *
-     * @param betonQuest       the BetonQuest instance
      * @param log              custom logger for this class
-     * @param pluginManager    the plugin manager to register the quit listener
+     * @param scheduler        the scheduler to run delayed and periodic actions with
      * @param actions          actions to run
      * @param questTypeApi     the Quest Type API
      * @param randomGenerator  the random instance to use
@@ -110,14 +99,14 @@ public class FolderAction implements NullableAction {
      * @param cancelConditions conditions to check if the action should be canceled
      */
     @SuppressWarnings("PMD.ExcessiveParameterList")
-    public FolderAction(final BetonQuest betonQuest, final BetonQuestLogger log, final PluginManager pluginManager,
-                        final Argument<List<ActionIdentifier>> actions, final QuestTypeApi questTypeApi, final Random randomGenerator,
+    public FolderAction(final BetonQuestLogger log, final FolderScheduler scheduler,
+                        final Argument<List<ActionIdentifier>> actions,
+                        final QuestTypeApi questTypeApi, final Random randomGenerator,
                         @Nullable final Argument<Number> delay, @Nullable final Argument<Number> period,
                         @Nullable final Argument<Number> random, final Argument<TimeUnit> timeUnit,
                         final FlagArgument<Boolean> cancelOnLogout, final Argument<List<ConditionIdentifier>> cancelConditions) {
-        this.betonQuest = betonQuest;
         this.log = log;
-        this.pluginManager = pluginManager;
+        this.scheduler = scheduler;
         this.questTypeApi = questTypeApi;
         this.randomGenerator = randomGenerator;
         this.delay = delay;
@@ -173,34 +162,28 @@ public class FolderAction implements NullableAction {
             questTypeApi.action(profile, action);
         }
         if (!chosenList.isEmpty()) {
-            final FolderActionCanceler actionCanceler = createFolderActionCanceler(profile);
-            callSameSyncAsyncContext(new BukkitRunnable() {
+            scheduler.schedule(new FolderSequence(getQuitPlayer(profile), !Bukkit.getServer().isPrimaryThread()) {
                 @Override
-                public void run() {
+                protected long step() {
                     final ActionIdentifier action = chosenList.pollFirst();
-                    if (actionCanceler.isCancelled() || action == null || checkCancelConditions(profile)) {
-                        actionCanceler.destroy();
-                        this.cancel();
-                        return;
+                    if (action == null || checkCancelConditions(profile)) {
+                        return -1;
                     }
                     questTypeApi.action(profile, action);
+                    return chosenList.isEmpty() ? -1 : periodTicks;
                 }
-            }, delayTicks == 0 ? periodTicks : delayTicks, periodTicks);
+            }, delayTicks == 0 ? periodTicks : delayTicks);
         }
     }
 
     private void handleDelayNoPeriod(@Nullable final Profile profile, final Deque<ActionIdentifier> chosenList, final long delayTicks) throws QuestException {
-        final FolderActionCanceler actionCanceler = createFolderActionCanceler(profile);
-        callSameSyncAsyncContext(new BukkitRunnable() {
+        scheduler.schedule(new FolderSequence(getQuitPlayer(profile), !Bukkit.getServer().isPrimaryThread()) {
             @Override
-            public void run() {
-                actionCanceler.destroy();
-                if (actionCanceler.isCancelled()) {
-                    return;
-                }
+            protected long step() {
                 executeAllActions(profile, chosenList);
+                return -1;
             }
-        }, delayTicks, -1);
+        }, delayTicks);
     }
 
     private Deque<ActionIdentifier> getActionOrder(@Nullable final Profile profile) throws QuestException {
@@ -219,106 +202,11 @@ public class FolderAction implements NullableAction {
         return chosenList;
     }
 
-    private FolderActionCanceler createFolderActionCanceler(@Nullable final Profile profile) throws QuestException {
+    @Nullable
+    private UUID getQuitPlayer(@Nullable final Profile profile) throws QuestException {
         if (cancelOnLogout.getValue(null).orElse(false) && profile != null) {
-            return new QuitListener(betonQuest, log, pluginManager, profile);
-        }
-        return () -> false;
-    }
-
-    private void callSameSyncAsyncContext(final BukkitRunnable runnable, final long delay, final long period) {
-        if (Bukkit.getServer().isPrimaryThread()) {
-            if (period == -1) {
-                runnable.runTaskLater(betonQuest, delay);
-            } else {
-                runnable.runTaskTimer(betonQuest, delay, period);
-            }
-        } else {
-            if (period == -1) {
-                runnable.runTaskLaterAsynchronously(betonQuest, delay);
-            } else {
-                runnable.runTaskTimerAsynchronously(betonQuest, delay, period);
-            }
-        }
-    }
-
-    /**
-     * Interface to check if an execution of a folder action is cancelled.
-     */
-    @FunctionalInterface
-    private interface FolderActionCanceler {
-
-        /**
-         * Whether the execution of the folder action should be cancelled.
-         *
-         * @return true if the action needs to be cancelled; false otherwise
-         */
-        boolean isCancelled();
-
-        /**
-         * Clean up any resources used by the canceler if necessary.
-         */
-        default void destroy() {
-            // Empty
-        }
-    }
-
-    /**
-     * Registers the quit listener if the action should be cancelled on logout.
-     */
-    private static class QuitListener implements FolderActionCanceler, Listener {
-
-        /**
-         * Custom {@link BetonQuestLogger} instance for this class.
-         */
-        private final BetonQuestLogger log;
-
-        /**
-         * The profile of the player to check for.
-         */
-        private final Profile profile;
-
-        /**
-         * Whether the action is cancelled.
-         */
-        private boolean cancelled;
-
-        /**
-         * Create a quit listener for the given profile's player.
-         *
-         * @param betonQuest    the betonquest instance
-         * @param log           custom logger for this class
-         * @param pluginManager the plugin manager to register the quit listener
-         * @param profile       profile to check for
-         */
-        public QuitListener(final BetonQuest betonQuest, final BetonQuestLogger log, final PluginManager pluginManager,
-                            final Profile profile) {
-            this.log = log;
-            this.profile = profile;
-            pluginManager.registerEvents(this, betonQuest);
-        }
-
-        /**
-         * Handle quit events to check if an execution of the folder action needs to be cancelled.
-         *
-         * @param event player quit event to handle
-         */
-        @EventHandler
-        public void onPlayerQuit(final PlayerQuitEvent event) {
-            if (event.getPlayer().getUniqueId().equals(profile.getPlayerUUID())) {
-                cancelled = true;
-                log.debug("Folder action cancelled due to disconnect of " + profile);
-            }
-        }
-
-        @Override
-        public boolean isCancelled() {
-            return cancelled;
-        }
-
-        @Override
-        public void destroy() {
-            PlayerQuitEvent.getHandlerList().unregister(this);
+            return profile.getPlayerUUID();
         }
+        return null;
     }
 }
@@ -1,6 +1,5 @@
 package org.betonquest.betonquest.quest.action.folder;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.QuestException;
 import org.betonquest.betonquest.api.identifier.ActionIdentifier;
 import org.betonquest.betonquest.api.identifier.ConditionIdentifier;
@@ -14,7 +13,6 @@ import org.betonquest.betonquest.api.quest.action.PlayerAction;
 import org.betonquest.betonquest.api.quest.action.PlayerActionFactory;
 import org.betonquest.betonquest.api.quest.action.PlayerlessAction;
 import org.betonquest.betonquest.api.quest.action.PlayerlessActionFactory;
-import org.bukkit.plugin.PluginManager;
 
 import java.util.Collections;
 import java.util.List;
@@ -26,20 +24,15 @@ import java.util.Random;
  */
 public class FolderActionFactory implements PlayerActionFactory, PlayerlessActionFactory {
 
-    /**
-     * The BetonQuest instance.
-     */
-    private final BetonQuest betonQuest;
-
     /**
      * Logger factory to create a logger for the actions.
      */
     private final BetonQuestLoggerFactory loggerFactory;
 
     /**
-     * The plugin manager to register the quit listener.
+     * The scheduler to run delayed and periodic actions with.
      */
-    private final PluginManager pluginManager;
+    private final FolderScheduler scheduler;
 
     /**
      * Quest Type API.
@@ -49,16 +42,14 @@ public class FolderActionFactory implements PlayerActionFactory, PlayerlessActio
     /**
      * Create a new folder action factory.
      *
-     * @param betonQuest    the BetonQuest instance
      * @param loggerFactory the logger factory to create a logger for the actions
-     * @param pluginManager the plugin manager to register the quit listener
+     * @param scheduler     the scheduler to run delayed and periodic actions with
      * @param questTypeApi  the Quest Type API
      */
-    public FolderActionFactory(final BetonQuest betonQuest, final BetonQuestLoggerFactory loggerFactory,
-                               final PluginManager pluginManager, final QuestTypeApi questTypeApi) {
-        this.betonQuest = betonQuest;
+    public FolderActionFactory(final BetonQuestLoggerFactory loggerFactory, final FolderScheduler scheduler,
+                               final QuestTypeApi questTypeApi) {
         this.loggerFactory = loggerFactory;
-        this.pluginManager = pluginManager;
+        this.scheduler = scheduler;
         this.questTypeApi = questTypeApi;
     }
 
@@ -81,7 +72,7 @@ public class FolderActionFactory implements PlayerActionFactory, PlayerlessActio
         final FlagArgument<Boolean> cancelOnLogout = instruction.bool().getFlag("cancelOnLogout", true);
         final Argument<List<ConditionIdentifier>> cancelConditions = instruction.identifier(ConditionIdentifier.class)
                 .list().get("cancelConditions", Collections.emptyList());
-        return new NullableActionAdapter(new FolderAction(betonQuest, loggerFactory.create(FolderAction.class), pluginManager,
+        return new NullableActionAdapter(new FolderAction(loggerFactory.create(FolderAction.class), scheduler,
                 actions,
                 questTypeApi, new Random(), delay, period, random, timeUnit, cancelOnLogout, cancelConditions));
     }
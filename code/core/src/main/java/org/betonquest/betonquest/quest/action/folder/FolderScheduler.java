@@ -0,0 +1,318 @@
+package org.betonquest.betonquest.quest.action.folder;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.lib.bukkit.event.SessionEventRouter;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A scheduler for delayed and periodic folder actions, which advances all pending sequences from one tick task.
+ * <p>
+ * The sequences are kept in one priority queue ordered by the tick their next step is due at, so each tick only the
+ * due sequences are advanced. Steps of sequences started asynchronously are run together in one asynchronous task per
+ * tick. Sequences cancelled on logout are indexed by their player, who is registered once at the quit router, so a
+ * logout cancels all of them at once. Cancelled sequences are skipped when they are polled and the queue is rebuilt
+ * when more than half of its entries are cancelled. The tick task only runs while sequences are pending.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public class FolderScheduler implements Runnable {
+
+    /**
+     * The amount of nanoseconds in a millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The plugin to run the tasks for.
+     */
+    private final Plugin plugin;
+
+    /**
+     * The scheduler to run the tasks with.
+     */
+    private final BukkitScheduler scheduler;
+
+    /**
+     * The router to register the players with sequences cancelled on logout at.
+     */
+    private final SessionEventRouter<PlayerQuitEvent> quitRouter;
+
+    /**
+     * The next steps of the pending sequences ordered by their tick.
+     */
+    private final PriorityQueue<Step> queue;
+
+    /**
+     * The pending sequences cancelled on logout per player.
+     */
+    private final Map<UUID, Set<FolderSequence>> quitPlayers;
+
+    /**
+     * The amount of pending sequences.
+     */
+    private int pending;
+
+    /**
+     * The current tick of the scheduler.
+     */
+    private long tick;
+
+    /**
+     * The order to keep steps due at the same tick in the order they were scheduled.
+     */
+    private long order;
+
+    /**
+     * The amount of ticks the scheduler ran.
+     */
+    private long ticks;
+
+    /**
+     * The amount of steps run.
+     */
+    private long steps;
+
+    /**
+     * The time in nanoseconds the last tick took.
+     */
+    private long lastTickTime;
+
+    /**
+     * The longest time in nanoseconds a tick took.
+     */
+    private long maxTickTime;
+
+    /**
+     * The combined time in nanoseconds all ticks took.
+     */
+    private long totalTime;
+
+    /**
+     * The running tick task.
+     */
+    @Nullable
+    private BukkitTask task;
+
+    /**
+     * Creates a new folder scheduler.
+     *
+     * @param log        the logger to use
+     * @param plugin     the plugin to run the tasks for
+     * @param scheduler  the scheduler to run the tasks with
+     * @param quitRouter the router to register the players with sequences cancelled on logout at
+     */
+    public FolderScheduler(final BetonQuestLogger log, final Plugin plugin, final BukkitScheduler scheduler,
+                           final SessionEventRouter<PlayerQuitEvent> quitRouter) {
+        this.log = log;
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.quitRouter = quitRouter;
+        this.queue = new PriorityQueue<>(Comparator.comparingLong(Step::tick).thenComparingLong(Step::order));
+        this.quitPlayers = new HashMap<>();
+    }
+
+    /**
+     * Schedules the first step of the sequence after the given delay.
+     *
+     * @param sequence the sequence to schedule
+     * @param delay    the delay in ticks, at least one tick
+     */
+    public void schedule(final FolderSequence sequence, final long delay) {
+        synchronized (this) {
+            pending++;
+            final UUID quitPlayer = sequence.getQuitPlayer();
+            if (quitPlayer != null) {
+                quitPlayers.computeIfAbsent(quitPlayer, player -> {
+                    quitRouter.register(player, this, event -> cancelAll(player));
+                    return new HashSet<>();
+                }).add(sequence);
+            }
+            enqueue(sequence, delay);
+        }
+    }
+
+    /**
+     * Cancels all pending sequences which are cancelled on the logout of the player.
+     *
+     * @param player the UUID of the player
+     */
+    public void cancelAll(final UUID player) {
+        final int cancelled;
+        synchronized (this) {
+            final Set<FolderSequence> sequences = quitPlayers.remove(player);
+            if (sequences == null) {
+                return;
+            }
+            quitRouter.unregister(player, this);
+            for (final FolderSequence sequence : sequences) {
+                sequence.markDone();
+            }
+            cancelled = sequences.size();
+            pending -= cancelled;
+            if (queue.size() > 2 * pending) {
+                queue.removeIf(step -> step.sequence().isDone());
+            }
+        }
+        log.debug("Cancelled " + cancelled + " folder actions due to disconnect of player " + player);
+    }
+
+    /**
+     * Gets the amount of pending sequences.
+     *
+     * @return the amount of sequences
+     */
+    public int size() {
+        synchronized (this) {
+            return pending;
+        }
+    }
+
+    /**
+     * Gets the current counters of this scheduler.
+     *
+     * @return a snapshot of the metrics
+     */
+    public FolderSchedulerMetrics getMetrics() {
+        synchronized (this) {
+            return new FolderSchedulerMetrics(pending, quitPlayers.size(), ticks, steps, lastTickTime / NANOS_PER_MILLI,
+                    maxTickTime / NANOS_PER_MILLI, totalTime / NANOS_PER_MILLI);
+        }
+    }
+
+    /**
+     * Writes the current metrics to the debug log.
+     */
+    public void logMetrics() {
+        log.debug("Folder scheduler usage: " + getMetrics());
+    }
+
+    /**
+     * Stops the tick task and writes the metrics to the debug log.
+     */
+    public void stop() {
+        synchronized (this) {
+            if (task != null) {
+                task.cancel();
+                task = null;
+            }
+        }
+        logMetrics();
+    }
+
+    @Override
+    public void run() {
+        final long start = System.nanoTime();
+        final List<FolderSequence> asyncSteps = new ArrayList<>();
+        for (final FolderSequence sequence : pollDue()) {
+            if (sequence.isAsync()) {
+                asyncSteps.add(sequence);
+            } else {
+                advance(sequence);
+            }
+        }
+        if (!asyncSteps.isEmpty()) {
+            scheduler.runTaskAsynchronously(plugin, () -> asyncSteps.forEach(this::advance));
+        }
+        final long duration = System.nanoTime() - start;
+        synchronized (this) {
+            ticks++;
+            lastTickTime = duration;
+            maxTickTime = Math.max(maxTickTime, duration);
+            totalTime += duration;
+        }
+    }
+
+    private List<FolderSequence> pollDue() {
+        synchronized (this) {
+            tick++;
+            final List<FolderSequence> due = new ArrayList<>();
+            while (!queue.isEmpty() && queue.peek().tick() <= tick) {
+                final FolderSequence sequence = queue.poll().sequence();
+                if (!sequence.isDone()) {
+                    due.add(sequence);
+                }
+            }
+            if (pending == 0) {
+                queue.clear();
+                if (task != null) {
+                    task.cancel();
+                    task = null;
+                }
+            }
+            return due;
+        }
+    }
+
+    private void advance(final FolderSequence sequence) {
+        if (sequence.isDone()) {
+            return;
+        }
+        long next;
+        try {
+            next = sequence.step();
+        } catch (final RuntimeException e) {
+            log.error("Error while running a step of a folder action: " + e.getMessage(), e);
+            next = -1;
+        }
+        synchronized (this) {
+            steps++;
+            if (sequence.isDone()) {
+                return;
+            }
+            if (next < 0) {
+                finish(sequence);
+            } else {
+                enqueue(sequence, next);
+            }
+        }
+    }
+
+    private void enqueue(final FolderSequence sequence, final long delay) {
+        queue.add(new Step(sequence, tick + Math.max(1, delay), order++));
+        if (task == null) {
+            task = scheduler.runTaskTimer(plugin, this, 1, 1);
+        }
+    }
+
+    private void finish(final FolderSequence sequence) {
+        sequence.markDone();
+        pending--;
+        final UUID quitPlayer = sequence.getQuitPlayer();
+        if (quitPlayer == null) {
+            return;
+        }
+        final Set<FolderSequence> sequences = quitPlayers.get(quitPlayer);
+        if (sequences != null && sequences.remove(sequence) && sequences.isEmpty()) {
+            quitPlayers.remove(quitPlayer);
+            quitRouter.unregister(quitPlayer, this);
+        }
+    }
+
+    /**
+     * A scheduled step of a sequence.
+     *
+     * @param sequence the sequence
+     * @param tick     the tick the step is due at
+     * @param order    the order to keep steps due at the same tick in the order they were scheduled
+     */
+    private record Step(FolderSequence sequence, long tick, long order) {
+    }
+}
@@ -0,0 +1,32 @@
+package org.betonquest.betonquest.quest.action.folder;
+
+/**
+ * Snapshot of the counters of a {@link FolderScheduler}.
+ *
+ * @param pending        the amount of sequences currently waiting for their next step
+ * @param quitPlayers    the amount of players with sequences cancelled on their logout
+ * @param ticks          the amount of ticks the scheduler ran since the start
+ * @param steps          the amount of steps run since the start
+ * @param lastTickMillis the time the last tick took on the primary thread in milliseconds
+ * @param maxTickMillis  the highest time a single tick took on the primary thread in milliseconds
+ * @param totalMillis    the combined time all ticks took on the primary thread in milliseconds
+ */
+public record FolderSchedulerMetrics(
+        int pending,
+        int quitPlayers,
+        long ticks,
+        long steps,
+        double lastTickMillis,
+        double maxTickMillis,
+        double totalMillis
+) {
+
+    /**
+     * Gets the average time a tick took on the primary thread.
+     *
+     * @return the average tick time in milliseconds or 0 if no tick ran yet
+     */
+    public double averageTickMillis() {
+        return ticks == 0 ? 0 : totalMillis / ticks;
+    }
+}
@@ -0,0 +1,80 @@
+package org.betonquest.betonquest.quest.action.folder;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * A pending execution of a delayed or periodic folder action, advanced by the {@link FolderScheduler}.
+ */
+public abstract class FolderSequence {
+
+    /**
+     * The player whose logout cancels the sequence, or null if it is not cancelled on logout.
+     */
+    @Nullable
+    private final UUID quitPlayer;
+
+    /**
+     * Whether the steps run asynchronously instead of on the primary thread.
+     */
+    private final boolean async;
+
+    /**
+     * Whether the sequence is finished or cancelled.
+     */
+    private volatile boolean done;
+
+    /**
+     * Creates a new folder sequence.
+     *
+     * @param quitPlayer the player whose logout cancels the sequence, or null if it is not cancelled on logout
+     * @param async      whether the steps run asynchronously instead of on the primary thread
+     */
+    protected FolderSequence(@Nullable final UUID quitPlayer, final boolean async) {
+        this.quitPlayer = quitPlayer;
+        this.async = async;
+    }
+
+    /**
+     * Runs the next step of the sequence.
+     *
+     * @return the ticks until the next step, or a negative value if the sequence is finished
+     */
+    protected abstract long step();
+
+    /**
+     * Gets the player whose logout cancels the sequence.
+     *
+     * @return the player's UUID, or null if the sequence is not cancelled on logout
+     */
+    @Nullable
+    public UUID getQuitPlayer() {
+        return quitPlayer;
+    }
+
+    /**
+     * Whether the steps run asynchronously instead of on the primary thread.
+     *
+     * @return true if the steps run asynchronously
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Whether the sequence is finished or cancelled.
+     *
+     * @return true if no further steps will run
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Marks the sequence as finished or cancelled.
+     */
+    /* default */ void markDone() {
+        done = true;
+    }
+}
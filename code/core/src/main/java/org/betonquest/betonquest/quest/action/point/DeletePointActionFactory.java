@@ -9,6 +9,7 @@ import org.betonquest.betonquest.api.quest.action.PlayerActionFactory;
 import org.betonquest.betonquest.api.quest.action.PlayerlessAction;
 import org.betonquest.betonquest.api.quest.action.PlayerlessActionFactory;
 import org.betonquest.betonquest.data.PlayerDataStorage;
+import org.betonquest.betonquest.database.PointLeaderboard;
 import org.betonquest.betonquest.database.Saver;
 
 /**
@@ -31,17 +32,25 @@ public class DeletePointActionFactory implements PlayerActionFactory, Playerless
      */
     private final ProfileProvider profileProvider;
 
+    /**
+     * The leaderboard to remove deleted categories from.
+     */
+    private final PointLeaderboard leaderboard;
+
     /**
      * Create the delete points action factory.
      *
      * @param dataStorage     the storage providing player data
      * @param saver           the saver to use
      * @param profileProvider the profile provider instance
+     * @param leaderboard     the leaderboard to remove deleted categories from
      */
-    public DeletePointActionFactory(final PlayerDataStorage dataStorage, final Saver saver, final ProfileProvider profileProvider) {
+    public DeletePointActionFactory(final PlayerDataStorage dataStorage, final Saver saver, final ProfileProvider profileProvider,
+                                    final PointLeaderboard leaderboard) {
         this.dataStorage = dataStorage;
         this.saver = saver;
         this.profileProvider = profileProvider;
+        this.leaderboard = leaderboard;
     }
 
     @Override
@@ -52,6 +61,6 @@ public class DeletePointActionFactory implements PlayerActionFactory, Playerless
     @Override
     public PlayerlessAction parsePlayerless(final Instruction instruction) throws QuestException {
         final Argument<String> category = instruction.packageIdentifier().get();
-        return new DeletePointPlayerlessAction(dataStorage, saver, profileProvider, category);
+        return new DeletePointPlayerlessAction(dataStorage, saver, profileProvider, leaderboard, category);
     }
 }
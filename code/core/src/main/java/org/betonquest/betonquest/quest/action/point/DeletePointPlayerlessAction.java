@@ -6,6 +6,7 @@ import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.profile.ProfileProvider;
 import org.betonquest.betonquest.api.quest.action.PlayerlessAction;
 import org.betonquest.betonquest.data.PlayerDataStorage;
+import org.betonquest.betonquest.database.PointLeaderboard;
 import org.betonquest.betonquest.database.Saver;
 import org.betonquest.betonquest.database.UpdateType;
 
@@ -29,6 +30,11 @@ public class DeletePointPlayerlessAction implements PlayerlessAction {
      */
     private final ProfileProvider profileProvider;
 
+    /**
+     * The leaderboard to remove the category from.
+     */
+    private final PointLeaderboard leaderboard;
+
     /**
      * Point category to remove.
      */
@@ -40,12 +46,15 @@ public class DeletePointPlayerlessAction implements PlayerlessAction {
      * @param dataStorage     the storage providing player data
      * @param saver           the saver to use
      * @param profileProvider the profile provider instance
+     * @param leaderboard     the leaderboard to remove the category from
      * @param category        the category to remove
      */
-    public DeletePointPlayerlessAction(final PlayerDataStorage dataStorage, final Saver saver, final ProfileProvider profileProvider, final Argument<String> category) {
+    public DeletePointPlayerlessAction(final PlayerDataStorage dataStorage, final Saver saver, final ProfileProvider profileProvider,
+                                       final PointLeaderboard leaderboard, final Argument<String> category) {
         this.dataStorage = dataStorage;
         this.saver = saver;
         this.profileProvider = profileProvider;
+        this.leaderboard = leaderboard;
         this.category = category;
     }
 
@@ -56,5 +65,6 @@ public class DeletePointPlayerlessAction implements PlayerlessAction {
             dataStorage.get(onlineProfile).removePointsCategory(category);
         }
         saver.add(new Saver.Record(UpdateType.REMOVE_ALL_POINTS, category));
+        leaderboard.removeCategory(category);
     }
 }
@@ -15,13 +15,14 @@ import org.betonquest.betonquest.api.quest.condition.NullableCondition;
 import org.betonquest.betonquest.api.quest.condition.PlayerCondition;
 import org.betonquest.betonquest.api.quest.condition.PlayerlessCondition;
 import org.betonquest.betonquest.kernel.processor.adapter.ConditionAdapter;
+import org.betonquest.betonquest.kernel.processor.quest.CompiledInstructionCache;
+import org.betonquest.betonquest.kernel.processor.quest.PrimaryThreadBridge;
 import org.betonquest.betonquest.kernel.registry.QuestTypeRegistry;
 import org.betonquest.betonquest.kernel.registry.quest.ConditionTypeRegistry;
 import org.bukkit.Bukkit;
-import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitScheduler;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -60,14 +61,14 @@ public class EvalCondition implements NullableCondition {
     private final BetonQuestApi betonQuestApi;
 
     /**
-     * The scheduler to use for synchronous execution.
+     * The bridge to run primary thread enforced calls from other threads.
      */
-    private final BukkitScheduler scheduler;
+    private final PrimaryThreadBridge primaryThread;
 
     /**
-     * The plugin instance.
+     * The cache for conditions compiled from evaluated instructions.
      */
-    private final Plugin plugin;
+    private final CompiledInstructionCache<ConditionAdapter> compiledCache;
 
     /**
      * Creates a new Eval condition.
@@ -78,19 +79,20 @@ public class EvalCondition implements NullableCondition {
      * @param conditionTypeRegistry the condition type registry providing factories to parse the evaluated instruction
      * @param pack                  the quest package to relate the condition to
      * @param evaluation            the evaluation input
-     * @param scheduler             the scheduler to use for synchronous execution
-     * @param plugin                the plugin instance
+     * @param primaryThread         the bridge to run primary thread enforced calls from other threads
+     * @param compiledCache         the cache for conditions compiled from evaluated instructions
      */
     public EvalCondition(final BetonQuestApi betonQuestApi, final Placeholders placeholders, final QuestPackageManager packManager, final ConditionTypeRegistry conditionTypeRegistry,
-                         final QuestPackage pack, final Argument<String> evaluation, final BukkitScheduler scheduler, final Plugin plugin) {
+                         final QuestPackage pack, final Argument<String> evaluation, final PrimaryThreadBridge primaryThread,
+                         final CompiledInstructionCache<ConditionAdapter> compiledCache) {
         this.placeholders = placeholders;
         this.packManager = packManager;
         this.betonQuestApi = betonQuestApi;
         this.conditionTypeRegistry = conditionTypeRegistry;
         this.pack = pack;
         this.evaluation = evaluation;
-        this.scheduler = scheduler;
-        this.plugin = plugin;
+        this.primaryThread = primaryThread;
+        this.compiledCache = compiledCache;
     }
 
     /**
@@ -115,11 +117,12 @@ public class EvalCondition implements NullableCondition {
 
     @Override
     public boolean check(@Nullable final Profile profile) throws QuestException {
-        final ConditionAdapter condition = createCondition(betonQuestApi.getArgumentParsers(), placeholders, packManager, conditionTypeRegistry, pack, evaluation.getValue(profile));
+        final ConditionAdapter condition = compiledCache.get(pack, evaluation.getValue(profile), instruction ->
+                createCondition(betonQuestApi.getArgumentParsers(), placeholders, packManager, conditionTypeRegistry, pack, instruction));
         if (condition.isPrimaryThreadEnforced() && !Bukkit.isPrimaryThread()) {
             try {
-                return scheduler.callSyncMethod(plugin, () -> condition.check(profile)).get();
-            } catch (InterruptedException | ExecutionException e) {
+                return primaryThread.call(() -> condition.check(profile)).get();
+            } catch (InterruptedException | ExecutionException | CancellationException e) {
                 throw new QuestException("Failed to check condition in primary thread", e);
             }
         }
@@ -10,9 +10,10 @@ import org.betonquest.betonquest.api.quest.condition.PlayerCondition;
 import org.betonquest.betonquest.api.quest.condition.PlayerConditionFactory;
 import org.betonquest.betonquest.api.quest.condition.PlayerlessCondition;
 import org.betonquest.betonquest.api.quest.condition.PlayerlessConditionFactory;
+import org.betonquest.betonquest.kernel.processor.adapter.ConditionAdapter;
+import org.betonquest.betonquest.kernel.processor.quest.CompiledInstructionCache;
+import org.betonquest.betonquest.kernel.processor.quest.PrimaryThreadBridge;
 import org.betonquest.betonquest.kernel.registry.quest.ConditionTypeRegistry;
-import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitScheduler;
 
 /**
  * A factory for creating Eval conditions.
@@ -40,14 +41,14 @@ public class EvalConditionFactory implements PlayerConditionFactory, PlayerlessC
     private final BetonQuestApi betonQuestApi;
 
     /**
-     * The scheduler to use for synchronous execution.
+     * The bridge to run primary thread enforced calls from other threads.
      */
-    private final BukkitScheduler scheduler;
+    private final PrimaryThreadBridge primaryThread;
 
     /**
-     * The plugin instance.
+     * The cache for conditions compiled from evaluated instructions.
      */
-    private final Plugin plugin;
+    private final CompiledInstructionCache<ConditionAdapter> compiledCache;
 
     /**
      * Creates a new Eval condition factory.
@@ -56,17 +57,18 @@ public class EvalConditionFactory implements PlayerConditionFactory, PlayerlessC
      * @param placeholders          the {@link Placeholders} to create and resolve placeholders
      * @param packManager           the quest package manager to get quest packages from
      * @param conditionTypeRegistry the condition type registry providing factories to parse the evaluated instruction
-     * @param scheduler             the scheduler to use for synchronous execution
-     * @param plugin                the plugin instance
+     * @param primaryThread         the bridge to run primary thread enforced calls from other threads
+     * @param compiledCache         the cache for conditions compiled from evaluated instructions
      */
     public EvalConditionFactory(final BetonQuestApi betonQuestApi, final Placeholders placeholders, final QuestPackageManager packManager,
-                                final ConditionTypeRegistry conditionTypeRegistry, final BukkitScheduler scheduler, final Plugin plugin) {
+                                final ConditionTypeRegistry conditionTypeRegistry, final PrimaryThreadBridge primaryThread,
+                                final CompiledInstructionCache<ConditionAdapter> compiledCache) {
         this.placeholders = placeholders;
         this.packManager = packManager;
         this.betonQuestApi = betonQuestApi;
         this.conditionTypeRegistry = conditionTypeRegistry;
-        this.scheduler = scheduler;
-        this.plugin = plugin;
+        this.primaryThread = primaryThread;
+        this.compiledCache = compiledCache;
     }
 
     @Override
@@ -82,6 +84,6 @@ public class EvalConditionFactory implements PlayerConditionFactory, PlayerlessC
     private NullableConditionAdapter parseEvalCondition(final Instruction instruction) throws QuestException {
         final String rawInstruction = String.join(" ", instruction.getValueParts());
         return new NullableConditionAdapter(new EvalCondition(betonQuestApi, placeholders, packManager, conditionTypeRegistry,
-                instruction.getPackage(), instruction.chainForArgument(rawInstruction).string().get(), scheduler, plugin));
+                instruction.getPackage(), instruction.chainForArgument(rawInstruction).string().get(), primaryThread, compiledCache));
     }
 }
@@ -5,11 +5,13 @@ import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.instruction.type.ItemWrapper;
 import org.betonquest.betonquest.api.item.QuestItem;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.api.quest.condition.ConditionDependency;
 import org.betonquest.betonquest.api.quest.condition.OnlineCondition;
 import org.betonquest.betonquest.data.PlayerDataStorage;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -63,4 +65,9 @@ public class ItemCondition implements OnlineCondition {
     public boolean isPrimaryThreadEnforced() {
         return true;
     }
+
+    @Override
+    public Set<ConditionDependency> getDependencies() {
+        return Set.of(ConditionDependency.INVENTORY);
+    }
 }
@@ -5,8 +5,11 @@ import org.betonquest.betonquest.api.identifier.ObjectiveIdentifier;
 import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestTypeApi;
+import org.betonquest.betonquest.api.quest.condition.ConditionDependency;
 import org.betonquest.betonquest.api.quest.condition.PlayerCondition;
 
+import java.util.Set;
+
 /**
  * Checks if the player has specified objective active.
  */
@@ -37,4 +40,9 @@ public class ObjectiveCondition implements PlayerCondition {
     public boolean check(final Profile profile) throws QuestException {
         return questTypeApi.getObjective(objectiveId.getValue(profile)).getService().containsProfile(profile);
     }
+
+    @Override
+    public Set<ConditionDependency> getDependencies() {
+        return Set.of(ConditionDependency.OBJECTIVES);
+    }
 }
@@ -4,10 +4,12 @@ import org.betonquest.betonquest.api.QuestException;
 import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.instruction.FlagArgument;
 import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.condition.ConditionDependency;
 import org.betonquest.betonquest.api.quest.condition.PlayerCondition;
 import org.betonquest.betonquest.data.PlayerDataStorage;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * A condition that checks if a player has a certain amount of points.
@@ -59,4 +61,9 @@ public class PointCondition implements PlayerCondition {
         final int pCount = this.count.getValue(profile).intValue();
         return equal.getValue(profile).orElse(false) ? points == pCount : points >= pCount;
     }
+
+    @Override
+    public Set<ConditionDependency> getDependencies() {
+        return Set.of(ConditionDependency.POINTS);
+    }
 }
@@ -3,9 +3,12 @@ package org.betonquest.betonquest.quest.condition.tag;
 import org.betonquest.betonquest.api.QuestException;
 import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.condition.ConditionDependency;
 import org.betonquest.betonquest.api.quest.condition.PlayerCondition;
 import org.betonquest.betonquest.data.PlayerDataStorage;
 
+import java.util.Set;
+
 /**
  * A condition that checks if a player has a certain tag.
  */
@@ -36,4 +39,9 @@ public class TagCondition implements PlayerCondition {
     public boolean check(final Profile profile) throws QuestException {
         return dataStorage.get(profile).hasTag(tag.getValue(profile));
     }
+
+    @Override
+    public Set<ConditionDependency> getDependencies() {
+        return Set.of(ConditionDependency.TAGS);
+    }
 }
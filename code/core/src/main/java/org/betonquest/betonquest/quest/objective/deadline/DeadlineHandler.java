@@ -0,0 +1,18 @@
+package org.betonquest.betonquest.quest.objective.deadline;
+
+import org.betonquest.betonquest.api.profile.Profile;
+
+/**
+ * Handles the deadlines of profiles scheduled in a {@link DeadlineScheduler}.
+ */
+@FunctionalInterface
+public interface DeadlineHandler {
+
+    /**
+     * Called on the main thread when the deadline of the profile is due.
+     *
+     * @param profile the profile whose deadline is due
+     * @param now     the current time in epoch milliseconds
+     */
+    void onDeadline(Profile profile, long now);
+}
@@ -0,0 +1,278 @@
+package org.betonquest.betonquest.quest.objective.deadline;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.lib.bukkit.event.SessionEventRouter;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A scheduler for time based objectives, which calls the handler of a profile once its deadline is due.
+ * <p>
+ * All deadlines are kept in one priority queue ordered by their time, so each tick only the due deadlines are
+ * handled and no work is done while nothing is due. The tick task only runs while deadlines are scheduled.
+ * Deadlines are indexed by their player, who is registered once at the quit router, so a logout cancels all of them
+ * at once. Rescheduling or cancelling a deadline leaves the old entry in the queue, it is skipped when it is polled.
+ * The queue is rebuilt when more than half of its entries are outdated.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public class DeadlineScheduler implements Runnable {
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The plugin to run the tick task for.
+     */
+    private final Plugin plugin;
+
+    /**
+     * The scheduler to run the tick task with.
+     */
+    private final BukkitScheduler scheduler;
+
+    /**
+     * The router to register the players with scheduled deadlines at.
+     */
+    private final SessionEventRouter<PlayerQuitEvent> quitRouter;
+
+    /**
+     * The clock to get the current time from.
+     */
+    private final InstantSource clock;
+
+    /**
+     * The scheduled deadlines ordered by their time.
+     */
+    private final PriorityQueue<Deadline> queue;
+
+    /**
+     * The current deadline per handler and profile.
+     */
+    private final Map<Key, Deadline> current;
+
+    /**
+     * The keys of the current deadlines per player.
+     */
+    private final Map<UUID, Set<Key>> players;
+
+    /**
+     * The sequence to keep the order of deadlines with the same time.
+     */
+    private long sequence;
+
+    /**
+     * The running tick task.
+     */
+    @Nullable
+    private BukkitTask task;
+
+    /**
+     * Creates a new deadline scheduler.
+     *
+     * @param log       the logger to use
+     * @param plugin    the plugin to run the tick task for
+     * @param scheduler  the scheduler to run the tick task with
+     * @param quitRouter the router to register the players with scheduled deadlines at
+     * @param clock      the clock to get the current time from
+     */
+    public DeadlineScheduler(final BetonQuestLogger log, final Plugin plugin, final BukkitScheduler scheduler,
+                             final SessionEventRouter<PlayerQuitEvent> quitRouter, final InstantSource clock) {
+        this.log = log;
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.quitRouter = quitRouter;
+        this.clock = clock;
+        this.queue = new PriorityQueue<>(Comparator.comparingLong(Deadline::time).thenComparingLong(Deadline::sequence));
+        this.current = new HashMap<>();
+        this.players = new HashMap<>();
+    }
+
+    /**
+     * Schedules the deadline of the profile, replacing a previously scheduled deadline of the handler for it.
+     *
+     * @param handler the handler to call
+     * @param profile the profile the deadline belongs to
+     * @param time    the time of the deadline in epoch milliseconds
+     */
+    public void schedule(final DeadlineHandler handler, final Profile profile, final long time) {
+        synchronized (this) {
+            final Deadline deadline = new Deadline(new Key(handler, profile.getProfileUUID()), profile, time, sequence++);
+            current.put(deadline.key(), deadline);
+            queue.add(deadline);
+            players.computeIfAbsent(profile.getPlayerUUID(), player -> {
+                quitRouter.register(player, this, event -> cancelAll(player));
+                return new HashSet<>();
+            }).add(deadline.key());
+            if (task == null) {
+                task = scheduler.runTaskTimer(plugin, this, 1, 1);
+            }
+        }
+    }
+
+    /**
+     * Schedules the deadline of the profile after the given delay.
+     *
+     * @param handler the handler to call
+     * @param profile the profile the deadline belongs to
+     * @param delay   the delay in milliseconds
+     */
+    public void scheduleIn(final DeadlineHandler handler, final Profile profile, final long delay) {
+        schedule(handler, profile, clock.millis() + delay);
+    }
+
+    /**
+     * Cancels the deadline of the profile for the handler.
+     *
+     * @param handler the handler of the deadline
+     * @param profile the profile of the deadline
+     */
+    public void cancel(final DeadlineHandler handler, final Profile profile) {
+        synchronized (this) {
+            final Deadline deadline = current.remove(new Key(handler, profile.getProfileUUID()));
+            if (deadline != null) {
+                forget(deadline);
+            }
+            compact();
+        }
+    }
+
+    /**
+     * Cancels all deadlines of the handler.
+     *
+     * @param handler the handler to cancel the deadlines for
+     */
+    public void cancelAll(final DeadlineHandler handler) {
+        synchronized (this) {
+            final List<Deadline> cancelled = new ArrayList<>();
+            for (final Deadline deadline : current.values()) {
+                if (deadline.key().handler().equals(handler)) {
+                    cancelled.add(deadline);
+                }
+            }
+            for (final Deadline deadline : cancelled) {
+                current.remove(deadline.key());
+                forget(deadline);
+            }
+            compact();
+        }
+    }
+
+    /**
+     * Cancels all deadlines of the player.
+     *
+     * @param player the UUID of the player
+     */
+    public void cancelAll(final UUID player) {
+        final int cancelled;
+        synchronized (this) {
+            final Set<Key> keys = players.remove(player);
+            if (keys == null) {
+                return;
+            }
+            quitRouter.unregister(player, this);
+            keys.forEach(current::remove);
+            cancelled = keys.size();
+            compact();
+        }
+        log.debug("Cancelled " + cancelled + " deadlines due to disconnect of player " + player);
+    }
+
+    private void forget(final Deadline deadline) {
+        final UUID player = deadline.profile().getPlayerUUID();
+        final Set<Key> keys = players.get(player);
+        if (keys != null && keys.remove(deadline.key()) && keys.isEmpty()) {
+            players.remove(player);
+            quitRouter.unregister(player, this);
+        }
+    }
+
+    private void compact() {
+        if (queue.size() > 2 * current.size()) {
+            queue.clear();
+            queue.addAll(current.values());
+        }
+    }
+
+    /**
+     * Gets the amount of scheduled deadlines.
+     *
+     * @return the amount of deadlines
+     */
+    public int size() {
+        synchronized (this) {
+            return current.size();
+        }
+    }
+
+    @Override
+    public void run() {
+        final long now = clock.millis();
+        for (final Deadline deadline : pollDue(now)) {
+            try {
+                deadline.key().handler().onDeadline(deadline.profile(), now);
+            } catch (final RuntimeException e) {
+                log.error("Error while handling the deadline of profile '" + deadline.profile() + "': " + e.getMessage(), e);
+            }
+        }
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private List<Deadline> pollDue(final long now) {
+        synchronized (this) {
+            final List<Deadline> due = new ArrayList<>();
+            while (!queue.isEmpty() && queue.peek().time() <= now) {
+                final Deadline deadline = queue.poll();
+                if (current.get(deadline.key()) == deadline) {
+                    current.remove(deadline.key());
+                    forget(deadline);
+                    due.add(deadline);
+                }
+            }
+            if (current.isEmpty()) {
+                queue.clear();
+                if (task != null) {
+                    task.cancel();
+                    task = null;
+                }
+            }
+            return due;
+        }
+    }
+
+    /**
+     * Identifies the deadline of a handler for a profile.
+     *
+     * @param handler     the handler
+     * @param profileUUID the profile UUID
+     */
+    private record Key(DeadlineHandler handler, UUID profileUUID) {
+    }
+
+    /**
+     * A scheduled deadline.
+     *
+     * @param key      the key of the deadline
+     * @param profile  the profile of the deadline
+     * @param time     the time in epoch milliseconds
+     * @param sequence the sequence to order deadlines with the same time
+     */
+    private record Deadline(Key key, Profile profile, long time, long sequence) {
+    }
+}
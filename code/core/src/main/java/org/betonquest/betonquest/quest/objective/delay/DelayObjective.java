@@ -6,31 +6,32 @@ import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.DefaultObjective;
 import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.bukkit.event.PlayerObjectiveChangeEvent;
 import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.instruction.FlagArgument;
 import org.betonquest.betonquest.api.instruction.argument.parser.NumberParser;
 import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.objective.ObjectiveState;
+import org.betonquest.betonquest.api.quest.objective.service.ObjectiveDataCodec;
 import org.betonquest.betonquest.api.quest.objective.service.ObjectiveProperties;
 import org.betonquest.betonquest.api.quest.objective.service.ObjectiveService;
+import org.betonquest.betonquest.api.quest.objective.service.TypedObjectiveData;
 import org.betonquest.betonquest.config.PluginMessage;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
+import org.betonquest.betonquest.quest.objective.deadline.DeadlineHandler;
+import org.betonquest.betonquest.quest.objective.deadline.DeadlineScheduler;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Locale;
-import java.util.Map.Entry;
 
 /**
  * Player has to wait specified amount of time. He may logout, the objective
  * will be completed as soon as the time is up and he logs in again.
  */
-public class DelayObjective extends DefaultObjective {
+public class DelayObjective extends DefaultObjective implements DeadlineHandler {
 
     /**
      * The delay time in seconds, minutes, or ticks.
@@ -48,45 +49,41 @@ public class DelayObjective extends DefaultObjective {
     private final FlagArgument<Boolean> seconds;
 
     /**
-     * The runnable task that checks the delay.
+     * The interval in milliseconds after which the conditions are checked again when they were not met.
      */
-    private final BukkitTask runnable;
+    private final long retryInterval;
+
+    /**
+     * The target timestamps in milliseconds per profile.
+     */
+    private final TypedObjectiveData<Long> targetTimestamps;
+
+    /**
+     * The scheduler to complete the objective when the time is up.
+     */
+    private final DeadlineScheduler deadlines;
 
     /**
      * Constructor for the DelayObjective.
      *
-     * @param service  the objective service
-     * @param interval the interval in ticks at which the objective checks if the time is up
-     * @param delay    the delay time in seconds, minutes, or ticks
-     * @param ticks    the flag for parsing the delay time as ticks
-     * @param seconds  the flag for parsing the delay time as seconds
+     * @param service   the objective service
+     * @param interval  the interval in ticks at which the conditions are checked again after the time is up
+     * @param delay     the delay time in seconds, minutes, or ticks
+     * @param ticks     the flag for parsing the delay time as ticks
+     * @param seconds   the flag for parsing the delay time as seconds
+     * @param deadlines the scheduler to complete the objective when the time is up
      * @throws QuestException if there is an error in the instruction
      */
     public DelayObjective(final ObjectiveService service, final Argument<Number> interval,
-                          final Argument<Number> delay, final FlagArgument<Boolean> ticks, final FlagArgument<Boolean> seconds) throws QuestException {
+                          final Argument<Number> delay, final FlagArgument<Boolean> ticks, final FlagArgument<Boolean> seconds,
+                          final DeadlineScheduler deadlines) throws QuestException {
         super(service);
         this.delay = delay;
         this.ticks = ticks;
         this.seconds = seconds;
-        this.runnable = new BukkitRunnable() {
-            @Override
-            public void run() {
-                final List<Profile> players = new LinkedList<>();
-                final long time = System.currentTimeMillis();
-                for (final Entry<Profile, String> entry : service.getData().entrySet()) {
-                    final Profile profile = entry.getKey();
-                    final boolean profileConditions = getExceptionHandler().handle(() -> service.checkConditions(profile), false);
-                    if (profileConditions && time >= getTargetTimestamp(profile)) {
-                        // don't complete the objective, it will throw CME/
-                        // store the player instead, complete later
-                        players.add(profile);
-                    }
-                }
-                for (final Profile profile : players) {
-                    service.complete(profile);
-                }
-            }
-        }.runTaskTimer(BetonQuest.getInstance(), 0, interval.getValue(null).longValue());
+        this.retryInterval = interval.getValue(null).longValue() * 50;
+        this.targetTimestamps = service.getTypedData(new TimestampCodec());
+        this.deadlines = deadlines;
         service.setDefaultData(this::getDefaultDataInstruction);
         final ObjectiveProperties properties = service.getProperties();
         properties.setProperty("left", profile ->
@@ -107,10 +104,49 @@ public class DelayObjective extends DefaultObjective {
 
     @Override
     public void close() {
-        runnable.cancel();
+        deadlines.cancelAll(this);
         super.close();
     }
 
+    /**
+     * Schedules the completion when the objective is started or resumed for the profile.
+     *
+     * @param event   the objective change event
+     * @param profile the profile the objective changed for
+     */
+    public void onObjectiveChange(final PlayerObjectiveChangeEvent event, final Profile profile) {
+        if (event.getObjectiveID().equals(getObjectiveID()) && event.getState() == ObjectiveState.ACTIVE) {
+            deadlines.schedule(this, profile, getTargetTimestamp(profile));
+        }
+    }
+
+    /**
+     * Cancels the scheduled completion when the objective is completed, paused or cancelled for the profile.
+     *
+     * @param event the objective change event
+     */
+    public void onObjectiveStop(final PlayerObjectiveChangeEvent event) {
+        if (event.getObjectiveID().equals(getObjectiveID()) && event.getState() != ObjectiveState.ACTIVE) {
+            deadlines.cancel(this, event.getProfile());
+        }
+    }
+
+    @Override
+    public void onDeadline(final Profile profile, final long now) {
+        final ObjectiveService service = getService();
+        if (!service.containsProfile(profile)) {
+            return;
+        }
+        final long target = getTargetTimestamp(profile);
+        if (now < target) {
+            deadlines.schedule(this, profile, target);
+        } else if (getExceptionHandler().handle(() -> service.checkConditions(profile), false)) {
+            service.complete(profile);
+        } else {
+            deadlines.schedule(this, profile, now + retryInterval);
+        }
+    }
+
     private String getDefaultDataInstruction(final Profile profile) throws QuestException {
         final long millis = timeToMilliSeconds(profile, delay.getValue(profile).longValue());
         return Long.toString(System.currentTimeMillis() + millis);
@@ -165,11 +201,28 @@ public class DelayObjective extends DefaultObjective {
     }
 
     private long getTargetTimestamp(final Profile profile) {
-        final String data = getService().getData().get(profile);
-        try {
-            return NumberParser.DEFAULT.apply(data).longValue();
-        } catch (final QuestException e) {
-            return System.currentTimeMillis();
+        final Long timestamp = targetTimestamps.get(profile);
+        return timestamp == null ? System.currentTimeMillis() : timestamp;
+    }
+
+    /**
+     * Converts the stored target timestamp, so it is only parsed once per profile.
+     * An invalid timestamp is treated as already passed.
+     */
+    private static final class TimestampCodec implements ObjectiveDataCodec<Long> {
+
+        @Override
+        public Long parse(final Profile profile, final String data) {
+            try {
+                return NumberParser.DEFAULT.apply(data).longValue();
+            } catch (final QuestException e) {
+                return System.currentTimeMillis();
+            }
+        }
+
+        @Override
+        public String serialize(final Long data) {
+            return data.toString();
         }
     }
 }
@@ -1,22 +1,32 @@
 package org.betonquest.betonquest.quest.objective.delay;
 
 import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.bukkit.event.PlayerObjectiveChangeEvent;
 import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.instruction.FlagArgument;
 import org.betonquest.betonquest.api.instruction.Instruction;
 import org.betonquest.betonquest.api.quest.objective.Objective;
 import org.betonquest.betonquest.api.quest.objective.ObjectiveFactory;
 import org.betonquest.betonquest.api.quest.objective.service.ObjectiveService;
+import org.betonquest.betonquest.quest.objective.deadline.DeadlineScheduler;
 
 /**
  * Factory for creating {@link DelayObjective} instances from {@link Instruction}s.
  */
 public class DelayObjectiveFactory implements ObjectiveFactory {
 
+    /**
+     * The scheduler to complete the objectives when the time is up.
+     */
+    private final DeadlineScheduler deadlines;
+
     /**
      * Creates a new instance of the DelayObjectiveFactory.
+     *
+     * @param deadlines the scheduler to complete the objectives when the time is up
      */
-    public DelayObjectiveFactory() {
+    public DelayObjectiveFactory(final DeadlineScheduler deadlines) {
+        this.deadlines = deadlines;
     }
 
     @Override
@@ -26,6 +36,10 @@ public class DelayObjectiveFactory implements ObjectiveFactory {
                 .atLeast(1).get("interval", 20 * 10);
         final FlagArgument<Boolean> ticks = instruction.bool().getFlag("ticks", true);
         final FlagArgument<Boolean> seconds = instruction.bool().getFlag("seconds", true);
-        return new DelayObjective(service, interval, delay, ticks, seconds);
+        final DelayObjective objective = new DelayObjective(service, interval, delay, ticks, seconds, deadlines);
+        service.request(PlayerObjectiveChangeEvent.class).handler(objective::onObjectiveChange)
+                .profile(PlayerObjectiveChangeEvent::getProfile).ignoreConditions().subscribe(false);
+        service.request(PlayerObjectiveChangeEvent.class).handler(objective::onObjectiveStop).ignoreConditions().subscribe(false);
+        return objective;
     }
 }
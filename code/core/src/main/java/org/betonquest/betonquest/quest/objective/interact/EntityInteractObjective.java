@@ -7,6 +7,7 @@ import org.betonquest.betonquest.api.QuestException;
 import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.instruction.FlagArgument;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.objective.service.ObjectiveService;
 import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
@@ -114,6 +115,11 @@ public class EntityInteractObjective extends CountingObjective {
         this.cancel = cancel;
     }
 
+    @Override
+    protected CountingData parseCountingData(final String instruction, final Profile profile) throws QuestException {
+        return new EntityInteractData(instruction, profile, getObjectiveID());
+    }
+
     @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.CognitiveComplexity"})
     private boolean onInteract(final OnlineProfile onlineProfile, final Entity entity) throws QuestException {
         if (entity.getType() != mobType.getValue(onlineProfile)) {
@@ -144,8 +150,10 @@ public class EntityInteractObjective extends CountingObjective {
             }
         }
 
-        final String data = getService().getData().get(onlineProfile);
-        final EntityInteractData interactData = new EntityInteractData(data, onlineProfile, getObjectiveID());
+        final EntityInteractData interactData = (EntityInteractData) getCountingData(onlineProfile);
+        if (interactData == null) {
+            return false;
+        }
         final boolean success = interactData.tryProgressWithEntity(entity);
         if (success) {
             completeIfDoneOrNotify(onlineProfile);
@@ -5,6 +5,7 @@ import org.betonquest.betonquest.api.QuestException;
 import org.betonquest.betonquest.api.instruction.FlagArgument;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.quest.objective.service.ObjectiveService;
+import org.betonquest.betonquest.quest.objective.spatial.SpatialIndex;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
@@ -27,7 +28,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * This abstract class serves as a base for objectives that are completed
  * when a player enters or exits a specific location.
  * It listens for various player events such as join, quit, death, respawn, teleport, and movement
- * to check the player's location.
+ * to check the player's location. Movements within the same block are ignored.
  * To register the required events, the {@link #registerLocationEvents(ObjectiveService)} method is called.
  */
 @SuppressWarnings("PMD.TooManyMethods")
@@ -71,6 +72,21 @@ public abstract class AbstractLocationObjective extends DefaultObjective {
      * @throws QuestException if there is an error while registering the events
      */
     public void registerLocationEvents(final ObjectiveService service) throws QuestException {
+        registerProfileEvents(service);
+        service.request(PlayerTeleportEvent.class).onlineHandler(this::onPlayerTeleport)
+                .player(PlayerTeleportEvent::getPlayer).subscribe(true);
+        service.request(PlayerMoveEvent.class).onlineHandler(this::onPlayerMove)
+                .player(PlayerMoveEvent::getPlayer).subscribe(true);
+        service.request(VehicleMoveEvent.class).handler(this::onVehicleMove).ignoreConditions().subscribe(true);
+    }
+
+    /**
+     * Registers the join, quit, death and respawn events, without any movement events.
+     *
+     * @param service the ObjectiveFactoryService to be used in the method
+     * @throws QuestException if there is an error while registering the events
+     */
+    protected void registerProfileEvents(final ObjectiveService service) throws QuestException {
         service.request(PlayerJoinEvent.class).onlineHandler(this::onPlayerJoin)
                 .player(PlayerJoinEvent::getPlayer).subscribe(true);
         service.request(PlayerQuitEvent.class).onlineHandler(this::onPlayerQuit)
@@ -79,11 +95,6 @@ public abstract class AbstractLocationObjective extends DefaultObjective {
                 .player(PlayerDeathEvent::getPlayer).subscribe(true);
         service.request(PlayerRespawnEvent.class).onlineHandler(this::onPlayerRespawn)
                 .player(PlayerRespawnEvent::getPlayer).subscribe(true);
-        service.request(PlayerTeleportEvent.class).onlineHandler(this::onPlayerTeleport)
-                .player(PlayerTeleportEvent::getPlayer).subscribe(true);
-        service.request(PlayerMoveEvent.class).onlineHandler(this::onPlayerMove)
-                .player(PlayerMoveEvent::getPlayer).subscribe(true);
-        service.request(VehicleMoveEvent.class).handler(this::onVehicleMove).ignoreConditions().subscribe(true);
     }
 
     /**
@@ -148,6 +159,9 @@ public abstract class AbstractLocationObjective extends DefaultObjective {
      * @throws QuestException if argument resolving for the profile fails
      */
     public void onPlayerMove(final PlayerMoveEvent event, final OnlineProfile onlineProfile) throws QuestException {
+        if (SpatialIndex.isSameBlock(event.getFrom(), event.getTo())) {
+            return;
+        }
         checkLocation(onlineProfile, event.getTo());
     }
 
@@ -158,6 +172,9 @@ public abstract class AbstractLocationObjective extends DefaultObjective {
      * @throws QuestException if argument resolving for the profile fails
      */
     public void onVehicleMove(final VehicleMoveEvent event) throws QuestException {
+        if (SpatialIndex.isSameBlock(event.getFrom(), event.getTo())) {
+            return;
+        }
         final List<Entity> passengers = event.getVehicle().getPassengers();
         for (final Entity passenger : passengers) {
             if (passenger instanceof final Player player) {
@@ -170,7 +187,14 @@ public abstract class AbstractLocationObjective extends DefaultObjective {
         }
     }
 
-    private void checkLocation(final OnlineProfile onlineProfile, final Location location) throws QuestException {
+    /**
+     * Checks the location of the player and completes the objective if required.
+     *
+     * @param onlineProfile the online profile of the player
+     * @param location      the location of the player
+     * @throws QuestException if argument resolving for the profile fails
+     */
+    protected void checkLocation(final OnlineProfile onlineProfile, final Location location) throws QuestException {
         final boolean toInside = isInsideHandleException(location, onlineProfile);
         if (!entry.getValue(onlineProfile).orElse(false) && !exit.getValue(onlineProfile).orElse(false)) {
             if (toInside) {
@@ -198,6 +222,20 @@ public abstract class AbstractLocationObjective extends DefaultObjective {
         }
     }
 
+    /**
+     * Remembers if the player is inside the location, without completing the objective.
+     * Used to know the previous state for entry and exit checks before the first movement of the player.
+     *
+     * @param onlineProfile the online profile of the player
+     * @param location      the location of the player
+     * @throws QuestException if argument resolving for the profile fails
+     */
+    protected void rememberLocation(final OnlineProfile onlineProfile, final Location location) throws QuestException {
+        if (entry.getValue(onlineProfile).orElse(false) || exit.getValue(onlineProfile).orElse(false)) {
+            playersInsideRegion.putIfAbsent(onlineProfile.getProfileUUID(), isInside(onlineProfile, location));
+        }
+    }
+
     private boolean isInsideHandleException(final Location location, final OnlineProfile onlineProfile) throws QuestException {
         final AtomicBoolean toInsideAtomic = new AtomicBoolean();
         toInsideAtomic.set(isInside(onlineProfile, location));
@@ -1,16 +1,29 @@
 package org.betonquest.betonquest.quest.objective.location;
 
 import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.bukkit.event.PlayerObjectiveChangeEvent;
 import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.instruction.FlagArgument;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.objective.ObjectiveState;
 import org.betonquest.betonquest.api.quest.objective.service.ObjectiveService;
+import org.betonquest.betonquest.quest.objective.spatial.SpatialHandler;
+import org.betonquest.betonquest.quest.objective.spatial.SpatialIndex;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
 
 /**
  * Player has to reach a certain radius around the specified location.
+ * <p>
+ * Movements are not subscribed per objective, instead the target of each active profile is registered in the shared
+ * {@link SpatialIndex}, which only calls this objective when the player moves near the target.
+ * Targets with placeholders may change without the player moving, so they are checked on every movement instead.
  */
-public class LocationObjective extends AbstractLocationObjective {
+public class LocationObjective extends AbstractLocationObjective implements SpatialHandler {
 
     /**
      * The key for the location property.
@@ -27,6 +40,12 @@ public class LocationObjective extends AbstractLocationObjective {
      */
     private final Argument<Number> range;
 
+    /**
+     * The shared index to register the targets in or null if the targets are not indexed.
+     */
+    @Nullable
+    private final SpatialIndex index;
+
     /**
      * The constructor takes an Instruction object as a parameter and throws a QuestException.
      *
@@ -35,26 +54,92 @@ public class LocationObjective extends AbstractLocationObjective {
      * @param range   the radius defining the area surrounding the target location
      * @param entry   the entry flag for the location objective
      * @param exit    the exit flag for the location objective
+     * @param index   the shared index to register the targets in or null if the targets are not indexed
      * @throws QuestException if there is an error while parsing the instruction
      */
     public LocationObjective(final ObjectiveService service, final Argument<Location> loc, final Argument<Number> range,
-                             final FlagArgument<Boolean> entry, final FlagArgument<Boolean> exit) throws QuestException {
+                             final FlagArgument<Boolean> entry, final FlagArgument<Boolean> exit,
+                             @Nullable final SpatialIndex index) throws QuestException {
         super(service, entry, exit);
         this.loc = loc;
         this.range = range;
+        this.index = index;
         service.getProperties().setProperty(LOCATION_PROPERTY, profile -> {
             final Location location = loc.getValue(profile);
             return "X: " + location.getBlockX() + ", Y: " + location.getBlockY() + ", Z: " + location.getBlockZ();
         });
     }
 
+    /**
+     * Registers the events to keep the target of the profiles in the index up to date.
+     *
+     * @param service the ObjectiveFactoryService to be used in the method
+     * @throws QuestException if there is an error while registering the events
+     */
+    public void registerIndexedEvents(final ObjectiveService service) throws QuestException {
+        registerProfileEvents(service);
+        service.request(PlayerObjectiveChangeEvent.class).handler(this::onObjectiveChange)
+                .profile(PlayerObjectiveChangeEvent::getProfile).ignoreConditions().subscribe(false);
+    }
+
+    /**
+     * Registers the target when the objective is started or resumed for the profile.
+     *
+     * @param event   the PlayerObjectiveChangeEvent to be used in the method
+     * @param profile the profile of the player
+     * @throws QuestException if argument resolving for the profile fails
+     */
+    public void onObjectiveChange(final PlayerObjectiveChangeEvent event, final Profile profile) throws QuestException {
+        if (!event.getObjectiveID().equals(getObjectiveID()) || event.getState() != ObjectiveState.ACTIVE) {
+            return;
+        }
+        updateTarget(profile);
+        final Optional<OnlineProfile> onlineProfile = profile.getOnlineProfile();
+        if (onlineProfile.isPresent() && Bukkit.isPrimaryThread()) {
+            rememberLocation(onlineProfile.get(), onlineProfile.get().getPlayer().getLocation());
+        }
+    }
+
+    @Override
+    public void onNearbyMove(final OnlineProfile onlineProfile, final Location location) {
+        final ObjectiveService service = getService();
+        if (!service.containsProfile(onlineProfile)) {
+            if (index != null) {
+                index.remove(this, onlineProfile);
+            }
+            return;
+        }
+        getExceptionHandler().handle(() -> {
+            if (service.checkConditions(onlineProfile)) {
+                checkLocation(onlineProfile, location);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        if (index != null) {
+            index.removeAll(this);
+        }
+        super.close();
+    }
+
+    private void updateTarget(final Profile profile) throws QuestException {
+        if (index != null) {
+            index.add(this, profile, loc.getValue(profile), range.getValue(profile).doubleValue());
+        }
+    }
+
     @Override
     protected boolean isInside(final OnlineProfile onlineProfile, final Location location) throws QuestException {
         final Location targetLocation = loc.getValue(onlineProfile);
+        final double pRange = range.getValue(onlineProfile).doubleValue();
+        if (index != null) {
+            index.add(this, onlineProfile, targetLocation, pRange);
+        }
         if (!location.getWorld().equals(targetLocation.getWorld())) {
             return false;
         }
-        final double pRange = range.getValue(onlineProfile).doubleValue();
         return location.distanceSquared(targetLocation) <= pRange * pRange;
     }
 }
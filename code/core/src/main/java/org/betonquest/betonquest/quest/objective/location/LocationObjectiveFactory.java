@@ -7,6 +7,8 @@ import org.betonquest.betonquest.api.instruction.Instruction;
 import org.betonquest.betonquest.api.quest.objective.Objective;
 import org.betonquest.betonquest.api.quest.objective.ObjectiveFactory;
 import org.betonquest.betonquest.api.quest.objective.service.ObjectiveService;
+import org.betonquest.betonquest.lib.instruction.argument.PlaceholderTemplate;
+import org.betonquest.betonquest.quest.objective.spatial.SpatialIndex;
 import org.bukkit.Location;
 
 /**
@@ -14,10 +16,18 @@ import org.bukkit.Location;
  */
 public class LocationObjectiveFactory implements ObjectiveFactory {
 
+    /**
+     * The shared index to register the targets in.
+     */
+    private final SpatialIndex index;
+
     /**
      * Creates a new instance of the LocationObjectiveFactory.
+     *
+     * @param index the shared index to register the targets in
      */
-    public LocationObjectiveFactory() {
+    public LocationObjectiveFactory(final SpatialIndex index) {
+        this.index = index;
     }
 
     @Override
@@ -26,8 +36,14 @@ public class LocationObjectiveFactory implements ObjectiveFactory {
         final Argument<Number> range = instruction.number().get();
         final FlagArgument<Boolean> entry = instruction.bool().getFlag("entry", true);
         final FlagArgument<Boolean> exit = instruction.bool().getFlag("exit", true);
-        final LocationObjective objective = new LocationObjective(service, loc, range, entry, exit);
-        objective.registerLocationEvents(service);
+        if (PlaceholderTemplate.containsPlaceholders(instruction.getPart(1))
+                || PlaceholderTemplate.containsPlaceholders(instruction.getPart(2))) {
+            final LocationObjective objective = new LocationObjective(service, loc, range, entry, exit, null);
+            objective.registerLocationEvents(service);
+            return objective;
+        }
+        final LocationObjective objective = new LocationObjective(service, loc, range, entry, exit, index);
+        objective.registerIndexedEvents(service);
         return objective;
     }
 }
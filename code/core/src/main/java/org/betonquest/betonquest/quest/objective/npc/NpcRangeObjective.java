@@ -111,49 +111,42 @@ public class NpcRangeObjective extends DefaultObjective {
         super.close();
     }
 
-    @SuppressWarnings("PMD.CognitiveComplexity")
     private void loop() throws QuestException {
-        final List<UUID> profilesInside = new ArrayList<>();
-        final List<OnlineProfile> profiles = getService().getData().keySet().stream()
-                .map(Profile::getOnlineProfile)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .toList();
+        final List<OnlineProfile> profiles = new ArrayList<>();
+        for (final Profile profile : getService().getData().keySet()) {
+            profile.getOnlineProfile().ifPresent(profiles::add);
+        }
         final QuestListException questListException = new QuestListException("Could not loop all online profiles:");
         for (final OnlineProfile onlineProfile : profiles) {
             try {
-                for (final NpcIdentifier npcId : npcIds.getValue(onlineProfile)) {
-                    final Npc<?> npc = BetonQuest.getInstance().getFeatureApi().getNpc(npcId, onlineProfile);
-                    if (!npc.isSpawned()) {
-                        continue;
-                    }
-                    final Optional<Location> location = npc.getLocation();
-                    if (location.isEmpty()) {
-                        continue;
-                    }
-                    if (!profilesInside.contains(onlineProfile.getProfileUUID()) && isInside(onlineProfile, location.get())) {
-                        profilesInside.add(onlineProfile.getProfileUUID());
-                    }
-                }
+                checkPlayer(onlineProfile, isNearAnyNpc(onlineProfile));
             } catch (final QuestException e) {
                 questListException.addException(onlineProfile.toString(), e);
             }
         }
-        for (final OnlineProfile onlineProfile : profiles) {
-            checkPlayer(onlineProfile, profilesInside.contains(onlineProfile.getProfileUUID()));
-        }
         questListException.throwIfNotEmpty();
     }
 
-    private boolean isInside(final OnlineProfile onlineProfile, final Location location) throws QuestException {
-        if (!location.getWorld().equals(onlineProfile.getPlayer().getWorld())) {
-            return false;
-        }
+    private boolean isNearAnyNpc(final OnlineProfile onlineProfile) throws QuestException {
+        final Location playerLocation = onlineProfile.getPlayer().getLocation();
         final double radius = this.radius.getValue(onlineProfile).doubleValue();
-        final double distanceSquared = location.distanceSquared(onlineProfile.getPlayer().getLocation());
         final double radiusSquared = radius * radius;
+        for (final NpcIdentifier npcId : npcIds.getValue(onlineProfile)) {
+            final Npc<?> npc = BetonQuest.getInstance().getFeatureApi().getNpc(npcId, onlineProfile);
+            if (!npc.isSpawned()) {
+                continue;
+            }
+            final Optional<Location> location = npc.getLocation();
+            if (location.isPresent() && isInside(playerLocation, location.get(), radiusSquared)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return distanceSquared <= radiusSquared;
+    private boolean isInside(final Location playerLocation, final Location location, final double radiusSquared) {
+        return location.getWorld().equals(playerLocation.getWorld())
+                && location.distanceSquared(playerLocation) <= radiusSquared;
     }
 
     private void checkPlayer(final Profile profile, final boolean inside) throws QuestException {
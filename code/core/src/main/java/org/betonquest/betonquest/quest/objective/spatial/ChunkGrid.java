@@ -0,0 +1,311 @@
+package org.betonquest.betonquest.quest.objective.spatial;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * A grid of chunk sized cells per world and owner.
+ * <p>
+ * An entry is stored in every cell its area touches, so a lookup only has to read a single cell to get all entries
+ * which may contain a position. Cells are also separated by their owner, so the entries of one owner are never
+ * returned for a lookup of another owner. Entries spanning more than 16 chunks on an axis
+ * are kept for their whole world instead, and entries added with {@link #addEverywhere(Object)} are returned for
+ * every lookup. This class is not thread-safe.
+ *
+ * @param <T> the type of the entries
+ */
+public class ChunkGrid<T> {
+
+    /**
+     * The shift to convert a block coordinate to a chunk coordinate.
+     */
+    private static final int CHUNK_SHIFT = 4;
+
+    /**
+     * The maximal amount of chunks per axis an entry is added to, before it is kept for its whole world instead.
+     */
+    private static final int MAX_CHUNKS_PER_AXIS = 16;
+
+    /**
+     * The owner of entries shared by all owners.
+     */
+    private static final UUID SHARED = new UUID(0, 0);
+
+    /**
+     * The entries per cell.
+     */
+    private final Map<Cell, Set<T>> cells;
+
+    /**
+     * The entries per world and owner whose area spans too many chunks.
+     */
+    private final Map<Layer, Set<T>> wide;
+
+    /**
+     * The entries returned for every lookup.
+     */
+    private final Set<T> everywhere;
+
+    /**
+     * The covered area per entry.
+     */
+    private final Map<T, Area> entries;
+
+    /**
+     * Creates a new empty grid.
+     */
+    public ChunkGrid() {
+        this.cells = new HashMap<>();
+        this.wide = new HashMap<>();
+        this.everywhere = new HashSet<>();
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * Adds an entry shared by all owners covering the area between the block coordinates.
+     *
+     * @param entry the entry to add
+     * @param world the world of the area
+     * @param minX  the smallest x block coordinate of the area
+     * @param minZ  the smallest z block coordinate of the area
+     * @param maxX  the largest x block coordinate of the area
+     * @param maxZ  the largest z block coordinate of the area
+     * @see #add(Object, UUID, UUID, int, int, int, int)
+     */
+    public void add(final T entry, final UUID world, final int minX, final int minZ, final int maxX, final int maxZ) {
+        add(entry, world, SHARED, minX, minZ, maxX, maxZ);
+    }
+
+    /**
+     * Adds an entry covering the area between the block coordinates, replacing a previous area of the entry.
+     * Nothing is changed if the entry already covers the same chunks.
+     *
+     * @param entry the entry to add
+     * @param world the world of the area
+     * @param owner the owner of the entry
+     * @param minX  the smallest x block coordinate of the area
+     * @param minZ  the smallest z block coordinate of the area
+     * @param maxX  the largest x block coordinate of the area
+     * @param maxZ  the largest z block coordinate of the area
+     */
+    public void add(final T entry, final UUID world, final UUID owner, final int minX, final int minZ,
+                    final int maxX, final int maxZ) {
+        final Area area = new Area(world, owner, minX >> CHUNK_SHIFT, minZ >> CHUNK_SHIFT,
+                maxX >> CHUNK_SHIFT, maxZ >> CHUNK_SHIFT);
+        if (area.equals(entries.get(entry))) {
+            return;
+        }
+        remove(entry);
+        if (area.isWide()) {
+            wide.computeIfAbsent(area.layer(), key -> new HashSet<>()).add(entry);
+        } else {
+            for (final Cell cell : area.cells()) {
+                cells.computeIfAbsent(cell, key -> new HashSet<>()).add(entry);
+            }
+        }
+        entries.put(entry, area);
+    }
+
+    /**
+     * Adds an entry returned for every lookup in all worlds and of all owners, replacing a previous area of the entry.
+     *
+     * @param entry the entry to add
+     */
+    public void addEverywhere(final T entry) {
+        remove(entry);
+        everywhere.add(entry);
+    }
+
+    /**
+     * Removes the entry from all cells.
+     *
+     * @param entry the entry to remove
+     * @return if the entry was present
+     */
+    public boolean remove(final T entry) {
+        if (everywhere.remove(entry)) {
+            return true;
+        }
+        final Area area = entries.remove(entry);
+        if (area == null) {
+            return false;
+        }
+        if (area.isWide()) {
+            removeFrom(wide, area.layer(), entry);
+        } else {
+            for (final Cell cell : area.cells()) {
+                removeFrom(cells, cell, entry);
+            }
+        }
+        return true;
+    }
+
+    private <K> void removeFrom(final Map<K, Set<T>> map, final K key, final T entry) {
+        final Set<T> keyEntries = map.get(key);
+        if (keyEntries != null) {
+            keyEntries.remove(entry);
+            if (keyEntries.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all entries matching the filter.
+     *
+     * @param filter the filter for the entries to remove
+     * @return the removed entries
+     */
+    public List<T> removeIf(final Predicate<T> filter) {
+        final List<T> removed = new ArrayList<>();
+        for (final T entry : entries.keySet()) {
+            if (filter.test(entry)) {
+                removed.add(entry);
+            }
+        }
+        for (final T entry : everywhere) {
+            if (filter.test(entry)) {
+                removed.add(entry);
+            }
+        }
+        removed.forEach(this::remove);
+        return removed;
+    }
+
+    /**
+     * Gets the entries of the owner whose area may contain the block position.
+     *
+     * @param world the world of the position
+     * @param owner the owner of the entries
+     * @param x     the x block coordinate
+     * @param z     the z block coordinate
+     * @return the entries which must not be modified, empty if there are none
+     */
+    public Set<T> get(final UUID world, final UUID owner, final int x, final int z) {
+        final Set<T> cellEntries = cells.getOrDefault(new Cell(world, owner, x >> CHUNK_SHIFT, z >> CHUNK_SHIFT),
+                Collections.emptySet());
+        final Set<T> wideEntries = wide.getOrDefault(new Layer(world, owner), Collections.emptySet());
+        if (wideEntries.isEmpty() && everywhere.isEmpty()) {
+            return cellEntries;
+        }
+        final Set<T> found = new HashSet<>(everywhere);
+        found.addAll(wideEntries);
+        found.addAll(cellEntries);
+        return found;
+    }
+
+    /**
+     * Gets the entries shared by all owners whose area may contain the block position.
+     *
+     * @param world the world of the position
+     * @param x     the x block coordinate
+     * @param z     the z block coordinate
+     * @return the entries which must not be modified, empty if there are none
+     * @see #get(UUID, UUID, int, int)
+     */
+    public Set<T> get(final UUID world, final int x, final int z) {
+        return get(world, SHARED, x, z);
+    }
+
+    /**
+     * Gets the amount of entries in the grid.
+     *
+     * @return the amount of entries
+     */
+    public int size() {
+        return entries.size() + everywhere.size();
+    }
+
+    /**
+     * Gets the amount of non-empty cells in the grid.
+     *
+     * @return the amount of cells
+     */
+    public int cellCount() {
+        return cells.size();
+    }
+
+    /**
+     * Removes all entries from the grid.
+     */
+    public void clear() {
+        cells.clear();
+        wide.clear();
+        everywhere.clear();
+        entries.clear();
+    }
+
+    /**
+     * The chunks covered by an entry.
+     *
+     * @param world     the world of the area
+     * @param owner     the owner of the entry
+     * @param minChunkX the smallest x chunk coordinate
+     * @param minChunkZ the smallest z chunk coordinate
+     * @param maxChunkX the largest x chunk coordinate
+     * @param maxChunkZ the largest z chunk coordinate
+     */
+    private record Area(UUID world, UUID owner, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+
+        /**
+         * Checks if the area spans too many chunks to be added to each of them.
+         *
+         * @return if the area is kept for its whole world
+         */
+        private boolean isWide() {
+            return (long) maxChunkX - minChunkX >= MAX_CHUNKS_PER_AXIS
+                    || (long) maxChunkZ - minChunkZ >= MAX_CHUNKS_PER_AXIS;
+        }
+
+        /**
+         * Gets the world and owner of the area.
+         *
+         * @return the layer of the area
+         */
+        private Layer layer() {
+            return new Layer(world, owner);
+        }
+
+        /**
+         * Gets the cells of the area.
+         *
+         * @return the covered cells
+         */
+        private List<Cell> cells() {
+            final List<Cell> covered = new ArrayList<>();
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    covered.add(new Cell(world, owner, chunkX, chunkZ));
+                }
+            }
+            return covered;
+        }
+    }
+
+    /**
+     * A chunk sized cell.
+     *
+     * @param world  the world of the cell
+     * @param owner  the owner of the entries in the cell
+     * @param chunkX the x chunk coordinate
+     * @param chunkZ the z chunk coordinate
+     */
+    private record Cell(UUID world, UUID owner, int chunkX, int chunkZ) {
+    }
+
+    /**
+     * The entries of an owner in a world.
+     *
+     * @param world the world of the entries
+     * @param owner the owner of the entries
+     */
+    private record Layer(UUID world, UUID owner) {
+    }
+}
@@ -0,0 +1,20 @@
+package org.betonquest.betonquest.quest.objective.spatial;
+
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.bukkit.Location;
+
+/**
+ * Handles the movement of a player near the targets registered in the {@link SpatialIndex}.
+ */
+@FunctionalInterface
+public interface SpatialHandler {
+
+    /**
+     * Called when the player moved to another block near one of the targets of the handler
+     * or left the area of the targets.
+     *
+     * @param onlineProfile the online profile of the player
+     * @param location      the new location of the player
+     */
+    void onNearbyMove(OnlineProfile onlineProfile, Location location);
+}
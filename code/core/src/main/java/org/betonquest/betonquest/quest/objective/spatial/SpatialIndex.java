@@ -0,0 +1,230 @@
+package org.betonquest.betonquest.quest.objective.spatial;
+
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A shared spatial index of the location targets of all objectives.
+ * <p>
+ * Each target is a circle around a location, registered for a handler and a profile in a {@link ChunkGrid} per world.
+ * Targets also cover the chunks next to their area, so a player always passes a cell of the target before entering
+ * it. When a player moves to another block, only the targets in the cell of the new position and the targets the
+ * player was near before are passed to their handlers. Moves within the same block, like head rotations,
+ * are ignored completely.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public class SpatialIndex implements Listener {
+
+    /**
+     * The margin in blocks added around each target, one chunk.
+     */
+    private static final int MARGIN = 16;
+
+    /**
+     * The profile provider to get the profile of a moving player.
+     */
+    private final ProfileProvider profileProvider;
+
+    /**
+     * The grid holding the targets.
+     */
+    private final ChunkGrid<Target> grid;
+
+    /**
+     * The targets the player was near after the last move, per player UUID.
+     */
+    private final Map<UUID, Set<Target>> near;
+
+    /**
+     * Creates a new empty spatial index.
+     *
+     * @param profileProvider the profile provider to get the profile of a moving player
+     */
+    public SpatialIndex(final ProfileProvider profileProvider) {
+        this.profileProvider = profileProvider;
+        this.grid = new ChunkGrid<>();
+        this.near = new HashMap<>();
+    }
+
+    /**
+     * Checks if both locations are in the same block of the same world.
+     *
+     * @param from the previous location
+     * @param to   the new location
+     * @return true if the block did not change
+     */
+    public static boolean isSameBlock(final Location from, final Location to) {
+        return from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ() && from.getWorld() == to.getWorld();
+    }
+
+    /**
+     * Adds the target of the handler for the profile, replacing its previous target.
+     *
+     * @param handler the handler to call when the player moves near the target
+     * @param profile the profile the target belongs to
+     * @param center  the center of the target
+     * @param radius  the radius of the target
+     */
+    public void add(final SpatialHandler handler, final Profile profile, final Location center, final double radius) {
+        final World world = center.getWorld();
+        if (world == null) {
+            return;
+        }
+        final int reach = (int) Math.ceil(Math.max(radius, 0)) + MARGIN;
+        synchronized (this) {
+            grid.add(new Target(handler, profile.getPlayerUUID()), world.getUID(), profile.getPlayerUUID(),
+                    center.getBlockX() - reach, center.getBlockZ() - reach,
+                    center.getBlockX() + reach, center.getBlockZ() + reach);
+        }
+    }
+
+    /**
+     * Removes the target of the handler for the profile.
+     *
+     * @param handler the handler of the target
+     * @param profile the profile the target belongs to
+     */
+    public void remove(final SpatialHandler handler, final Profile profile) {
+        final Target target = new Target(handler, profile.getPlayerUUID());
+        synchronized (this) {
+            grid.remove(target);
+            final Set<Target> nearTargets = near.get(target.player());
+            if (nearTargets != null) {
+                nearTargets.remove(target);
+            }
+        }
+    }
+
+    /**
+     * Removes all targets of the handler.
+     *
+     * @param handler the handler of the targets
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public void removeAll(final SpatialHandler handler) {
+        synchronized (this) {
+            grid.removeIf(target -> target.handler() == handler);
+            near.values().forEach(targets -> targets.removeIf(target -> target.handler() == handler));
+        }
+    }
+
+    /**
+     * Gets the amount of targets in the index.
+     *
+     * @return the amount of targets
+     */
+    public int size() {
+        synchronized (this) {
+            return grid.size();
+        }
+    }
+
+    /**
+     * Passes a player move to the nearby targets.
+     *
+     * @param event the event to handle
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerMove(final PlayerMoveEvent event) {
+        move(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    /**
+     * Passes a player teleport to the nearby targets.
+     *
+     * @param event the event to handle
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerTeleport(final PlayerTeleportEvent event) {
+        move(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    /**
+     * Passes a vehicle move to the nearby targets of the riding players.
+     *
+     * @param event the event to handle
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onVehicleMove(final VehicleMoveEvent event) {
+        if (isSameBlock(event.getFrom(), event.getTo())) {
+            return;
+        }
+        for (final Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof final Player player) {
+                move(player, event.getFrom(), event.getTo());
+            }
+        }
+    }
+
+    /**
+     * Forgets the nearby targets of a leaving player.
+     *
+     * @param event the event to handle
+     */
+    @EventHandler
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        synchronized (this) {
+            near.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    private void move(final Player player, final Location from, final Location to) {
+        if (isSameBlock(from, to)) {
+            return;
+        }
+        final UUID uuid = player.getUniqueId();
+        final List<Target> candidates;
+        synchronized (this) {
+            final Set<Target> current = grid.get(to.getWorld().getUID(), uuid, to.getBlockX(), to.getBlockZ());
+            final Set<Target> previous = near.getOrDefault(uuid, Collections.emptySet());
+            if (current.isEmpty() && previous.isEmpty()) {
+                return;
+            }
+            candidates = new ArrayList<>(current);
+            for (final Target target : previous) {
+                if (!current.contains(target)) {
+                    candidates.add(target);
+                }
+            }
+            if (current.isEmpty()) {
+                near.remove(uuid);
+            } else if (!current.equals(previous)) {
+                near.put(uuid, new HashSet<>(current));
+            }
+        }
+        final OnlineProfile onlineProfile = profileProvider.getProfile(player);
+        for (final Target target : candidates) {
+            target.handler().onNearbyMove(onlineProfile, to);
+        }
+    }
+
+    /**
+     * A target of a handler for a player.
+     *
+     * @param handler the handler of the target
+     * @param player  the UUID of the player
+     */
+    private record Target(SpatialHandler handler, UUID player) {
+    }
+}
@@ -1,6 +1,5 @@
 package org.betonquest.betonquest.quest.objective.timer;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.CountingObjective;
 import org.betonquest.betonquest.api.QuestException;
 import org.betonquest.betonquest.api.bukkit.event.PlayerObjectiveChangeEvent;
@@ -10,15 +9,15 @@ import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestTypeApi;
 import org.betonquest.betonquest.api.quest.objective.ObjectiveState;
 import org.betonquest.betonquest.api.quest.objective.service.ObjectiveService;
-import org.bukkit.Bukkit;
-import org.bukkit.scheduler.BukkitTask;
+import org.betonquest.betonquest.quest.objective.deadline.DeadlineHandler;
+import org.betonquest.betonquest.quest.objective.deadline.DeadlineScheduler;
 
 import java.util.List;
 
 /**
  * Timer objective that tracks the ingame time when the conditions are fulfilled.
  */
-public class TimerObjective extends CountingObjective implements Runnable {
+public class TimerObjective extends CountingObjective implements DeadlineHandler {
 
     /**
      * Quest Type API.
@@ -36,9 +35,9 @@ public class TimerObjective extends CountingObjective implements Runnable {
     private final int interval;
 
     /**
-     * The scheduled task that runs the objective.
+     * The scheduler to progress the objective after each interval.
      */
-    private final BukkitTask runnable;
+    private final DeadlineScheduler deadlines;
 
     /**
      * Constructs a new TrackingObjective.
@@ -49,47 +48,68 @@ public class TimerObjective extends CountingObjective implements Runnable {
      * @param name         the name of the objective.
      * @param interval     the interval to check the conditions and progress the objective.
      * @param doneActions  actions to run before the objective is actually removed.
+     * @param deadlines    the scheduler to progress the objective after each interval.
      * @throws QuestException if an error occurs while creating the objective.
      */
     public TimerObjective(final ObjectiveService service, final Argument<Number> targetAmount, final QuestTypeApi questTypeApi, final Argument<String> name,
-                          final Argument<Number> interval, final Argument<List<ActionIdentifier>> doneActions) throws QuestException {
+                          final Argument<Number> interval, final Argument<List<ActionIdentifier>> doneActions,
+                          final DeadlineScheduler deadlines) throws QuestException {
         super(service, targetAmount, null);
         this.questTypeApi = questTypeApi;
         this.doneActions = doneActions;
         this.interval = interval.getValue(null).intValue();
-        this.runnable = Bukkit.getScheduler().runTaskTimer(BetonQuest.getInstance(), this, this.interval * 20L, this.interval * 20L);
+        this.deadlines = deadlines;
         service.getProperties().setProperty("name", name::getValue);
     }
 
     @Override
     public void close() {
-        runnable.cancel();
+        deadlines.cancelAll(this);
         super.close();
     }
 
     @Override
-    public void run() {
-        getService().getData().keySet().forEach(profile -> {
-            getExceptionHandler().handle(() -> {
-                if (getService().checkConditions(profile)) {
-                    getCountingData(profile).progress(interval);
-                    completeIfDoneOrNotify(profile);
-                }
-            });
+    public void onDeadline(final Profile profile, final long now) {
+        if (!getService().containsProfile(profile)) {
+            return;
+        }
+        getExceptionHandler().handle(() -> {
+            if (getService().checkConditions(profile)) {
+                getCountingData(profile).progress(interval);
+                completeIfDoneOrNotify(profile);
+            }
         });
+        if (getService().containsProfile(profile)) {
+            deadlines.schedule(this, profile, now + interval * 1000L);
+        }
     }
 
     /**
-     * Checks if the objective gets completed.
+     * Schedules the progress when the objective is started or resumed and checks if the objective gets completed.
      *
      * @param event   The event to check.
      * @param profile The profile of the player that completed the objective.
      * @throws QuestException if argument resolving for the profile fails
      */
     public void onPlayerObjectiveChange(final PlayerObjectiveChangeEvent event, final Profile profile) throws QuestException {
-        if (event.getObjectiveID().equals(getObjectiveID()) && event.getPreviousState() == ObjectiveState.ACTIVE
-                && event.getState() == ObjectiveState.COMPLETED) {
+        if (!event.getObjectiveID().equals(getObjectiveID())) {
+            return;
+        }
+        if (event.getState() == ObjectiveState.ACTIVE) {
+            deadlines.scheduleIn(this, profile, interval * 1000L);
+        } else if (event.getPreviousState() == ObjectiveState.ACTIVE && event.getState() == ObjectiveState.COMPLETED) {
             questTypeApi.actions(profile, doneActions.getValue(profile));
         }
     }
+
+    /**
+     * Cancels the scheduled progress when the objective is completed, paused or cancelled for the profile.
+     *
+     * @param event the objective change event
+     */
+    public void onObjectiveStop(final PlayerObjectiveChangeEvent event) {
+        if (event.getObjectiveID().equals(getObjectiveID()) && event.getState() != ObjectiveState.ACTIVE) {
+            deadlines.cancel(this, event.getProfile());
+        }
+    }
 }
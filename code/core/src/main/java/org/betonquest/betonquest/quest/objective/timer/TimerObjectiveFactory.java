@@ -9,6 +9,7 @@ import org.betonquest.betonquest.api.quest.QuestTypeApi;
 import org.betonquest.betonquest.api.quest.objective.Objective;
 import org.betonquest.betonquest.api.quest.objective.ObjectiveFactory;
 import org.betonquest.betonquest.api.quest.objective.service.ObjectiveService;
+import org.betonquest.betonquest.quest.objective.deadline.DeadlineScheduler;
 
 import java.util.Collections;
 import java.util.List;
@@ -23,13 +24,20 @@ public class TimerObjectiveFactory implements ObjectiveFactory {
      */
     private final QuestTypeApi questTypeApi;
 
+    /**
+     * The scheduler to progress the objectives after each interval.
+     */
+    private final DeadlineScheduler deadlines;
+
     /**
      * Constructs a new TimerObjectiveFactory.
      *
      * @param questTypeApi the QuestTypeApi instance
+     * @param deadlines    the scheduler to progress the objectives after each interval
      */
-    public TimerObjectiveFactory(final QuestTypeApi questTypeApi) {
+    public TimerObjectiveFactory(final QuestTypeApi questTypeApi, final DeadlineScheduler deadlines) {
         this.questTypeApi = questTypeApi;
+        this.deadlines = deadlines;
     }
 
     @Override
@@ -38,9 +46,10 @@ public class TimerObjectiveFactory implements ObjectiveFactory {
         final Argument<String> name = instruction.string().get("name", "");
         final Argument<Number> interval = instruction.number().get("interval", 1);
         final Argument<List<ActionIdentifier>> doneEvents = instruction.identifier(ActionIdentifier.class).list().get("done", Collections.emptyList());
-        final TimerObjective objective = new TimerObjective(service, targetAmount, questTypeApi, name, interval, doneEvents);
+        final TimerObjective objective = new TimerObjective(service, targetAmount, questTypeApi, name, interval, doneEvents, deadlines);
         service.request(PlayerObjectiveChangeEvent.class).handler(objective::onPlayerObjectiveChange)
-                .profile(PlayerObjectiveChangeEvent::getProfile).subscribe(false);
+                .profile(PlayerObjectiveChangeEvent::getProfile).ignoreConditions().subscribe(false);
+        service.request(PlayerObjectiveChangeEvent.class).handler(objective::onObjectiveStop).ignoreConditions().subscribe(false);
         return objective;
     }
 }
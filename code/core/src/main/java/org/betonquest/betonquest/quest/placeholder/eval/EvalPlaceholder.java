@@ -5,6 +5,7 @@ import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.instruction.Instruction;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.placeholder.NullablePlaceholder;
+import org.betonquest.betonquest.kernel.processor.quest.CompiledInstructionCache;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -22,19 +23,29 @@ public class EvalPlaceholder implements NullablePlaceholder {
      */
     private final Argument<String> evaluation;
 
+    /**
+     * The cache for placeholders compiled from evaluated instructions.
+     */
+    private final CompiledInstructionCache<Argument<String>> compiledCache;
+
     /**
      * Create a new Eval placeholder.
      *
-     * @param instruction the original instruction
-     * @param evaluation  the evaluation input
+     * @param instruction   the original instruction
+     * @param evaluation    the evaluation input
+     * @param compiledCache the cache for placeholders compiled from evaluated instructions
      */
-    public EvalPlaceholder(final Instruction instruction, final Argument<String> evaluation) {
+    public EvalPlaceholder(final Instruction instruction, final Argument<String> evaluation,
+                           final CompiledInstructionCache<Argument<String>> compiledCache) {
         this.instruction = instruction;
         this.evaluation = evaluation;
+        this.compiledCache = compiledCache;
     }
 
     @Override
     public String getValue(@Nullable final Profile profile) throws QuestException {
-        return instruction.chainForArgument("%" + evaluation.getValue(profile) + "%").string().get().getValue(profile);
+        final Argument<String> placeholder = compiledCache.get(instruction.getPackage(), evaluation.getValue(profile),
+                evaluated -> instruction.chainForArgument("%" + evaluated + "%").string().get());
+        return placeholder.getValue(profile);
     }
 }
@@ -1,6 +1,7 @@
 package org.betonquest.betonquest.quest.placeholder.eval;
 
 import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.instruction.Instruction;
 import org.betonquest.betonquest.api.quest.placeholder.NullablePlaceholder;
 import org.betonquest.betonquest.api.quest.placeholder.NullablePlaceholderAdapter;
@@ -8,16 +9,25 @@ import org.betonquest.betonquest.api.quest.placeholder.PlayerPlaceholder;
 import org.betonquest.betonquest.api.quest.placeholder.PlayerPlaceholderFactory;
 import org.betonquest.betonquest.api.quest.placeholder.PlayerlessPlaceholder;
 import org.betonquest.betonquest.api.quest.placeholder.PlayerlessPlaceholderFactory;
+import org.betonquest.betonquest.kernel.processor.quest.CompiledInstructionCache;
 
 /**
  * A factory for creating Eval placeholders.
  */
 public class EvalPlaceholderFactory implements PlayerPlaceholderFactory, PlayerlessPlaceholderFactory {
 
+    /**
+     * The cache for placeholders compiled from evaluated instructions.
+     */
+    private final CompiledInstructionCache<Argument<String>> compiledCache;
+
     /**
      * Create a new Eval placeholder factory.
+     *
+     * @param compiledCache the cache for placeholders compiled from evaluated instructions
      */
-    public EvalPlaceholderFactory() {
+    public EvalPlaceholderFactory(final CompiledInstructionCache<Argument<String>> compiledCache) {
+        this.compiledCache = compiledCache;
     }
 
     @Override
@@ -39,7 +49,7 @@ public class EvalPlaceholderFactory implements PlayerPlaceholderFactory, Playerl
      */
     protected NullablePlaceholder parseNullablePlaceholder(final Instruction instruction) throws QuestException {
         final String rawInstruction = String.join(".", instruction.getValueParts());
-        return new EvalPlaceholder(instruction, instruction.chainForArgument(rawInstruction).string().get());
+        return new EvalPlaceholder(instruction, instruction.chainForArgument(rawInstruction).string().get(), compiledCache);
     }
 
     private NullablePlaceholderAdapter parseInstruction(final Instruction instruction) throws QuestException {
@@ -1,9 +1,11 @@
 package org.betonquest.betonquest.quest.placeholder.sync;
 
 import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.instruction.Argument;
 import org.betonquest.betonquest.api.instruction.Instruction;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.placeholder.NullablePlaceholder;
+import org.betonquest.betonquest.kernel.processor.quest.CompiledInstructionCache;
 import org.betonquest.betonquest.quest.placeholder.eval.EvalPlaceholder;
 import org.betonquest.betonquest.quest.placeholder.eval.EvalPlaceholderFactory;
 import org.jetbrains.annotations.Nullable;
@@ -15,9 +17,11 @@ public class SyncPlaceholderFactory extends EvalPlaceholderFactory {
 
     /**
      * Create a new SyncPlaceholderFactory.
+     *
+     * @param compiledCache the cache for placeholders compiled from evaluated instructions
      */
-    public SyncPlaceholderFactory() {
-        super();
+    public SyncPlaceholderFactory(final CompiledInstructionCache<Argument<String>> compiledCache) {
+        super(compiledCache);
     }
 
     @Override
@@ -10,6 +10,7 @@ import org.betonquest.betonquest.api.text.TextParser;
 import org.betonquest.betonquest.data.PlayerDataStorage;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -17,6 +18,11 @@ import java.util.Map;
  */
 public class ParsedText implements Text {
 
+    /**
+     * The amount of resolved texts whose parsed component is kept.
+     */
+    private static final int PARSED_CACHE_SIZE = 16;
+
     /**
      * The text parser to use for parsing text.
      */
@@ -37,6 +43,11 @@ public class ParsedText implements Text {
      */
     private final LanguageProvider languageProvider;
 
+    /**
+     * The recently parsed components by their text with resolved placeholders.
+     */
+    private final Map<String, Component> parsed;
+
     /**
      * Constructs a new parsed text with text in multiple languages.
      *
@@ -52,6 +63,14 @@ public class ParsedText implements Text {
         this.texts = texts;
         this.dataStorage = dataStorage;
         this.languageProvider = languageProvider;
+        this.parsed = new LinkedHashMap<>(PARSED_CACHE_SIZE, 0.75f, true) {
+            private static final long serialVersionUID = 4619527390713381066L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Component> eldest) {
+                return size() > PARSED_CACHE_SIZE;
+            }
+        };
         if (!texts.containsKey(languageProvider.getDefaultLanguage())) {
             throw new QuestException("No text in default language defined.");
         }
@@ -72,6 +91,27 @@ public class ParsedText implements Text {
         if (text == null) {
             throw new QuestException("No text in language " + language + " defined.");
         }
-        return parser.parse(text.getValue(profile));
+        return parse(text.getValue(profile));
+    }
+
+    /**
+     * Parses the text with resolved placeholders or returns the component parsed from the same text before.
+     *
+     * @param raw the text with resolved placeholders
+     * @return the parsed component
+     * @throws QuestException if the text could not be parsed
+     */
+    private Component parse(final String raw) throws QuestException {
+        synchronized (parsed) {
+            final Component cached = parsed.get(raw);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final Component component = parser.parse(raw);
+        synchronized (parsed) {
+            parsed.put(raw, component);
+        }
+        return component;
     }
 }
@@ -0,0 +1,89 @@
+package org.betonquest.betonquest.api.common.component;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.betonquest.betonquest.api.common.component.font.FontRegistry;
+import org.betonquest.betonquest.lib.font.FontIndexFileFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks wrapping typical NPC text of a conversation with the default font.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.openjdk.jmh.Main ComponentLineWrapperBenchmark}, the
+ * {@code wrapRepeated} benchmark shows a refreshed conversation display, {@code wrapDistinct} new text each time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("PMD")
+public class ComponentLineWrapperBenchmark {
+
+    private static final String NPC_TEXT = "<gold>Welcome, traveller!</gold> The <bold>old mine</bold> north of the village "
+            + "has been overrun by <red>skeletons</red> since the last full moon. Bring me <yellow>ten bones</yellow> "
+            + "and I will tell you where the <italic>lost pickaxe</italic> of my grandfather is buried.";
+
+    private static final int DISTINCT_TEXTS = 1024;
+
+    @Param({"270", "320"})
+    private int lineWidth;
+
+    private FixedComponentLineWrapper wrapper;
+
+    private Component text;
+
+    private Component[] distinctTexts;
+
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Key defaultKey = Key.key("default");
+        final FontRegistry fontRegistry = new FontRegistry(defaultKey);
+        try (InputStream font = Files.newInputStream(Path.of("src/main/resources/fonts/default.font.bin"))) {
+            fontRegistry.registerFont(defaultKey, FontIndexFileFormat.BINARY.read(font));
+        }
+        wrapper = new FixedComponentLineWrapper(fontRegistry, lineWidth);
+        text = MiniMessage.miniMessage().deserialize(NPC_TEXT);
+        distinctTexts = new Component[DISTINCT_TEXTS];
+        for (int i = 0; i < DISTINCT_TEXTS; i++) {
+            distinctTexts[i] = MiniMessage.miniMessage().deserialize(NPC_TEXT + " (" + i + ")");
+        }
+    }
+
+    @Benchmark
+    public List<Component> wrapRepeated() {
+        return wrapper.splitWidth(text);
+    }
+
+    @Benchmark
+    public List<Component> wrapDistinct() {
+        next = (next + 1) % DISTINCT_TEXTS;
+        return wrapper.splitWidth(distinctTexts[next]);
+    }
+
+    @Benchmark
+    public int width() {
+        return wrapper.width(text);
+    }
+}
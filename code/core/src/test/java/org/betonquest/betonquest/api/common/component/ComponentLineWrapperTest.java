@@ -8,6 +8,7 @@ import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.ChatColor;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -256,4 +257,31 @@ class ComponentLineWrapperTest extends ComponentFixture {
             }
         }
     }
+
+    @Nested
+    class cache {
+
+        @Test
+        void cached_lines_can_be_modified_by_the_caller() throws IOException {
+            final FixedComponentLineWrapper wrapper = new FixedComponentLineWrapper(getFontRegistry(), 42);
+            final Component input = Component.text("fun with spaces");
+
+            final List<Component> first = wrapper.splitWidth(input);
+            first.clear();
+
+            assertEquals(List.of(Component.text("fun with"), Component.text("spaces")), wrapper.splitWidth(input),
+                    "The cached lines should not be changed by the caller");
+        }
+
+        @Test
+        void wrap_prefix_is_applied_to_wrapped_lines() throws IOException {
+            final FixedComponentLineWrapper wrapper = new FixedComponentLineWrapper(getFontRegistry(), 42);
+            final Component input = Component.text("fun with spaces");
+            final Component prefix = Component.text(">");
+
+            final List<Component> expected = List.of(Component.text("fun with"), Component.text(">spaces"));
+            assertEquals(expected, wrapper.splitWidth(input, prefix), "The wrapped line should start with the prefix");
+            assertEquals(expected, wrapper.splitWidth(input, prefix), "The cached lines should be equal");
+        }
+    }
 }
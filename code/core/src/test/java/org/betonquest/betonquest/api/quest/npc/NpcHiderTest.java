@@ -0,0 +1,124 @@
+package org.betonquest.betonquest.api.quest.npc;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.identifier.ConditionIdentifier;
+import org.betonquest.betonquest.api.identifier.NpcIdentifier;
+import org.betonquest.betonquest.api.identifier.factory.IdentifierRegistry;
+import org.betonquest.betonquest.api.instruction.InstructionApi;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.betonquest.betonquest.api.quest.QuestTypeApi;
+import org.betonquest.betonquest.kernel.processor.quest.NpcProcessor;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link NpcHider}.
+ */
+class NpcHiderTest {
+
+    private final World world = mock(World.class);
+
+    private final NpcIdentifier npcId = mock(NpcIdentifier.class);
+
+    private final Set<ConditionIdentifier> conditions = Set.of(mock(ConditionIdentifier.class));
+
+    private NpcProcessor npcProcessor;
+
+    private NpcWrapper<?> wrapper;
+
+    private QuestTypeApi questTypeApi;
+
+    private Npc<?> npc;
+
+    private OnlineProfile profile;
+
+    private NpcHider hider;
+
+    private OnlineProfile profile() {
+        final Player player = mock(Player.class);
+        when(player.getLocation()).thenReturn(new Location(world, 0, 64, 0));
+        final OnlineProfile onlineProfile = mock(OnlineProfile.class);
+        when(onlineProfile.getProfileUUID()).thenReturn(UUID.randomUUID());
+        when(onlineProfile.getPlayer()).thenReturn(player);
+        return onlineProfile;
+    }
+
+    @BeforeEach
+    void setUp() throws QuestException {
+        npcProcessor = mock(NpcProcessor.class);
+        questTypeApi = mock(QuestTypeApi.class);
+        npc = mock(Npc.class);
+        when(npc.isSpawned()).thenReturn(true);
+        when(npc.getLocation()).thenReturn(Optional.of(new Location(world, 10, 64, 10)));
+        wrapper = mock(NpcWrapper.class);
+        doReturn(npc).when(wrapper).getNpc(any());
+        doReturn(wrapper).when(npcProcessor).get(npcId);
+        profile = profile();
+        hider = new NpcHider(mock(BetonQuestLogger.class), npcProcessor, questTypeApi, mock(ProfileProvider.class),
+                mock(NpcRegistry.class), mock(IdentifierRegistry.class), mock(InstructionApi.class));
+        hider.addHiding(npcId, conditions);
+    }
+
+    @Test
+    void only_changed_visibility_is_sent() {
+        when(questTypeApi.conditions(profile, conditions)).thenReturn(true);
+        hider.applyNearbyVisibility(profile);
+        hider.applyNearbyVisibility(profile);
+        verify(npc, times(1)).hide(profile);
+
+        when(questTypeApi.conditions(profile, conditions)).thenReturn(false);
+        hider.applyNearbyVisibility(profile);
+        hider.applyNearbyVisibility(profile);
+        verify(npc, times(1)).show(profile);
+    }
+
+    @Test
+    void forgotten_visibility_is_sent_again() {
+        when(questTypeApi.conditions(profile, conditions)).thenReturn(true);
+        hider.applyNearbyVisibility(profile);
+
+        hider.forget(profile);
+        hider.applyNearbyVisibility(profile);
+
+        verify(npc, times(2)).hide(profile);
+    }
+
+    @Test
+    void npcs_out_of_range_are_not_resolved_again() throws QuestException {
+        when(npc.getLocation()).thenReturn(Optional.of(new Location(world, 1000, 64, 1000)));
+
+        hider.applyNearbyVisibility(profile);
+        hider.applyNearbyVisibility(profile);
+
+        verify(npcProcessor, times(1)).get(npcId);
+        verify(npc, never()).hide(profile);
+    }
+
+    @Test
+    void npcs_out_of_range_for_one_profile_are_resolved_for_another() throws QuestException {
+        final OnlineProfile otherProfile = profile();
+        final Npc<?> otherNpc = mock(Npc.class);
+        when(otherNpc.isSpawned()).thenReturn(true);
+        when(otherNpc.getLocation()).thenReturn(Optional.of(new Location(world, 10, 64, 10)));
+        when(npc.getLocation()).thenReturn(Optional.of(new Location(world, 1000, 64, 1000)));
+        doReturn(otherNpc).when(wrapper).getNpc(otherProfile);
+        when(questTypeApi.conditions(otherProfile, conditions)).thenReturn(true);
+
+        hider.applyNearbyVisibility(profile);
+        hider.applyNearbyVisibility(otherProfile);
+
+        verify(otherNpc).hide(otherProfile);
+        verify(npc, never()).hide(any());
+    }
+}
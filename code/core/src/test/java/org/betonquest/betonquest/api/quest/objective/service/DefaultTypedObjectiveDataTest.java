@@ -0,0 +1,95 @@
+package org.betonquest.betonquest.api.quest.objective.service;
+
+import org.betonquest.betonquest.api.profile.Profile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the caching and flushing of the {@link DefaultTypedObjectiveData}.
+ */
+class DefaultTypedObjectiveDataTest {
+
+    private final Map<Profile, String> rawData = new HashMap<>();
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+
+    private final AtomicInteger parses = new AtomicInteger();
+
+    private ObjectiveService service;
+
+    private Profile profile;
+
+    private DefaultTypedObjectiveData<int[]> typedData;
+
+    @BeforeEach
+    void setUp() {
+        service = mock(ObjectiveService.class);
+        when(service.getData()).thenReturn(rawData);
+        profile = mock(Profile.class);
+        when(profile.getProfileUUID()).thenReturn(UUID.randomUUID());
+        typedData = new DefaultTypedObjectiveData<>(service, new ObjectiveDataCodec<>() {
+            @Override
+            public int[] parse(final Profile profile, final String data) {
+                parses.incrementAndGet();
+                return new int[]{Integer.parseInt(data)};
+            }
+
+            @Override
+            public String serialize(final int[] data) {
+                return String.valueOf(data[0]);
+            }
+        }, scheduled::add);
+        rawData.put(profile, "5");
+    }
+
+    @Test
+    void data_is_parsed_once() {
+        final int[] first = typedData.get(profile);
+        assertSame(first, typedData.get(profile), "The parsed data should be reused");
+        assertEquals(1, parses.get(), "The raw data should be parsed only once");
+    }
+
+    @Test
+    void changes_are_saved_once_per_flush() {
+        for (int i = 0; i < 3; i++) {
+            typedData.get(profile)[0]++;
+            typedData.markDirty(profile);
+        }
+        assertEquals("5", rawData.get(profile), "Changes should not be serialized before the flush");
+        assertEquals(1, scheduled.size(), "Only one flush should be scheduled");
+
+        scheduled.get(0).run();
+        assertEquals("8", rawData.get(profile), "The flush should serialize the data");
+        verify(service, times(1)).updateData(profile);
+        assertEquals(8, typedData.get(profile)[0], "The flushed data should not be parsed again");
+        assertEquals(1, parses.get(), "The serialized data should be reused");
+    }
+
+    @Test
+    void replaced_raw_data_is_parsed_again() {
+        typedData.get(profile);
+        rawData.put(profile, "1");
+        assertEquals(1, typedData.get(profile)[0], "Replaced raw data should be parsed again");
+    }
+
+    @Test
+    void removed_profile_is_not_saved() {
+        typedData.get(profile)[0]++;
+        typedData.markDirty(profile);
+        rawData.remove(profile);
+
+        typedData.flush();
+        assertFalse(rawData.containsKey(profile), "A stopped objective should not be written again");
+        verify(service, never()).updateData(profile);
+    }
+}
@@ -0,0 +1,108 @@
+package org.betonquest.betonquest.conversation;
+
+import org.betonquest.betonquest.api.identifier.ConditionIdentifier;
+import org.betonquest.betonquest.api.identifier.ConversationIdentifier;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.kernel.processor.quest.ConditionProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link ConversationOptionEvaluator}.
+ */
+class ConversationOptionEvaluatorTest {
+
+    private final Profile profile = mock(Profile.class);
+
+    private final ConversationIdentifier conversationID = mock(ConversationIdentifier.class);
+
+    private final ConditionIdentifier met = mock(ConditionIdentifier.class);
+
+    private final ConditionIdentifier unmet = mock(ConditionIdentifier.class);
+
+    private ConditionProcessor conditions;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        conditions = mock(ConditionProcessor.class);
+        when(conditions.checkAsync(profile, met)).thenReturn(CompletableFuture.completedFuture(true));
+        when(conditions.checkAsync(profile, unmet)).thenReturn(CompletableFuture.completedFuture(false));
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private ConversationOptionEvaluator evaluator(final long timeout) {
+        return new ConversationOptionEvaluator(mock(BetonQuestLogger.class), conditions, executor, 4, timeout);
+    }
+
+    @Test
+    void options_are_available_if_all_conditions_are_met() {
+        final List<Boolean> available = evaluator(1000).evaluate(profile, conversationID,
+                List.of(List.of(), List.of(met), List.of(met, unmet)));
+
+        assertEquals(List.of(true, true, false), available, "Only options with all conditions met should be available");
+    }
+
+    @Test
+    void shared_conditions_are_checked_once() {
+        evaluator(1000).evaluate(profile, conversationID, List.of(List.of(met), List.of(met), List.of(met)));
+
+        verify(conditions, times(1)).checkAsync(profile, met);
+    }
+
+    @Test
+    void primary_thread_conditions_are_queued_before_any_check_waits() {
+        final CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        final ConditionIdentifier sync = mock(ConditionIdentifier.class);
+        when(conditions.isPrimaryThreadEnforced(sync)).thenReturn(true);
+        when(conditions.checkAsync(profile, sync)).thenReturn(pending);
+        executor.execute(() -> pending.complete(true));
+
+        final List<Boolean> available = evaluator(1000).evaluate(profile, conversationID,
+                List.of(List.of(met), List.of(sync)));
+
+        assertEquals(List.of(true, true), available, "The primary thread condition should be awaited");
+    }
+
+    @Test
+    void options_are_hidden_on_timeout() {
+        final CompletableFuture<Boolean> never = new CompletableFuture<>();
+        final ConditionIdentifier slow = mock(ConditionIdentifier.class);
+        when(conditions.checkAsync(profile, slow)).thenReturn(never);
+        final ConversationOptionEvaluator evaluator = evaluator(10);
+
+        final List<Boolean> available = evaluator.evaluate(profile, conversationID, List.of(List.of(met), List.of(slow)));
+        never.complete(true);
+
+        assertEquals(List.of(false, false), available, "All options should be hidden after a timeout");
+        assertEquals(1, evaluator.getMetrics().timeouts(), "The timeout should be counted");
+    }
+
+    @Test
+    void caller_evaluates_if_executor_rejects() {
+        executor.shutdown();
+        final ConversationOptionEvaluator evaluator = evaluator(1000);
+
+        final List<Boolean> available = evaluator.evaluate(profile, conversationID, List.of(List.of(met)));
+
+        assertEquals(List.of(true), available, "The caller should evaluate the options");
+        assertEquals(1, evaluator.getMetrics().callerRuns(), "The caller run should be counted");
+        assertEquals(1, evaluator.getMetrics().evaluations(), "The evaluation should be counted");
+    }
+}
@@ -0,0 +1,74 @@
+package org.betonquest.betonquest.data;
+
+import org.betonquest.betonquest.api.config.ConfigAccessor;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.betonquest.betonquest.database.PlayerData;
+import org.betonquest.betonquest.database.PlayerDataFactory;
+import org.betonquest.betonquest.kernel.processor.quest.ObjectiveProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the asynchronous loading of the {@link PlayerDataStorage}.
+ */
+class PlayerDataStorageTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private PlayerDataFactory factory;
+
+    private PlayerDataStorage storage;
+
+    private Profile profile;
+
+    @BeforeEach
+    void setUp() {
+        factory = mock(PlayerDataFactory.class);
+        storage = new PlayerDataStorage(mock(BetonQuestLogger.class), mock(ConfigAccessor.class), factory,
+                mock(ObjectiveProcessor.class), mock(ProfileProvider.class), tasks::add);
+        profile = mock(Profile.class);
+        when(profile.getProfileUUID()).thenReturn(UUID.randomUUID());
+    }
+
+    @Test
+    void load_is_started_only_once() {
+        final PlayerData playerData = mock(PlayerData.class);
+        when(factory.createPlayerData(profile)).thenReturn(playerData);
+
+        final CompletableFuture<PlayerData> first = storage.load(profile);
+        final CompletableFuture<PlayerData> second = storage.load(profile);
+        assertSame(first, second, "A running load should be reused");
+        assertEquals(1, tasks.size(), "Only one load should be scheduled");
+        assertFalse(first.isDone(), "The load should not run on the calling thread");
+
+        tasks.get(0).run();
+        assertSame(playerData, first.join(), "The loaded data should be published");
+        assertSame(playerData, storage.get(profile), "The loaded data should be stored");
+        assertTrue(storage.load(profile).isDone(), "Stored data should not be loaded again");
+        verify(factory, times(1)).createPlayerData(profile);
+    }
+
+    @Test
+    void discard_waits_for_running_load() {
+        when(factory.createPlayerData(profile)).thenReturn(mock(PlayerData.class));
+        when(profile.getOnlineProfile()).thenReturn(Optional.empty());
+
+        storage.load(profile);
+        storage.discard(profile);
+        tasks.get(0).run();
+
+        assertThrows(IllegalArgumentException.class, () -> storage.get(profile),
+                "The data loaded for a denied login should be removed");
+    }
+}
@@ -0,0 +1,61 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.BackpackPersistence.Stack;
+import org.betonquest.betonquest.database.Saver.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the diffing of the {@link BackpackPersistence}.
+ */
+class BackpackPersistenceTest {
+
+    private static final String PROFILE = "profile";
+
+    private static final int BACKPACK_SIZE = 300;
+
+    private static Map<Stack, Integer> fullBackpack() {
+        final Map<Stack, Integer> stacks = new HashMap<>();
+        for (int i = 0; i < BACKPACK_SIZE; i++) {
+            stacks.put(new Stack("item" + i, 64), 1);
+        }
+        return stacks;
+    }
+
+    @Test
+    void unchanged_backpack_writes_nothing() {
+        assertEquals(List.of(), BackpackPersistence.diff(PROFILE, fullBackpack(), fullBackpack()),
+                "An unchanged backpack should not produce records");
+    }
+
+    @Test
+    void changed_stack_only_rewrites_that_stack() {
+        final Map<Stack, Integer> current = fullBackpack();
+        current.remove(new Stack("item7", 64));
+        current.put(new Stack("item7", 12), 1);
+        current.put(new Stack("reward", 1), 1);
+
+        final List<Record> records = BackpackPersistence.diff(PROFILE, fullBackpack(), current);
+        assertEquals(3, records.size(), "Only the changed and the added stack should be written instead of "
+                + (BACKPACK_SIZE + 2) + " records");
+        assertEquals(UpdateType.REMOVE_BACKPACK_STACK, records.get(0).type(), "The old stack should be removed first");
+        assertArrayEquals(new String[]{PROFILE, "item7", "64"}, records.get(0).args(), "The old stack should be removed");
+        assertTrue(records.stream().skip(1).allMatch(rec -> rec.type() == UpdateType.ADD_BACKPACK),
+                "The new stacks should be added");
+    }
+
+    @Test
+    void duplicate_stacks_are_rewritten_with_their_count() {
+        final Stack stack = new Stack("item", 64);
+        final List<Record> records = BackpackPersistence.diff(PROFILE, Map.of(stack, 2), Map.of(stack, 3));
+
+        assertEquals(UpdateType.REMOVE_BACKPACK_STACK, records.get(0).type(), "All rows of the stack should be removed");
+        assertEquals(3, records.stream().filter(rec -> rec.type() == UpdateType.ADD_BACKPACK).count(),
+                "All rows of the stack should be inserted again");
+    }
+}
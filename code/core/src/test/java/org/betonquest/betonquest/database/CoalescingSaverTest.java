@@ -0,0 +1,133 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.betonquest.betonquest.database.Saver.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link CoalescingSaver}.
+ */
+class CoalescingSaverTest {
+
+    private static final String PROFILE = "profile";
+
+    private static final String OBJECTIVE = "package>counting";
+
+    /**
+     * Ticks of one gameplay minute.
+     */
+    private static final int TICKS_PER_MINUTE = 1200;
+
+    /**
+     * Flush interval in ticks, as in the default config.
+     */
+    private static final int FLUSH_INTERVAL = 20;
+
+    /**
+     * Progress updates of a busy counting objective per minute.
+     */
+    private static final int UPDATES_PER_MINUTE = 200;
+
+    private static void updateObjective(final Saver saver, final int progress) {
+        saver.add(new Record(UpdateType.REMOVE_OBJECTIVES, PROFILE, OBJECTIVE));
+        saver.add(new Record(UpdateType.ADD_OBJECTIVES, PROFILE, OBJECTIVE, String.valueOf(progress)));
+    }
+
+    private static int simulateMinute(final Saver saver, final Runnable flush) {
+        int updates = 0;
+        for (int tick = 1; tick <= TICKS_PER_MINUTE; tick++) {
+            if (tick * UPDATES_PER_MINUTE / TICKS_PER_MINUTE > updates) {
+                updates++;
+                updateObjective(saver, updates);
+            }
+            if (tick % FLUSH_INTERVAL == 0) {
+                flush.run();
+            }
+        }
+        return updates;
+    }
+
+    @Test
+    void counting_objective_statements_per_gameplay_minute() {
+        final RecordingSaver direct = new RecordingSaver();
+        final int updates = simulateMinute(direct, () -> {
+        });
+
+        final RecordingSaver delegate = new RecordingSaver();
+        final CoalescingSaver coalescing = new CoalescingSaver(delegate, mock(ProfileProvider.class));
+        simulateMinute(coalescing, coalescing::flush);
+
+        assertEquals(UPDATES_PER_MINUTE, updates, "The simulation should produce the configured updates");
+        assertEquals(2 * UPDATES_PER_MINUTE, direct.records.size(), "Without coalescing every update needs two statements");
+        assertEquals(TICKS_PER_MINUTE / FLUSH_INTERVAL, delegate.records.size(),
+                "With coalescing only one upsert per flush window should be issued");
+        assertEquals(2L * UPDATES_PER_MINUTE, coalescing.getReceivedRecords(), "All records should be counted as received");
+        assertEquals(delegate.records.size(), coalescing.getForwardedRecords(), "All forwarded records should be counted");
+        final Record last = delegate.records.get(delegate.records.size() - 1);
+        assertEquals(UpdateType.UPSERT_OBJECTIVES, last.type(), "The remove and add should be collapsed to an upsert");
+        assertEquals(String.valueOf(UPDATES_PER_MINUTE), last.args()[2], "The final state should be written");
+    }
+
+    @Test
+    void removal_discards_pending_additions() {
+        final RecordingSaver delegate = new RecordingSaver();
+        final CoalescingSaver coalescing = new CoalescingSaver(delegate, mock(ProfileProvider.class));
+        coalescing.add(new Record(UpdateType.ADD_TAGS, PROFILE, "tag"));
+        coalescing.add(new Record(UpdateType.REMOVE_TAGS, PROFILE, "tag"));
+        coalescing.flush();
+
+        assertEquals(1, delegate.records.size(), "Only the removal should be written");
+        assertEquals(UpdateType.REMOVE_TAGS, delegate.records.get(0).type(), "The removal should be written");
+    }
+
+    @Test
+    void unkeyed_record_flushes_pending_records_first() {
+        final RecordingSaver delegate = new RecordingSaver();
+        final CoalescingSaver coalescing = new CoalescingSaver(delegate, mock(ProfileProvider.class));
+        coalescing.add(new Record(UpdateType.ADD_POINTS, PROFILE, "category", "1"));
+        coalescing.add(new Record(UpdateType.DELETE_POINTS, PROFILE));
+
+        assertEquals(List.of(UpdateType.ADD_POINTS, UpdateType.DELETE_POINTS),
+                delegate.records.stream().map(Record::type).toList(), "The order of the changes should be kept");
+    }
+
+    @Test
+    void profile_flush_only_forwards_records_of_the_profile() {
+        final RecordingSaver delegate = new RecordingSaver();
+        final CoalescingSaver coalescing = new CoalescingSaver(delegate, mock(ProfileProvider.class));
+        coalescing.add(new Record(UpdateType.ADD_TAGS, PROFILE, "tag"));
+        coalescing.add(new Record(UpdateType.ADD_TAGS, "other", "tag"));
+        coalescing.flush(PROFILE);
+
+        assertEquals(1, delegate.records.size(), "Only the record of the flushed profile should be written");
+        coalescing.end();
+        assertEquals(2, delegate.records.size(), "Ending should write all pending records");
+        assertTrue(delegate.ended, "Ending should end the delegate");
+    }
+
+    /**
+     * Saver recording the received records.
+     */
+    private static final class RecordingSaver implements Saver {
+
+        private final List<Record> records = new ArrayList<>();
+
+        private boolean ended;
+
+        @Override
+        public void add(final Record rec) {
+            records.add(rec);
+        }
+
+        @Override
+        public void end() {
+            ended = true;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link ConnectionPool}.
+ */
+@SuppressWarnings("PMD.CloseResource")
+class ConnectionPoolTest {
+
+    private final List<Connection> opened = new ArrayList<>();
+
+    private ConnectionPool createPool(final int size, final long validationInterval) {
+        return createPool(size, validationInterval, 0, false);
+    }
+
+    private ConnectionPool createPool(final int size, final long validationInterval, final long timeout,
+                                      final boolean primaryThread) {
+        return new ConnectionPool(mock(BetonQuestLogger.class), () -> {
+            final Connection connection = mock(Connection.class);
+            when(connection.isValid(anyInt())).thenReturn(true);
+            when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+            opened.add(connection);
+            return connection;
+        }, size, validationInterval, timeout, () -> primaryThread);
+    }
+
+    @Test
+    void borrowing_twice_on_one_thread_returns_the_same_connection() {
+        final ConnectionPool pool = createPool(1, 0);
+        try (PooledConnection first = pool.borrow(); PooledConnection second = pool.borrow()) {
+            assertSame(first, second, "The thread should reuse its leased connection");
+            assertEquals(1, pool.getMetrics().inUse(), "Only one connection should be in use");
+        }
+        assertEquals(1, pool.getMetrics().idle(), "The connection should be idle after all leases are released");
+    }
+
+    @Test
+    void released_connection_is_reused() {
+        final ConnectionPool pool = createPool(2, 60_000);
+        try (PooledConnection ignored = pool.borrow()) {
+            assertEquals(1, opened.size(), "The first borrow should open a connection");
+        }
+        try (PooledConnection ignored = pool.borrow()) {
+            assertEquals(1, opened.size(), "The released connection should be reused");
+        }
+        assertEquals(0, pool.getMetrics().validations(), "Recently used connections should not be validated");
+    }
+
+    @Test
+    void exhausted_pool_times_out() throws InterruptedException, ExecutionException {
+        final ConnectionPool pool = createPool(1, 0);
+        try (PooledConnection ignored = pool.borrow()) {
+            final CompletableFuture<Throwable> other = CompletableFuture.supplyAsync(() ->
+                    assertThrows(IllegalStateException.class, pool::borrow, "Another thread should not get a connection"));
+            assertNotNull(other.get(), "The borrow should fail");
+        }
+        final PoolMetrics metrics = pool.getMetrics();
+        assertEquals(1, metrics.timeouts(), "The timeout should be counted");
+        assertEquals(1, metrics.peakInUse(), "Only one connection should have been in use");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void primary_thread_waits_only_briefly_for_a_connection() throws InterruptedException, ExecutionException {
+        final ConnectionPool pool = createPool(1, 0, 60_000, true);
+        final PooledConnection held = CompletableFuture.supplyAsync(pool::borrow).get();
+        final long start = System.nanoTime();
+
+        assertThrows(IllegalStateException.class, pool::borrow, "The primary thread should give up on an exhausted pool");
+        final long waited = System.nanoTime() - start;
+        assertTrue(waited >= TimeUnit.MILLISECONDS.toNanos(50), "The primary thread should wait for a released connection");
+        assertTrue(waited < TimeUnit.SECONDS.toNanos(10), "The primary thread should not wait for the full timeout");
+        assertEquals(1, pool.getMetrics().timeouts(), "The timed out wait should be counted");
+        CompletableFuture.runAsync(held::close).get();
+    }
+
+    @Test
+    void release_on_another_thread_clears_the_lease_of_the_owner() throws InterruptedException, ExecutionException {
+        final ConnectionPool pool = createPool(2, 60_000);
+        final PooledConnection first = pool.borrow();
+        CompletableFuture.runAsync(first::close).get();
+
+        try (PooledConnection second = pool.borrow()) {
+            assertSame(first, second, "The released connection should be reused");
+            assertEquals(1, pool.getMetrics().inUse(), "Only the new lease should be in use");
+        }
+        assertEquals(1, pool.getMetrics().idle(), "The connection should be returned to the pool");
+        assertEquals(1, opened.size(), "No further connection should be opened");
+    }
+
+    @Test
+    void statement_with_open_result_is_not_shared() throws SQLException {
+        final ConnectionPool pool = createPool(1, 0);
+        try (PooledConnection connection = pool.borrow()) {
+            final PreparedStatement first = connection.prepare(QueryType.SELECT_TAGS, "");
+            final PreparedStatement second = connection.prepare(QueryType.SELECT_TAGS, "");
+            assertNotSame(first, second, "A query with an open result should get a new statement");
+
+            connection.finishQuery(QueryType.SELECT_TAGS, second);
+            connection.finishQuery(QueryType.SELECT_TAGS, first);
+            verify(second).close();
+            verify(first, never()).close();
+            assertSame(first, connection.prepare(QueryType.SELECT_TAGS, ""), "The cached statement should be reused");
+        }
+    }
+
+    @Test
+    void broken_idle_connection_is_replaced_on_checkout() throws SQLException {
+        final ConnectionPool pool = createPool(1, 0);
+        try (PooledConnection ignored = pool.borrow()) {
+            assertEquals(1, opened.size(), "The first borrow should open a connection");
+        }
+        when(opened.get(0).isValid(anyInt())).thenReturn(false);
+        try (PooledConnection connection = pool.borrow()) {
+            assertSame(opened.get(1), connection.getConnection(), "A new connection should be opened");
+        }
+        verify(opened.get(0)).close();
+        final PoolMetrics metrics = pool.getMetrics();
+        assertEquals(1, metrics.discarded(), "The broken connection should be discarded");
+        assertEquals(1, metrics.open(), "Only the new connection should be open");
+    }
+
+    @Test
+    void broken_connection_is_closed_on_release() throws SQLException {
+        final ConnectionPool pool = createPool(1, 0);
+        try (PooledConnection connection = pool.borrow()) {
+            connection.markBroken();
+        }
+        verify(opened.get(0)).close();
+        assertEquals(0, pool.getMetrics().open(), "The broken connection should not be returned to the pool");
+    }
+}
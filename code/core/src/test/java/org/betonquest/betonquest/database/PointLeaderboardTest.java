@@ -0,0 +1,190 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.bukkit.event.PlayerUpdatePointEvent;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link PointLeaderboard}.
+ */
+class PointLeaderboardTest {
+
+    private static final String CATEGORY = "pack.points";
+
+    private final UUID stored = UUID.randomUUID();
+
+    private final UUID online = UUID.randomUUID();
+
+    private Connector connector;
+
+    private List<Runnable> tasks;
+
+    private List<UUID> resolvedNames;
+
+    private Set<Profile> inactiveProfiles;
+
+    private Map<UUID, Long> onlinePoints;
+
+    private PointLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connector = mock(Connector.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString("playerID")).thenReturn(stored.toString());
+        when(resultSet.getLong("count")).thenReturn(10L);
+        when(connector.querySQL(QueryType.LOAD_ALL_POINTS_OF_CATEGORY, CATEGORY)).thenReturn(resultSet);
+        tasks = new ArrayList<>();
+        resolvedNames = new ArrayList<>();
+        inactiveProfiles = new HashSet<>();
+        onlinePoints = new HashMap<>();
+        leaderboard = new PointLeaderboard(mock(BetonQuestLogger.class), connector, tasks::add, uuid -> {
+            resolvedNames.add(uuid);
+            return stored.equals(uuid) ? "Steve" : null;
+        }, profile -> !inactiveProfiles.contains(profile), category -> onlinePoints);
+    }
+
+    private Profile profile(final UUID playerID) {
+        final Profile profile = mock(Profile.class);
+        when(profile.getPlayerUUID()).thenReturn(playerID);
+        return profile;
+    }
+
+    private PlayerUpdatePointEvent event(final UUID playerID, final int count) {
+        return new PlayerUpdatePointEvent(profile(playerID), false, CATEGORY, count);
+    }
+
+    private void loadCategory() {
+        leaderboard.getTop(CATEGORY, 5, true);
+        runTasks();
+    }
+
+    private void runTasks() {
+        final List<Runnable> pending = new ArrayList<>(tasks);
+        tasks.clear();
+        pending.forEach(Runnable::run);
+    }
+
+    @Test
+    void category_is_loaded_once_in_background() {
+        assertTrue(leaderboard.getTop(CATEGORY, 5, true).isEmpty(), "The category should be empty while loading");
+        runTasks();
+
+        assertEquals(List.of(new RankingEntry(stored, 10)), leaderboard.getTop(CATEGORY, 5, true),
+                "The loaded entries should be ranked");
+        leaderboard.getTop(CATEGORY, 5, true);
+        verify(connector, times(1)).querySQL(QueryType.LOAD_ALL_POINTS_OF_CATEGORY, CATEGORY);
+    }
+
+    @Test
+    void updates_while_loading_are_kept() {
+        leaderboard.getTop(CATEGORY, 5, true);
+        leaderboard.onPointUpdate(event(stored, 20));
+        leaderboard.onPointUpdate(event(online, 15));
+        runTasks();
+
+        assertEquals(List.of(new RankingEntry(stored, 20), new RankingEntry(online, 15)), leaderboard.getTop(CATEGORY, 5, true),
+                "Updates during loading should override the loaded entries");
+    }
+
+    @Test
+    void points_of_online_players_override_the_database() {
+        onlinePoints.put(stored, 30L);
+        onlinePoints.put(online, 5L);
+        loadCategory();
+
+        assertEquals(List.of(new RankingEntry(stored, 30), new RankingEntry(online, 5)), leaderboard.getTop(CATEGORY, 5, true),
+                "The points of online players should be ranked even if they are not saved yet");
+    }
+
+    @Test
+    void updates_of_unrequested_categories_are_ignored() {
+        leaderboard.onPointUpdate(event(online, 15));
+
+        verifyNoInteractions(connector);
+        assertTrue(tasks.isEmpty(), "No category should be loaded by an update");
+    }
+
+    @Test
+    void removed_category_is_empty() {
+        leaderboard.getTop(CATEGORY, 5, true);
+        runTasks();
+        leaderboard.removeCategory(CATEGORY);
+
+        assertTrue(leaderboard.getTop(CATEGORY, 5, true).isEmpty(), "The removed category should be empty");
+        assertTrue(tasks.isEmpty(), "The removed category should not be loaded again");
+    }
+
+    @Test
+    void updates_of_inactive_profiles_are_ignored() {
+        loadCategory();
+        final Profile inactive = profile(stored);
+        inactiveProfiles.add(inactive);
+
+        leaderboard.onPointUpdate(new PlayerUpdatePointEvent(inactive, false, CATEGORY, 50));
+
+        assertEquals(List.of(new RankingEntry(stored, 10)), leaderboard.getTop(CATEGORY, 5, true),
+                "The points of an inactive profile should not be ranked");
+    }
+
+    @Test
+    void removed_points_remove_the_player() {
+        loadCategory();
+        final Profile profile = profile(stored);
+        leaderboard.onPointUpdate(new PlayerUpdatePointEvent(profile, false, CATEGORY, 0));
+        leaderboard.removePoints(profile, CATEGORY);
+
+        assertTrue(leaderboard.getTop(CATEGORY, 5, true).isEmpty(), "The player should not be ranked with zero points");
+    }
+
+    @Test
+    void removed_points_while_loading_are_kept() {
+        leaderboard.getTop(CATEGORY, 5, true);
+        leaderboard.removePoints(profile(stored), CATEGORY);
+        runTasks();
+
+        assertTrue(leaderboard.getTop(CATEGORY, 5, true).isEmpty(), "The removal should override the loaded entry");
+    }
+
+    @Test
+    void refresh_reloads_the_points_of_the_active_profile() throws SQLException {
+        loadCategory();
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString("category")).thenReturn("pack.other");
+        when(resultSet.getLong("count")).thenReturn(3L);
+        when(connector.querySQL(QueryType.LOAD_POINTS_OF_ACTIVE_PROFILE, stored.toString())).thenReturn(resultSet);
+
+        leaderboard.refresh(stored);
+        runTasks();
+
+        assertTrue(leaderboard.getTop(CATEGORY, 5, true).isEmpty(),
+                "The player should be removed from categories the active profile has no points in");
+    }
+
+    @Test
+    void names_are_resolved_once_in_background() {
+        assertNull(leaderboard.getName(stored), "The name should be unknown before it is resolved");
+        assertNull(leaderboard.getName(stored), "The name should be unknown before it is resolved");
+        runTasks();
+
+        assertEquals("Steve", leaderboard.getName(stored), "The resolved name should be cached");
+        assertEquals(List.of(stored), resolvedNames, "The name should only be resolved once");
+    }
+}
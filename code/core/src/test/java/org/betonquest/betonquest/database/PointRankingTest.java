@@ -0,0 +1,69 @@
+package org.betonquest.betonquest.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link PointRanking}.
+ */
+class PointRankingTest {
+
+    private final UUID first = UUID.randomUUID();
+
+    private final UUID second = UUID.randomUUID();
+
+    private final UUID third = UUID.randomUUID();
+
+    @Test
+    void top_entries_are_sorted_in_both_orders() {
+        final PointRanking ranking = new PointRanking();
+        ranking.update(first, 10);
+        ranking.update(second, 30);
+        ranking.update(third, 20);
+
+        assertEquals(List.of(new RankingEntry(second, 30), new RankingEntry(third, 20)), ranking.top(2, true),
+                "The entries with the most points should come first");
+        assertEquals(List.of(new RankingEntry(first, 10), new RankingEntry(third, 20)), ranking.top(2, false),
+                "The entries with the least points should come first");
+    }
+
+    @Test
+    void update_replaces_previous_entry() {
+        final PointRanking ranking = new PointRanking();
+        ranking.update(first, 10);
+        ranking.update(second, 20);
+        ranking.update(first, 30);
+
+        assertEquals(2, ranking.size(), "A player should only be ranked once");
+        assertEquals(List.of(new RankingEntry(first, 30), new RankingEntry(second, 20)), ranking.top(5, true),
+                "The updated entry should be sorted by its new count");
+    }
+
+    @Test
+    void update_if_absent_keeps_existing_entry() {
+        final PointRanking ranking = new PointRanking();
+        ranking.update(first, 10);
+        ranking.updateIfAbsent(first, 50);
+        ranking.updateIfAbsent(second, 5);
+
+        assertEquals(Map.of(first, 10L, second, 5L), ranking.getCounts(), "Only the absent player should be added");
+    }
+
+    @Test
+    void remove_and_replace_all() {
+        final PointRanking ranking = new PointRanking();
+        ranking.update(first, 10);
+        ranking.update(second, 20);
+        ranking.remove(first);
+
+        assertEquals(List.of(new RankingEntry(second, 20)), ranking.top(5, true), "The removed player should not be ranked");
+
+        ranking.replaceAll(Map.of(third, 1L));
+        assertEquals(List.of(new RankingEntry(third, 1)), ranking.top(5, true), "Only the new entries should be ranked");
+    }
+}
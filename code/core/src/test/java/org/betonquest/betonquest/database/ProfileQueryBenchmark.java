@@ -0,0 +1,242 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.api.config.ConfigAccessor;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.bukkit.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Benchmarks the per-profile queries against a seeded SQLite database with and without the indexes
+ * of the {@code betonquest} migration 7.
+ * The schema is created by the migrations of {@link SQLite}, skipping migration 7 for the unindexed database.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.openjdk.jmh.Main ProfileQueryBenchmark}, the {@code indexed}
+ * parameter compares the latency of each query before and after the migration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("PMD")
+public class ProfileQueryBenchmark {
+
+    private static final String PREFIX = "bq_";
+
+    private static final String DATABASE_FILE = "database.db";
+
+    private static final MigrationKey INDEX_MIGRATION = new MigrationKey("betonquest", 7);
+
+    private static final int ENTRIES_PER_PROFILE = 20;
+
+    private static final int CATEGORIES = 10;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    @Param("10000")
+    private int profiles;
+
+    private Path dataFolder;
+
+    private Connection connection;
+
+    private String[] profileIds;
+
+    private PreparedStatement selectJournal;
+
+    private PreparedStatement selectBackpack;
+
+    private PreparedStatement selectProfileData;
+
+    private PreparedStatement removeJournal;
+
+    private PreparedStatement pointsOfCategory;
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        dataFolder = Files.createTempDirectory("betonquest-benchmark");
+        migrate();
+        connection = DriverManager.getConnection("jdbc:sqlite:" + dataFolder.resolve(DATABASE_FILE));
+        seed();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+        selectJournal = connection.prepareStatement(QueryType.SELECT_JOURNAL.createSql(PREFIX));
+        selectBackpack = connection.prepareStatement(QueryType.SELECT_BACKPACK.createSql(PREFIX));
+        selectProfileData = connection.prepareStatement(QueryType.SELECT_PROFILE_DATA.createSql(PREFIX));
+        removeJournal = connection.prepareStatement(UpdateType.REMOVE_JOURNAL.createSql(PREFIX));
+        pointsOfCategory = connection.prepareStatement(QueryType.LOAD_ALL_POINTS_OF_CATEGORY.createSql(PREFIX));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        try (Stream<Path> files = Files.list(dataFolder)) {
+            for (final Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dataFolder);
+    }
+
+    private void migrate() {
+        final ConfigAccessor config = mock(ConfigAccessor.class);
+        when(config.getString("mysql.prefix", "")).thenReturn(PREFIX);
+        when(config.getString("profile.initial_name", "default")).thenReturn("default");
+        when(config.getInt("mysql.pool.size", 4)).thenReturn(1);
+        when(config.getLong("mysql.pool.validation_interval", 30_000)).thenReturn(30_000L);
+        when(config.getLong("mysql.pool.timeout", 30_000)).thenReturn(30_000L);
+        final BetonQuest plugin = mock(BetonQuest.class);
+        when(plugin.getPluginConfig()).thenReturn(config);
+        when(plugin.getServer()).thenReturn(mock(Server.class));
+        when(plugin.getDataFolder()).thenReturn(dataFolder.toFile());
+        final SQLite sqlite = new SQLite(mock(BetonQuestLogger.class), plugin, DATABASE_FILE) {
+            @Override
+            protected SortedMap<MigrationKey, DatabaseUpdate> getMigrations() {
+                final SortedMap<MigrationKey, DatabaseUpdate> migrations = super.getMigrations();
+                if (!indexed) {
+                    migrations.remove(INDEX_MIGRATION);
+                }
+                return migrations;
+            }
+        };
+        sqlite.createTables();
+        sqlite.closeConnection();
+    }
+
+    private void seed() throws SQLException {
+        profileIds = new String[profiles];
+        connection.setAutoCommit(false);
+        try (PreparedStatement profile = connection.prepareStatement("INSERT INTO " + PREFIX + "profile (profileID) VALUES (?)");
+             PreparedStatement player = connection.prepareStatement("INSERT INTO " + PREFIX + "player "
+                     + "(playerID, language, conversation, active_profile) VALUES (?, 'default', NULL, ?)");
+             PreparedStatement objective = connection.prepareStatement(UpdateType.ADD_OBJECTIVES.createSql(PREFIX));
+             PreparedStatement tag = connection.prepareStatement(UpdateType.ADD_TAGS.createSql(PREFIX));
+             PreparedStatement point = connection.prepareStatement(UpdateType.ADD_POINTS.createSql(PREFIX));
+             PreparedStatement journal = connection.prepareStatement(UpdateType.ADD_JOURNAL.createSql(PREFIX));
+             PreparedStatement backpack = connection.prepareStatement(UpdateType.ADD_BACKPACK.createSql(PREFIX))) {
+            final Timestamp date = new Timestamp(System.currentTimeMillis());
+            for (int i = 0; i < profiles; i++) {
+                final String profileId = UUID.randomUUID().toString();
+                profileIds[i] = profileId;
+                profile.setString(1, profileId);
+                profile.addBatch();
+                player.setString(1, profileId);
+                player.setString(2, profileId);
+                player.addBatch();
+                for (int entry = 0; entry < ENTRIES_PER_PROFILE; entry++) {
+                    objective.setString(1, profileId);
+                    objective.setString(2, "quest>objective_" + entry);
+                    objective.setString(3, "");
+                    objective.addBatch();
+                    tag.setString(1, profileId);
+                    tag.setString(2, "quest>tag_" + entry);
+                    tag.addBatch();
+                    journal.setString(1, profileId);
+                    journal.setString(2, "quest>entry_" + entry);
+                    journal.setTimestamp(3, date);
+                    journal.addBatch();
+                    backpack.setString(1, profileId);
+                    backpack.setString(2, "item_" + entry);
+                    backpack.setInt(3, 1);
+                    backpack.addBatch();
+                }
+                for (int category = 0; category < CATEGORIES; category++) {
+                    point.setString(1, profileId);
+                    point.setString(2, "quest>category_" + category);
+                    point.setInt(3, i);
+                    point.addBatch();
+                }
+            }
+            profile.executeBatch();
+            player.executeBatch();
+            objective.executeBatch();
+            tag.executeBatch();
+            point.executeBatch();
+            journal.executeBatch();
+            backpack.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private String randomProfile() {
+        return profileIds[ThreadLocalRandom.current().nextInt(profileIds.length)];
+    }
+
+    private void consume(final PreparedStatement statement, final Blackhole blackhole) throws SQLException {
+        try (ResultSet result = statement.executeQuery()) {
+            while (result.next()) {
+                blackhole.consume(result.getString(1));
+            }
+        }
+    }
+
+    @Benchmark
+    public void selectJournal(final Blackhole blackhole) throws SQLException {
+        selectJournal.setString(1, randomProfile());
+        consume(selectJournal, blackhole);
+    }
+
+    @Benchmark
+    public void selectBackpack(final Blackhole blackhole) throws SQLException {
+        selectBackpack.setString(1, randomProfile());
+        consume(selectBackpack, blackhole);
+    }
+
+    @Benchmark
+    public void selectProfileData(final Blackhole blackhole) throws SQLException {
+        final String profileId = randomProfile();
+        for (int i = 1; i <= 6; i++) {
+            selectProfileData.setString(i, profileId);
+        }
+        consume(selectProfileData, blackhole);
+    }
+
+    @Benchmark
+    public int removeMissingJournalEntry() throws SQLException {
+        removeJournal.setString(1, randomProfile());
+        removeJournal.setString(2, "quest>missing");
+        removeJournal.setTimestamp(3, new Timestamp(0));
+        return removeJournal.executeUpdate();
+    }
+
+    @Benchmark
+    public void loadAllPointsOfCategory(final Blackhole blackhole) throws SQLException {
+        pointsOfCategory.setString(1, "quest>category_" + ThreadLocalRandom.current().nextInt(CATEGORIES));
+        consume(pointsOfCategory, blackhole);
+    }
+}
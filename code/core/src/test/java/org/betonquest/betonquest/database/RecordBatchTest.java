@@ -0,0 +1,88 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the grouping of records in the {@link RecordBatch}.
+ */
+class RecordBatchTest {
+
+    private static final String PROFILE_A = "a";
+
+    private static final String PROFILE_B = "b";
+
+    @Test
+    void records_of_different_profiles_share_one_wave() {
+        final RecordBatch batch = new RecordBatch();
+        batch.add(new Record(UpdateType.REMOVE_POINTS, PROFILE_A, "cat"));
+        batch.add(new Record(UpdateType.ADD_POINTS, PROFILE_A, "cat", "1"));
+        batch.add(new Record(UpdateType.REMOVE_POINTS, PROFILE_B, "cat"));
+        batch.add(new Record(UpdateType.ADD_POINTS, PROFILE_B, "cat", "2"));
+
+        final List<Map<UpdateType, List<String[]>>> waves = batch.getWaves();
+        assertEquals(1, waves.size(), "Independent profiles should be grouped into one wave");
+        assertEquals(List.of(UpdateType.REMOVE_POINTS, UpdateType.ADD_POINTS), List.copyOf(waves.get(0).keySet()),
+                "Types should be executed in the order they were added");
+        assertEquals(2, waves.get(0).get(UpdateType.ADD_POINTS).size(), "Both adds should be in the same batch");
+        assertEquals(4, batch.size(), "All records should be counted");
+    }
+
+    @Test
+    void records_of_the_same_profile_keep_their_order() {
+        final RecordBatch batch = new RecordBatch();
+        batch.add(new Record(UpdateType.REMOVE_POINTS, PROFILE_A, "cat"));
+        batch.add(new Record(UpdateType.ADD_POINTS, PROFILE_A, "cat", "1"));
+        batch.add(new Record(UpdateType.REMOVE_POINTS, PROFILE_A, "cat"));
+        batch.add(new Record(UpdateType.ADD_POINTS, PROFILE_A, "cat", "2"));
+
+        final List<Map<UpdateType, List<String[]>>> waves = batch.getWaves();
+        assertEquals(2, waves.size(), "A second remove of the same profile must not run before the first add");
+        assertArrayEquals(new String[]{PROFILE_A, "cat", "2"}, waves.get(1).get(UpdateType.ADD_POINTS).get(0),
+                "The last add should be executed in the last wave");
+    }
+
+    @Test
+    void records_without_profile_are_barriers() {
+        final RecordBatch batch = new RecordBatch();
+        batch.add(new Record(UpdateType.ADD_TAGS, PROFILE_A, "tag"));
+        batch.add(new Record(UpdateType.REMOVE_ALL_TAGS, "tag"));
+        batch.add(new Record(UpdateType.ADD_TAGS, PROFILE_B, "tag"));
+
+        final List<Map<UpdateType, List<String[]>>> waves = batch.getWaves();
+        assertEquals(3, waves.size(), "A record without profile should be executed in its own wave");
+        assertTrue(waves.get(1).containsKey(UpdateType.REMOVE_ALL_TAGS), "The barrier should be in the middle");
+    }
+
+    @Test
+    void player_and_profile_creation_keeps_its_order() {
+        final String player = "player";
+        final RecordBatch batch = new RecordBatch();
+        batch.add(new Record(UpdateType.ADD_TAGS, PROFILE_B, "tag"));
+        batch.add(new Record(UpdateType.ADD_PROFILE, PROFILE_A));
+        batch.add(new Record(UpdateType.ADD_PLAYER, player, PROFILE_A, "en"));
+        batch.add(new Record(UpdateType.ADD_PLAYER_PROFILE, player, PROFILE_A, "name"));
+        batch.add(new Record(UpdateType.ADD_TAGS, PROFILE_A, "tag"));
+
+        final List<Map<UpdateType, List<String[]>>> waves = batch.getWaves();
+        assertEquals(List.of(UpdateType.ADD_TAGS, UpdateType.ADD_PROFILE, UpdateType.ADD_PLAYER,
+                        UpdateType.ADD_PLAYER_PROFILE, UpdateType.ADD_TAGS),
+                waves.stream().map(wave -> wave.keySet().iterator().next()).toList(),
+                "Referenced rows should be created before the rows referencing them");
+    }
+
+    @Test
+    void ordering_key_uses_profile_argument() {
+        assertEquals(PROFILE_A, RecordBatch.getOrderingKey(new Record(UpdateType.UPDATE_CONVERSATION, "null", PROFILE_A)),
+                "The profile of an update is the last argument");
+        assertEquals(PROFILE_A, RecordBatch.getOrderingKey(new Record(UpdateType.ADD_TAGS, PROFILE_A, "tag")),
+                "The profile of an add is the first argument");
+        assertNull(RecordBatch.getOrderingKey(new Record(UpdateType.DELETE_GLOBAL_TAGS)),
+                "Global records have no profile");
+    }
+}
@@ -0,0 +1,125 @@
+package org.betonquest.betonquest.feature.journal;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.common.component.font.FontRegistry;
+import org.betonquest.betonquest.api.config.ConfigAccessor;
+import org.betonquest.betonquest.api.feature.FeatureApi;
+import org.betonquest.betonquest.api.identifier.JournalEntryIdentifier;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.api.quest.QuestTypeApi;
+import org.betonquest.betonquest.api.text.Text;
+import org.betonquest.betonquest.api.text.TextParser;
+import org.betonquest.betonquest.config.PluginMessage;
+import org.betonquest.betonquest.logger.util.BetonQuestLoggerService;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link Journal}.
+ */
+@ExtendWith(BetonQuestLoggerService.class)
+class JournalTest {
+
+    private static final int UPDATE_INTERVAL = 5;
+
+    private final JournalEntryIdentifier entryID = mock(JournalEntryIdentifier.class);
+
+    private ConfigAccessor config;
+
+    private FeatureApi featureApi;
+
+    private OnlineProfile onlineProfile;
+
+    private Journal journal;
+
+    @BeforeEach
+    void setUp() throws QuestException {
+        config = mock(ConfigAccessor.class);
+        when(config.getInt("journal.format.line_length")).thenReturn(114);
+        when(config.getInt("journal.format.line_count")).thenReturn(14);
+        when(config.getBoolean("journal.format.hide_date")).thenReturn(true);
+        when(config.getInt("journal.update_interval")).thenReturn(UPDATE_INTERVAL);
+        final TextParser textParser = mock(TextParser.class);
+        when(textParser.parse(any())).thenReturn(Component.empty());
+        featureApi = mock(FeatureApi.class);
+        final Key defaultFont = Key.key("default");
+        final FontRegistry fontRegistry = new FontRegistry(defaultFont);
+        fontRegistry.registerFont(defaultFont, codePoint -> 5);
+        final Player player = mock(Player.class);
+        when(player.getInventory()).thenReturn(mock(PlayerInventory.class));
+        onlineProfile = mock(OnlineProfile.class);
+        when(onlineProfile.getPlayer()).thenReturn(player);
+        when(onlineProfile.getOnlineProfile()).thenReturn(Optional.of(onlineProfile));
+        final List<Pointer> pointers = new ArrayList<>(List.of(new Pointer(entryID, 0)));
+        journal = new Journal(mock(BetonQuestLogger.class), mock(PluginMessage.class), mock(QuestTypeApi.class),
+                featureApi, textParser, fontRegistry, onlineProfile, pointers, config);
+    }
+
+    private Text entry(final String content) throws QuestException {
+        final Text text = mock(Text.class);
+        when(text.asComponent(onlineProfile)).thenReturn(Component.text(content));
+        return text;
+    }
+
+    @Test
+    void unchanged_entries_are_reused() throws QuestException {
+        final Text text = entry("The mine is haunted.");
+        when(featureApi.getJournalEntry(entryID)).thenReturn(text);
+
+        journal.generateTexts();
+        final List<Component> first = journal.getText();
+        journal.generateTexts();
+
+        assertSame(first.get(0), journal.getText().get(0), "The pages of an unchanged entry should be reused");
+    }
+
+    @Test
+    void changed_entries_are_rendered_again() throws QuestException {
+        final Text text = entry("The mine is haunted.");
+        when(featureApi.getJournalEntry(entryID)).thenReturn(text);
+        journal.generateTexts();
+        final List<Component> first = journal.getText();
+
+        when(text.asComponent(onlineProfile)).thenReturn(Component.text("The mine is safe."));
+        journal.generateTexts();
+
+        assertNotEquals(first, journal.getText(), "The pages of a changed entry should be rendered again");
+    }
+
+    @Test
+    void scheduled_updates_are_coalesced() {
+        final BetonQuest plugin = BetonQuest.getInstance();
+        final Server server = mock(Server.class);
+        final BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        when(plugin.isEnabled()).thenReturn(true);
+        when(plugin.getServer()).thenReturn(server);
+        when(server.getScheduler()).thenReturn(scheduler);
+
+        journal.scheduleUpdate();
+        journal.scheduleUpdate();
+        journal.scheduleUpdate();
+
+        final ArgumentCaptor<Runnable> update = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(1)).runTaskLater(eq(plugin), update.capture(), eq((long) UPDATE_INTERVAL));
+        update.getValue().run();
+        journal.scheduleUpdate();
+        verify(scheduler, times(2)).runTaskLater(eq(plugin), any(Runnable.class), eq((long) UPDATE_INTERVAL));
+    }
+}
@@ -0,0 +1,97 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link CompiledInstructionCache}.
+ */
+class CompiledInstructionCacheTest {
+
+    private QuestPackage pack;
+
+    private List<String> compiled;
+
+    private CompiledInstructionCache<String> cache;
+
+    private static QuestPackage pack(final String path) {
+        final QuestPackage pack = mock(QuestPackage.class);
+        when(pack.getQuestPath()).thenReturn(path);
+        return pack;
+    }
+
+    private String compile(final String instruction) {
+        compiled.add(instruction);
+        return instruction.toUpperCase();
+    }
+
+    @BeforeEach
+    void setUp() {
+        pack = pack("pack");
+        compiled = new ArrayList<>();
+        cache = new CompiledInstructionCache<>(2);
+    }
+
+    @Test
+    void instructions_are_compiled_only_once() throws QuestException {
+        assertEquals("TAG ADD A", cache.get(pack, "tag add a", this::compile), "The compiled value should be returned");
+        assertEquals("TAG ADD A", cache.get(pack, "tag add a", this::compile), "The cached value should be returned");
+
+        assertEquals(List.of("tag add a"), compiled, "The instruction should be compiled once");
+        final CompiledInstructionMetrics metrics = cache.getMetrics();
+        assertEquals(2, metrics.requests(), "Both requests should be counted");
+        assertEquals(1, metrics.hits(), "The second request should be a hit");
+        assertEquals(1, metrics.misses(), "The first request should be a miss");
+        assertEquals(0.5, metrics.hitRate(), "Half of the requests should be hits");
+    }
+
+    @Test
+    void instructions_are_cached_per_package() throws QuestException {
+        cache.get(pack, "tag add a", this::compile);
+        cache.get(pack("other"), "tag add a", this::compile);
+
+        assertEquals(2, compiled.size(), "The instruction should be compiled for each package");
+    }
+
+    @Test
+    void least_recently_used_instruction_is_removed() throws QuestException {
+        cache.get(pack, "a", this::compile);
+        cache.get(pack, "b", this::compile);
+        cache.get(pack, "a", this::compile);
+        cache.get(pack, "c", this::compile);
+        compiled.clear();
+
+        cache.get(pack, "a", this::compile);
+        cache.get(pack, "b", this::compile);
+
+        assertEquals(List.of("b"), compiled, "Only the least recently used instruction should be removed");
+        assertEquals(2, cache.getMetrics().instructions(), "The cache should not exceed its size");
+    }
+
+    @Test
+    void failed_instructions_are_not_cached() {
+        assertThrows(QuestException.class, () -> cache.get(pack, "invalid", instruction -> {
+            throw new QuestException("Invalid instruction");
+        }), "The exception should be passed on");
+
+        assertEquals(0, cache.getMetrics().instructions(), "A failed instruction should not be cached");
+    }
+
+    @Test
+    void invalidate_removes_all_instructions() throws QuestException {
+        cache.get(pack, "a", this::compile);
+
+        cache.invalidate();
+        cache.get(pack, "a", this::compile);
+
+        assertEquals(List.of("a", "a"), compiled, "The instruction should be compiled again after invalidation");
+    }
+}
@@ -0,0 +1,110 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.identifier.ConditionIdentifier;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.betonquest.betonquest.api.quest.condition.ConditionDependency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link ConditionResultCache}.
+ */
+class ConditionResultCacheTest {
+
+    private static final Set<ConditionDependency> TAGS = Set.of(ConditionDependency.TAGS);
+
+    private final AtomicInteger tick = new AtomicInteger();
+
+    private final AtomicInteger checks = new AtomicInteger();
+
+    private ConditionIdentifier conditionID;
+
+    private Profile profile;
+
+    private ConditionResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        conditionID = mock(ConditionIdentifier.class);
+        profile = mock(Profile.class);
+        when(profile.getProfileUUID()).thenReturn(UUID.randomUUID());
+        cache = new ConditionResultCache(mock(ProfileProvider.class), tick::get);
+        cache.setEnabled(true);
+    }
+
+    private boolean check(final Set<ConditionDependency> dependencies) throws QuestException {
+        return cache.check(profile, conditionID, dependencies, () -> {
+            checks.incrementAndGet();
+            return true;
+        });
+    }
+
+    @Test
+    void disabled_cache_checks_every_time() throws QuestException {
+        cache.setEnabled(false);
+
+        check(TAGS);
+        check(TAGS);
+
+        assertEquals(2, checks.get(), "A disabled cache should check the condition every time");
+    }
+
+    @Test
+    void result_is_reused_within_a_tick() throws QuestException {
+        assertTrue(check(TAGS), "The first check should return the result");
+        assertTrue(check(TAGS), "The cached check should return the same result");
+
+        assertEquals(1, checks.get(), "The condition should only be checked once per tick");
+        assertEquals(1, cache.getMetrics().hits(), "The second check should be a hit");
+    }
+
+    @Test
+    void result_expires_with_the_tick() throws QuestException {
+        check(TAGS);
+        tick.incrementAndGet();
+        check(TAGS);
+
+        assertEquals(2, checks.get(), "The condition should be checked again in the next tick");
+    }
+
+    @Test
+    void condition_without_dependencies_is_not_cached() throws QuestException {
+        check(Set.of());
+        check(Set.of());
+
+        assertEquals(2, checks.get(), "A condition without dependencies should be checked every time");
+        assertEquals(0, cache.getMetrics().requests(), "A condition without dependencies should not be counted");
+    }
+
+    @Test
+    void invalidation_only_removes_results_with_matching_dependency() throws QuestException {
+        check(TAGS);
+        cache.invalidate(profile, ConditionDependency.POINTS);
+        check(TAGS);
+        assertEquals(1, checks.get(), "A point change should not invalidate a tag condition");
+
+        cache.invalidate(profile, ConditionDependency.TAGS);
+        check(TAGS);
+        assertEquals(2, checks.get(), "A tag change should invalidate a tag condition");
+    }
+
+    @Test
+    void result_checked_during_invalidation_is_not_cached() throws QuestException {
+        cache.check(profile, conditionID, TAGS, () -> {
+            cache.invalidate(profile, ConditionDependency.TAGS);
+            return true;
+        });
+        check(TAGS);
+
+        assertEquals(1, checks.get(), "A result checked during an invalidation should not be reused");
+    }
+}
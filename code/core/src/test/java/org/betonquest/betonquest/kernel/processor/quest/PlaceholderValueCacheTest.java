@@ -0,0 +1,96 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+import org.betonquest.betonquest.api.bukkit.event.PlayerUpdatePointEvent;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.InstantSource;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link PlaceholderValueCache}.
+ */
+class PlaceholderValueCacheTest {
+
+    private static final String PLACEHOLDER = "pack:point.beton.amount";
+
+    private InstantSource clock;
+
+    private PlaceholderValueCache cache;
+
+    private static Profile profile() {
+        final Profile profile = mock(Profile.class);
+        when(profile.getProfileUUID()).thenReturn(UUID.randomUUID());
+        return profile;
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(InstantSource.class);
+        cache = new PlaceholderValueCache(clock, mock(ProfileProvider.class));
+    }
+
+    @Test
+    void disabled_cache_stores_nothing() {
+        cache.put(null, PLACEHOLDER, "5");
+
+        assertFalse(cache.isEnabled(), "The cache should be disabled by default");
+        assertNull(cache.get(null, PLACEHOLDER), "A disabled cache should not return values");
+    }
+
+    @Test
+    void values_expire_after_time_to_live() {
+        cache.setTimeToLive(50);
+        final Profile profile = profile();
+        when(clock.millis()).thenReturn(1000L);
+        cache.put(profile, PLACEHOLDER, "5");
+
+        when(clock.millis()).thenReturn(1049L);
+        assertEquals("5", cache.get(profile, PLACEHOLDER), "The value should be cached before it expires");
+        when(clock.millis()).thenReturn(1050L);
+        assertNull(cache.get(profile, PLACEHOLDER), "The value should expire after the time to live");
+    }
+
+    @Test
+    void values_are_cached_per_profile() {
+        cache.setTimeToLive(50);
+        final Profile first = profile();
+        final Profile second = profile();
+        cache.put(first, PLACEHOLDER, "1");
+        cache.put(second, PLACEHOLDER, "2");
+
+        assertEquals("1", cache.get(first, PLACEHOLDER), "The value of the first profile should be returned");
+        assertEquals("2", cache.get(second, PLACEHOLDER), "The value of the second profile should be returned");
+        assertNull(cache.get(null, PLACEHOLDER), "No value should be cached without a profile");
+    }
+
+    @Test
+    void invalidate_removes_only_values_of_the_profile() {
+        cache.setTimeToLive(50);
+        final Profile first = profile();
+        final Profile second = profile();
+        cache.put(first, PLACEHOLDER, "1");
+        cache.put(second, PLACEHOLDER, "2");
+
+        cache.invalidate(first);
+
+        assertNull(cache.get(first, PLACEHOLDER), "The invalidated value should be removed");
+        assertEquals("2", cache.get(second, PLACEHOLDER), "Values of other profiles should stay cached");
+    }
+
+    @Test
+    void point_update_removes_values_of_the_profile() {
+        cache.setTimeToLive(50);
+        final Profile profile = profile();
+        cache.put(profile, PLACEHOLDER, "1");
+
+        cache.onPointUpdate(new PlayerUpdatePointEvent(profile, false, "pack.beton", 2));
+
+        assertNull(cache.get(profile, PLACEHOLDER), "The value should be removed when the points of the profile change");
+    }
+}
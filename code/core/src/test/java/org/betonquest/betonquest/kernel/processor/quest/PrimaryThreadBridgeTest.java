@@ -0,0 +1,119 @@
+package org.betonquest.betonquest.kernel.processor.quest;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link PrimaryThreadBridge}.
+ */
+class PrimaryThreadBridgeTest {
+
+    private static final long BUDGET = 100;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private PrimaryThreadBridge bridge;
+
+    @BeforeEach
+    void setUp() {
+        bridge = new PrimaryThreadBridge(mock(BetonQuestLogger.class), BUDGET, clock::get);
+        final BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        when(scheduler.runTaskTimer(any(Plugin.class), any(Runnable.class), anyLong(), anyLong())).thenReturn(mock(BukkitTask.class));
+        bridge.start(mock(Plugin.class), scheduler);
+    }
+
+    @Test
+    void calls_are_completed_on_drain() throws ExecutionException, InterruptedException {
+        final CompletableFuture<String> first = bridge.call(() -> "first");
+        final CompletableFuture<String> second = bridge.call(() -> "second");
+        assertFalse(first.isDone(), "Calls should wait for the drain");
+
+        bridge.drain();
+
+        assertEquals("first", first.get(), "The first call should be completed");
+        assertEquals("second", second.get(), "The second call should be completed");
+        assertEquals(0, bridge.getMetrics().queued(), "The queue should be empty");
+    }
+
+    @Test
+    void calls_exceeding_the_budget_overflow_into_the_next_tick() {
+        final CompletableFuture<Boolean> slow = bridge.call(() -> {
+            clock.addAndGet(BUDGET);
+            return true;
+        });
+        final CompletableFuture<Boolean> next = bridge.call(() -> true);
+
+        bridge.drain();
+        assertTrue(slow.isDone(), "At least one call should run per tick");
+        assertFalse(next.isDone(), "Calls after the budget should wait for the next tick");
+        assertEquals(1, bridge.getMetrics().overflowTicks(), "The overflow should be counted");
+
+        bridge.drain();
+        assertTrue(next.isDone(), "The remaining call should run in the next tick");
+    }
+
+    @Test
+    void failing_call_completes_exceptionally() {
+        final CompletableFuture<Boolean> future = bridge.call(() -> {
+            throw new IllegalStateException("failed");
+        });
+
+        bridge.drain();
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(IllegalStateException.class, exception.getCause(), "The exception of the call should be passed on");
+    }
+
+    @Test
+    void stop_fails_waiting_calls() {
+        final CompletableFuture<Boolean> future = bridge.call(() -> true);
+
+        bridge.stop();
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, future::get,
+                "Waiting for a call of a stopped bridge should fail");
+        assertInstanceOf(IllegalStateException.class, exception.getCause(), "The call should be rejected");
+        assertEquals(0, bridge.getMetrics().queued(), "The queue should be empty");
+    }
+
+    @Test
+    void calls_after_stop_are_rejected() {
+        bridge.stop();
+
+        final CompletableFuture<Boolean> future = bridge.call(() -> true);
+
+        assertTrue(future.isCompletedExceptionally(), "The call should fail immediately");
+        assertEquals(0, bridge.getMetrics().queued(), "The call should not be queued");
+    }
+
+    @Test
+    void calls_before_start_are_rejected() {
+        final PrimaryThreadBridge notStarted = new PrimaryThreadBridge(mock(BetonQuestLogger.class), BUDGET, clock::get);
+
+        assertTrue(notStarted.call(() -> true).isCompletedExceptionally(), "The call should fail immediately");
+    }
+
+    @Test
+    void wait_time_is_measured() {
+        bridge.call(() -> true);
+        clock.addAndGet(50);
+
+        bridge.drain();
+
+        final PrimaryThreadMetrics metrics = bridge.getMetrics();
+        assertEquals(1, metrics.completed(), "One call should be completed");
+        assertEquals(50, metrics.maxWait(), "The wait time should be measured");
+        assertEquals(50, metrics.averageWait(), "The average wait should equal the single wait");
+    }
+}
@@ -0,0 +1,84 @@
+package org.betonquest.betonquest.logger;
+
+import org.betonquest.betonquest.logger.handler.chat.AccumulatingReceiverSelector;
+import org.betonquest.betonquest.logger.handler.chat.PlayerLogSourceReceiverSelector;
+import org.betonquest.betonquest.logger.handler.history.LogPublishingController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link DebugLogState}.
+ */
+class DebugLogStateTest {
+
+    private LogPublishingController debugLog;
+
+    private AccumulatingReceiverSelector chatReceivers;
+
+    private DebugLogState state;
+
+    @BeforeEach
+    void setUp() {
+        debugLog = mock(LogPublishingController.class);
+        chatReceivers = new AccumulatingReceiverSelector();
+        state = new DebugLogState();
+    }
+
+    private void setUpDisabled() {
+        state.setDebugLog(debugLog, false);
+        state.setChatReceivers(chatReceivers);
+    }
+
+    @Test
+    void records_are_processed_before_debug_log_is_set() {
+        assertTrue(state.isEnabled("pack"), "Records should be processed until the debug log is set");
+    }
+
+    @Test
+    void records_are_not_processed_without_receivers() {
+        setUpDisabled();
+
+        assertFalse(state.isEnabled("pack"), "Records should not be processed if nobody receives them");
+        assertFalse(state.isEnabled(null), "Records without source should not be processed if nobody receives them");
+    }
+
+    @Test
+    void records_are_processed_while_debug_log_is_enabled() {
+        setUpDisabled();
+        when(debugLog.isLogging()).thenReturn(true);
+
+        assertTrue(state.isEnabled("pack"), "Records should be processed while the debug log is enabled");
+    }
+
+    @Test
+    void records_are_processed_while_history_is_kept() {
+        state.setDebugLog(debugLog, true);
+        state.setChatReceivers(chatReceivers);
+
+        assertTrue(state.isEnabled("pack"), "Records should be processed while they are kept in the history");
+    }
+
+    @Test
+    void records_are_processed_only_for_watched_sources() {
+        setUpDisabled();
+        chatReceivers.addSelector(new PlayerLogSourceReceiverSelector(Set.of(UUID.randomUUID()), Level.FINE, "watched*"));
+
+        assertTrue(state.isEnabled("watched.pack"), "Records of a watched source should be processed");
+        assertFalse(state.isEnabled("other"), "Records of other sources should not be processed");
+    }
+
+    @Test
+    void records_are_not_processed_for_sources_watched_above_debug_level() {
+        setUpDisabled();
+        chatReceivers.addSelector(new PlayerLogSourceReceiverSelector(Set.of(UUID.randomUUID()), Level.WARNING, "*"));
+
+        assertFalse(state.isEnabled("pack"), "Records should not be processed if the watcher ignores debug records");
+    }
+}
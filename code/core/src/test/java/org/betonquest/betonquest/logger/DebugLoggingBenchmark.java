@@ -0,0 +1,168 @@
+package org.betonquest.betonquest.logger;
+
+import org.betonquest.betonquest.api.config.ConfigAccessorFactory;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.config.quest.QuestPackageManager;
+import org.betonquest.betonquest.api.identifier.ConditionIdentifier;
+import org.betonquest.betonquest.api.identifier.IdentifierFactory;
+import org.betonquest.betonquest.api.instruction.InstructionApi;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.betonquest.betonquest.api.quest.Placeholders;
+import org.betonquest.betonquest.config.quest.QuestPackageImpl;
+import org.betonquest.betonquest.id.condition.DefaultConditionIdentifier;
+import org.betonquest.betonquest.kernel.processor.adapter.ConditionAdapter;
+import org.betonquest.betonquest.kernel.processor.quest.CompiledInstructionCache;
+import org.betonquest.betonquest.kernel.processor.quest.ConditionProcessor;
+import org.betonquest.betonquest.kernel.processor.quest.ConditionResultCache;
+import org.betonquest.betonquest.kernel.processor.quest.PrimaryThreadBridge;
+import org.betonquest.betonquest.kernel.registry.quest.ConditionTypeRegistry;
+import org.betonquest.betonquest.logger.handler.chat.AccumulatingReceiverSelector;
+import org.betonquest.betonquest.logger.handler.history.LogPublishingController;
+import org.betonquest.betonquest.profile.UUIDProfileProvider;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Benchmarks checking a condition through the {@link ConditionProcessor}, including the debug message logged for
+ * every check, while no debug log is written and no chat receiver listens.
+ * <p>
+ * The default {@code debug.history} of 10 minutes keeps the debug records for the history, so the message is still
+ * built. With a history of 0 minutes the guard skips it.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.openjdk.jmh.Main DebugLoggingBenchmark -prof gc}, the check without
+ * a history shows a {@code gc.alloc.rate.norm} of zero bytes per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("PMD.CouplingBetweenObjects")
+public class DebugLoggingBenchmark {
+
+    /**
+     * The minutes debug records are kept for the history, like the {@code debug.history} config.
+     */
+    @Param({"10", "0"})
+    private int historyMinutes;
+
+    /**
+     * The processor checking the condition.
+     */
+    private ConditionProcessor processor;
+
+    /**
+     * The profile the condition is checked for.
+     */
+    private Profile profile;
+
+    /**
+     * The condition to check.
+     */
+    private ConditionIdentifier conditionID;
+
+    /**
+     * Creates the processor with a single condition and a logger configured like the plugin with debugging disabled.
+     *
+     * @throws InvalidConfigurationException if the quest package could not be created
+     * @throws FileNotFoundException         if the quest package could not be created
+     */
+    @Setup
+    public void setUp() throws InvalidConfigurationException, FileNotFoundException {
+        final DebugLogState debugState = new DebugLogState();
+        debugState.setDebugLog(new IdleDebugLog(), historyMinutes > 0);
+        debugState.setChatReceivers(new AccumulatingReceiverSelector());
+        final Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        final BetonQuestLogger log = new DefaultBetonQuestLogger(mock(Plugin.class), logger, ConditionProcessor.class,
+                null, debugState);
+
+        final QuestPackage pack = new QuestPackageImpl(mock(BetonQuestLogger.class), mock(ConfigAccessorFactory.class),
+                "benchmark", new File("benchmark"), List.of());
+        conditionID = new DefaultConditionIdentifier(pack, "has_tag", false) {
+        };
+        profile = new UUIDProfileProvider(mock(Server.class)).getProfile(mock(OfflinePlayer.class));
+        processor = new SingleConditionProcessor(log, conditionID, new ConditionAdapter(pack, checked -> true, null));
+    }
+
+    /**
+     * Checks the condition.
+     *
+     * @return the outcome of the check
+     */
+    @Benchmark
+    public boolean checkCondition() {
+        return processor.check(profile, conditionID);
+    }
+
+    /**
+     * A condition processor holding a single condition without loading it from a package.
+     */
+    private static class SingleConditionProcessor extends ConditionProcessor {
+
+        /**
+         * Creates a new processor holding the condition.
+         *
+         * @param log         the logger of the processor
+         * @param conditionID the identifier of the condition
+         * @param condition   the condition
+         */
+        @SuppressWarnings("unchecked")
+        SingleConditionProcessor(final BetonQuestLogger log, final ConditionIdentifier conditionID, final ConditionAdapter condition) {
+            super(log, mock(Placeholders.class), mock(QuestPackageManager.class), mock(ConditionTypeRegistry.class),
+                    mock(PrimaryThreadBridge.class), mock(IdentifierFactory.class), mock(InstructionApi.class),
+                    new ConditionResultCache(mock(ProfileProvider.class), () -> 0), mock(CompiledInstructionCache.class));
+            values.put(conditionID, condition);
+        }
+    }
+
+    /**
+     * A debug log that is not writing to the debug file, like the default config.
+     */
+    private static class IdleDebugLog implements LogPublishingController {
+
+        @Override
+        public boolean isLogging() {
+            return false;
+        }
+
+        @Override
+        public void startLogging() {
+            // The benchmark never starts the debug log
+        }
+
+        @Override
+        public void stopLogging() {
+            // The benchmark never stops the debug log
+        }
+
+        @Override
+        public void dumpLog() {
+            // The benchmark never dumps the debug log
+        }
+    }
+}
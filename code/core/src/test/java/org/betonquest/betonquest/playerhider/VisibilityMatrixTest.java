@@ -0,0 +1,62 @@
+package org.betonquest.betonquest.playerhider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link VisibilityMatrix}.
+ */
+class VisibilityMatrixTest {
+
+    private static BitSet bits(final int... indices) {
+        final BitSet bits = new BitSet();
+        for (final int index : indices) {
+            bits.set(index);
+        }
+        return bits;
+    }
+
+    @Test
+    void player_without_source_membership_hides_nobody() {
+        final VisibilityMatrix matrix = new VisibilityMatrix(1);
+        matrix.setTarget(0, 1);
+
+        assertTrue(matrix.hiddenBy(0).isEmpty(), "A player that is no source should not hide anybody");
+    }
+
+    @Test
+    void source_hides_targets_but_not_itself() {
+        final VisibilityMatrix matrix = new VisibilityMatrix(1);
+        matrix.setSource(0, 0);
+        matrix.setTarget(0, 0);
+        matrix.setTarget(0, 2);
+
+        assertEquals(bits(2), matrix.hiddenBy(0), "The source should hide all targets except itself");
+    }
+
+    @Test
+    void targets_of_all_matching_hiders_are_combined() {
+        final VisibilityMatrix matrix = new VisibilityMatrix(3);
+        matrix.setSource(0, 0);
+        matrix.setSource(2, 0);
+        matrix.setTarget(0, 1);
+        matrix.setTarget(1, 2);
+        matrix.setTarget(2, 3);
+
+        assertEquals(bits(1, 3), matrix.hiddenBy(0), "Only targets of hiders the player is a source of should be hidden");
+    }
+
+    @Test
+    void hidden_set_is_a_copy() {
+        final VisibilityMatrix matrix = new VisibilityMatrix(1);
+        matrix.setSource(0, 0);
+        matrix.setTarget(0, 1);
+
+        matrix.hiddenBy(0).clear();
+
+        assertEquals(bits(1), matrix.hiddenBy(0), "Modifying the result should not change the matrix");
+    }
+}
@@ -0,0 +1,134 @@
+package org.betonquest.betonquest.quest.action.folder;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.lib.bukkit.event.SessionEventRouter;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link FolderScheduler}.
+ */
+class FolderSchedulerTest {
+
+    private BukkitScheduler bukkitScheduler;
+
+    private BukkitTask task;
+
+    private SessionEventRouter<PlayerQuitEvent> quitRouter;
+
+    private BetonQuestLogger log;
+
+    private FolderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        bukkitScheduler = mock(BukkitScheduler.class);
+        task = mock(BukkitTask.class);
+        final Plugin plugin = mock(Plugin.class);
+        when(bukkitScheduler.runTaskTimer(eq(plugin), any(Runnable.class), anyLong(), anyLong())).thenReturn(task);
+        quitRouter = new SessionEventRouter<>(event -> event.getPlayer().getUniqueId());
+        log = mock(BetonQuestLogger.class);
+        scheduler = new FolderScheduler(log, plugin, bukkitScheduler, quitRouter);
+    }
+
+    @Test
+    void steps_run_when_they_are_due() {
+        final CountingSequence sequence = new CountingSequence(null, 2, 3);
+        scheduler.schedule(sequence, 2);
+
+        scheduler.run();
+        assertEquals(0, sequence.steps, "The step should not run before its delay");
+        scheduler.run();
+        assertEquals(1, sequence.steps, "The first step should run after the delay");
+        scheduler.run();
+        scheduler.run();
+        assertEquals(2, sequence.steps, "The second step should run after the period");
+        scheduler.run();
+        scheduler.run();
+
+        assertEquals(3, sequence.steps, "The sequence should finish after its last step");
+        assertTrue(sequence.isDone(), "The sequence should be done");
+        assertEquals(0, scheduler.size(), "No sequence should be pending");
+    }
+
+    @Test
+    void quit_cancels_only_the_sequences_of_the_player() throws QuestException {
+        final UUID player = UUID.randomUUID();
+        final CountingSequence first = new CountingSequence(player, 1, 1);
+        final CountingSequence second = new CountingSequence(player, 1, 1);
+        final CountingSequence other = new CountingSequence(UUID.randomUUID(), 1, 1);
+        scheduler.schedule(first, 1);
+        scheduler.schedule(second, 1);
+        scheduler.schedule(other, 1);
+        assertEquals(2, quitRouter.size(), "Each player should be registered once at the quit router");
+
+        quitRouter.dispatch(player, mock(PlayerQuitEvent.class));
+        scheduler.run();
+
+        assertEquals(0, first.steps + second.steps, "The sequences of the player should be cancelled");
+        assertEquals(1, other.steps, "The sequence of the other player should run");
+        assertEquals(0, quitRouter.size(), "No player should be registered at the quit router");
+    }
+
+    @Test
+    void tick_task_only_runs_while_sequences_are_pending() {
+        scheduler.schedule(new CountingSequence(null, 1, 1), 1);
+        scheduler.schedule(new CountingSequence(null, 1, 1), 1);
+        verify(bukkitScheduler, times(1)).runTaskTimer(any(Plugin.class), any(Runnable.class), anyLong(), anyLong());
+
+        scheduler.run();
+        scheduler.run();
+
+        verify(task).cancel();
+        final FolderSchedulerMetrics metrics = scheduler.getMetrics();
+        assertEquals(0, metrics.pending(), "All sequences should be finished");
+        assertEquals(2, metrics.steps(), "Each sequence should run one step");
+        assertEquals(2, metrics.ticks(), "Each tick should be counted");
+        verify(log, never()).debug(startsWith("Folder scheduler usage: "));
+    }
+
+    @Test
+    void stop_cancels_tick_task_and_logs_usage() {
+        scheduler.schedule(new CountingSequence(null, 1, 2), 1);
+
+        scheduler.stop();
+
+        verify(task).cancel();
+        verify(log).debug(startsWith("Folder scheduler usage: "));
+    }
+
+    /**
+     * A sequence counting its steps.
+     */
+    private static final class CountingSequence extends FolderSequence {
+
+        private final long period;
+
+        private final int maxSteps;
+
+        private int steps;
+
+        private CountingSequence(@Nullable final UUID quitPlayer, final long period, final int maxSteps) {
+            super(quitPlayer, false);
+            this.period = period;
+            this.maxSteps = maxSteps;
+        }
+
+        @Override
+        protected long step() {
+            steps++;
+            return steps < maxSteps ? period : -1;
+        }
+    }
+}
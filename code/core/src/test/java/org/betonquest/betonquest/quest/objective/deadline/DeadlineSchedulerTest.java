@@ -0,0 +1,138 @@
+package org.betonquest.betonquest.quest.objective.deadline;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.lib.bukkit.event.SessionEventRouter;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.InstantSource;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link DeadlineScheduler}.
+ */
+class DeadlineSchedulerTest {
+
+    private InstantSource clock;
+
+    private BukkitScheduler bukkitScheduler;
+
+    private BukkitTask task;
+
+    private SessionEventRouter<PlayerQuitEvent> quitRouter;
+
+    private DeadlineScheduler scheduler;
+
+    private static Profile profile() {
+        return profile(UUID.randomUUID());
+    }
+
+    private static Profile profile(final UUID player) {
+        final Profile profile = mock(Profile.class);
+        when(profile.getProfileUUID()).thenReturn(UUID.randomUUID());
+        when(profile.getPlayerUUID()).thenReturn(player);
+        return profile;
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(InstantSource.class);
+        bukkitScheduler = mock(BukkitScheduler.class);
+        task = mock(BukkitTask.class);
+        final Plugin plugin = mock(Plugin.class);
+        when(bukkitScheduler.runTaskTimer(eq(plugin), any(Runnable.class), anyLong(), anyLong())).thenReturn(task);
+        quitRouter = new SessionEventRouter<>(event -> event.getPlayer().getUniqueId());
+        scheduler = new DeadlineScheduler(mock(BetonQuestLogger.class), plugin, bukkitScheduler, quitRouter, clock);
+    }
+
+    @Test
+    void only_due_deadlines_are_handled() {
+        final DeadlineHandler handler = mock(DeadlineHandler.class);
+        final Profile due = profile();
+        final Profile later = profile();
+        scheduler.schedule(handler, due, 100);
+        scheduler.schedule(handler, later, 200);
+
+        when(clock.millis()).thenReturn(150L);
+        scheduler.run();
+
+        verify(handler).onDeadline(due, 150L);
+        verify(handler, never()).onDeadline(eq(later), anyLong());
+        assertEquals(1, scheduler.size(), "The later deadline should still be scheduled");
+    }
+
+    @Test
+    void rescheduled_and_cancelled_deadlines_are_skipped() {
+        final DeadlineHandler handler = mock(DeadlineHandler.class);
+        final Profile rescheduled = profile();
+        final Profile cancelled = profile();
+        scheduler.schedule(handler, rescheduled, 100);
+        scheduler.schedule(handler, rescheduled, 300);
+        scheduler.schedule(handler, cancelled, 100);
+        scheduler.cancel(handler, cancelled);
+
+        when(clock.millis()).thenReturn(200L);
+        scheduler.run();
+        verifyNoInteractions(handler);
+
+        when(clock.millis()).thenReturn(300L);
+        scheduler.run();
+        verify(handler, times(1)).onDeadline(rescheduled, 300L);
+    }
+
+    @Test
+    void tick_task_only_runs_while_deadlines_are_scheduled() {
+        final DeadlineHandler handler = mock(DeadlineHandler.class);
+        final Profile profile = profile();
+        scheduler.schedule(handler, profile, 100);
+        scheduler.schedule(handler, profile(), 100);
+        verify(bukkitScheduler, times(1)).runTaskTimer(any(Plugin.class), any(Runnable.class), anyLong(), anyLong());
+
+        when(clock.millis()).thenReturn(100L);
+        scheduler.run();
+        verify(task).cancel();
+        assertEquals(0, scheduler.size(), "All deadlines should be handled");
+    }
+
+    @Test
+    void cancelled_deadlines_leave_the_quit_router() {
+        final DeadlineHandler handler = mock(DeadlineHandler.class);
+        final Profile profile = profile();
+        scheduler.schedule(handler, profile, 100);
+        assertEquals(1, quitRouter.size(), "The player should be registered at the quit router");
+
+        scheduler.cancel(handler, profile);
+        assertEquals(0, scheduler.size(), "The deadline should be cancelled");
+        assertEquals(0, quitRouter.size(), "The player should no longer be registered at the quit router");
+    }
+
+    @Test
+    void logout_cancels_all_deadlines_of_the_player() throws QuestException {
+        final DeadlineHandler handler = mock(DeadlineHandler.class);
+        final DeadlineHandler otherHandler = mock(DeadlineHandler.class);
+        final UUID player = UUID.randomUUID();
+        final Profile remaining = profile();
+        scheduler.schedule(handler, profile(player), 100);
+        scheduler.schedule(otherHandler, profile(player), 100);
+        scheduler.schedule(handler, remaining, 100);
+        assertEquals(2, quitRouter.size(), "Each player should be registered once at the quit router");
+
+        quitRouter.dispatch(player, mock(PlayerQuitEvent.class));
+        assertEquals(1, scheduler.size(), "Only the deadline of the remaining player should be scheduled");
+        assertEquals(1, quitRouter.size(), "Only the remaining player should be registered at the quit router");
+
+        when(clock.millis()).thenReturn(100L);
+        scheduler.run();
+        verify(handler).onDeadline(remaining, 100L);
+        verifyNoInteractions(otherHandler);
+    }
+}
@@ -0,0 +1,89 @@
+package org.betonquest.betonquest.quest.objective.spatial;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link ChunkGrid}.
+ */
+class ChunkGridTest {
+
+    private final UUID world = UUID.randomUUID();
+
+    private final UUID otherWorld = UUID.randomUUID();
+
+    private final UUID owner = UUID.randomUUID();
+
+    @Test
+    void entry_is_found_within_its_area() {
+        final ChunkGrid<String> grid = new ChunkGrid<>();
+        grid.add("near", world, 80, 80, 120, 120);
+
+        assertEquals(Set.of("near"), grid.get(world, 115, 85), "The entry should be found within its area");
+        assertTrue(grid.get(world, 200, 100).isEmpty(), "The entry should not be found far outside its area");
+        assertTrue(grid.get(otherWorld, 100, 100).isEmpty(), "The entry should not be found in another world");
+    }
+
+    @Test
+    void negative_coordinates_are_covered() {
+        final ChunkGrid<String> grid = new ChunkGrid<>();
+        grid.add("negative", world, -8, -8, -2, -2);
+
+        assertEquals(Set.of("negative"), grid.get(world, -8, -2), "The entry should be found at negative coordinates");
+        assertTrue(grid.get(world, 20, 20).isEmpty(), "The entry should not be found in a distant cell");
+    }
+
+    @Test
+    void entries_of_other_owners_are_not_found() {
+        final ChunkGrid<String> grid = new ChunkGrid<>();
+        grid.add("owned", world, owner, 0, 0, 10, 10);
+
+        assertEquals(Set.of("owned"), grid.get(world, owner, 5, 5), "The entry should be found for its owner");
+        assertTrue(grid.get(world, 5, 5).isEmpty(), "The entry should not be found for another owner");
+    }
+
+    @Test
+    void large_area_covers_whole_world_without_cells() {
+        final ChunkGrid<String> grid = new ChunkGrid<>();
+        grid.add("large", world, -1000, -1000, 1000, 1000);
+
+        assertEquals(Set.of("large"), grid.get(world, 900, -900), "A large area should be found in the whole world");
+        assertTrue(grid.get(otherWorld, 0, 0).isEmpty(), "A large area should not be found in another world");
+        assertEquals(0, grid.cellCount(), "A large area should not be added to cells");
+    }
+
+    @Test
+    void area_at_the_coordinate_limits_covers_whole_world() {
+        final ChunkGrid<String> grid = new ChunkGrid<>();
+        grid.add("unbounded", world, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        assertEquals(Set.of("unbounded"), grid.get(world, 0, 0), "An unbounded area should be found in the world");
+    }
+
+    @Test
+    void entries_everywhere_are_found_in_all_worlds() {
+        final ChunkGrid<String> grid = new ChunkGrid<>();
+        grid.addEverywhere("everywhere");
+        grid.add("near", world, -5, -5, 5, 5);
+
+        assertEquals(Set.of("everywhere", "near"), grid.get(world, 1, 1), "Both entries should be found");
+        assertEquals(Set.of("everywhere"), grid.get(otherWorld, 1, 1), "Only the entry everywhere should be found");
+        assertEquals(Set.of("everywhere"), grid.get(world, owner, 1, 1), "The entry everywhere should be found for all owners");
+    }
+
+    @Test
+    void removed_entries_are_not_found() {
+        final ChunkGrid<String> grid = new ChunkGrid<>();
+        grid.addEverywhere("everywhere");
+        grid.add("large", world, -1000, -1000, 1000, 1000);
+        grid.add("near", world, -5, -5, 5, 5);
+
+        assertEquals(3, grid.removeIf(entry -> true).size(), "All entries should be removed");
+        assertTrue(grid.get(world, 1, 1).isEmpty(), "No entry should be found after removing them");
+        assertEquals(0, grid.size(), "The grid should be empty");
+    }
+}
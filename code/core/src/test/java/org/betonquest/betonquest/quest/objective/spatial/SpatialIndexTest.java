@@ -0,0 +1,106 @@
+package org.betonquest.betonquest.quest.objective.spatial;
+
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link SpatialIndex}.
+ */
+class SpatialIndexTest {
+
+    private World world;
+
+    private Player player;
+
+    private OnlineProfile onlineProfile;
+
+    private SpatialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+        final UUID uuid = UUID.randomUUID();
+        player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(uuid);
+        onlineProfile = mock(OnlineProfile.class);
+        when(onlineProfile.getPlayerUUID()).thenReturn(uuid);
+        final ProfileProvider profileProvider = mock(ProfileProvider.class);
+        when(profileProvider.getProfile(player)).thenReturn(onlineProfile);
+        index = new SpatialIndex(profileProvider);
+    }
+
+    private void move(final double fromX, final double toX) {
+        index.onPlayerMove(new PlayerMoveEvent(player, new Location(world, fromX, 64, 0), new Location(world, toX, 64, 0)));
+    }
+
+    @Test
+    void moves_within_the_same_block_are_ignored() {
+        final SpatialHandler handler = mock(SpatialHandler.class);
+        index.add(handler, onlineProfile, new Location(world, 0, 64, 0), 5);
+
+        move(0.2, 0.7);
+
+        verifyNoInteractions(handler);
+    }
+
+    @Test
+    void only_nearby_targets_are_called() {
+        final SpatialHandler nearby = mock(SpatialHandler.class);
+        final SpatialHandler distant = mock(SpatialHandler.class);
+        index.add(nearby, onlineProfile, new Location(world, 0, 64, 0), 5);
+        index.add(distant, onlineProfile, new Location(world, 1000, 64, 0), 5);
+
+        move(2, 3);
+
+        verify(nearby).onNearbyMove(eq(onlineProfile), any(Location.class));
+        verifyNoInteractions(distant);
+    }
+
+    @Test
+    void targets_of_other_players_are_not_called() {
+        final SpatialHandler handler = mock(SpatialHandler.class);
+        final OnlineProfile other = mock(OnlineProfile.class);
+        when(other.getPlayerUUID()).thenReturn(UUID.randomUUID());
+        index.add(handler, other, new Location(world, 0, 64, 0), 5);
+
+        move(2, 3);
+
+        verifyNoInteractions(handler);
+    }
+
+    @Test
+    void leaving_the_area_calls_the_target_once() {
+        final SpatialHandler handler = mock(SpatialHandler.class);
+        index.add(handler, onlineProfile, new Location(world, 0, 64, 0), 5);
+
+        move(2, 3);
+        move(3, 1000);
+        move(1000, 1001);
+
+        verify(handler, times(2)).onNearbyMove(eq(onlineProfile), any(Location.class));
+    }
+
+    @Test
+    void removed_handlers_are_not_called() {
+        final SpatialHandler handler = mock(SpatialHandler.class);
+        index.add(handler, onlineProfile, new Location(world, 0, 64, 0), 5);
+        index.removeAll(handler);
+
+        move(2, 3);
+
+        verifyNoInteractions(handler);
+        assertEquals(0, index.size(), "The index should be empty");
+    }
+}
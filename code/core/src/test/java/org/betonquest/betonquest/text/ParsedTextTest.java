@@ -0,0 +1,58 @@
+package org.betonquest.betonquest.text;
+
+import net.kyori.adventure.text.Component;
+import org.betonquest.betonquest.api.LanguageProvider;
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.text.TextParser;
+import org.betonquest.betonquest.data.PlayerDataStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link ParsedText}.
+ */
+class ParsedTextTest {
+
+    private List<String> parsed;
+
+    private String value;
+
+    private ParsedText text;
+
+    @BeforeEach
+    void setUp() throws QuestException {
+        parsed = new ArrayList<>();
+        value = "first";
+        final TextParser parser = raw -> {
+            parsed.add(raw);
+            return Component.text(raw);
+        };
+        final LanguageProvider languageProvider = mock(LanguageProvider.class);
+        when(languageProvider.getDefaultLanguage()).thenReturn("en-US");
+        text = new ParsedText(parser, Map.of("en-US", profile -> value), mock(PlayerDataStorage.class), languageProvider);
+    }
+
+    @Test
+    void same_resolved_text_is_parsed_once() throws QuestException {
+        assertEquals(Component.text("first"), text.asComponent(null), "The parsed text should be returned");
+        assertEquals(Component.text("first"), text.asComponent(null), "The cached text should be returned");
+
+        assertEquals(List.of("first"), parsed, "The text should be parsed once");
+    }
+
+    @Test
+    void changed_resolved_text_is_parsed_again() throws QuestException {
+        text.asComponent(null);
+        value = "second";
+
+        assertEquals(Component.text("second"), text.asComponent(null), "The changed text should be returned");
+        assertEquals(List.of("first", "second"), parsed, "The changed text should be parsed");
+    }
+}
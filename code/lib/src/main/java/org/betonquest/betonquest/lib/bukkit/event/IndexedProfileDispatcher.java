@@ -0,0 +1,135 @@
+package org.betonquest.betonquest.lib.bukkit.event;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.bukkit.event.EventServiceSubscriber;
+import org.betonquest.betonquest.api.common.function.QuestBiFunction;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Dispatches an event to the subscribers of the profile involved in it.
+ * <p>
+ * All subscribers share one profile extractor, so the profile is extracted only once per event. The event is then
+ * only passed to the subscribers whose ID is active for the profile in the {@link ProfileDispatchIndex}, instead of
+ * letting every subscriber check the profile on its own.
+ *
+ * @param <T> the event type
+ * @param <I> the type of the subscriber IDs
+ */
+public class IndexedProfileDispatcher<T extends Event, I> implements EventServiceSubscriber<T> {
+
+    /**
+     * The profile provider passed to the extractor.
+     */
+    private final ProfileProvider profileProvider;
+
+    /**
+     * The extractor shared by all subscribers.
+     */
+    private final QuestBiFunction<ProfileProvider, T, Optional<Profile>> extractor;
+
+    /**
+     * The index of active IDs per profile.
+     */
+    private final ProfileDispatchIndex<I> index;
+
+    /**
+     * The subscribers per ID.
+     */
+    private final Map<I, List<ProfileSubscriber<T>>> subscribers;
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param profileProvider the profile provider passed to the extractor
+     * @param extractor       the extractor to get the profile from the event
+     * @param index           the index of active IDs per profile
+     */
+    public IndexedProfileDispatcher(final ProfileProvider profileProvider,
+                                    final QuestBiFunction<ProfileProvider, T, Optional<Profile>> extractor,
+                                    final ProfileDispatchIndex<I> index) {
+        this.profileProvider = profileProvider;
+        this.extractor = extractor;
+        this.index = index;
+        this.subscribers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Adds a subscriber which is called when the profile of the event is active for the ID.
+     *
+     * @param id         the ID the subscriber belongs to
+     * @param subscriber the subscriber to call
+     */
+    public void subscribe(final I id, final ProfileSubscriber<T> subscriber) {
+        subscribers.computeIfAbsent(id, key -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+
+    /**
+     * Gets the amount of IDs with subscribers.
+     *
+     * @return the amount of subscribed IDs
+     */
+    public int size() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void call(final T event, final EventPriority priority) throws QuestException {
+        final Optional<Profile> extracted = extractor.apply(profileProvider, event);
+        if (extracted.isEmpty()) {
+            return;
+        }
+        final Profile profile = extracted.get();
+        final Set<I> active = index.getActive(profile);
+        if (active.isEmpty()) {
+            return;
+        }
+        if (active.size() < subscribers.size()) {
+            for (final I id : active) {
+                final List<ProfileSubscriber<T>> idSubscribers = subscribers.get(id);
+                if (idSubscribers != null) {
+                    call(idSubscribers, event, profile);
+                }
+            }
+        } else {
+            for (final Map.Entry<I, List<ProfileSubscriber<T>>> entry : subscribers.entrySet()) {
+                if (active.contains(entry.getKey())) {
+                    call(entry.getValue(), event, profile);
+                }
+            }
+        }
+    }
+
+    private void call(final List<ProfileSubscriber<T>> idSubscribers, final T event, final Profile profile) throws QuestException {
+        for (final ProfileSubscriber<T> subscriber : idSubscribers) {
+            subscriber.call(event, profile);
+        }
+    }
+
+    /**
+     * A subscriber receiving the already extracted profile.
+     *
+     * @param <T> the event type
+     */
+    @FunctionalInterface
+    public interface ProfileSubscriber<T extends Event> {
+
+        /**
+         * Handles the event for the profile.
+         *
+         * @param event   the event
+         * @param profile the profile extracted from the event
+         * @throws QuestException if the event could not be handled
+         */
+        void call(T event, Profile profile) throws QuestException;
+    }
+}
@@ -0,0 +1,74 @@
+package org.betonquest.betonquest.lib.bukkit.event;
+
+import org.betonquest.betonquest.api.profile.Profile;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A reverse index from a profile to the IDs it is currently active in.
+ * Used by the {@link IndexedProfileDispatcher} to only dispatch an event to the subscribers a profile is active in.
+ *
+ * @param <I> the type of the subscriber IDs
+ */
+public class ProfileDispatchIndex<I> {
+
+    /**
+     * The active IDs per profile UUID.
+     */
+    private final Map<UUID, Set<I>> active;
+
+    /**
+     * Creates a new empty index.
+     */
+    public ProfileDispatchIndex() {
+        this.active = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Marks the ID as active for the profile.
+     *
+     * @param profile the profile
+     * @param id      the ID to activate
+     */
+    public void add(final Profile profile, final I id) {
+        active.compute(profile.getProfileUUID(), (uuid, ids) -> {
+            final Set<I> result = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+            result.add(id);
+            return result;
+        });
+    }
+
+    /**
+     * Marks the ID as inactive for the profile.
+     *
+     * @param profile the profile
+     * @param id      the ID to deactivate
+     */
+    public void remove(final Profile profile, final I id) {
+        active.computeIfPresent(profile.getProfileUUID(), (uuid, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * Gets the IDs active for the profile.
+     *
+     * @param profile the profile
+     * @return a live view of the active IDs, empty if there are none
+     */
+    public Set<I> getActive(final Profile profile) {
+        return active.getOrDefault(profile.getProfileUUID(), Collections.emptySet());
+    }
+
+    /**
+     * Removes all entries from the index.
+     */
+    public void clear() {
+        active.clear();
+    }
+}
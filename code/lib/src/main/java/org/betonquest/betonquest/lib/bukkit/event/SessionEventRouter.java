@@ -0,0 +1,117 @@
+package org.betonquest.betonquest.lib.bukkit.event;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.bukkit.event.EventServiceSubscriber;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Routes an event to the sessions of the player involved in it.
+ * <p>
+ * The router is subscribed once to the {@link org.betonquest.betonquest.api.bukkit.event.BukkitEventService}, while
+ * sessions like an opened menu or a running conversation only register themselves here for the time they are active.
+ * This avoids registering a Bukkit listener per session, which is baked into the handler list and called for the
+ * events of every other player.
+ *
+ * @param <T> the event type
+ */
+public class SessionEventRouter<T extends Event> implements EventServiceSubscriber<T> {
+
+    /**
+     * The extractor of the player UUID the event is routed by.
+     */
+    private final Function<T, UUID> playerExtractor;
+
+    /**
+     * The subscribers per player UUID and session.
+     */
+    private final Map<UUID, Map<Object, SessionSubscriber<T>>> sessions;
+
+    /**
+     * Creates a new router without sessions.
+     *
+     * @param playerExtractor the extractor of the player UUID the event is routed by
+     */
+    public SessionEventRouter(final Function<T, UUID> playerExtractor) {
+        this.playerExtractor = playerExtractor;
+        this.sessions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Registers a session to receive the events of the player.
+     * Registering the same session again replaces its subscriber.
+     *
+     * @param player     the UUID of the player the session belongs to
+     * @param session    the session, used to unregister it
+     * @param subscriber the subscriber to call for events of the player
+     */
+    public void register(final UUID player, final Object session, final SessionSubscriber<T> subscriber) {
+        sessions.computeIfAbsent(player, key -> new ConcurrentHashMap<>()).put(session, subscriber);
+    }
+
+    /**
+     * Unregisters a session. Does nothing if the session is not registered.
+     *
+     * @param player  the UUID of the player the session belongs to
+     * @param session the session to unregister
+     */
+    public void unregister(final UUID player, final Object session) {
+        sessions.computeIfPresent(player, (key, playerSessions) -> {
+            playerSessions.remove(session);
+            return playerSessions.isEmpty() ? null : playerSessions;
+        });
+    }
+
+    /**
+     * Gets the amount of players with registered sessions.
+     *
+     * @return the amount of players
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    @Override
+    public void call(final T event, final EventPriority priority) throws QuestException {
+        dispatch(playerExtractor.apply(event), event);
+    }
+
+    /**
+     * Passes the event to the sessions of the player.
+     *
+     * @param player the UUID of the player
+     * @param event  the event
+     * @throws QuestException if a session could not handle the event
+     */
+    public void dispatch(final UUID player, final T event) throws QuestException {
+        final Map<Object, SessionSubscriber<T>> playerSessions = sessions.get(player);
+        if (playerSessions == null) {
+            return;
+        }
+        for (final SessionSubscriber<T> subscriber : playerSessions.values()) {
+            subscriber.call(event);
+        }
+    }
+
+    /**
+     * A subscriber of a session.
+     *
+     * @param <T> the event type
+     */
+    @FunctionalInterface
+    public interface SessionSubscriber<T extends Event> {
+
+        /**
+         * Handles the event of the session's player.
+         *
+         * @param event the event
+         * @throws QuestException if the event could not be handled
+         */
+        void call(T event) throws QuestException;
+    }
+}
@@ -0,0 +1,179 @@
+package org.betonquest.betonquest.lib.font;
+
+import org.betonquest.betonquest.api.common.component.font.Font;
+
+import java.util.Arrays;
+
+/**
+ * A {@link Font} compiled into primitive lookup tables.
+ * <p>
+ * The advances of characters in the basic multilingual plane are stored in a dense array indexed by their codepoint,
+ * higher codepoints in a sorted array that is searched binary. The advances already contain the shadow pixel,
+ * so measuring a character is a single array access without boxing.
+ */
+public class CompiledFont implements Font {
+
+    /**
+     * The first codepoint that is not stored in the dense table.
+     */
+    private static final int DENSE_LIMIT = 0x10000;
+
+    /**
+     * The advances of the characters below {@link #DENSE_LIMIT} indexed by their codepoint.
+     */
+    private final int[] denseAdvances;
+
+    /**
+     * The sorted codepoints of the characters above the dense table.
+     */
+    private final int[] sparseCodePoints;
+
+    /**
+     * The advances of the characters above the dense table in the order of {@link #sparseCodePoints}.
+     */
+    private final int[] sparseAdvances;
+
+    /**
+     * The width of characters without a specific width.
+     */
+    private final int defaultWidth;
+
+    private CompiledFont(final int[] denseAdvances, final int[] sparseCodePoints, final int[] sparseAdvances,
+                         final int defaultWidth) {
+        this.denseAdvances = denseAdvances;
+        this.sparseCodePoints = sparseCodePoints;
+        this.sparseAdvances = sparseAdvances;
+        this.defaultWidth = defaultWidth;
+    }
+
+    /**
+     * Creates a builder for a compiled font.
+     *
+     * @param defaultWidth the width of characters without a specific width
+     * @return the new builder
+     */
+    public static Builder builder(final int defaultWidth) {
+        return new Builder(defaultWidth);
+    }
+
+    private static int advance(final int codePoint, final int width) {
+        return width + (Character.isWhitespace(codePoint) ? 0 : 1);
+    }
+
+    @Override
+    public int getWidth(final int characterCodePoint) {
+        return getAdvance(characterCodePoint, false) - (Character.isWhitespace(characterCodePoint) ? 0 : 1);
+    }
+
+    @Override
+    public int getAdvance(final int characterCodePoint, final boolean bold) {
+        final int advance;
+        if (characterCodePoint >= 0 && characterCodePoint < denseAdvances.length) {
+            advance = denseAdvances[characterCodePoint];
+        } else {
+            final int index = Arrays.binarySearch(sparseCodePoints, characterCodePoint);
+            advance = index < 0 ? advance(characterCodePoint, defaultWidth) : sparseAdvances[index];
+        }
+        return bold ? advance + 1 : advance;
+    }
+
+    /**
+     * A builder collecting the widths of characters for a {@link CompiledFont}.
+     */
+    public static class Builder {
+
+        /**
+         * The width of characters without a specific width.
+         */
+        private final int defaultWidth;
+
+        /**
+         * The added codepoints.
+         */
+        private int[] codePoints;
+
+        /**
+         * The added widths in the order of {@link #codePoints}.
+         */
+        private int[] widths;
+
+        /**
+         * The amount of added characters.
+         */
+        private int size;
+
+        /**
+         * Creates a new builder.
+         *
+         * @param defaultWidth the width of characters without a specific width
+         */
+        public Builder(final int defaultWidth) {
+            this.defaultWidth = defaultWidth;
+            this.codePoints = new int[256];
+            this.widths = new int[256];
+        }
+
+        /**
+         * Adds the width of a character. Adding a character again replaces its width.
+         *
+         * @param codePoint the codepoint of the character
+         * @param width     the width of the character in pixels
+         * @return this builder
+         */
+        public Builder add(final int codePoint, final int width) {
+            if (size == codePoints.length) {
+                codePoints = Arrays.copyOf(codePoints, size * 2);
+                widths = Arrays.copyOf(widths, size * 2);
+            }
+            codePoints[size] = codePoint;
+            widths[size] = width;
+            size++;
+            return this;
+        }
+
+        /**
+         * Compiles the added characters into a font.
+         *
+         * @return the compiled font
+         */
+        public CompiledFont build() {
+            int denseSize = 0;
+            int sparseCount = 0;
+            for (int i = 0; i < size; i++) {
+                if (codePoints[i] >= 0 && codePoints[i] < DENSE_LIMIT) {
+                    denseSize = Math.max(denseSize, codePoints[i] + 1);
+                } else {
+                    sparseCount++;
+                }
+            }
+            final int[] dense = new int[denseSize];
+            for (int codePoint = 0; codePoint < denseSize; codePoint++) {
+                dense[codePoint] = advance(codePoint, defaultWidth);
+            }
+            final long[] sparse = new long[sparseCount];
+            int sparseIndex = 0;
+            for (int i = 0; i < size; i++) {
+                if (codePoints[i] >= 0 && codePoints[i] < DENSE_LIMIT) {
+                    dense[codePoints[i]] = advance(codePoints[i], widths[i]);
+                } else {
+                    sparse[sparseIndex++] = (long) codePoints[i] << 32 | i;
+                }
+            }
+            Arrays.sort(sparse);
+            final int[] sparseCodePoints = new int[sparseCount];
+            final int[] sparseAdvances = new int[sparseCount];
+            int unique = 0;
+            for (int i = 0; i < sparseCount; i++) {
+                final int codePoint = (int) (sparse[i] >> 32);
+                if (i + 1 < sparseCount && (int) (sparse[i + 1] >> 32) == codePoint) {
+                    continue;
+                }
+                sparseCodePoints[unique] = codePoint;
+                sparseAdvances[unique] = advance(codePoint, widths[(int) sparse[i]]);
+                unique++;
+            }
+            return new CompiledFont(dense, Arrays.copyOf(sparseCodePoints, unique), Arrays.copyOf(sparseAdvances, unique),
+                    defaultWidth);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.betonquest.betonquest.lib.font;
 
 import com.google.common.primitives.Ints;
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import org.betonquest.betonquest.api.common.component.font.Font;
 import org.betonquest.betonquest.api.common.component.font.FontIndexReader;
@@ -11,9 +12,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Represents default font index file formats and their respective readers.
@@ -33,10 +32,11 @@ public enum FontIndexFileFormat implements FontIndexReader {
         @Override
         public Font read(final InputStream inputStream) throws IOException {
             final JsonObject jsonObject = new Gson().fromJson(new InputStreamReader(inputStream, StandardCharsets.UTF_8), JsonObject.class);
-            final Map<Integer, Integer> widths = jsonObject.entrySet().stream()
-                    .map(entry -> Map.entry(entry.getKey().codePointAt(0), entry.getValue().getAsInt()))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-            return c -> widths.getOrDefault(c, DEFAULT_CHARACTER_WIDTH);
+            final CompiledFont.Builder font = CompiledFont.builder(DEFAULT_CHARACTER_WIDTH);
+            for (final Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
+                font.add(entry.getKey().codePointAt(0), entry.getValue().getAsInt());
+            }
+            return font.build();
         }
     },
 
@@ -52,7 +52,7 @@ public enum FontIndexFileFormat implements FontIndexReader {
         @SuppressWarnings("PMD.AssignmentInOperand")
         @Override
         public Font read(final InputStream inputStream) throws IOException {
-            final Map<Integer, Integer> widths = new HashMap<>();
+            final CompiledFont.Builder font = CompiledFont.builder(DEFAULT_CHARACTER_WIDTH);
             final byte[] block = new byte[4];
             final int codepointMask = 0x1FFFFF;
             int read;
@@ -62,9 +62,9 @@ public enum FontIndexFileFormat implements FontIndexReader {
                 }
                 final int blockValue = Ints.fromByteArray(block);
                 //int[32 bits]: [11 bits value][21 bits codepoint]
-                widths.put(blockValue & codepointMask, blockValue >>> 21);
+                font.add(blockValue & codepointMask, blockValue >>> 21);
             }
-            return c -> widths.getOrDefault(c, DEFAULT_CHARACTER_WIDTH);
+            return font.build();
         }
     };
 
@@ -0,0 +1,158 @@
+package org.betonquest.betonquest.lib.instruction.argument;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.instruction.Argument;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.Placeholders;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A string with placeholders compiled into literal parts and placeholder references.
+ * <p>
+ * The string is only parsed once on creation. Escaped percent signs in the literal parts are already replaced,
+ * so resolving the template just concatenates the literal parts with the placeholder values.
+ */
+public final class PlaceholderTemplate {
+
+    /**
+     * The pattern to match placeholders in a string marked with percent signs.<br>
+     * The percentage can be escaped with a backslash, and the backslash can be escaped with another backslash.
+     */
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("(?<!\\\\)(?:\\\\\\\\)*(%((?:[^%\\\\]|\\\\.)*?)%)(?<!\\\\)(?:\\\\\\\\)*");
+
+    /**
+     * The pattern to match an escaped percent sign.
+     */
+    private static final Pattern ESCAPED_PERCENT_PATTERN = Pattern.compile("(?<!\\\\)\\\\%");
+
+    /**
+     * The expected length of a resolved placeholder, to size the result of a resolution.
+     */
+    private static final int EXPECTED_PLACEHOLDER_LENGTH = 16;
+
+    /**
+     * The literal parts, one more than there are placeholders.
+     */
+    private final String[] literals;
+
+    /**
+     * The placeholders between the literal parts.
+     */
+    private final List<Argument<String>> placeholders;
+
+    /**
+     * The combined length of all literal parts.
+     */
+    private final int literalLength;
+
+    private PlaceholderTemplate(final List<String> literals, final List<Argument<String>> placeholders) {
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders;
+        int length = 0;
+        for (final String literal : this.literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles a string that may contain placeholders.
+     *
+     * @param placeholders the {@link Placeholders} to create the placeholders
+     * @param pack         the package of the instruction in which the string is used
+     * @param input        the string that may contain placeholders
+     * @return the compiled template
+     * @throws QuestException if a placeholder could not be created
+     */
+    public static PlaceholderTemplate compile(final Placeholders placeholders, @Nullable final QuestPackage pack,
+                                              final String input) throws QuestException {
+        final List<String> literals = new ArrayList<>();
+        final List<Argument<String>> references = new ArrayList<>();
+        final Map<String, Argument<String>> created = new HashMap<>();
+        final Matcher matcher = PLACEHOLDER_PATTERN.matcher(input);
+        int literalStart = 0;
+        while (matcher.find()) {
+            final String placeholder = matcher.group();
+            Argument<String> argument = created.get(placeholder);
+            if (argument == null) {
+                argument = create(placeholders, pack, placeholder);
+                created.put(placeholder, argument);
+            }
+            literals.add(replaceEscapedPercent(input.substring(literalStart, matcher.start())));
+            references.add(argument);
+            literalStart = matcher.end();
+        }
+        literals.add(replaceEscapedPercent(input.substring(literalStart)));
+        return new PlaceholderTemplate(literals, references);
+    }
+
+    private static Argument<String> create(final Placeholders placeholders, @Nullable final QuestPackage pack,
+                                           final String placeholder) throws QuestException {
+        try {
+            return placeholders.create(pack, replaceEscapedPercent(placeholder));
+        } catch (final QuestException exception) {
+            throw new QuestException("Could not create placeholder '" + placeholder + "': "
+                    + exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Replaces escaped percent signs with plain ones.
+     *
+     * @param input the string to unescape
+     * @return the string without escaped percent signs
+     */
+    public static String replaceEscapedPercent(final String input) {
+        if (input.indexOf('\\') < 0) {
+            return input;
+        }
+        return ESCAPED_PERCENT_PATTERN.matcher(input).replaceAll("%");
+    }
+
+    /**
+     * Checks if the input contains placeholders without compiling it.
+     *
+     * @param input the string that may contain placeholders
+     * @return true if the input contains at least one placeholder
+     */
+    public static boolean containsPlaceholders(final String input) {
+        return PLACEHOLDER_PATTERN.matcher(input).find();
+    }
+
+    /**
+     * Checks if the template contains no placeholders.
+     *
+     * @return true if the template always resolves to the same string
+     */
+    public boolean isConstant() {
+        return placeholders.isEmpty();
+    }
+
+    /**
+     * Resolves the template for the profile.
+     *
+     * @param profile the profile to resolve the placeholders for or null if no profile is involved
+     * @return the resolved string
+     * @throws QuestException if a placeholder could not be resolved
+     */
+    public String resolve(@Nullable final Profile profile) throws QuestException {
+        if (placeholders.isEmpty()) {
+            return literals[0];
+        }
+        final StringBuilder resolved = new StringBuilder(literalLength + EXPECTED_PLACEHOLDER_LENGTH * placeholders.size());
+        resolved.append(literals[0]);
+        for (int i = 0; i < placeholders.size(); i++) {
+            resolved.append(replaceEscapedPercent(placeholders.get(i).getValue(profile)));
+            resolved.append(literals[i + 1]);
+        }
+        return resolved.toString();
+    }
+}
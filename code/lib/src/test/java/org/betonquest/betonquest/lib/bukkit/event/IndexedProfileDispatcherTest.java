@@ -0,0 +1,82 @@
+package org.betonquest.betonquest.lib.bukkit.event;
+
+import com.destroystokyo.paper.event.player.PlayerJumpEvent;
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.ProfileProvider;
+import org.bukkit.event.EventPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link IndexedProfileDispatcher} together with the {@link ProfileDispatchIndex}.
+ */
+class IndexedProfileDispatcherTest {
+
+    private final ProfileDispatchIndex<String> index = new ProfileDispatchIndex<>();
+
+    private Profile profile;
+
+    private int extractions;
+
+    private IndexedProfileDispatcher<PlayerJumpEvent, String> dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        profile = mock(Profile.class);
+        when(profile.getProfileUUID()).thenReturn(UUID.randomUUID());
+        dispatcher = new IndexedProfileDispatcher<>(mock(ProfileProvider.class), (provider, event) -> {
+            extractions++;
+            return Optional.of(profile);
+        }, index);
+    }
+
+    @Test
+    void dispatches_only_to_active_subscribers() throws QuestException {
+        final IndexedProfileDispatcher.ProfileSubscriber<PlayerJumpEvent> active = mock(IndexedProfileDispatcher.ProfileSubscriber.class);
+        final IndexedProfileDispatcher.ProfileSubscriber<PlayerJumpEvent> inactive = mock(IndexedProfileDispatcher.ProfileSubscriber.class);
+        dispatcher.subscribe("active", active);
+        dispatcher.subscribe("inactive", inactive);
+        index.add(profile, "active");
+
+        final PlayerJumpEvent event = mock(PlayerJumpEvent.class);
+        dispatcher.call(event, EventPriority.NORMAL);
+
+        verify(active).call(event, profile);
+        verifyNoInteractions(inactive);
+        assertEquals(1, extractions, "The profile should be extracted once per event");
+    }
+
+    @Test
+    void stopped_subscribers_are_not_called() throws QuestException {
+        final IndexedProfileDispatcher.ProfileSubscriber<PlayerJumpEvent> subscriber = mock(IndexedProfileDispatcher.ProfileSubscriber.class);
+        dispatcher.subscribe("objective", subscriber);
+        index.add(profile, "objective");
+        index.remove(profile, "objective");
+
+        dispatcher.call(mock(PlayerJumpEvent.class), EventPriority.NORMAL);
+
+        verifyNoInteractions(subscriber);
+        assertTrue(index.getActive(profile).isEmpty(), "The profile should have no active IDs left");
+    }
+
+    @Test
+    void extracts_once_for_many_subscribers() throws QuestException {
+        final IndexedProfileDispatcher.ProfileSubscriber<PlayerJumpEvent> subscriber = mock(IndexedProfileDispatcher.ProfileSubscriber.class);
+        for (int i = 0; i < 10; i++) {
+            dispatcher.subscribe("objective" + i, subscriber);
+            index.add(profile, "objective" + i);
+        }
+
+        dispatcher.call(mock(PlayerJumpEvent.class), EventPriority.NORMAL);
+
+        verify(subscriber, times(10)).call(any(), eq(profile));
+        assertEquals(1, extractions, "The profile should be extracted once per event");
+    }
+}
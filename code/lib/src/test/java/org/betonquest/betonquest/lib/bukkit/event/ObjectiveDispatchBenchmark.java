@@ -0,0 +1,163 @@
+package org.betonquest.betonquest.lib.bukkit.event;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.bukkit.event.EventServiceSubscriber;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of dispatching one event to objectives depending on the amount of subscribed objectives.
+ * Compares every objective extracting and checking the profile on its own with the {@link IndexedProfileDispatcher}.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.openjdk.jmh.Main ObjectiveDispatchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("PMD")
+public class ObjectiveDispatchBenchmark {
+
+    /**
+     * The amount of objectives of the profile that are active.
+     */
+    private static final int ACTIVE_OBJECTIVES = 3;
+
+    /**
+     * The amount of objectives subscribed to the event.
+     */
+    @Param({"10", "100", "1000", "10000"})
+    public int objectives;
+
+    private BenchmarkEvent event;
+
+    private List<EventServiceSubscriber<BenchmarkEvent>> naive;
+
+    private IndexedProfileDispatcher<BenchmarkEvent, Integer> indexed;
+
+    @Setup
+    public void setUp() {
+        final Profile profile = new BenchmarkProfile(UUID.randomUUID());
+        event = new BenchmarkEvent(profile);
+
+        final Map<Integer, Set<Profile>> objectiveData = new HashMap<>();
+        final ProfileDispatchIndex<Integer> index = new ProfileDispatchIndex<>();
+        for (int i = 0; i < objectives; i++) {
+            final Set<Profile> data = new HashSet<>();
+            if (i % (objectives / ACTIVE_OBJECTIVES) == 0) {
+                data.add(profile);
+                index.add(profile, i);
+            }
+            objectiveData.put(i, data);
+        }
+
+        naive = new ArrayList<>();
+        indexed = new IndexedProfileDispatcher<>(null, (provider, benchmarkEvent) -> Optional.of(benchmarkEvent.profile), index);
+        for (int i = 0; i < objectives; i++) {
+            final Set<Profile> data = objectiveData.get(i);
+            naive.add((benchmarkEvent, priority) -> {
+                final Optional<Profile> extracted = Optional.of(benchmarkEvent.profile);
+                if (data.contains(extracted.get())) {
+                    Blackhole.consumeCPU(1);
+                }
+            });
+            indexed.subscribe(i, (benchmarkEvent, extracted) -> {
+                if (data.contains(extracted)) {
+                    Blackhole.consumeCPU(1);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public void naiveDispatch() throws QuestException {
+        for (final EventServiceSubscriber<BenchmarkEvent> subscriber : naive) {
+            subscriber.call(event, EventPriority.NORMAL);
+        }
+    }
+
+    @Benchmark
+    public void indexedDispatch() throws QuestException {
+        indexed.call(event, EventPriority.NORMAL);
+    }
+
+    /**
+     * A minimal event carrying a profile.
+     */
+    public static class BenchmarkEvent extends Event {
+
+        private static final HandlerList HANDLERS = new HandlerList();
+
+        private final Profile profile;
+
+        public BenchmarkEvent(final Profile profile) {
+            super();
+            this.profile = profile;
+        }
+
+        public static HandlerList getHandlerList() {
+            return HANDLERS;
+        }
+
+        @Override
+        public HandlerList getHandlers() {
+            return HANDLERS;
+        }
+    }
+
+    /**
+     * A profile without a player, so the benchmark does not measure mocking overhead.
+     *
+     * @param uuid the profile UUID
+     */
+    private record BenchmarkProfile(UUID uuid) implements Profile {
+
+        @Override
+        public OfflinePlayer getPlayer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UUID getProfileUUID() {
+            return uuid;
+        }
+
+        @Override
+        public String getProfileName() {
+            return "benchmark";
+        }
+
+        @Override
+        public Optional<OnlineProfile> getOnlineProfile() {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.betonquest.betonquest.lib.bukkit.event;
+
+import com.destroystokyo.paper.event.player.PlayerJumpEvent;
+import org.betonquest.betonquest.api.QuestException;
+import org.bukkit.event.EventPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link SessionEventRouter}.
+ */
+class SessionEventRouterTest {
+
+    private final UUID player = UUID.randomUUID();
+
+    private final UUID otherPlayer = UUID.randomUUID();
+
+    private PlayerJumpEvent event;
+
+    private SessionEventRouter<PlayerJumpEvent> router;
+
+    @BeforeEach
+    void setUp() {
+        event = mock(PlayerJumpEvent.class);
+        router = new SessionEventRouter<>(jumpEvent -> player);
+    }
+
+    @Test
+    void routes_only_to_sessions_of_the_player() throws QuestException {
+        final SessionEventRouter.SessionSubscriber<PlayerJumpEvent> own = mock(SessionEventRouter.SessionSubscriber.class);
+        final SessionEventRouter.SessionSubscriber<PlayerJumpEvent> other = mock(SessionEventRouter.SessionSubscriber.class);
+        router.register(player, new Object(), own);
+        router.register(otherPlayer, new Object(), other);
+
+        router.call(event, EventPriority.NORMAL);
+
+        verify(own).call(event);
+        verifyNoInteractions(other);
+    }
+
+    @Test
+    void routes_to_all_sessions_of_the_player() throws QuestException {
+        final SessionEventRouter.SessionSubscriber<PlayerJumpEvent> first = mock(SessionEventRouter.SessionSubscriber.class);
+        final SessionEventRouter.SessionSubscriber<PlayerJumpEvent> second = mock(SessionEventRouter.SessionSubscriber.class);
+        router.register(player, new Object(), first);
+        router.register(player, new Object(), second);
+
+        router.call(event, EventPriority.NORMAL);
+
+        verify(first).call(event);
+        verify(second).call(event);
+    }
+
+    @Test
+    void registering_a_session_again_replaces_its_subscriber() throws QuestException {
+        final Object session = new Object();
+        final SessionEventRouter.SessionSubscriber<PlayerJumpEvent> subscriber = mock(SessionEventRouter.SessionSubscriber.class);
+        router.register(player, session, subscriber);
+        router.register(player, session, subscriber);
+
+        router.call(event, EventPriority.NORMAL);
+
+        verify(subscriber, times(1)).call(event);
+    }
+
+    @Test
+    void unregistered_sessions_are_not_called() throws QuestException {
+        final Object session = new Object();
+        final Object otherSession = new Object();
+        final SessionEventRouter.SessionSubscriber<PlayerJumpEvent> subscriber = mock(SessionEventRouter.SessionSubscriber.class);
+        final SessionEventRouter.SessionSubscriber<PlayerJumpEvent> remaining = mock(SessionEventRouter.SessionSubscriber.class);
+        router.register(player, session, subscriber);
+        router.register(player, otherSession, remaining);
+
+        router.unregister(player, session);
+        router.call(event, EventPriority.NORMAL);
+
+        verifyNoInteractions(subscriber);
+        verify(remaining).call(event);
+    }
+
+    @Test
+    void players_without_sessions_are_removed() {
+        final Object session = new Object();
+        router.register(player, session, jumpEvent -> {
+        });
+
+        router.unregister(player, session);
+        router.unregister(otherPlayer, session);
+
+        assertEquals(0, router.size(), "The player should be removed with its last session");
+    }
+}
@@ -0,0 +1,54 @@
+package org.betonquest.betonquest.lib.font;
+
+import org.betonquest.betonquest.api.common.component.font.Font;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link CompiledFont}.
+ */
+class CompiledFontTest {
+
+    private static final int HIGH_CODE_POINT = 0x1F600;
+
+    @Test
+    void widths_of_added_characters_are_returned() {
+        final Font font = CompiledFont.builder(6).add('a', 5).add(' ', 3).add(HIGH_CODE_POINT, 8).build();
+
+        assertEquals(5, font.getWidth('a'), "The width of a dense character should be returned");
+        assertEquals(3, font.getWidth(' '), "The width of a whitespace should be returned");
+        assertEquals(8, font.getWidth(HIGH_CODE_POINT), "The width of a sparse character should be returned");
+    }
+
+    @Test
+    void missing_characters_have_the_default_width() {
+        final Font font = CompiledFont.builder(6).add('a', 5).add(HIGH_CODE_POINT, 8).build();
+
+        assertEquals(6, font.getWidth('z'), "A character above the dense table should have the default width");
+        assertEquals(6, font.getWidth('A'), "A character inside the dense table should have the default width");
+        assertEquals(6, font.getWidth(HIGH_CODE_POINT + 1), "A sparse character should have the default width");
+    }
+
+    @Test
+    void adding_a_character_again_replaces_its_width() {
+        final Font font = CompiledFont.builder(6).add('a', 5).add(HIGH_CODE_POINT, 8)
+                .add('a', 2).add(HIGH_CODE_POINT, 4).build();
+
+        assertEquals(2, font.getWidth('a'), "The last dense width should be used");
+        assertEquals(4, font.getWidth(HIGH_CODE_POINT), "The last sparse width should be used");
+    }
+
+    @Test
+    void advances_match_the_default_font_advance() {
+        final Font compiled = CompiledFont.builder(6).add('a', 5).add(' ', 3).add(HIGH_CODE_POINT, 8).build();
+        final Font reference = compiled::getWidth;
+
+        for (final int codePoint : new int[]{'a', ' ', 'z', HIGH_CODE_POINT, HIGH_CODE_POINT + 1}) {
+            assertEquals(reference.getAdvance(codePoint, false), compiled.getAdvance(codePoint, false),
+                    "The advance of " + codePoint + " should match");
+            assertEquals(reference.getAdvance(codePoint, true), compiled.getAdvance(codePoint, true),
+                    "The bold advance of " + codePoint + " should match");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.betonquest.betonquest.lib.instruction.argument;
+
+import org.betonquest.betonquest.api.QuestException;
+import org.betonquest.betonquest.api.instruction.Argument;
+import org.betonquest.betonquest.api.quest.Placeholders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link PlaceholderTemplate}.
+ */
+class PlaceholderTemplateTest {
+
+    private Placeholders placeholders;
+
+    @BeforeEach
+    void setUp() throws QuestException {
+        placeholders = mock(Placeholders.class);
+        when(placeholders.create(isNull(), anyString()))
+                .thenAnswer(invocation -> (Argument<String>) profile -> "<" + invocation.getArgument(1) + ">");
+    }
+
+    @Test
+    void string_without_placeholders_is_constant() throws QuestException {
+        final PlaceholderTemplate template = PlaceholderTemplate.compile(placeholders, null, "100 \\% done");
+
+        assertTrue(template.isConstant(), "A string without placeholders should be constant");
+        assertEquals("100 % done", template.resolve(null), "Escaped percent signs should be replaced");
+        verifyNoInteractions(placeholders);
+    }
+
+    @Test
+    void placeholders_are_resolved_between_literals() throws QuestException {
+        final PlaceholderTemplate template = PlaceholderTemplate.compile(placeholders, null, "a %x% b %y%");
+
+        assertFalse(template.isConstant(), "A string with placeholders should not be constant");
+        assertEquals("a <%x%> b <%y%>", template.resolve(null), "The placeholders should be replaced");
+    }
+
+    @Test
+    void equal_placeholders_are_created_once() throws QuestException {
+        final PlaceholderTemplate template = PlaceholderTemplate.compile(placeholders, null, "%x%-%x%");
+
+        assertEquals("<%x%>-<%x%>", template.resolve(null), "Both placeholders should be replaced");
+        verify(placeholders, times(1)).create(null, "%x%");
+    }
+
+    @Test
+    void escaped_percent_is_not_a_placeholder() throws QuestException {
+        final PlaceholderTemplate template = PlaceholderTemplate.compile(placeholders, null, "\\%x\\% %y%");
+
+        assertEquals("%x% <%y%>", template.resolve(null), "Only the unescaped placeholder should be replaced");
+        verify(placeholders, never()).create(null, "%x%");
+    }
+
+    @Test
+    void placeholders_are_detected_without_compiling() {
+        assertTrue(PlaceholderTemplate.containsPlaceholders("100;%point.height%;0;world"), "The placeholder should be found");
+        assertFalse(PlaceholderTemplate.containsPlaceholders("100;64;0;world"), "A plain string has no placeholders");
+        assertFalse(PlaceholderTemplate.containsPlaceholders("\\%x\\%"), "Escaped percent signs are no placeholder");
+        verifyNoInteractions(placeholders);
+    }
+
+    @Test
+    void invalid_placeholder_fails_on_compile() throws QuestException {
+        when(placeholders.create(null, "%broken%")).thenThrow(new QuestException("invalid"));
+
+        final QuestException exception = assertThrows(QuestException.class,
+                () -> PlaceholderTemplate.compile(placeholders, null, "a %broken%"));
+        assertEquals("Could not create placeholder '%broken%': invalid", exception.getMessage(),
+                "The placeholder should be named in the message");
+    }
+}